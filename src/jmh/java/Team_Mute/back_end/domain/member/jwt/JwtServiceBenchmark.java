@@ -0,0 +1,111 @@
+package Team_Mute.back_end.domain.member.jwt;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * JwtService.parse() 처리량 벤치마크
+ * - perRequestParser : 요청마다 JwtParser를 빌드하고 서명 검증 (변경 전 경로)
+ * - sharedParser : 한 번 빌드한 JwtParser로 매번 서명 검증 (검증 캐시 비활성화)
+ * - cachedParse : 검증 캐시 사용 (같은 토큰 반복 요청 시 서명 검증/클레임 파싱 생략)
+ * - 여러 스레드에서 동시에 호출하여 캐시 조회 경합까지 측정
+ *
+ * 실행: ./gradlew jmh
+ *
+ * @author Team Mute
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+	private static final String ISSUER = "bench-issuer";
+
+	/**
+	 * 동시에 사용 중인 서로 다른 토큰 수 (활성 클라이언트 수)
+	 */
+	@Param({"100", "5000"})
+	public int distinctTokens;
+
+	private SecretKey key;
+	private JwtService cached;
+	private JwtService uncached;
+	private String[] tokens;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		byte[] secret = new byte[32];
+		new SecureRandom().nextBytes(secret);
+		String secretBase64 = Base64.getEncoder().encodeToString(secret);
+		key = Keys.hmacShaKeyFor(secret);
+
+		JwtConfig config = new JwtConfig(ISSUER, "user", new JwtConfig.Access(3600),
+			new JwtConfig.Refresh(1209600), secretBase64);
+		cached = new JwtService(config, 10000);
+		uncached = new JwtService(config, 0);
+
+		tokens = new String[distinctTokens];
+		for (int i = 0; i < distinctTokens; i++) {
+			tokens[i] = cached.createAccessToken("at-" + UUID.randomUUID(), "user", String.valueOf(i),
+				Map.of("sid", "sess-" + i, "ver", 1));
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class Cursor {
+		private int next;
+
+		int next(int size) {
+			next = (next + 1) % size;
+			return next;
+		}
+	}
+
+	@Benchmark
+	public Jws<Claims> perRequestParser(Cursor cursor) {
+		return Jwts.parser()
+			.verifyWith(key)
+			.requireIssuer(ISSUER)
+			.build()
+			.parseSignedClaims(tokens[cursor.next(tokens.length)]);
+	}
+
+	@Benchmark
+	public Jws<Claims> sharedParser(Cursor cursor) {
+		return uncached.parse(tokens[cursor.next(tokens.length)]);
+	}
+
+	@Benchmark
+	public Jws<Claims> cachedParse(Cursor cursor) {
+		return cached.parse(tokens[cursor.next(tokens.length)]);
+	}
+}
@@ -0,0 +1,107 @@
+package Team_Mute.back_end.domain.member.session;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 블랙리스트 확인 경로 비교 벤치마크
+ * - redisOnly : 매 요청 blacklist:{jti} EXISTS (Bloom Filter 도입 전 경로)
+ * - filterFirst : RevokedJtiFilter가 "있을 수도 있음"일 때만 EXISTS
+ * - 조회 대상은 블랙리스트에 없는 JTI (실제 요청의 대부분)
+ *
+ * 실행: ./gradlew jmh (localhost:6379 Redis 필요, 다른 주소는 redisHost/redisPort 파라미터로 지정)
+ *
+ * @author Team Mute
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RevokedJtiFilterBenchmark {
+
+	private static final String BLACKLIST_PREFIX = "blacklist:";
+
+	@Param("localhost")
+	public String redisHost;
+
+	@Param("6379")
+	public int redisPort;
+
+	/**
+	 * 미리 등록해 둘 블랙리스트 JTI 수
+	 */
+	@Param({"1000", "50000"})
+	public int blacklisted;
+
+	private LettuceConnectionFactory connectionFactory;
+	private StringRedisTemplate redis;
+	private RevokedJtiFilter filter;
+	private String[] probes;
+	private int next;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(redisHost, redisPort));
+		connectionFactory.afterPropertiesSet();
+		connectionFactory.start();
+		redis = new StringRedisTemplate(connectionFactory);
+
+		for (int i = 0; i < blacklisted; i++) {
+			redis.opsForValue().set(BLACKLIST_PREFIX + "bench-" + i, "1", Duration.ofMinutes(10));
+		}
+		filter = new RevokedJtiFilter(redis, new SimpleMeterRegistry(), 100_000, 0.01, 600);
+		filter.rebuild();
+
+		probes = new String[4096];
+		for (int i = 0; i < probes.length; i++) {
+			probes[i] = "at-" + UUID.randomUUID();
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		for (int i = 0; i < blacklisted; i++) {
+			redis.delete(BLACKLIST_PREFIX + "bench-" + i);
+		}
+		connectionFactory.destroy();
+	}
+
+	@Benchmark
+	public boolean redisOnly() {
+		return Boolean.TRUE.equals(redis.hasKey(BLACKLIST_PREFIX + nextProbe()));
+	}
+
+	@Benchmark
+	public boolean filterFirst() {
+		String jti = nextProbe();
+		return filter.mightContain(jti) && Boolean.TRUE.equals(redis.hasKey(BLACKLIST_PREFIX + jti));
+	}
+
+	private String nextProbe() {
+		next = (next + 1) & (probes.length - 1);
+		return probes[next];
+	}
+}
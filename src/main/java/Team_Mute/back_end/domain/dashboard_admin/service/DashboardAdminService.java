@@ -4,8 +4,8 @@ import Team_Mute.back_end.domain.dashboard_admin.dto.response.CalendernFilterIte
 import Team_Mute.back_end.domain.dashboard_admin.dto.response.ReservationCalendarResponseDto;
 import Team_Mute.back_end.domain.dashboard_admin.dto.response.ReservationCountResponseDto;
 import Team_Mute.back_end.domain.dashboard_admin.repository.DashboardAdminRepository;
-import Team_Mute.back_end.domain.member.entity.Admin;
-import Team_Mute.back_end.domain.member.repository.AdminRepository;
+import Team_Mute.back_end.domain.member.session.AdminScope;
+import Team_Mute.back_end.domain.member.session.CurrentPrincipal;
 import Team_Mute.back_end.domain.reservation.entity.Reservation;
 import Team_Mute.back_end.domain.reservation_admin.dto.response.ReservationListResponseDto;
 import Team_Mute.back_end.domain.reservation_admin.repository.AdminReservationRepository;
@@ -36,7 +36,7 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class DashboardAdminService {
 	private final AdminReservationRepository adminReservationRepository;
-	private final AdminRepository adminRepository;
+	private final CurrentPrincipal currentPrincipal;
 	private final RservationListAllService rservationListAllService;
 	private final DashboardAdminRepository dashboardAdminRepository;
 
@@ -44,17 +44,17 @@ public class DashboardAdminService {
 	 * DashboardAdminService의 생성자
 	 *
 	 * @param adminReservationRepository 예약 엔티티에 접근하는 레포지토리
-	 * @param adminRepository            관리자 엔티티에 접근하는 레포지토리
+	 * @param currentPrincipal           현재 요청의 관리자 권한 범위 (JWT 클레임 기반)
 	 * @param rservationListAllService   전체 예약 목록 변환 로직을 담당하는 서비스
 	 */
 	public DashboardAdminService(
 		AdminReservationRepository adminReservationRepository,
-		AdminRepository adminRepository,
+		CurrentPrincipal currentPrincipal,
 		RservationListAllService rservationListAllService,
 		DashboardAdminRepository dashboardAdminRepository
 	) {
 		this.adminReservationRepository = adminReservationRepository;
-		this.adminRepository = adminRepository;
+		this.currentPrincipal = currentPrincipal;
 		this.rservationListAllService = rservationListAllService;
 		this.dashboardAdminRepository = dashboardAdminRepository;
 	}
@@ -69,8 +69,7 @@ public class DashboardAdminService {
 	 */
 	public ReservationCountResponseDto getReservationCounts(Long adminId) {
 		// 관리자 유효성 검사
-		Admin admin = adminRepository.findById(adminId)
-			.orElseThrow(Team_Mute.back_end.domain.member.exception.UserNotFoundException::new);
+		AdminScope admin = currentPrincipal.admin(adminId);
 
 		// DB에서 모든 예약 데이터를 가져옴
 		List<Reservation> allReservations = adminReservationRepository.findAll();
@@ -144,8 +143,7 @@ public class DashboardAdminService {
 		}
 
 		// 관리자 유효성 검사
-		Admin admin = adminRepository.findById(adminId)
-			.orElseThrow(Team_Mute.back_end.domain.member.exception.UserNotFoundException::new);
+		AdminScope admin = currentPrincipal.admin(adminId);
 
 		// 연도와 월을 기반으로 조회 기간 계산
 		LocalDateTime startDateTime;
@@ -219,8 +217,7 @@ public class DashboardAdminService {
 		}
 
 		// 관리자 유효성 검사
-		Admin admin = adminRepository.findById(adminId)
-			.orElseThrow(Team_Mute.back_end.domain.member.exception.UserNotFoundException::new);
+		AdminScope admin = currentPrincipal.admin(adminId);
 
 		// DB에서 모든 예약 데이터를 가져옴
 		List<Reservation> allReservations = adminReservationRepository.findAll();
@@ -1,5 +1,11 @@
 package Team_Mute.back_end.domain.member.config;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -8,6 +14,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
  * 비밀번호 암호화 관련 설정을 담당하는 클래스
  * BCryptPasswordEncoder 빈을 등록하여 애플리케이션 전역에서 비밀번호 암호화 및 검증 기능 제공
  * 회원가입 시 비밀번호 해시 저장, 로그인 시 비밀번호 일치 여부 검증에 사용
+ * BCrypt 연산 전용 스레드 풀을 등록하여 로그인 폭주 시 요청 스레드가 해싱으로 고갈되지 않도록 제한
  *
  * @author Team Mute
  * @since 1.0
@@ -22,11 +29,41 @@ public class PasswordConfig {
 	 * - encode() 메서드로 평문 비밀번호를 암호화하여 DB에 저장
 	 * - matches() 메서드로 로그인 시 입력된 비밀번호와 저장된 해시값 일치 여부 검증
 	 * - 무차별 대입 공격(Brute Force Attack)에 강한 단방향 해시 알고리즘 사용
+	 * - cost(strength)는 password.bcrypt.strength로 설정 (기본 10), 변경 시 로그인 과정에서 재해시
 	 *
+	 * @param strength BCrypt cost (4 ~ 31)
 	 * @return BCryptPasswordEncoder 인스턴스 (비밀번호 암호화 및 검증에 사용)
 	 */
 	@Bean
-	public BCryptPasswordEncoder passwordEncoder() {
-		return new BCryptPasswordEncoder();
+	public BCryptPasswordEncoder passwordEncoder(@Value("${password.bcrypt.strength:10}") int strength) {
+		return new BCryptPasswordEncoder(strength);
+	}
+
+	/**
+	 * 비밀번호 해싱 전용 스레드 풀 빈 등록
+	 * - BCrypt 연산을 Tomcat 요청 스레드가 아닌 고정 크기 풀에서 수행
+	 * - 대기열 크기를 제한하여 가득 차면 즉시 거부 (PasswordService에서 503 응답으로 변환)
+	 * - 동시 해싱 수가 제한되므로 로그인 폭주 시에도 다른 API(예약 가능 시간 조회 등)의 CPU 확보
+	 *
+	 * @param threads 해싱 스레드 수 (0 이하이면 CPU 코어 수)
+	 * @param queueCapacity 대기열 최대 크기
+	 * @return ThreadPoolExecutor 인스턴스
+	 */
+	@Bean(destroyMethod = "shutdown")
+	public ThreadPoolExecutor passwordHashExecutor(
+		@Value("${password.hash-executor.threads:0}") int threads,
+		@Value("${password.hash-executor.queue-capacity:64}") int queueCapacity) {
+		int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+		AtomicInteger sequence = new AtomicInteger();
+		return new ThreadPoolExecutor(
+			poolSize, poolSize,
+			0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(queueCapacity),
+			r -> {
+				Thread t = new Thread(r, "password-hash-" + sequence.incrementAndGet());
+				t.setDaemon(true);
+				return t;
+			},
+			new ThreadPoolExecutor.AbortPolicy());
 	}
 }
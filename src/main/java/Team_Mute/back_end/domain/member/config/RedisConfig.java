@@ -4,6 +4,15 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import Team_Mute.back_end.domain.member.registry.CorpNameIndex;
+import Team_Mute.back_end.domain.member.session.RevokedJtiFilter;
+import Team_Mute.back_end.domain.member.session.SessionNearCache;
+import Team_Mute.back_end.domain.member.session.TokenVersionCache;
+import Team_Mute.back_end.domain.space_user.catalog.SpaceCatalogIndex;
+import Team_Mute.back_end.domain.space_user.catalog.SpaceViewCache;
 
 /**
  * Redis 설정 관련 클래스
@@ -29,4 +38,38 @@ public class RedisConfig {
 	public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory cf) {
 		return new StringRedisTemplate(cf);
 	}
+
+	/**
+	 * Redis Pub/Sub 메시지 리스너 컨테이너 빈 등록
+	 * - 여러 애플리케이션 노드 간 로컬 캐시 무효화 메시지 수신에 사용
+	 * - session-invalidation 채널: 세션 삭제, Access Token 블랙리스트 등록 시 Near-Cache 항목 제거
+	 * - revoked-jti 채널: 블랙리스트/폐기된 JTI를 각 노드의 Bloom Filter에 추가
+	 * - token-version 채널: Token Version 변경을 각 노드의 로컬 미러에 반영
+	 * - corp-registry 채널: 기업 정보 적재 완료 시 각 노드의 기업명 색인 재구성
+	 * - space-catalog 채널: 공간 생성/수정/삭제 시 각 노드의 공간 검색 색인 재구성
+	 * - space-view 채널: 공간 생성/수정/삭제 시 각 노드의 공간 상세/검색 결과 캐시 제거
+	 *
+	 * @param cf RedisConnectionFactory
+	 * @param sessionNearCache 세션 검증 Near-Cache (무효화 메시지 리스너)
+	 * @param revokedJtiFilter 폐기 JTI Bloom Filter (폐기 이벤트 리스너)
+	 * @param tokenVersionCache Token Version 캐시 (버전 변경 리스너)
+	 * @param corpNameIndex 기업명 접두어 색인 (재구성 알림 리스너)
+	 * @param spaceCatalogIndex 공간 검색 메모리 색인 (재구성 알림 리스너)
+	 * @param spaceViewCache 공간 상세/검색 결과 캐시 (무효화 메시지 리스너)
+	 * @return RedisMessageListenerContainer 인스턴스
+	 */
+	@Bean
+	public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory cf,
+		SessionNearCache sessionNearCache, RevokedJtiFilter revokedJtiFilter, TokenVersionCache tokenVersionCache,
+		CorpNameIndex corpNameIndex, SpaceCatalogIndex spaceCatalogIndex, SpaceViewCache spaceViewCache) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(cf);
+		container.addMessageListener(sessionNearCache, new ChannelTopic(SessionNearCache.CHANNEL));
+		container.addMessageListener(revokedJtiFilter, new ChannelTopic(RevokedJtiFilter.CHANNEL));
+		container.addMessageListener(tokenVersionCache, new ChannelTopic(TokenVersionCache.CHANNEL));
+		container.addMessageListener(corpNameIndex, new ChannelTopic(CorpNameIndex.CHANNEL));
+		container.addMessageListener(spaceCatalogIndex, new ChannelTopic(SpaceCatalogIndex.CHANNEL));
+		container.addMessageListener(spaceViewCache, new ChannelTopic(SpaceViewCache.CHANNEL));
+		return container;
+	}
 }
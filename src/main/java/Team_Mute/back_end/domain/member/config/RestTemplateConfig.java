@@ -3,8 +3,17 @@ package Team_Mute.back_end.domain.member.config;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.http.converter.xml.MappingJackson2XmlHttpMessageConverter;
@@ -14,6 +23,7 @@ import org.springframework.web.client.RestTemplate;
  * 외부 API 통신을 위한 RestTemplate 설정 클래스
  * HTTP 클라이언트인 RestTemplate 빈을 등록하고 메시지 컨버터를 설정하여 외부 RESTful API와의 통신 기능 제공
  * JSON 및 XML 형식의 데이터를 자바 객체로 변환하거나 반대로 변환하는 기능 포함
+ * Apache HttpClient 커넥션 풀과 연결/응답 타임아웃을 적용하여 느린 외부 서버가 요청 스레드를 붙잡지 않도록 제한
  * 주로 기업 정보 조회 API 외부 서비스 연동에 사용
  *
  * @author Team Mute
@@ -29,13 +39,41 @@ public class RestTemplateConfig {
 	 * - MappingJackson2HttpMessageConverter: JSON 형식의 HTTP 요청/응답을 자바 객체로 자동 변환
 	 * - MappingJackson2XmlHttpMessageConverter: XML 형식의 HTTP 요청/응답을 자바 객체로 자동 변환
 	 * - 설정된 메시지 컨버터를 통해 API 응답 데이터를 DTO 객체로 직접 매핑 가능
-	 * - CorpInfoService에서 외부 기업 정보 API 호출에 활용
+	 * - CorpApiClient에서 외부 기업 정보 API 호출에 활용
+	 * - 커넥션 풀로 TCP/TLS 연결 재사용, 풀 대기/연결/응답 각각에 타임아웃 적용
 	 *
+	 * @param maxTotal 전체 최대 커넥션 수
+	 * @param maxPerRoute 호스트별 최대 커넥션 수
+	 * @param connectTimeoutMs 연결 타임아웃 (ms)
+	 * @param readTimeoutMs 응답 타임아웃 (ms)
+	 * @param poolTimeoutMs 풀에서 커넥션을 얻기까지 대기 시간 (ms)
 	 * @return RestTemplate 인스턴스 (외부 API 호출 및 데이터 변환에 사용)
 	 */
 	@Bean
-	public RestTemplate restTemplate() {
-		RestTemplate restTemplate = new RestTemplate();
+	public RestTemplate restTemplate(
+		@Value("${http.client.max-total:50}") int maxTotal,
+		@Value("${http.client.max-per-route:20}") int maxPerRoute,
+		@Value("${http.client.connect-timeout-ms:2000}") long connectTimeoutMs,
+		@Value("${http.client.read-timeout-ms:3000}") long readTimeoutMs,
+		@Value("${http.client.pool-timeout-ms:1000}") long poolTimeoutMs) {
+		CloseableHttpClient httpClient = HttpClients.custom()
+			.setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+				.setMaxConnTotal(maxTotal)
+				.setMaxConnPerRoute(maxPerRoute)
+				.setDefaultConnectionConfig(ConnectionConfig.custom()
+					.setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+					.setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+					.setTimeToLive(TimeValue.ofMinutes(5))
+					.build())
+				.build())
+			.setDefaultRequestConfig(RequestConfig.custom()
+				.setConnectionRequestTimeout(Timeout.ofMilliseconds(poolTimeoutMs))
+				.setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+				.build())
+			.evictIdleConnections(TimeValue.ofSeconds(30))
+			.build();
+
+		RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
 		List<HttpMessageConverter<?>> messageConverters = new ArrayList<>();
 		messageConverters.add(new MappingJackson2HttpMessageConverter());
 		messageConverters.add(new MappingJackson2XmlHttpMessageConverter());
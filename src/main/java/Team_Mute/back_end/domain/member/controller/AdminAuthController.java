@@ -107,6 +107,13 @@ public class AdminAuthController {
 			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
 		}
 
+		// 3-1. BCrypt cost 설정이 변경된 경우 새 cost로 재해시하여 저장
+		String upgraded = passwordService.rehashIfNeeded(req.password(), admin.getAdminPwd());
+		if (upgraded != null) {
+			admin.setAdminPwd(upgraded);
+			adminRepository.save(admin);
+		}
+
 		// 4. JWT 토큰 쌍(Access Token, Refresh Token) 생성
 		TokenPair pair = adminAuthService.login(admin);
 
@@ -105,6 +105,13 @@ public class AuthController {
 			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
 		}
 
+		// 2-1. BCrypt cost 설정이 변경된 경우 새 cost로 재해시하여 저장
+		String upgraded = passwordService.rehashIfNeeded(req.password(), user.getUserPwd());
+		if (upgraded != null) {
+			user.setUserPwd(upgraded);
+			userRepository.save(user);
+		}
+
 		// 3. JWT 페이로드에 포함할 사용자 정보 추출
 		String userId = String.valueOf(user.getUserId());
 		String companyId = String.valueOf(user.getUserCompany().getCompanyId());
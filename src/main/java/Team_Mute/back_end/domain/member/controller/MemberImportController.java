@@ -0,0 +1,80 @@
+package Team_Mute.back_end.domain.member.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import Team_Mute.back_end.domain.member.dto.response.MemberImportResponseDto;
+import Team_Mute.back_end.domain.member.service.MemberImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자/관리자 CSV 일괄 등록 컨트롤러
+ * 협력 기관 온보딩 시 계정을 한 건씩 가입시키는 대신 CSV 파일 하나로 일괄 등록
+ * 마스터 관리자(roleId=0)만 접근 가능 (SecurityConfig)
+ * 업로드 파일은 스트리밍으로 처리하며 행별 실패 사유를 포함한 결과를 반환
+ *
+ * @author Team Mute
+ * @since 1.0
+ */
+@Tag(name = "관리자 일괄 등록 API", description = "사용자/관리자 CSV 일괄 등록 API 명세")
+@RestController
+@RequestMapping("/api/admin/import")
+@RequiredArgsConstructor
+public class MemberImportController {
+
+	private final MemberImportService memberImportService;
+
+	/**
+	 * 사용자 일괄 등록
+	 * - CSV 컬럼: userName, userEmail, companyName, agreeEmail (첫 줄 헤더)
+	 * - 계정마다 임시 비밀번호를 생성하여 환영 메일로 안내
+	 *
+	 * @param file 사용자 목록 CSV 파일 (UTF-8)
+	 * @return 등록 결과 요약 및 실패 행 목록
+	 * @throws IOException 업로드 파일을 읽을 수 없는 경우
+	 */
+	@Operation(summary = "사용자 일괄 등록", description = "CSV 파일로 사용자 계정을 일괄 등록합니다.")
+	@PostMapping(value = "/users", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+	public ResponseEntity<MemberImportResponseDto> importUsers(@RequestPart("file") MultipartFile file)
+		throws IOException {
+		requireFile(file);
+		try (InputStream csv = file.getInputStream()) {
+			return ResponseEntity.ok(memberImportService.importUsers(csv));
+		}
+	}
+
+	/**
+	 * 관리자 일괄 등록
+	 * - CSV 컬럼: roleId(1 또는 2), regionName, userEmail, userName, userPhone (첫 줄 헤더)
+	 * - 계정마다 임시 비밀번호를 생성하여 환영 메일로 안내
+	 *
+	 * @param file 관리자 목록 CSV 파일 (UTF-8)
+	 * @return 등록 결과 요약 및 실패 행 목록
+	 * @throws IOException 업로드 파일을 읽을 수 없는 경우
+	 */
+	@Operation(summary = "관리자 일괄 등록", description = "CSV 파일로 승인자 계정을 일괄 등록합니다.")
+	@PostMapping(value = "/admins", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+	public ResponseEntity<MemberImportResponseDto> importAdmins(@RequestPart("file") MultipartFile file)
+		throws IOException {
+		requireFile(file);
+		try (InputStream csv = file.getInputStream()) {
+			return ResponseEntity.ok(memberImportService.importAdmins(csv));
+		}
+	}
+
+	private void requireFile(MultipartFile file) {
+		if (file == null || file.isEmpty()) {
+			throw new IllegalArgumentException("업로드할 CSV 파일이 없습니다.");
+		}
+	}
+}
@@ -0,0 +1,46 @@
+package Team_Mute.back_end.domain.member.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 관리자 일괄 등록 CSV 행
+ * - 첫 줄 헤더의 컬럼명으로 매핑 (roleId, regionName, userEmail, userName, userPhone)
+ * - 일괄 등록은 승인자 계정(1: 2차 승인자, 2: 1차 승인자)만 허용하며 담당 지역 필수
+ * - 값 변환 오류로 이후 행을 읽지 못하는 일이 없도록 모든 컬럼을 문자열로 받음
+ *
+ * @author Team Mute
+ * @since 1.0
+ */
+@Data
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class AdminImportRow {
+
+	@NotBlank(message = "역할 ID는 필수 입력 값입니다.")
+	@Pattern(regexp = "^[12]$", message = "일괄 등록은 역할 ID 1 또는 2만 가능합니다.")
+	private String roleId;
+
+	@NotBlank(message = "담당 지역은 필수 입력 값입니다.")
+	@Size(max = 50, message = "담당 지역은 50자 이하로 입력해주세요.")
+	private String regionName;
+
+	@NotBlank(message = "이메일은 필수 입력 값입니다.")
+	@Email(message = "이메일 형식이 올바르지 않습니다.")
+	@Size(max = 100, message = "이메일은 100자 이하로 입력해주세요.")
+	private String userEmail;
+
+	@NotBlank(message = "이름은 필수 입력 값입니다.")
+	@Size(max = 50, message = "이름은 50자 이하로 입력해주세요.")
+	private String userName;
+
+	@NotBlank(message = "전화번호는 필수 입력 값입니다.")
+	@Size(max = 20, message = "전화번호는 20자 이하로 입력해주세요.")
+	private String userPhone;
+}
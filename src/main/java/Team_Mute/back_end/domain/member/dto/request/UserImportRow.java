@@ -0,0 +1,43 @@
+package Team_Mute.back_end.domain.member.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자 일괄 등록 CSV 행
+ * - 첫 줄 헤더의 컬럼명으로 매핑 (userName, userEmail, companyName, agreeEmail)
+ * - 검증 규칙은 SignupRequestDto와 동일 (비밀번호는 임시 비밀번호를 생성하므로 제외)
+ * - 값 변환 오류로 이후 행을 읽지 못하는 일이 없도록 모든 컬럼을 문자열로 받음
+ *
+ * @author Team Mute
+ * @since 1.0
+ */
+@Data
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class UserImportRow {
+
+	@NotBlank(message = "사용자 이름은 필수 입력 항목입니다.")
+	@Size(min = 2, max = 50, message = "사용자 이름은 2자 이상 50자 이하로 입력해주세요.")
+	@Pattern(regexp = "^[가-힣a-zA-Z\\s]+$", message = "사용자 이름은 한글, 영문만 입력 가능합니다.")
+	private String userName;
+
+	@NotBlank(message = "이메일은 필수 입력 항목입니다.")
+	@Email(message = "올바른 이메일 형식이 아닙니다.")
+	@Size(max = 100, message = "이메일은 100자 이하로 입력해주세요.")
+	private String userEmail;
+
+	@NotBlank(message = "회사명은 필수 입력 항목입니다.")
+	@Size(min = 1, max = 50, message = "회사명은 1자 이상 50자 이하여야 합니다.")
+	private String companyName;
+
+	@NotBlank(message = "이메일 알림 동의 여부를 선택해주세요.")
+	@Pattern(regexp = "^(?i)(true|false)$", message = "이메일 알림 동의 여부는 true 또는 false여야 합니다.")
+	private String agreeEmail;
+}
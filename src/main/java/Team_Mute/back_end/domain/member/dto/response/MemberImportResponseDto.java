@@ -0,0 +1,90 @@
+package Team_Mute.back_end.domain.member.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 사용자/관리자 일괄 등록 결과 DTO
+ * - 전체/등록/실패 건수와 실패한 행별 사유를 반환
+ * - 등록된 행은 건수로만 집계 (응답 크기가 파일 크기가 아닌 실패 건수에 비례)
+ * - 실패 행 목록은 member.import.max-report-rows건까지만 포함 (초과 시 truncated=true)
+ * - 환영 메일 발송 실패는 계정 등록 결과와 별도로 집계 (계정은 등록되었으므로 비밀번호 초기화로 재발급)
+ *
+ * @author Team Mute
+ * @since 1.0
+ */
+@Getter
+@Builder
+public class MemberImportResponseDto {
+
+	/**
+	 * 읽은 데이터 행 수 (헤더 제외)
+	 */
+	private long total;
+
+	/**
+	 * 등록된 계정 수
+	 */
+	private long created;
+
+	/**
+	 * 등록하지 못한 행 수 (검증 실패, 중복 이메일, 처리 오류)
+	 */
+	private long failed;
+
+	/**
+	 * 실패 행 목록이 잘렸는지 여부
+	 */
+	private boolean truncated;
+
+	/**
+	 * 실패 행 목록
+	 */
+	private List<RowError> errors;
+
+	/**
+	 * 환영 메일 발송에 실패한 계정 수
+	 */
+	private long mailFailed;
+
+	/**
+	 * 응답 시점까지 발송 결과를 확인하지 못한 환영 메일 수 (발송은 계속 진행)
+	 */
+	private long mailPending;
+
+	/**
+	 * 환영 메일 발송 실패 목록이 잘렸는지 여부
+	 */
+	private boolean mailTruncated;
+
+	/**
+	 * 환영 메일 발송 실패 행 목록
+	 */
+	private List<RowError> mailErrors;
+
+	/**
+	 * 실패 행 정보
+	 */
+	@Getter
+	@AllArgsConstructor
+	public static class RowError {
+
+		/**
+		 * 행 번호 (헤더 다음 행이 1)
+		 */
+		private long row;
+
+		/**
+		 * 행의 이메일 (읽을 수 없으면 null)
+		 */
+		private String email;
+
+		/**
+		 * 실패 사유
+		 */
+		private String reason;
+	}
+}
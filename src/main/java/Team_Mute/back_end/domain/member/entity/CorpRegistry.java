@@ -0,0 +1,74 @@
+package Team_Mute.back_end.domain.member.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 법인 등록 기업 엔티티 클래스
+ * 외부 기업 정보 API의 전체 데이터(덤프)를 주기적으로 적재한 로컬 사본
+ * 회원가입 시 기업명 자동완성을 외부 API 호출 없이 처리하기 위한 원본 데이터
+ * tb_corp_registry 테이블과 매핑
+ *
+ * 적재 방식:
+ * - CorpRegistryImporter가 CorpApiItemDto 형식의 덤프 파일을 읽어 사업자등록번호 기준 upsert
+ * - CorpNameIndex가 이 테이블로부터 메모리 접두어 색인 구성
+ *
+ * @author Team Mute
+ * @since 1.0
+ */
+@Entity
+@Table(name = "tb_corp_registry", indexes = {
+	@Index(name = "idx_corp_registry_name_key", columnList = "corp_name_key")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CorpRegistry {
+
+	/**
+	 * 사업자등록번호 (Primary Key)
+	 * - 외부 API의 bzno 필드
+	 */
+	@Id
+	@Column(name = "bzno", length = 20)
+	private String bzno;
+
+	/**
+	 * 기업명
+	 * - 외부 API의 corpNm 필드 (앞뒤 공백 제거)
+	 * - 자동완성 결과로 그대로 반환
+	 */
+	@Column(name = "corp_name", length = 200, nullable = false)
+	private String corpName;
+
+	/**
+	 * 색인용 정규화 기업명
+	 * - NFKC 정규화, 소문자 변환, 공백 및 법인 형태 표기((주), 주식회사 등) 제거
+	 * - CorpNameIndex.indexKey()로 생성
+	 */
+	@Column(name = "corp_name_key", length = 200, nullable = false)
+	private String corpNameKey;
+
+	/**
+	 * 설립일자 (yyyyMMdd)
+	 * - 외부 API의 enpEstbDt 필드
+	 */
+	@Column(name = "enp_estb_dt", length = 8)
+	private String enpEstbDt;
+
+	/**
+	 * 마지막 적재 일시
+	 */
+	@Column(name = "upd_date", nullable = false)
+	private LocalDateTime updDate;
+}
@@ -9,8 +9,11 @@ import org.hibernate.annotations.UpdateTimestamp;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -36,12 +39,15 @@ public class UserCompany {
 
 	/**
 	 * 기업 ID (Primary Key)
-	 * - 수동 할당 방식 (자동 증가 아님)
+	 * - 시퀀스(tb_user_company_id_seq)로 할당하는 자체 관리 ID
+	 * - 시퀀스는 db/migration/V1__user_company_id_sequence.sql로 생성
+	 * - JPA 저장과 UserCompanyJdbcRepository.upsertByName()이 같은 시퀀스 사용
 	 * - 기업 고유 식별자
 	 * - Integer 타입 사용
-	 * - 외부 API에서 받은 기업 코드 또는 자체 관리 ID
 	 */
 	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_company_id_seq")
+	@SequenceGenerator(name = "user_company_id_seq", sequenceName = "tb_user_company_id_seq", allocationSize = 1)
 	@Column(name = "company_id")
 	private Integer companyId;
 
@@ -0,0 +1,9 @@
+package Team_Mute.back_end.domain.member.exception;
+
+import Team_Mute.back_end.global.CustomException;
+
+public class PasswordHashingBusyException extends CustomException {
+	public PasswordHashingBusyException() {
+		super(503, "로그인 요청이 많아 잠시 후 다시 시도해주세요.");
+	}
+}
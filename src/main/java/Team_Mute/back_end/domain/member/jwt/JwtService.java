@@ -1,5 +1,9 @@
 package Team_Mute.back_end.domain.member.jwt;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Base64;
 import java.util.Date;
@@ -7,11 +11,17 @@ import java.util.Map;
 
 import javax.crypto.SecretKey;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 
@@ -20,6 +30,7 @@ import io.jsonwebtoken.security.Keys;
  * JJWT(Java JWT) 라이브러리를 사용하여 JWT 토큰의 생성과 파싱 기능 제공
  * HMAC-SHA256 알고리즘으로 토큰 서명
  * Access Token과 Refresh Token 모두 이 서비스를 통해 생성
+ * 검증된 토큰은 다이제스트 기준 Caffeine 캐시에 만료 시각까지 보관하여 반복 검증 생략
  *
  * @author Team Mute
  * @since 1.0
@@ -41,18 +52,47 @@ public class JwtService {
 	 */
 	private final SecretKey key;
 
+	/**
+	 * JWT 파서
+	 * - 서명 키와 발급자 검증 조건이 고정되어 있으므로 생성 시 한 번만 빌드
+	 * - 불변 객체로 스레드 안전
+	 */
+	private final JwtParser parser;
+
+	/**
+	 * 검증 완료된 토큰 캐시
+	 * - Key: 토큰 문자열의 SHA-256 다이제스트 (원문 토큰은 메모리에 보관하지 않음)
+	 * - Value: 검증된 Jws 객체와 만료 시각
+	 * - 항목별로 토큰 만료 시각에 맞춰 만료, 최대 크기 초과 시 Caffeine 정책으로 제거
+	 * - 매 요청 조회 경로이므로 전역 락 없이 동시 조회 가능한 Caffeine 사용
+	 */
+	private final Cache<String, VerifiedToken> verifiedTokens;
+
 	/**
 	 * JwtService 생성자
 	 * - JwtConfig를 주입받아 초기화
 	 * - Base64로 인코딩된 비밀 키를 디코딩하여 SecretKey 객체 생성
 	 * - HMAC-SHA256에 적합한 키 길이 검증 (최소 256비트)
+	 * - JWT 파서와 검증 토큰 캐시 생성
 	 *
 	 * @param props JWT 설정 정보
+	 * @param cacheSize 검증 토큰 캐시 최대 크기 (0 이하이면 캐시 비활성화)
 	 */
-	public JwtService(JwtConfig props) {
+	public JwtService(JwtConfig props, @Value("${jwt.verified-cache.max-size:10000}") int cacheSize) {
 		this.props = props;
 		byte[] secret = Base64.getDecoder().decode(props.secretBase64());
 		this.key = Keys.hmacShaKeyFor(secret);
+		this.parser = Jwts.parser()
+			.verifyWith(key)                            // 서명 검증 키 설정
+			.requireIssuer(props.issuer())              // 발급자 일치 여부 확인
+			.build();
+		this.verifiedTokens = cacheSize > 0
+			? Caffeine.newBuilder()
+				.maximumSize(cacheSize)
+				.expireAfter(Expiry.creating((String digest, VerifiedToken token) ->
+					Duration.ofMillis(Math.max(0, token.expiresAt() - System.currentTimeMillis()))))
+				.build()
+			: null;
 	}
 
 	/**
@@ -119,6 +159,7 @@ public class JwtService {
 	 * - JWT 토큰을 파싱하고 서명을 검증
 	 * - 서명 검증 실패, 만료, 발급자 불일치 시 예외 발생
 	 * - JwtAuthFilter에서 요청의 Authorization 헤더에서 토큰 추출 후 이 메서드로 검증
+	 * - 이미 검증된 토큰은 만료 전까지 캐시에서 반환 (서명 검증 및 클레임 파싱 생략)
 	 *
 	 * 검증 항목:
 	 * 1. 서명 검증 (HMAC-SHA256)
@@ -137,10 +178,50 @@ public class JwtService {
 	 * @throws io.jsonwebtoken.JwtException 토큰 검증 실패 시
 	 */
 	public Jws<Claims> parse(String token) {
-		return Jwts.parser()
-			.verifyWith(key)                            // 서명 검증 키 설정
-			.requireIssuer(props.issuer())              // 발급자 일치 여부 확인
-			.build()
-			.parseSignedClaims(token);                  // 토큰 파싱 및 검증
+		if (verifiedTokens == null) {
+			return parser.parseSignedClaims(token);
+		}
+
+		// 1. 캐시 조회 (만료된 항목은 재검증하여 ExpiredJwtException 발생)
+		String digest = digest(token);
+		VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+		if (cached != null && cached.expiresAt() > System.currentTimeMillis()) {
+			return cached.jws();
+		}
+
+		// 2. 토큰 파싱 및 검증
+		Jws<Claims> jws = parser.parseSignedClaims(token);
+
+		// 3. 만료 시각이 있는 토큰만 캐싱
+		Date exp = jws.getPayload().getExpiration();
+		if (exp != null) {
+			verifiedTokens.put(digest, new VerifiedToken(jws, exp.getTime()));
+		}
+		return jws;
+	}
+
+	/**
+	 * 토큰 문자열의 SHA-256 다이제스트 생성 (캐시 키)
+	 *
+	 * @param token JWT 토큰 문자열
+	 * @return Base64 인코딩된 다이제스트
+	 */
+	private static String digest(String token) {
+		try {
+			MessageDigest md = MessageDigest.getInstance("SHA-256");
+			byte[] hash = md.digest(token.getBytes(StandardCharsets.US_ASCII));
+			return Base64.getEncoder().encodeToString(hash);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * 검증 토큰 캐시 항목
+	 *
+	 * @param jws 검증된 JWT 객체 (불변)
+	 * @param expiresAt 토큰 만료 시각 (epoch millis)
+	 */
+	private record VerifiedToken(Jws<Claims> jws, long expiresAt) {
 	}
 }
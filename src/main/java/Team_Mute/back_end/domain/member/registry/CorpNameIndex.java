@@ -0,0 +1,223 @@
+package Team_Mute.back_end.domain.member.registry;
+
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기업명 메모리 접두어 색인
+ * - tb_corp_registry의 (정규화 기업명, 기업명) 쌍을 정규화 기업명 기준으로 정렬한 배열로 보관
+ * - 이진 탐색으로 접두어의 시작 위치를 찾고 접두어가 일치하는 동안 순회 (O(log n + k))
+ * - 외부 API나 DB 조회 없이 프로세스 메모리에서 자동완성 결과 반환
+ *
+ * 갱신:
+ * - 애플리케이션 기동 시 DB에서 구성
+ * - CorpRegistryImporter 적재 완료 시 재구성 후 corp-registry 채널로 "{nodeId}:rebuild" 발행, 다른 노드도 재구성
+ * - 자기 노드가 발행한 메시지는 이미 재구성을 마쳤으므로 무시 (중복 재구성 방지)
+ * - 재구성 중에는 기존 배열로 조회하고 완료 시 한 번에 교체
+ *
+ * @author Team Mute
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class CorpNameIndex implements MessageListener {
+
+	/**
+	 * 색인 재구성을 노드 간 전파하는 Redis Pub/Sub 채널명
+	 */
+	public static final String CHANNEL = "corp-registry";
+
+	/**
+	 * 색인 키에서 제거할 법인 형태 표기 (NFKC 정규화 후 기준, ㈜ → (주))
+	 */
+	private static final Pattern CORP_FORM = Pattern.compile(
+		"\\(주\\)|\\(유\\)|\\(사\\)|\\(재\\)|주식회사|유한책임회사|유한회사|합자회사|합명회사|사단법인|재단법인");
+
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+	/**
+	 * 자기 노드가 발행한 메시지를 구분하기 위한 노드 식별자
+	 */
+	private final String nodeId = UUID.randomUUID().toString();
+
+	private final JdbcTemplate jdbcTemplate;
+	private final StringRedisTemplate redis;
+
+	/**
+	 * 현재 조회에 사용하는 색인
+	 */
+	private volatile Snapshot snapshot = new Snapshot(new String[0], new String[0]);
+
+	public CorpNameIndex(JdbcTemplate jdbcTemplate, StringRedisTemplate redis) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.redis = redis;
+	}
+
+	/**
+	 * 색인 키 생성
+	 * - NFKC 정규화 (전각/반각, ㈜ 등 통일)
+	 * - 소문자 변환, 법인 형태 표기와 공백 제거
+	 *
+	 * 사용 예시:
+	 * - "㈜ 팀 뮤트" → "팀뮤트"
+	 * - "주식회사 Team Mute" → "teammute"
+	 *
+	 * @param name 기업명 또는 검색 키워드
+	 * @return 정규화된 색인 키
+	 */
+	public static String indexKey(String name) {
+		String normalized = Normalizer.normalize(name, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+		normalized = CORP_FORM.matcher(normalized).replaceAll("");
+		return WHITESPACE.matcher(normalized).replaceAll("");
+	}
+
+	/**
+	 * 색인 사용 가능 여부 (적재된 기업이 한 건 이상)
+	 *
+	 * @return 사용 가능하면 true
+	 */
+	public boolean isReady() {
+		return snapshot.keys().length > 0;
+	}
+
+	/**
+	 * 접두어 검색
+	 *
+	 * 처리 로직:
+	 * 1. 검색 키워드를 색인 키로 정규화
+	 * 2. 이진 탐색으로 접두어 이상인 첫 위치 탐색
+	 * 3. 접두어가 일치하는 동안 순회하며 중복 없는 기업명 수집
+	 * 4. offset만큼 건너뛰고 limit개 반환
+	 *
+	 * @param query 검색 키워드
+	 * @param offset 건너뛸 기업명 수 (페이지 처리)
+	 * @param limit 최대 반환 개수
+	 * @return 접두어가 일치하는 기업명 목록
+	 */
+	public List<String> searchPrefix(String query, int offset, int limit) {
+		Snapshot current = snapshot;
+
+		// 1. 색인 키 정규화
+		String prefix = indexKey(query);
+		if (prefix.isEmpty()) {
+			return List.of();
+		}
+
+		// 2. 시작 위치 탐색
+		int i = lowerBound(current.keys(), prefix);
+
+		// 3. 접두어 일치 구간 순회
+		LinkedHashSet<String> names = new LinkedHashSet<>();
+		while (i < current.keys().length && current.keys()[i].startsWith(prefix) && names.size() < offset + limit) {
+			names.add(current.names()[i]);
+			i++;
+		}
+
+		// 4. 페이지 범위 반환
+		List<String> result = new ArrayList<>(names);
+		return offset >= result.size() ? List.of() : result.subList(offset, result.size());
+	}
+
+	/**
+	 * 기동 완료 시 색인 구성
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		rebuild();
+	}
+
+	/**
+	 * DB에서 색인 재구성
+	 * - 정렬은 DB collation이 아닌 Java 문자열 비교 기준으로 수행 (이진 탐색과 같은 기준)
+	 */
+	public void rebuild() {
+		try {
+			List<String[]> rows = new ArrayList<>();
+			jdbcTemplate.query(
+				"SELECT DISTINCT corp_name_key, corp_name FROM tb_corp_registry",
+				rs -> {
+					rows.add(new String[] {rs.getString(1), rs.getString(2)});
+				});
+			rows.sort(Comparator.comparing((String[] row) -> row[0]).thenComparing(row -> row[1]));
+
+			String[] keys = new String[rows.size()];
+			String[] names = new String[rows.size()];
+			for (int i = 0; i < rows.size(); i++) {
+				keys[i] = rows.get(i)[0];
+				names[i] = rows.get(i)[1];
+			}
+			snapshot = new Snapshot(keys, names);
+			log.info("기업명 색인 구성 완료: {}건", keys.length);
+		} catch (Exception e) {
+			log.error("기업명 색인 구성 실패: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 로컬 색인 재구성 후 다른 노드에 재구성 알림 발행
+	 */
+	public void rebuildAndPublish() {
+		rebuild();
+		redis.convertAndSend(CHANNEL, nodeId + ":rebuild");
+	}
+
+	/**
+	 * 다른 노드의 적재 완료 알림 수신 시 재구성
+	 * - 본문 형식: "{nodeId}:rebuild" (자기 노드가 발행한 메시지는 이미 재구성되어 무시)
+	 *
+	 * @param message Redis Pub/Sub 메시지
+	 * @param pattern 구독 패턴 (미사용)
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		int separator = body.indexOf(':');
+		if (separator >= 0 && nodeId.equals(body.substring(0, separator))) {
+			return;
+		}
+		rebuild();
+	}
+
+	/**
+	 * prefix 이상인 첫 번째 위치 (없으면 배열 길이)
+	 */
+	private static int lowerBound(String[] keys, String prefix) {
+		int lo = 0;
+		int hi = keys.length;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (keys[mid].compareTo(prefix) < 0) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+
+	/**
+	 * 정렬된 색인 배열 (keys[i]와 names[i]가 한 쌍)
+	 *
+	 * @param keys 정규화 기업명 (오름차순)
+	 * @param names 표시용 기업명
+	 */
+	private record Snapshot(String[] keys, String[] names) {
+	}
+}
@@ -0,0 +1,165 @@
+package Team_Mute.back_end.domain.member.registry;
+
+import java.io.File;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import Team_Mute.back_end.domain.member.dto.external.corp_api.CorpApiItemDto;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 법인 등록 기업 덤프 적재 배치
+ * - CorpApiItemDto 형식(corpNm, bzno, enpEstbDt)의 JSON 배열 또는 JSON Lines 파일을 스트리밍으로 읽어 tb_corp_registry에 적재
+ * - 사업자등록번호(bzno) 기준 upsert, JDBC 배치로 묶어서 실행
+ * - 이번 적재에 포함되지 않은 기업(폐업 등)은 적재 완료 후 삭제
+ * - 적재 완료 후 CorpNameIndex 재구성 및 다른 노드에 재구성 알림 발행
+ *
+ * 실행:
+ * - corp.registry.import-cron 주기로 실행 (기본 매일 04:30)
+ * - corp.registry.dump-path가 비어 있으면 실행하지 않음
+ * - 여러 노드 중 Redis 락을 획득한 한 노드만 적재
+ *
+ * @author Team Mute
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class CorpRegistryImporter {
+
+	private static final String LOCK_KEY = "corp-registry:import-lock";
+
+	private static final String UPSERT_SQL = """
+		INSERT INTO tb_corp_registry (bzno, corp_name, corp_name_key, enp_estb_dt, upd_date)
+		VALUES (?, ?, ?, ?, ?)
+		ON CONFLICT (bzno) DO UPDATE SET
+		  corp_name = EXCLUDED.corp_name,
+		  corp_name_key = EXCLUDED.corp_name_key,
+		  enp_estb_dt = EXCLUDED.enp_estb_dt,
+		  upd_date = EXCLUDED.upd_date
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final ObjectMapper objectMapper;
+	private final StringRedisTemplate redis;
+	private final CorpNameIndex corpNameIndex;
+	private final String dumpPath;
+	private final int batchSize;
+
+	public CorpRegistryImporter(
+		JdbcTemplate jdbcTemplate,
+		ObjectMapper objectMapper,
+		StringRedisTemplate redis,
+		CorpNameIndex corpNameIndex,
+		@Value("${corp.registry.dump-path:}") String dumpPath,
+		@Value("${corp.registry.batch-size:1000}") int batchSize) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.objectMapper = objectMapper;
+		this.redis = redis;
+		this.corpNameIndex = corpNameIndex;
+		this.dumpPath = dumpPath;
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * 주기적 덤프 적재
+	 */
+	@Scheduled(cron = "${corp.registry.import-cron:0 30 4 * * *}")
+	public void scheduledImport() {
+		if (dumpPath == null || dumpPath.isBlank()) {
+			return;
+		}
+		importDump(new File(dumpPath));
+	}
+
+	/**
+	 * 덤프 파일 적재
+	 *
+	 * 처리 로직:
+	 * 1. Redis 락 획득 (다른 노드가 적재 중이면 종료)
+	 * 2. 파일을 한 건씩 읽어 색인 키 생성 후 배치에 추가
+	 * 3. batchSize마다 upsert 배치 실행
+	 * 4. 이번 적재에서 갱신되지 않은 행 삭제
+	 * 5. 색인 재구성 및 다른 노드에 알림
+	 *
+	 * @param dump 덤프 파일
+	 * @return 적재한 기업 수 (락 획득 실패 또는 오류 시 0)
+	 */
+	public int importDump(File dump) {
+		// 1. Redis 락 획득
+		String token = UUID.randomUUID().toString();
+		Boolean locked = redis.opsForValue().setIfAbsent(LOCK_KEY, token, Duration.ofHours(1));
+		if (!Boolean.TRUE.equals(locked)) {
+			log.info("다른 노드에서 기업 정보 적재 중이므로 건너뜁니다.");
+			return 0;
+		}
+
+		Timestamp startedAt = Timestamp.valueOf(LocalDateTime.now());
+		int imported = 0;
+		try (MappingIterator<CorpApiItemDto> items = objectMapper.readerFor(CorpApiItemDto.class).readValues(dump)) {
+			// 2. 스트리밍 읽기 및 배치 구성
+			List<Object[]> batch = new ArrayList<>(batchSize);
+			while (items.hasNext()) {
+				CorpApiItemDto item = items.next();
+				if (item == null || isBlank(item.getBzno()) || isBlank(item.getCorpNm())) {
+					continue;
+				}
+				String corpName = item.getCorpNm().trim();
+				String key = CorpNameIndex.indexKey(corpName);
+				if (key.isEmpty()) {
+					continue;
+				}
+				batch.add(new Object[] {item.getBzno().trim(), corpName, key, item.getEnpEstbDt(), startedAt});
+
+				// 3. 배치 실행
+				if (batch.size() >= batchSize) {
+					imported += flush(batch);
+				}
+			}
+			imported += flush(batch);
+
+			// 4. 이번 덤프에 없는 기업 삭제 (빈 덤프로 전체가 삭제되지 않도록 적재 건수가 있을 때만)
+			int removed = imported > 0
+				? jdbcTemplate.update("DELETE FROM tb_corp_registry WHERE upd_date < ?", startedAt)
+				: 0;
+			log.info("기업 정보 적재 완료: {}건 적재, {}건 삭제", imported, removed);
+		} catch (Exception e) {
+			log.error("기업 정보 적재 실패: {}", e.getMessage(), e);
+			return 0;
+		} finally {
+			if (token.equals(redis.opsForValue().get(LOCK_KEY))) {
+				redis.delete(LOCK_KEY);
+			}
+		}
+
+		// 5. 색인 재구성 및 다른 노드 알림
+		corpNameIndex.rebuildAndPublish();
+		return imported;
+	}
+
+	private int flush(List<Object[]> batch) {
+		if (batch.isEmpty()) {
+			return 0;
+		}
+		jdbcTemplate.batchUpdate(UPSERT_SQL, batch);
+		int size = batch.size();
+		batch.clear();
+		return size;
+	}
+
+	private static boolean isBlank(String value) {
+		return value == null || value.isBlank();
+	}
+}
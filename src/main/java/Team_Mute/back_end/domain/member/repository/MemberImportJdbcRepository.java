@@ -0,0 +1,134 @@
+package Team_Mute.back_end.domain.member.repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 사용자/관리자 일괄 등록 레포지토리
+ * - CSV 일괄 등록 시 계정을 JDBC 배치로 삽입 (행마다 JPA save 반복 없음)
+ * - 이메일 유니크 제약 기준 ON CONFLICT DO NOTHING으로 동시 가입과 겹친 행은 건너뜀
+ * - ID는 각 테이블의 IDENTITY 기본값으로 채번
+ * - 호출하는 서비스의 트랜잭션(같은 커넥션)에서 실행됨
+ *
+ * @author Team Mute
+ * @since 1.0
+ */
+@Repository
+public class MemberImportJdbcRepository {
+
+	private static final String INSERT_USER_SQL = """
+		INSERT INTO tb_users (user_email, user_name, user_pwd, reg_date, agree_email, role_id, company_id, token_ver)
+		VALUES (?, ?, ?, ?, ?, ?, ?, 1)
+		ON CONFLICT (user_email) DO NOTHING
+		""";
+
+	private static final String INSERT_ADMIN_SQL = """
+		INSERT INTO tb_admins (admin_email, admin_name, admin_phone, admin_pwd, reg_date, role_id, company_id, region_id,
+		  token_ver)
+		VALUES (?, ?, ?, ?, ?, ?, ?, ?, 1)
+		ON CONFLICT (admin_email) DO NOTHING
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public MemberImportJdbcRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * 이미 가입된 사용자 이메일 조회 (IN 조회 한 번)
+	 *
+	 * @param emails 확인할 이메일 목록
+	 * @return 이미 가입된 이메일 집합
+	 */
+	public Set<String> findExistingUserEmails(Collection<String> emails) {
+		return findExisting("SELECT user_email FROM tb_users WHERE user_email IN (%s)", emails);
+	}
+
+	/**
+	 * 이미 가입된 관리자 이메일 조회 (IN 조회 한 번)
+	 *
+	 * @param emails 확인할 이메일 목록
+	 * @return 이미 가입된 이메일 집합
+	 */
+	public Set<String> findExistingAdminEmails(Collection<String> emails) {
+		return findExisting("SELECT admin_email FROM tb_admins WHERE admin_email IN (%s)", emails);
+	}
+
+	/**
+	 * 사용자 일괄 삽입
+	 *
+	 * @param rows {user_email, user_name, user_pwd, agree_email, role_id, company_id}
+	 * @param regDate 등록 일시
+	 * @return 행별 삽입 여부 (이메일 충돌로 건너뛴 행은 false)
+	 */
+	public boolean[] insertUsers(List<Object[]> rows, Timestamp regDate) {
+		int[][] counts = jdbcTemplate.batchUpdate(INSERT_USER_SQL, rows, rows.size(), (ps, row) -> {
+			ps.setString(1, (String)row[0]);
+			ps.setString(2, (String)row[1]);
+			ps.setString(3, (String)row[2]);
+			ps.setTimestamp(4, regDate);
+			ps.setBoolean(5, (Boolean)row[3]);
+			ps.setInt(6, (Integer)row[4]);
+			ps.setInt(7, (Integer)row[5]);
+		});
+		return inserted(counts, rows.size());
+	}
+
+	/**
+	 * 관리자 일괄 삽입
+	 *
+	 * @param rows {admin_email, admin_name, admin_phone, admin_pwd, role_id, company_id, region_id}
+	 * @param regDate 등록 일시
+	 * @return 행별 삽입 여부 (이메일 충돌로 건너뛴 행은 false)
+	 */
+	public boolean[] insertAdmins(List<Object[]> rows, Timestamp regDate) {
+		int[][] counts = jdbcTemplate.batchUpdate(INSERT_ADMIN_SQL, rows, rows.size(), (ps, row) -> {
+			ps.setString(1, (String)row[0]);
+			ps.setString(2, (String)row[1]);
+			ps.setString(3, (String)row[2]);
+			ps.setString(4, (String)row[3]);
+			ps.setTimestamp(5, regDate);
+			ps.setInt(6, (Integer)row[4]);
+			ps.setInt(7, (Integer)row[5]);
+			if (row[6] == null) {
+				ps.setNull(8, Types.INTEGER);
+			} else {
+				ps.setInt(8, (Integer)row[6]);
+			}
+		});
+		return inserted(counts, rows.size());
+	}
+
+	private Set<String> findExisting(String sqlTemplate, Collection<String> emails) {
+		if (emails.isEmpty()) {
+			return Collections.emptySet();
+		}
+		String placeholders = String.join(", ", Collections.nCopies(emails.size(), "?"));
+		return new HashSet<>(jdbcTemplate.queryForList(String.format(sqlTemplate, placeholders), String.class,
+			emails.toArray()));
+	}
+
+	/**
+	 * 배치 결과를 행별 삽입 여부로 변환
+	 * - 드라이버가 건수를 알려주지 않는 경우(SUCCESS_NO_INFO)는 삽입된 것으로 간주
+	 */
+	private boolean[] inserted(int[][] counts, int size) {
+		boolean[] result = new boolean[size];
+		int i = 0;
+		for (int[] batch : counts) {
+			for (int count : batch) {
+				result[i++] = count != 0;
+			}
+		}
+		return result;
+	}
+}
@@ -0,0 +1,59 @@
+package Team_Mute.back_end.domain.member.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import Team_Mute.back_end.global.util.SchemaChecks;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * 소속 기업(tb_user_company) JDBC 레포지토리
+ * - 기업명으로 기업 ID를 조회하거나 없으면 생성하는 작업을 한 번의 왕복으로 처리
+ * - 기업 ID는 시퀀스(tb_user_company_id_seq)로 할당하여 동시 가입 시 ID 충돌 제거
+ * - 기업명 유니크 인덱스를 기준으로 INSERT ... ON CONFLICT ... RETURNING 사용
+ *
+ * 스키마 구성:
+ * - 시퀀스/기본값은 db/migration/V1__user_company_id_sequence.sql
+ * - 기업명 유니크 인덱스는 db/migration/V2__user_company_name_unique.sql
+ * - 빈 초기화 시 두 객체가 없으면 기동 실패 (DataSeedRunner보다 먼저 확인)
+ *
+ * @author Team Mute
+ * @since 1.0
+ */
+@Repository
+public class UserCompanyJdbcRepository {
+
+	private static final String UPSERT_SQL = """
+		INSERT INTO tb_user_company (company_id, company_name, reg_date)
+		VALUES (nextval('tb_user_company_id_seq'), ?, now())
+		ON CONFLICT (company_name) DO UPDATE SET company_name = EXCLUDED.company_name
+		RETURNING company_id
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public UserCompanyJdbcRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * 시퀀스와 기업명 유니크 인덱스 적용 여부 확인
+	 *
+	 * @throws IllegalStateException 마이그레이션이 적용되지 않은 경우
+	 */
+	@PostConstruct
+	void verifySchema() {
+		SchemaChecks.requireRelation(jdbcTemplate, "tb_user_company_id_seq", "V1__user_company_id_sequence.sql");
+		SchemaChecks.requireValidIndex(jdbcTemplate, "ux_user_company_name", "V2__user_company_name_unique.sql");
+	}
+
+	/**
+	 * 기업명으로 기업 ID 조회 또는 생성 (단일 왕복)
+	 *
+	 * @param companyName 기업명
+	 * @return 기업 ID
+	 */
+	public Integer upsertByName(String companyName) {
+		return jdbcTemplate.queryForObject(UPSERT_SQL, Integer.class, companyName);
+	}
+}
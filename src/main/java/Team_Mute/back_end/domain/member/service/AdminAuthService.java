@@ -4,18 +4,16 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Set;
 
 import org.springframework.stereotype.Service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import Team_Mute.back_end.domain.member.entity.Admin;
 import Team_Mute.back_end.domain.member.jwt.IdGenerator;
 import Team_Mute.back_end.domain.member.jwt.JwtConfig;
 import Team_Mute.back_end.domain.member.jwt.JwtService;
 import Team_Mute.back_end.domain.member.jwt.TokenPair;
 import Team_Mute.back_end.domain.member.session.SessionStore;
+import Team_Mute.back_end.domain.member.session.TokenVersionCache.PrincipalType;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
 import lombok.RequiredArgsConstructor;
@@ -44,7 +42,6 @@ public class AdminAuthService {
 	private final JwtService jwt;
 	private final SessionStore store;
 	private final JwtConfig props;
-	private final ObjectMapper om = new ObjectMapper();
 	private final AdminService userService;
 	private static final String ADMIN_AUDIENCE = "admin-service";
 
@@ -59,7 +56,7 @@ public class AdminAuthService {
 	 * 2. 관리자 정보에서 roleId, regionId, tokenVer 추출
 	 * 3. JWT 클레임 맵 생성 및 데이터 설정
 	 * 4. Access Token과 Refresh Token 생성
-	 * 5. 세션 정보를 JSON으로 직렬화하여 Redis에 저장
+	 * 5. 세션 정보를 Redis Hash로 저장
 	 * 6. TokenPair 반환 (컨트롤러에서 Access Token은 응답 바디, Refresh Token은 쿠키로 전달)
 	 *
 	 * 보안 고려사항:
@@ -119,23 +116,20 @@ public class AdminAuthService {
 
 		// 7. Redis에 저장할 세션 정보 준비
 		Duration rtTtl = Duration.ofSeconds(props.refreshToken().ttlSeconds());
-		Map<String, Object> session = Map.of(
+		Map<String, String> session = Map.of(
 			"userId", userId,
-			"roleId", admin.getUserRole().getRoleId(),
+			"roleId", String.valueOf(admin.getUserRole().getRoleId()),
 			"loginAt", Instant.now().toString()  // 로그인 시각 기록 (감사 로그)
 		);
 
-		// 8. 세션 정보를 JSON으로 직렬화하여 Redis에 저장
-		try {
-			store.saveSessionJson(
-				sid,                              // 세션 ID (키)
-				userId,                           // 사용자 ID (사용자별 세션 집합 관리)
-				om.writeValueAsString(session),   // JSON 직렬화된 세션 정보
-				rtTtl                             // TTL (Refresh Token 만료 시간과 동일)
-			);
-		} catch (Exception e) {
-			throw new RuntimeException("세션 저장에 실패했습니다.", e);
-		}
+		// 8. 세션 정보를 Redis Hash로 저장
+		store.saveSession(
+			sid,                              // 세션 ID (키)
+			PrincipalType.ADMIN,              // 관리자 세션 목록 구분
+			userId,                           // 사용자 ID (사용자별 세션 목록 관리)
+			session,                          // 세션 정보 (Hash 필드)
+			rtTtl                             // TTL (Refresh Token 만료 시간과 동일)
+		);
 
 		// 9. TokenPair 반환 (컨트롤러에서 응답 처리)
 		return new TokenPair(at, rt);
@@ -170,31 +164,27 @@ public class AdminAuthService {
 	 * @throws RuntimeException 토큰 검증 실패, 세션 무효, Token Version 불일치 시
 	 */
 	public TokenPair refresh(String refreshToken) {
-		// 1. Refresh Token의 JTI 추출
-		String rtJti = jwt.parse(refreshToken).getPayload().getId();
+		// 1. Refresh Token 파싱 및 JTI 추출 (이후 단계에서 재사용)
+		Jws<Claims> jws = jwt.parse(refreshToken);
+		String rtJti = jws.getPayload().getId();
 
 		// 2. Refresh Token 재사용 공격 감지
 		// Redis 블랙리스트에 이미 폐기된 토큰이 있는지 확인
 		if (store.isRtRevoked(rtJti)) {
 			// 재사용된 토큰으로부터 사용자 ID 추출
-			Jws<Claims> jws = jwt.parse(refreshToken);
 			String userId = jws.getPayload().getSubject();
 
 			// 보안 위협 감지 로그 기록
 			log.warn("폐기된 리프레시 토큰 재사용 시도 감지! 사용자 {}의 모든 세션을 종료합니다.", userId);
 
-			// 해당 사용자의 모든 세션 ID 조회 및 삭제 (보안 조치)
-			Set<String> allSessionIds = store.getUserSids(userId);
-			if (allSessionIds != null) {
-				allSessionIds.forEach(sid -> store.deleteSession(sid, userId));
-			}
+			// 해당 사용자의 모든 세션 폐기 (보안 조치, 단일 왕복)
+			store.revokeAllSessions(PrincipalType.ADMIN, userId);
 
 			// 클라이언트에 재로그인 요구
 			throw new RuntimeException("비정상적인 접근이 감지되어 모든 세션이 종료되었습니다. 다시 로그인해주세요.");
 		}
 
-		// 3. Refresh Token 파싱 및 클레임 추출
-		Jws<Claims> jws = jwt.parse(refreshToken);
+		// 3. 클레임 추출
 		Claims c = jws.getPayload();
 
 		// 4. Audience 검증 (관리자 토큰인지 확인)
@@ -212,7 +202,7 @@ public class AdminAuthService {
 		// 세션 ID 추출
 		String sid = (String)c.get("sid");
 		// Redis에서 세션 정보 조회
-		if (sid == null || store.getSessionJson(sid) == null) {
+		if (sid == null || !store.hasSession(sid)) {
 			throw new RuntimeException("만료되었거나 유효하지 않은 세션입니다.");
 		}
 
@@ -2,12 +2,13 @@ package Team_Mute.back_end.domain.member.service;
 
 import java.security.SecureRandom;
 import java.time.LocalDateTime;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
@@ -33,10 +34,11 @@ import Team_Mute.back_end.domain.member.exception.UserNotFoundException;
 import Team_Mute.back_end.domain.member.exception.UserRegistrationException;
 import Team_Mute.back_end.domain.member.repository.AdminRegionRepository;
 import Team_Mute.back_end.domain.member.repository.AdminRepository;
-import Team_Mute.back_end.domain.member.repository.UserCompanyRepository;
 import Team_Mute.back_end.domain.member.repository.UserRepository;
 import Team_Mute.back_end.domain.member.repository.UserRoleRepository;
 import Team_Mute.back_end.domain.member.session.SessionStore;
+import Team_Mute.back_end.domain.member.session.TokenVersionCache;
+import Team_Mute.back_end.domain.member.session.TokenVersionCache.PrincipalType;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -86,55 +88,30 @@ public class AdminService {
 
 	private final UserRepository userRepository;
 	private final AdminRepository adminRepository;
-	private final UserCompanyRepository userCompanyRepository;
+	private final CompanyResolver companyResolver;
 	private final PasswordService passwordService;
 	private final SessionStore sessionStore;
+	private final TokenVersionCache tokenVersionCache;
 	private final EmailService emailService;
 	private final AdminRegionRepository adminRegionRepository;
 	private final UserRoleRepository userRoleRepository;
 
 	/**
 	 * 기업 정보 조회 또는 생성
-	 * - 기업명으로 기존 기업 조회
-	 * - 존재하지 않으면 새로운 기업 생성
+	 * - CompanyResolver로 기업명 → 기업 ID 변환 (로컬 캐시, 없으면 단일 upsert)
+	 * - 존재하지 않으면 시퀀스 ID로 새로운 기업 생성
 	 * - 회원가입 시 소속 기업 설정에 사용
-	 * - 중복 기업 생성 방지
+	 * - 기업명 유니크 인덱스로 중복 기업 생성 방지 (동시 가입 시에도 같은 ID 반환)
 	 *
 	 * @param companyName 조회 또는 생성할 기업명
 	 * @return UserCompany 엔티티 (기존 또는 새로 생성된)
 	 * @throws UserRegistrationException 기업 생성 실패 시
 	 */
 	private UserCompany getOrCreateCompany(String companyName) {
-		return userCompanyRepository.findByCompanyName(companyName)
-			.orElseGet(() -> createNewCompany(companyName));
-	}
-
-	/**
-	 * 새로운 기업 생성
-	 * - 최대 Company ID 조회 후 +1하여 새 ID 할당
-	 * - 기업명과 등록 일시 설정
-	 * - 데이터베이스에 저장
-	 *
-	 * @param companyName 생성할 기업명
-	 * @return 저장된 UserCompany 엔티티
-	 * @throws UserRegistrationException 기업 생성 중 오류 발생 시
-	 */
-	private UserCompany createNewCompany(String companyName) {
 		try {
-			// 최대 Company ID 조회 (데이터가 없으면 0)
-			Integer maxCompanyId = userCompanyRepository.findMaxCompanyId().orElse(0);
-
-			// 새로운 기업 엔티티 생성
-			UserCompany newCompany = UserCompany.builder()
-				.companyId(maxCompanyId + 1)
-				.companyName(companyName)
-				.regDate(LocalDateTime.now())
-				.build();
-
-			UserCompany savedCompany = userCompanyRepository.save(newCompany);
-			return savedCompany;
-		} catch (Exception e) {
-			log.error("Failed to create new company: {}", companyName, e);
+			return companyResolver.resolve(companyName);
+		} catch (DataAccessException e) {
+			log.error("Failed to resolve company: {}", companyName, e);
 			throw new UserRegistrationException("회사 정보 처리 중 오류가 발생했습니다.");
 		}
 	}
@@ -156,29 +133,14 @@ public class AdminService {
 	 * @throws UserNotFoundException 관리자를 찾을 수 없는 경우
 	 */
 	public void deleteUser(Long userId) {
-		// 1. Redis에서 해당 사용자의 모든 세션 ID 조회
-		Set<String> sessionIds = sessionStore.getUserSids(userId.toString());
-
-		// 2. 세션이 존재하는 경우 처리
-		if (sessionIds != null && !sessionIds.isEmpty()) {
-			for (String sid : sessionIds) {
-				// 3. 각 세션의 Refresh Token JTI 조회
-				String rtJti = sessionStore.getCurrentRtJti(sid);
-				if (rtJti != null) {
-					// 4. Refresh Token을 블랙리스트에 등록 (7일간 유지)
-					sessionStore.revokeRt(rtJti, java.time.Duration.ofDays(7));
-				}
-				// 5. Redis에서 세션 삭제
-				sessionStore.deleteSession(sid, userId.toString());
-			}
-			log.info("Redis 세션 삭제 완료: userId={}", userId);
-		}
+		// 1. Redis에서 해당 사용자의 모든 세션 폐기 (Refresh Token 폐기 + 세션 삭제, 커밋 후 단일 왕복)
+		sessionStore.revokeAllSessions(PrincipalType.ADMIN, userId.toString());
 
-		// 6. 데이터베이스에서 관리자 조회
+		// 2. 데이터베이스에서 관리자 조회
 		Admin user = adminRepository.findById(userId)
 			.orElseThrow(UserNotFoundException::new);
 
-		// 7. 데이터베이스에서 관리자 삭제
+		// 3. 데이터베이스에서 관리자 삭제
 		adminRepository.delete(user);
 		log.info("DB 회원 정보 삭제 완료: userId={}", userId);
 	}
@@ -221,6 +183,8 @@ public class AdminService {
 
 		// 5. Token Version 증가 (기존 JWT 토큰 무효화)
 		user.setTokenVer(user.getTokenVer() + 1);
+		tokenVersionCache.update(PrincipalType.ADMIN, user.getAdminId(), user.getTokenVer());
+		sessionStore.revokeAllSessions(PrincipalType.ADMIN, user.getAdminId().toString());
 
 		log.info("비밀번호 수정 및 토큰 버전 증가 완료: userId={}", userId);
 	}
@@ -250,8 +214,12 @@ public class AdminService {
 	 */
 	@Transactional(readOnly = true)
 	public Integer getTokenVer(Long userId) {
-		return adminRepository.findTokenVerByAdminId(userId)
-			.orElseThrow(() -> new IllegalArgumentException("user not found: " + userId));
+		// TokenVersionCache 경유 (메모리 → Redis → DB 순서로 조회)
+		Integer tokenVer = tokenVersionCache.get(PrincipalType.ADMIN, userId);
+		if (tokenVer == null) {
+			throw new IllegalArgumentException("user not found: " + userId);
+		}
+		return tokenVer;
 	}
 
 	/**
@@ -287,6 +255,8 @@ public class AdminService {
 
 		// 5. Token Version 증가 (기존 JWT 토큰 무효화)
 		user.setTokenVer(user.getTokenVer() + 1);
+		tokenVersionCache.update(PrincipalType.ADMIN, user.getAdminId(), user.getTokenVer());
+		sessionStore.revokeAllSessions(PrincipalType.ADMIN, user.getAdminId().toString());
 
 		log.info("비밀번호 초기화 및 DB 업데이트 완료: userId={}", user.getAdminId());
 	}
@@ -344,7 +314,7 @@ public class AdminService {
 	 * 처리 흐름:
 	 * 1. 관리자 조회
 	 * 2. 이메일 변경 시 중복 체크
-	 * 3. 담당 지역 설정 (기존 지역 또는 새로 생성)
+	 * 3. 담당 지역 설정 (기존 지역 또는 새로 생성, 변경 시 Token Version 증가)
 	 * 4. 이름 및 전화번호 수정
 	 *
 	 * @param adminId 수정할 관리자 ID
@@ -368,7 +338,14 @@ public class AdminService {
 		// 3. 담당 지역 설정
 		if (requestDto.getRegionName() != null) {
 			AdminRegion region = findOrCreateRegion(requestDto.getRegionName());
+			Integer beforeRegionId = admin.getAdminRegion() != null ? admin.getAdminRegion().getRegionId() : null;
 			admin.setAdminRegion(region);
+
+			// 담당 지역이 바뀌면 Token Version 증가 (JWT 토큰의 regionId 클레임 갱신)
+			if (!Objects.equals(beforeRegionId, region.getRegionId())) {
+				admin.setTokenVer(admin.getTokenVer() + 1);
+				tokenVersionCache.update(PrincipalType.ADMIN, admin.getAdminId(), admin.getTokenVer());
+			}
 		}
 
 		// 4. 이름 및 전화번호 수정
@@ -444,6 +421,8 @@ public class AdminService {
 
 		// 4. Token Version 증가
 		admin.setTokenVer(admin.getTokenVer() + 1);
+		tokenVersionCache.update(PrincipalType.ADMIN, admin.getAdminId(), admin.getTokenVer());
+		sessionStore.revokeAllSessions(PrincipalType.ADMIN, admin.getAdminId().toString());
 
 		log.info("관리자 비밀번호 수정 완료: adminId={}", adminId);
 	}
@@ -479,6 +458,8 @@ public class AdminService {
 
 		// 6. Token Version 증가
 		user.setTokenVer(user.getTokenVer() + 1);
+		tokenVersionCache.update(PrincipalType.ADMIN, user.getAdminId(), user.getTokenVer());
+		sessionStore.revokeAllSessions(PrincipalType.ADMIN, user.getAdminId().toString());
 
 		log.info("관리자 비밀번호 초기화 및 DB 업데이트 완료: userId={}", user.getAdminId());
 	}
@@ -523,6 +504,8 @@ public class AdminService {
 
 		// 6. Token Version 증가 (JWT 토큰의 권한 정보 갱신)
 		targetUser.setTokenVer(targetUser.getTokenVer() + 1);
+		tokenVersionCache.update(PrincipalType.ADMIN, targetUser.getAdminId(), targetUser.getTokenVer());
+		sessionStore.revokeAllSessions(PrincipalType.ADMIN, targetUser.getAdminId().toString());
 
 		log.info("관리자 권한 수정 완료: targetUserId={}, newRoleId={}", targetUser.getAdminId(), requestDto.getRoleId());
 	}
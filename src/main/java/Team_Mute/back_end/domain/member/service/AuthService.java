@@ -7,15 +7,15 @@ import java.util.Map;
 
 import org.springframework.stereotype.Service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import Team_Mute.back_end.domain.member.jwt.IdGenerator;
 import Team_Mute.back_end.domain.member.jwt.JwtConfig;
 import Team_Mute.back_end.domain.member.jwt.JwtService;
 import Team_Mute.back_end.domain.member.jwt.TokenPair;
 import Team_Mute.back_end.domain.member.session.SessionStore;
+import Team_Mute.back_end.domain.member.session.TokenVersionCache.PrincipalType;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * 일반 사용자 인증 서비스 클래스
@@ -38,13 +38,13 @@ import io.jsonwebtoken.Jws;
  * @author Team Mute
  * @since 1.0
  */
+@Slf4j
 @Service
 public class AuthService {
 
 	private final JwtService jwt;
 	private final SessionStore store;
 	private final JwtConfig props;
-	private final ObjectMapper om = new ObjectMapper();
 	private static final String USER_AUDIENCE = "user-service";
 
 	public AuthService(JwtService jwt, SessionStore store, JwtConfig props) {
@@ -63,7 +63,7 @@ public class AuthService {
 	 * 1. 새로운 세션 ID(sid) 생성
 	 * 2. JWT 클레임 맵 생성 (companyId, sessionId, tokenVer, roles)
 	 * 3. Access Token과 Refresh Token 생성
-	 * 4. 세션 정보를 JSON으로 직렬화하여 Redis에 저장 (device, ip 포함)
+	 * 4. 세션 정보를 Redis Hash로 저장 (device, ip 포함)
 	 * 5. Refresh Token JTI를 Redis에 저장 (세션과 연결)
 	 * 6. TokenPair 반환 (컨트롤러에서 Access Token은 응답 바디, Refresh Token은 쿠키로 전달)
 	 *
@@ -101,8 +101,9 @@ public class AuthService {
 		);
 
 		// 4. Refresh Token 생성 (긴 만료 시간, 예: 7일)
+		String rtJti = IdGenerator.newJtiRT();
 		String rt = jwt.createRefreshToken(
-			IdGenerator.newJtiRT(),    // JWT ID (예: "rt-base64string")
+			rtJti,                     // JWT ID (예: "rt-base64string")
 			USER_AUDIENCE,             // Audience ("user-service")
 			userId,                    // Subject (사용자 ID)
 			claims                     // 커스텀 클레임
@@ -110,29 +111,26 @@ public class AuthService {
 
 		// 5. Redis에 저장할 세션 정보 준비
 		Duration rtTtl = Duration.ofSeconds(props.refreshToken().ttlSeconds());
-		Map<String, Object> session = Map.of(
+		Map<String, String> session = Map.of(
 			"userId", userId,
-			"cid", companyId,
+			"cid", String.valueOf(companyId),
 			"device", device == null ? "unknown" : device,  // 디바이스 정보 (null이면 "unknown")
 			"ip", ip == null ? "0.0.0.0" : ip,              // IP 주소 (null이면 "0.0.0.0")
 			"loginAt", Instant.now().toString()             // 로그인 시각 기록 (감사 로그)
 		);
 
-		// 6. 세션 정보를 JSON으로 직렬화하여 Redis에 저장
-		try {
-			store.saveSessionJson(
-				sid,                              // 세션 ID (키)
-				userId,                           // 사용자 ID (사용자별 세션 집합 관리)
-				om.writeValueAsString(session),   // JSON 직렬화된 세션 정보
-				rtTtl                             // TTL (Refresh Token 만료 시간과 동일)
-			);
-		} catch (Exception e) {
-			throw new RuntimeException(e);
-		}
+		// 6. 세션 정보를 Redis Hash로 저장
+		store.saveSession(
+			sid,                              // 세션 ID (키)
+			PrincipalType.USER,               // 사용자 세션 목록 구분
+			userId,                           // 사용자 ID (사용자별 세션 목록 관리)
+			session,                          // 세션 정보 (Hash 필드)
+			rtTtl                             // TTL (Refresh Token 만료 시간과 동일)
+		);
 
 		// 7. Refresh Token JTI를 Redis에 저장 (세션과 연결)
 		// RTR 전략을 위해 현재 유효한 Refresh Token JTI를 별도로 저장
-		String rtJti = parseJti(rt);
+		// (발급 시 생성한 JTI를 그대로 사용하여 방금 만든 토큰을 다시 파싱하지 않음)
 		store.setCurrentRtJti(sid, rtJti, rtTtl);
 
 		// 8. TokenPair 반환 (컨트롤러에서 응답 처리)
@@ -146,7 +144,7 @@ public class AuthService {
 	 * 처리 흐름:
 	 * 1. Refresh Token 파싱 및 검증
 	 * 2. Audience 검증 (사용자 토큰인지 확인)
-	 * 3. Refresh Token JTI 폐기 여부 확인
+	 * 3. Refresh Token JTI 폐기 여부 확인 (폐기된 토큰 재사용 시 모든 세션 종료)
 	 * 4. 세션 유효성 검증 (Redis에 세션이 존재하는지)
 	 * 5. Refresh Token JTI가 현재 유효한 JTI와 일치하는지 확인 (Stale Token 방지)
 	 * 6. Token Version 검증 (비밀번호 변경 여부 확인)
@@ -156,6 +154,7 @@ public class AuthService {
 	 * 10. 새로운 TokenPair 반환
 	 *
 	 * 보안 기능:
+	 * - Refresh Token 재사용 감지 시 모든 세션 강제 종료
 	 * - Stale Refresh Token 감지 (이전 버전의 Refresh Token 재사용 방지)
 	 * - Token Version 불일치 시 재로그인 요구
 	 * - 세션 기반 검증으로 서버 측 토큰 무효화 가능
@@ -181,14 +180,18 @@ public class AuthService {
 		}
 
 		// 3. Refresh Token JTI 추출 및 폐기 여부 확인
+		// 이미 폐기된 토큰의 재사용은 탈취로 간주하여 해당 사용자의 모든 세션 폐기 (단일 왕복)
 		String rtJti = c.getId();
-		if (store.isRtRevoked(rtJti))
+		if (store.isRtRevoked(rtJti)) {
+			log.warn("폐기된 리프레시 토큰 재사용 시도 감지! 사용자 {}의 모든 세션을 종료합니다.", c.getSubject());
+			store.revokeAllSessions(PrincipalType.USER, c.getSubject());
 			throw new RuntimeException("revoked refresh");
+		}
 
 		// 4. 세션 ID 추출 및 유효성 검증
 		String sid = (String)c.get("sid");
 		String userId = c.getSubject();
-		if (sid == null || store.getSessionJson(sid) == null)
+		if (sid == null || !store.hasSession(sid))
 			throw new RuntimeException("no session");
 
 		// 5. Stale Refresh Token 검증
@@ -281,8 +284,9 @@ public class AuthService {
 			store.blacklistAccessJti(jti, ttl);
 		}
 
-		// 6. Redis에서 세션 삭제
-		store.deleteSession(sid, userId);
+		// 6. Redis에서 세션 삭제 (관리자 로그아웃도 이 메서드를 사용하므로 Audience로 세션 목록 구분)
+		PrincipalType type = c.getAudience().contains(USER_AUDIENCE) ? PrincipalType.USER : PrincipalType.ADMIN;
+		store.deleteSession(sid, type, userId);
 
 		// 7. 현재 유효한 Refresh Token JTI 조회
 		String rtJti = store.getCurrentRtJti(sid);
@@ -292,16 +296,4 @@ public class AuthService {
 			store.revokeRt(rtJti, ttl);
 		}
 	}
-
-	/**
-	 * JWT 토큰에서 JTI(JWT ID) 추출
-	 * - 토큰을 파싱하여 고유 식별자 추출
-	 * - 내부 헬퍼 메서드
-	 *
-	 * @param token 파싱할 JWT 토큰
-	 * @return JTI (JWT ID)
-	 */
-	private String parseJti(String token) {
-		return jwt.parse(token).getPayload().getId();
-	}
 }
@@ -0,0 +1,108 @@
+package Team_Mute.back_end.domain.member.service;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import Team_Mute.back_end.domain.member.entity.UserCompany;
+import Team_Mute.back_end.domain.member.repository.UserCompanyJdbcRepository;
+import Team_Mute.back_end.domain.member.repository.UserCompanyRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 소속 기업 조회/생성
+ * - 회원가입 시 기업명을 기업 ID로 변환 (없으면 생성)
+ * - 자주 쓰이는 기업명 → ID 매핑은 노드 로컬 Caffeine 캐시에서 반환 (DB 왕복 없음)
+ * - 캐시에 없으면 UserCompanyJdbcRepository.upsertByName() 한 번으로 조회 또는 생성
+ * - 연관 관계에는 getReferenceById()로 프록시만 사용 (기업 엔티티 조회 없음)
+ *
+ * 캐시 반영:
+ * - 트랜잭션 커밋 후에만 캐시에 기록 (롤백된 기업 ID가 캐시에 남지 않도록)
+ *
+ * 메트릭:
+ * - company.resolve (result=cache|db)
+ *
+ * @author Team Mute
+ * @since 1.0
+ */
+@Component
+public class CompanyResolver {
+
+	private final UserCompanyJdbcRepository userCompanyJdbcRepository;
+	private final UserCompanyRepository userCompanyRepository;
+	private final MeterRegistry meterRegistry;
+
+	/**
+	 * 기업명 → 기업 ID
+	 */
+	private final Cache<String, Integer> idsByName;
+
+	public CompanyResolver(
+		UserCompanyJdbcRepository userCompanyJdbcRepository,
+		UserCompanyRepository userCompanyRepository,
+		MeterRegistry meterRegistry,
+		@Value("${company.cache.max-size:10000}") long maxSize,
+		@Value("${company.cache.ttl-seconds:3600}") long ttlSeconds) {
+		this.userCompanyJdbcRepository = userCompanyJdbcRepository;
+		this.userCompanyRepository = userCompanyRepository;
+		this.meterRegistry = meterRegistry;
+		this.idsByName = Caffeine.newBuilder()
+			.maximumSize(maxSize)
+			.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+			.build();
+	}
+
+	/**
+	 * 기업명으로 소속 기업 조회 또는 생성
+	 *
+	 * @param companyName 기업명
+	 * @return 소속 기업 참조 (프록시)
+	 */
+	public UserCompany resolve(String companyName) {
+		return userCompanyRepository.getReferenceById(resolveId(companyName));
+	}
+
+	/**
+	 * 기업명으로 기업 ID 조회 또는 생성
+	 * - 엔티티 연관 관계 없이 ID만 필요한 경우 사용 (일괄 등록의 JDBC 배치 삽입 등)
+	 *
+	 * 처리 로직:
+	 * 1. 로컬 캐시 조회
+	 * 2. 없으면 upsert(INSERT ... ON CONFLICT ... RETURNING)로 ID 확보
+	 * 3. 커밋 후 캐시에 기록
+	 *
+	 * @param companyName 기업명
+	 * @return 기업 ID
+	 */
+	public Integer resolveId(String companyName) {
+		// 1. 로컬 캐시
+		Integer cached = idsByName.getIfPresent(companyName);
+		if (cached != null) {
+			meterRegistry.counter("company.resolve", "result", "cache").increment();
+			return cached;
+		}
+
+		// 2. 단일 upsert
+		Integer companyId = userCompanyJdbcRepository.upsertByName(companyName);
+		meterRegistry.counter("company.resolve", "result", "db").increment();
+
+		// 3. 커밋 후 캐시 기록
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					idsByName.put(companyName, companyId);
+				}
+			});
+		} else {
+			idsByName.put(companyName, companyId);
+		}
+		return companyId;
+	}
+}
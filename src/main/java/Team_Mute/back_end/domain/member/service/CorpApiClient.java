@@ -0,0 +1,280 @@
+package Team_Mute.back_end.domain.member.service;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import Team_Mute.back_end.domain.member.dto.external.corp_api.CorpApiBodyDto;
+import Team_Mute.back_end.domain.member.dto.external.corp_api.CorpApiResponseDto;
+import Team_Mute.back_end.domain.member.dto.external.corp_api.CorpApiWrapperDto;
+import Team_Mute.back_end.domain.member.exception.ExternalApiException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 외부 기업 정보 조회 API 클라이언트
+ * 기업명 검색 API의 한 페이지 조회를 담당하며, 외부 서버 장애가 요청 스레드로 번지지 않도록 보호
+ *
+ * 보호 장치:
+ * - Bulkhead: 동시 외부 호출 수를 세마포어로 제한, 대기 시간 초과 시 즉시 실패
+ * - Circuit Breaker: 연속 실패가 임계치를 넘으면 일정 시간 호출 차단(OPEN),
+ *   이후 한 건만 시험 호출(HALF_OPEN)하여 성공 시 복구(CLOSED)
+ * - 연결/응답 타임아웃은 RestTemplateConfig의 커넥션 풀 HTTP 클라이언트에서 적용
+ *
+ * 메트릭:
+ * - corp.api.calls (outcome=success|failure|rejected|open) : 호출 결과별 횟수
+ * - corp.api.circuit_open : 회로 차단 여부 (1: OPEN)
+ *
+ * @author Team Mute
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class CorpApiClient {
+
+	private static final int CLOSED = 0;
+	private static final int OPEN = 1;
+	private static final int HALF_OPEN = 2;
+
+	private final RestTemplate restTemplate;
+	private final MeterRegistry meterRegistry;
+
+	/**
+	 * 외부 기업 정보 조회 API의 기본 URL
+	 */
+	@Value("${corp.api.base-url}")
+	private String baseUrl;
+
+	/**
+	 * 외부 기업 정보 조회 API의 인증 키
+	 */
+	@Value("${corp.api.serviceKey}")
+	private String serviceKey;
+
+	/**
+	 * Bulkhead: 동시 외부 호출 제한
+	 */
+	private final Semaphore bulkhead;
+	private final long bulkheadWaitMillis;
+
+	/**
+	 * Circuit Breaker 상태
+	 */
+	private final AtomicInteger state = new AtomicInteger(CLOSED);
+	private final AtomicInteger consecutiveFailures = new AtomicInteger();
+	private volatile long openedAt;
+	private final int failureThreshold;
+	private final long openMillis;
+
+	/**
+	 * 페이지 병렬 조회 전용 스레드 풀 (가득 차면 호출 스레드에서 실행)
+	 */
+	private final ThreadPoolExecutor pageExecutor;
+
+	public CorpApiClient(
+		RestTemplate restTemplate,
+		MeterRegistry meterRegistry,
+		@Value("${corp.api.bulkhead.max-concurrent:10}") int maxConcurrent,
+		@Value("${corp.api.bulkhead.wait-ms:500}") long bulkheadWaitMillis,
+		@Value("${corp.api.circuit.failure-threshold:5}") int failureThreshold,
+		@Value("${corp.api.circuit.open-ms:30000}") long openMillis) {
+		this.restTemplate = restTemplate;
+		this.meterRegistry = meterRegistry;
+		this.bulkhead = new Semaphore(maxConcurrent);
+		this.bulkheadWaitMillis = bulkheadWaitMillis;
+		this.failureThreshold = failureThreshold;
+		this.openMillis = openMillis;
+		AtomicInteger sequence = new AtomicInteger();
+		this.pageExecutor = new ThreadPoolExecutor(
+			maxConcurrent, maxConcurrent, 60L, TimeUnit.SECONDS,
+			new ArrayBlockingQueue<>(maxConcurrent * 4),
+			r -> {
+				Thread t = new Thread(r, "corp-api-" + sequence.incrementAndGet());
+				t.setDaemon(true);
+				return t;
+			},
+			new ThreadPoolExecutor.CallerRunsPolicy());
+		this.pageExecutor.allowCoreThreadTimeOut(true);
+		Gauge.builder("corp.api.circuit_open", state, s -> s.get() == OPEN ? 1 : 0)
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 한 페이지 비동기 조회
+	 *
+	 * @param corpNm 기업명 키워드
+	 * @param pageNo 페이지 번호
+	 * @param numOfRows 페이지당 조회 건수
+	 * @return 응답 바디 (결과가 없으면 null)
+	 */
+	public CompletableFuture<CorpApiBodyDto> fetchPageAsync(String corpNm, int pageNo, int numOfRows) {
+		return CompletableFuture.supplyAsync(() -> fetchPage(corpNm, pageNo, numOfRows), pageExecutor);
+	}
+
+	/**
+	 * 한 페이지 조회
+	 *
+	 * 처리 로직:
+	 * 1. Circuit Breaker 확인 (OPEN이면 즉시 실패)
+	 * 2. Bulkhead 진입 (대기 시간 초과 시 즉시 실패)
+	 * 3. 외부 API 호출 및 응답 검증
+	 * 4. 성공/실패를 Circuit Breaker에 기록
+	 *
+	 * @param corpNm 기업명 키워드
+	 * @param pageNo 페이지 번호
+	 * @param numOfRows 페이지당 조회 건수
+	 * @return 응답 바디 (결과가 없으면 null)
+	 * @throws ExternalApiException 회로 차단, 동시 호출 초과, 외부 API 호출 실패 시
+	 */
+	public CorpApiBodyDto fetchPage(String corpNm, int pageNo, int numOfRows) {
+		// 1. Circuit Breaker 확인
+		if (!allowRequest()) {
+			count("open");
+			throw new ExternalApiException("기업 정보 조회 서비스가 일시적으로 불안정합니다. 잠시 후 다시 시도해주세요.");
+		}
+
+		// 2. Bulkhead 진입
+		boolean acquired;
+		try {
+			acquired = bulkhead.tryAcquire(bulkheadWaitMillis, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			acquired = false;
+		}
+		if (!acquired) {
+			releaseTrial();
+			count("rejected");
+			throw new ExternalApiException("기업 정보 조회 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+		}
+
+		// 3. 외부 API 호출
+		try {
+			CorpApiBodyDto body = call(corpNm, pageNo, numOfRows);
+			onSuccess();
+			return body;
+		} catch (Exception e) {
+			onFailure();
+			log.error("외부 API 호출 중 오류 발생: pageNo={}", pageNo, e);
+			if (e instanceof ExternalApiException external) {
+				throw external;
+			}
+			throw new ExternalApiException("외부 API 서버와 통신 중 오류가 발생했습니다: " + e.getMessage());
+		} finally {
+			bulkhead.release();
+		}
+	}
+
+	/**
+	 * 외부 API 호출 및 응답 검증
+	 */
+	private CorpApiBodyDto call(String corpNm, int pageNo, int numOfRows) {
+		// 1. API 요청 URL 생성
+		// - UTF-8로 URL 인코딩하여 특수문자 처리 및 인젝션 공격 방지
+		URI uri = URI.create(String.format(
+			"%s?ServiceKey=%s&pageNo=%d&numOfRows=%d&resultType=json&corpNm=%s",
+			baseUrl,
+			URLEncoder.encode(serviceKey, StandardCharsets.UTF_8),
+			pageNo,
+			numOfRows,
+			URLEncoder.encode(corpNm, StandardCharsets.UTF_8)
+		));
+		log.info("외부 API 호출: pageNo={}", pageNo);
+
+		// 2. HTTP 헤더 설정 (JSON 응답 요청)
+		HttpHeaders headers = new HttpHeaders();
+		headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
+
+		// 3. 외부 API 호출 (CorpApiWrapperDto로 자동 파싱)
+		ResponseEntity<CorpApiWrapperDto> responseEntity = restTemplate.exchange(
+			uri, HttpMethod.GET, new HttpEntity<>(headers), CorpApiWrapperDto.class);
+
+		// 4. 응답 본문이 비어있는 경우 결과 없음
+		if (responseEntity.getBody() == null || responseEntity.getBody().getResponse() == null) {
+			log.info("API 응답 본문이 비어있거나 response 객체가 없습니다.");
+			return null;
+		}
+
+		// 5. 응답 헤더 검증 (API 호출 성공 여부 확인)
+		CorpApiResponseDto response = responseEntity.getBody().getResponse();
+		if (response.getHeader() == null) {
+			throw new ExternalApiException("기업 정보 조회 실패: API 응답 없음");
+		}
+
+		// 6. 응답 바디 검증 (결과가 없으면 null)
+		CorpApiBodyDto body = response.getBody();
+		if (body == null || body.getItems() == null || body.getItems().getItem() == null) {
+			return null;
+		}
+		return body;
+	}
+
+	/**
+	 * 호출 허용 여부 판단
+	 * - CLOSED: 허용
+	 * - OPEN: 차단 시간이 지났으면 HALF_OPEN으로 전환하여 한 건만 허용
+	 * - HALF_OPEN: 시험 호출이 진행 중이므로 차단
+	 */
+	private boolean allowRequest() {
+		int current = state.get();
+		if (current == CLOSED) {
+			return true;
+		}
+		if (current == OPEN && System.currentTimeMillis() - openedAt >= openMillis) {
+			return state.compareAndSet(OPEN, HALF_OPEN);
+		}
+		return false;
+	}
+
+	/**
+	 * Bulkhead 진입 실패 시 시험 호출 권한 반납
+	 */
+	private void releaseTrial() {
+		state.compareAndSet(HALF_OPEN, OPEN);
+	}
+
+	private void onSuccess() {
+		count("success");
+		consecutiveFailures.set(0);
+		if (state.getAndSet(CLOSED) != CLOSED) {
+			log.info("기업 정보 API 회로 복구 (CLOSED)");
+		}
+	}
+
+	private void onFailure() {
+		count("failure");
+		int failures = consecutiveFailures.incrementAndGet();
+		if (state.get() == HALF_OPEN || failures >= failureThreshold) {
+			openedAt = System.currentTimeMillis();
+			if (state.getAndSet(OPEN) != OPEN) {
+				log.warn("기업 정보 API 회로 차단 (OPEN): 연속 실패 {}회, {}ms 동안 호출 차단", failures, openMillis);
+			}
+		}
+	}
+
+	private void count(String outcome) {
+		meterRegistry.counter("corp.api.calls", "outcome", outcome).increment();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		pageExecutor.shutdownNow();
+	}
+}
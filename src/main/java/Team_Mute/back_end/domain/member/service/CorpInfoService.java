@@ -1,28 +1,20 @@
 package Team_Mute.back_end.domain.member.service;
 
-import java.net.URI;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 import Team_Mute.back_end.domain.member.dto.external.corp_api.CorpApiBodyDto;
-import Team_Mute.back_end.domain.member.dto.external.corp_api.CorpApiResponseDto;
-import Team_Mute.back_end.domain.member.dto.external.corp_api.CorpApiWrapperDto;
 import Team_Mute.back_end.domain.member.dto.request.CorpNameSearchRequestDto;
 import Team_Mute.back_end.domain.member.dto.response.CorpNameSearchResponseDto;
 import Team_Mute.back_end.domain.member.exception.ExternalApiException;
+import Team_Mute.back_end.domain.member.registry.CorpNameIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -30,7 +22,7 @@ import lombok.extern.slf4j.Slf4j;
  * 기업 정보 조회 서비스 클래스
  * 외부 기업 정보 조회 API(예: 공공데이터포털, 국세청 API 등)와 연동하여 법인 등록 기업 정보를 조회
  * 회원가입 시 소속 기업 검색 기능에 사용
- * RestTemplate을 사용한 HTTP 통신으로 외부 API 호출
+ * CorpApiClient(커넥션 풀 RestTemplate + Bulkhead + Circuit Breaker)를 통해 외부 API 호출
  *
  * 주요 기능:
  * - 기업명 키워드 검색
@@ -38,9 +30,11 @@ import lombok.extern.slf4j.Slf4j;
  * - 중복 기업명 자동 제거 (HashSet 활용)
  * - 최대 20개의 고유 기업명 반환
  * - XML/JSON 형식의 API 응답 자동 파싱
+ * - 로컬 기업 정보 색인(CorpNameIndex) 접두어 검색 우선, 결과가 없을 때만 외부 API 사용
+ * - 외부 API 검색 결과 2단계 캐시 (CorpNameSearchCache: 로컬 Caffeine + Redis)
  *
  * 보안 고려사항:
- * - ServiceKey는 application.properties에서 환경 변수로 관리
+ * - ServiceKey는 application.properties에서 환경 변수로 관리 (CorpApiClient)
  * - URL 파라미터는 UTF-8로 인코딩하여 인젝션 공격 방지
  *
  * @author Team Mute
@@ -52,25 +46,20 @@ import lombok.extern.slf4j.Slf4j;
 public class CorpInfoService {
 
 	/**
-	 * RestTemplate 인스턴스
-	 * - Spring에서 제공하는 HTTP 클라이언트
-	 * - RestTemplateConfig에서 Bean으로 등록된 인스턴스 주입
-	 * - 타임아웃, 메시지 컨버터 등 설정 적용됨
-	 * - XML 응답을 자동으로 DTO로 변환 (MappingJackson2XmlHttpMessageConverter)
+	 * 외부 기업 정보 조회 API 클라이언트
+	 * - 커넥션 풀, 타임아웃, Bulkhead, Circuit Breaker 적용
 	 */
-	private final RestTemplate restTemplate;
+	private final CorpApiClient corpApiClient;
 
 	/**
-	 * 외부 기업 정보 조회 API의 기본 URL
+	 * 기업명 검색 결과 캐시 (로컬 + Redis)
 	 */
-	@Value("${corp.api.base-url}")
-	private String baseUrl;
+	private final CorpNameSearchCache corpNameSearchCache;
 
 	/**
-	 * 외부 기업 정보 조회 API의 인증 키
+	 * 법인 등록 기업 메모리 접두어 색인 (CorpRegistryImporter가 적재한 데이터 기반)
 	 */
-	@Value("${corp.api.serviceKey}")
-	private String serviceKey;
+	private final CorpNameIndex corpNameIndex;
 
 	/**
 	 * API 호출 시 한 페이지당 조회할 데이터 개수
@@ -87,26 +76,34 @@ public class CorpInfoService {
 	 */
 	private static final int MAX_RESULTS = 20;
 
+	/**
+	 * 첫 페이지 이후 동시에 조회할 페이지 수
+	 */
+	private static final int PAGE_PARALLELISM = 3;
+
 	/**
 	 * 기업명 검색
 	 * - 키워드로 기업명 검색 후 중복 제거된 기업명 목록 반환
 	 * - 페이징 처리를 통해 충분한 결과 수집 (최대 20개)
 	 * - HashSet을 사용하여 중복 자동 제거
 	 * - 외부 API의 페이지를 순회하면서 고유 기업명 수집
+	 * - 정규화된 키워드와 페이지 단위로 캐시하여 반복/접두어 검색 시 외부 호출 생략
 	 *
 	 * 처리 흐름:
-	 * 1. 요청 DTO에서 검색 키워드와 시작 페이지 추출
-	 * 2. HTTP 헤더 설정 (Accept: application/json)
-	 * 3. 페이징 루프 시작 (최대 20개 수집까지 또는 전체 결과 소진까지)
-	 * 4. 각 페이지마다 API 호출 (URL 인코딩 적용)
-	 * 5. 응답 파싱 및 검증 (null 체크, 헤더 검증)
-	 * 6. 기업명 추출 및 중복 제거 (HashSet에 추가)
-	 * 7. 조기 종료 조건: 20개 수집 완료 또는 API 결과 소진
-	 * 8. 수집된 고유 기업명과 마지막 페이지 번호 반환
+	 * 1. 요청 DTO에서 검색 키워드(정규화)와 시작 페이지 추출
+	 *    - 로컬 색인에 일치하는 기업명이 있으면 바로 반환
+	 *    - 없으면 캐시 조회 (미스 시 아래 단계 수행)
+	 * 2. 첫 페이지 조회로 전체 결과 개수(totalCount) 확인
+	 * 3. 남은 페이지를 병렬로 조회 (최대 20개 수집까지 또는 전체 결과 소진까지)
+	 * 4. 응답 파싱 및 검증 (null 체크, 헤더 검증)
+	 * 5. 기업명 추출 및 중복 제거 (HashSet에 추가)
+	 * 6. 조기 종료 조건: 20개 수집 완료 또는 API 결과 소진
+	 * 7. 수집된 고유 기업명과 마지막 페이지 번호 반환
 	 *
 	 * 성능 최적화:
 	 * - HashSet으로 O(1) 중복 체크
 	 * - 조기 종료로 불필요한 API 호출 방지
+	 * - 첫 페이지 이후 페이지 병렬 조회로 대기 시간 단축
 	 * - 페이징으로 메모리 효율적 처리
 	 *
 	 * 예외 처리:
@@ -118,128 +115,139 @@ public class CorpInfoService {
 	 * @throws ExternalApiException 외부 API 호출 실패 또는 응답 오류 시
 	 */
 	public CorpNameSearchResponseDto searchCorporateNames(CorpNameSearchRequestDto request) {
-		// 1. 요청 DTO에서 검색 키워드 추출
-		String corpNm = request.getCorpNm();
+		// 1. 요청 DTO에서 검색 키워드 추출 및 정규화 (캐시 키로 사용)
+		String corpNm = normalize(request.getCorpNm());
 
 		// 2. 시작 페이지 번호 설정 (null이거나 0 이하면 1로 설정)
 		int startPageNo = (request.getPageNo() != null && request.getPageNo() > 0)
 			? request.getPageNo()
 			: 1;
 
-		// 3. 중복 제거를 위한 HashSet 초기화
-		// - HashSet은 자동으로 중복을 제거하고 O(1) 시간 복잡도로 존재 여부 확인
-		Set<String> uniqueCorpNames = new HashSet<>();
+		// 3. 로컬 색인 접두어 검색 (페이지당 MAX_RESULTS개)
+		if (corpNameIndex.isReady()) {
+			List<String> names = corpNameIndex.searchPrefix(corpNm, (startPageNo - 1) * MAX_RESULTS, MAX_RESULTS);
+			if (!names.isEmpty()) {
+				return new CorpNameSearchResponseDto(new ArrayList<>(names), startPageNo);
+			}
+		}
 
-		// 4. 현재 페이지 번호 초기화
-		int pageNo = startPageNo;
-
-		// 5. 전체 결과 개수 초기화 (첫 API 호출 후 업데이트)
-		int totalCount = Integer.MAX_VALUE;
-
-		// 6. HTTP 헤더 설정
-		HttpHeaders headers = new HttpHeaders();
-		headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));  // JSON 응답 요청
-		HttpEntity<String> entity = new HttpEntity<>(headers);
-
-		// 7. 페이징 루프 시작
-		// 조건: (1) 수집된 고유 기업명이 20개 미만이고, (2) 아직 전체 결과를 다 조회하지 않았을 때
-		while (uniqueCorpNames.size() < MAX_RESULTS && (pageNo - 1) * NUM_OF_ROWS < totalCount) {
-			try {
-				// 8. API 요청 URL 생성
-				// - ServiceKey, pageNo, numOfRows, resultType, corpNm 파라미터 포함
-				// - UTF-8로 URL 인코딩하여 특수문자 처리 및 인젝션 공격 방지
-				String finalUrlAsString = String.format(
-					"%s?ServiceKey=%s&pageNo=%d&numOfRows=%d&resultType=json&corpNm=%s",
-					baseUrl,
-					URLEncoder.encode(serviceKey, StandardCharsets.UTF_8),
-					pageNo,
-					NUM_OF_ROWS,
-					URLEncoder.encode(corpNm, StandardCharsets.UTF_8)
-				);
-
-				// 9. String을 URI 객체로 변환
-				URI finalUri = URI.create(finalUrlAsString);
-
-				log.info("외부 API 호출 (최종 URI): {}", finalUri);
-
-				// 10. RestTemplate을 사용하여 외부 API 호출
-				// - HTTP GET 메서드
-				// - CorpApiWrapperDto 타입으로 자동 파싱 (XML to Object)
-				// - RestTemplateConfig에서 설정한 MappingJackson2XmlHttpMessageConverter 사용
-				ResponseEntity<CorpApiWrapperDto> responseEntity = restTemplate.exchange(
-					finalUri,
-					HttpMethod.GET,
-					entity,
-					CorpApiWrapperDto.class
-				);
-
-				// 11. 응답 본문이 비어있는지 확인
-				if (responseEntity.getBody() == null || responseEntity.getBody().getResponse() == null) {
-					log.info("API 응답 본문이 비어있거나 response 객체가 없습니다.");
-					break;  // 루프 종료
-				}
+		// 4. 색인에 없으면 캐시 조회 (로컬 → Redis → 접두어 결과 → 외부 API)
+		CorpNameSearchCache.Result result = corpNameSearchCache.get(corpNm, startPageNo, this::fetchCorporateNames);
 
-				// 12. 응답에서 response 객체 추출
-				CorpApiResponseDto response = responseEntity.getBody().getResponse();
+		// 5. 응답 DTO 생성 및 반환
+		return new CorpNameSearchResponseDto(new ArrayList<>(result.names()), result.pageNo());
+	}
 
-				// 13. 응답 헤더 검증 (API 호출 성공 여부 확인)
-				if (response.getHeader() == null) {
-					throw new ExternalApiException("기업 정보 조회 실패: API 응답 없음");
-				}
+	/**
+	 * 검색 키워드 정규화
+	 * - 전각/반각 등 같은 의미의 문자를 통일 (NFKC)
+	 * - 앞뒤 공백 제거, 연속 공백을 하나로 축소
+	 *
+	 * @param corpNm 사용자가 입력한 기업명 키워드
+	 * @return 정규화된 키워드
+	 */
+	private String normalize(String corpNm) {
+		return Normalizer.normalize(corpNm, Normalizer.Form.NFKC).trim().replaceAll("\\s+", " ");
+	}
 
-				// 14. 응답 바디 추출 및 검증
-				CorpApiBodyDto body = response.getBody();
-				if (body == null || body.getItems() == null || body.getItems().getItem() == null) {
-					break;  // 더 이상 결과가 없으면 루프 종료
-				}
+	/**
+	 * 외부 API 페이지 조회로 고유 기업명 수집 (캐시 미스 또는 백그라운드 갱신 시 호출)
+	 * - 첫 페이지로 전체 결과 개수(totalCount)를 확인한 뒤 남은 페이지를 병렬로 조회
+	 * - 병렬 조회 결과는 페이지 순서대로 반영하여 마지막 검색 페이지 번호 유지
+	 *
+	 * 처리 흐름:
+	 * 1. 첫 페이지 조회 (결과가 없으면 빈 결과 반환)
+	 * 2. totalCount로 마지막 페이지 번호 계산
+	 * 3. 20개 수집 전까지 PAGE_PARALLELISM개 페이지씩 동시 조회
+	 * 4. 페이지 순서대로 기업명 추가, 20개 도달 또는 빈 페이지에서 중단
+	 * 5. 전체 결과 수집 여부 판단 후 결과 반환
+	 *
+	 * @param corpNm 정규화된 기업명 키워드
+	 * @param startPageNo 시작 페이지 번호
+	 * @return 수집된 기업명, 마지막 검색 페이지, 전체 결과 수집 여부
+	 * @throws ExternalApiException 외부 API 호출 실패 또는 응답 오류 시
+	 */
+	private CorpNameSearchCache.Result fetchCorporateNames(String corpNm, int startPageNo) {
+		// 중복 제거를 위한 HashSet (O(1) 존재 여부 확인)
+		Set<String> uniqueCorpNames = new HashSet<>();
 
-				// 15. 첫 페이지 조회 시 전체 결과 개수 업데이트
-				if (pageNo == startPageNo) {
-					totalCount = body.getTotalCount();
-					if (totalCount < MAX_RESULTS) {
-						log.info("총 결과가 {}개 이므로, {}개만 수집합니다.", totalCount, totalCount);
-					}
-				}
+		// 1. 첫 페이지 조회
+		CorpApiBodyDto first = corpApiClient.fetchPage(corpNm, startPageNo, NUM_OF_ROWS);
+		if (first == null) {
+			return new CorpNameSearchCache.Result(List.of(), startPageNo, startPageNo == 1, System.currentTimeMillis());
+		}
+		collectNames(first, uniqueCorpNames);
 
-				// 16. 기업명 추출 및 HashSet에 추가 (중복 자동 제거)
-				body.getItems().getItem().forEach(item -> {
-					// null 체크 및 공백 체크
-					if (item != null && item.getCorpNm() != null && !item.getCorpNm().isBlank()) {
-						// trim()으로 앞뒤 공백 제거 후 추가
-						uniqueCorpNames.add(item.getCorpNm().trim());
-					}
-				});
-
-				// 17. 전체 결과가 20개 미만인 경우 조기 종료
-				if (totalCount < MAX_RESULTS) {
-					break;
-				}
+		// 2. 전체 결과 개수로 마지막 페이지 번호 계산
+		int totalCount = first.getTotalCount();
+		int lastPage = (totalCount + NUM_OF_ROWS - 1) / NUM_OF_ROWS;
+		if (totalCount < MAX_RESULTS) {
+			log.info("총 결과가 {}개 이므로, {}개만 수집합니다.", totalCount, totalCount);
+		}
 
-				// 18. 다음 페이지로 이동
-				pageNo++;
+		int lastSearchedPage = startPageNo;
+		boolean exhausted = false;
+		int nextPage = startPageNo + 1;
 
-			} catch (Exception e) {
-				// 19. 예외 처리
-				log.error("외부 API 호출 중 오류 발생", e);
+		// 3. 남은 페이지 병렬 조회
+		while (uniqueCorpNames.size() < MAX_RESULTS && nextPage <= lastPage && !exhausted) {
+			int batchEnd = Math.min(lastPage, nextPage + PAGE_PARALLELISM - 1);
+			List<CompletableFuture<CorpApiBodyDto>> pages = new ArrayList<>();
+			for (int page = nextPage; page <= batchEnd; page++) {
+				pages.add(corpApiClient.fetchPageAsync(corpNm, page, NUM_OF_ROWS));
+			}
 
-				// 이미 ExternalApiException인 경우 그대로 재발생
-				if (!(e instanceof ExternalApiException)) {
-					// 다른 예외는 ExternalApiException으로 래핑
-					throw new ExternalApiException("외부 API 서버와 통신 중 오류가 발생했습니다: " + e.getMessage());
+			// 4. 페이지 순서대로 반영
+			for (int i = 0; i < pages.size() && uniqueCorpNames.size() < MAX_RESULTS; i++) {
+				CorpApiBodyDto body = join(pages.get(i));
+				lastSearchedPage = nextPage + i;
+				if (body == null) {
+					exhausted = true;  // 더 이상 결과가 없으면 중단
+					break;
 				}
-				throw e;
+				collectNames(body, uniqueCorpNames);
 			}
+			nextPage = batchEnd + 1;
 		}
 
-		// 20. 마지막으로 검색한 페이지 번호 계산
-		// - 루프가 최소 한 번 실행되었으면 pageNo - 1, 아니면 startPageNo
-		int lastSearchedPage = pageNo > startPageNo ? pageNo - 1 : startPageNo;
-
 		log.info("총 {}개의 고유 기업명 검색 완료. 마지막 검색 페이지: {}", uniqueCorpNames.size(), lastSearchedPage);
 
-		// 21. 응답 DTO 생성 및 반환
-		// - HashSet을 ArrayList로 변환 (순서는 보장되지 않음)
-		// - 마지막 검색 페이지 번호 포함
-		return new CorpNameSearchResponseDto(new ArrayList<>(uniqueCorpNames), lastSearchedPage);
+		// 5. 전체 결과 수집 여부 판단 (1페이지부터 결과를 모두 소진한 경우 접두어 재사용 가능)
+		boolean complete = startPageNo == 1 && (exhausted || lastSearchedPage >= lastPage);
+
+		// 캐시 결과 생성 및 반환 (HashSet을 List로 변환, 순서는 보장되지 않음)
+		return new CorpNameSearchCache.Result(
+			List.copyOf(uniqueCorpNames), lastSearchedPage, complete, System.currentTimeMillis());
+	}
+
+	/**
+	 * 응답 바디의 기업명을 Set에 추가 (null/공백 제외, 앞뒤 공백 제거)
+	 *
+	 * @param body 외부 API 응답 바디
+	 * @param uniqueCorpNames 고유 기업명 Set
+	 */
+	private void collectNames(CorpApiBodyDto body, Set<String> uniqueCorpNames) {
+		body.getItems().getItem().forEach(item -> {
+			if (item != null && item.getCorpNm() != null && !item.getCorpNm().isBlank()) {
+				uniqueCorpNames.add(item.getCorpNm().trim());
+			}
+		});
+	}
+
+	/**
+	 * 병렬 조회 결과 대기 (CompletionException을 원래 예외로 변환)
+	 *
+	 * @param page 페이지 조회 Future
+	 * @return 응답 바디 (결과가 없으면 null)
+	 */
+	private CorpApiBodyDto join(CompletableFuture<CorpApiBodyDto> page) {
+		try {
+			return page.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof ExternalApiException external) {
+				throw external;
+			}
+			throw new ExternalApiException("외부 API 서버와 통신 중 오류가 발생했습니다: " + e.getCause().getMessage());
+		}
 	}
 }
@@ -0,0 +1,248 @@
+package Team_Mute.back_end.domain.member.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기업명 검색 결과 2단계 캐시
+ * - 1단계: 노드 로컬 Caffeine 캐시 (네트워크 왕복 없음)
+ * - 2단계: Redis 공유 캐시 (corp-name:{정규화된 기업명}:{페이지}), 다른 노드가 조회한 결과 재사용
+ * - 두 단계 모두 없을 때만 외부 기업 정보 API 호출
+ *
+ * 만료 정책:
+ * - fresh 기간 이내: 캐시 값 그대로 반환
+ * - fresh 기간 경과 ~ TTL 이내: 캐시 값을 즉시 반환하고 백그라운드에서 갱신 (stale-while-revalidate)
+ * - 결과가 비어 있는 경우: 짧은 negative TTL 동안만 보관, 만료 후 다시 조회
+ *
+ * 접두어 재사용:
+ * - 1페이지 조회 시 더 짧은 접두어의 전체 결과(complete)가 로컬에 있으면
+ *   그 목록에서 현재 키워드를 포함하는 기업명만 걸러서 반환 (자동완성 입력 중 외부 호출 생략)
+ *
+ * 메트릭:
+ * - corp.name_cache.lookups (result=local|redis|prefix|miss) : 조회 경로별 횟수
+ * - corp.name_cache.refreshes : 백그라운드 갱신 횟수
+ *
+ * @author Team Mute
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class CorpNameSearchCache {
+
+	private static final String KEY_PREFIX = "corp-name:";
+
+	private final StringRedisTemplate redis;
+	private final ObjectMapper objectMapper;
+	private final MeterRegistry meterRegistry;
+	private final long freshMillis;
+	private final long ttlMillis;
+	private final long negativeTtlMillis;
+
+	/**
+	 * 로컬 캐시 ({기업명}:{페이지} → 결과)
+	 */
+	private final Cache<String, Result> local;
+
+	/**
+	 * 백그라운드 갱신 중인 키 (같은 키의 중복 갱신 방지)
+	 */
+	private final ConcurrentHashMap<String, Boolean> refreshing = new ConcurrentHashMap<>();
+
+	/**
+	 * 백그라운드 갱신 전용 스레드 풀 (대기열이 가득 차면 갱신 생략)
+	 */
+	private final ThreadPoolExecutor refresher;
+
+	public CorpNameSearchCache(
+		StringRedisTemplate redis,
+		ObjectMapper objectMapper,
+		MeterRegistry meterRegistry,
+		@Value("${corp.cache.fresh-seconds:3600}") long freshSeconds,
+		@Value("${corp.cache.ttl-seconds:86400}") long ttlSeconds,
+		@Value("${corp.cache.negative-ttl-seconds:600}") long negativeTtlSeconds,
+		@Value("${corp.cache.local-max-size:10000}") long localMaxSize) {
+		this.redis = redis;
+		this.objectMapper = objectMapper;
+		this.meterRegistry = meterRegistry;
+		this.freshMillis = TimeUnit.SECONDS.toMillis(freshSeconds);
+		this.ttlMillis = TimeUnit.SECONDS.toMillis(ttlSeconds);
+		this.negativeTtlMillis = TimeUnit.SECONDS.toMillis(negativeTtlSeconds);
+		this.local = Caffeine.newBuilder()
+			.maximumSize(localMaxSize)
+			.expireAfterWrite(Duration.ofMillis(ttlMillis))
+			.build();
+		this.refresher = new ThreadPoolExecutor(
+			1, 2, 60L, TimeUnit.SECONDS,
+			new ArrayBlockingQueue<>(100),
+			r -> {
+				Thread t = new Thread(r, "corp-name-refresh");
+				t.setDaemon(true);
+				return t;
+			});
+	}
+
+	/**
+	 * 캐시 조회 (없으면 loader로 조회 후 저장)
+	 *
+	 * 처리 로직:
+	 * 1. 로컬 캐시 조회
+	 * 2. Redis 조회 후 로컬에 적재
+	 * 3. 1페이지인 경우 로컬의 접두어 전체 결과에서 필터링
+	 * 4. 외부 API 조회 후 로컬과 Redis에 저장
+	 * - 1, 2단계에서 fresh 기간이 지난 값은 반환 후 백그라운드 갱신
+	 *
+	 * @param corpNm 정규화된 기업명 키워드
+	 * @param pageNo 시작 페이지 번호
+	 * @param loader 외부 API 조회 함수 (기업명, 페이지 → 결과)
+	 * @return 기업명 검색 결과
+	 */
+	public Result get(String corpNm, int pageNo, BiFunction<String, Integer, Result> loader) {
+		String key = corpNm + ":" + pageNo;
+		long now = System.currentTimeMillis();
+
+		// 1. 로컬 캐시
+		Result cached = local.getIfPresent(key);
+		if (cached != null && !isExpired(cached, now)) {
+			count("local");
+			refreshIfStale(key, cached, now, corpNm, pageNo, loader);
+			return cached;
+		}
+
+		// 2. Redis 공유 캐시
+		cached = readRedis(key);
+		if (cached != null && !isExpired(cached, now)) {
+			count("redis");
+			local.put(key, cached);
+			refreshIfStale(key, cached, now, corpNm, pageNo, loader);
+			return cached;
+		}
+
+		// 3. 접두어 전체 결과 재사용 (1페이지만)
+		if (pageNo == 1) {
+			Result derived = deriveFromPrefix(corpNm, now);
+			if (derived != null) {
+				count("prefix");
+				local.put(key, derived);
+				return derived;
+			}
+		}
+
+		// 4. 외부 API 조회
+		count("miss");
+		Result loaded = loader.apply(corpNm, pageNo);
+		store(key, loaded);
+		return loaded;
+	}
+
+	/**
+	 * 더 짧은 접두어의 전체 결과에서 현재 키워드를 포함하는 기업명 필터링
+	 * - 접두어 결과가 전체 결과(complete)인 경우에만 사용 (부분 결과에서 걸러내면 누락 발생)
+	 *
+	 * @param corpNm 정규화된 기업명 키워드
+	 * @param now 현재 시각 (epoch millis)
+	 * @return 필터링된 결과 (사용할 접두어 결과가 없으면 null)
+	 */
+	private Result deriveFromPrefix(String corpNm, long now) {
+		for (int len = corpNm.length() - 1; len > 0; len--) {
+			Result prefix = local.getIfPresent(corpNm.substring(0, len) + ":1");
+			if (prefix == null || !prefix.complete() || isExpired(prefix, now)) {
+				continue;
+			}
+			List<String> names = prefix.names().stream()
+				.filter(name -> name.contains(corpNm))
+				.toList();
+			return new Result(names, 1, true, prefix.fetchedAt());
+		}
+		return null;
+	}
+
+	/**
+	 * fresh 기간이 지난 값이면 백그라운드 갱신 예약
+	 */
+	private void refreshIfStale(String key, Result cached, long now, String corpNm, int pageNo,
+		BiFunction<String, Integer, Result> loader) {
+		if (now - cached.fetchedAt() < freshMillis || refreshing.putIfAbsent(key, Boolean.TRUE) != null) {
+			return;
+		}
+		try {
+			refresher.execute(() -> {
+				try {
+					store(key, loader.apply(corpNm, pageNo));
+					meterRegistry.counter("corp.name_cache.refreshes").increment();
+				} catch (Exception e) {
+					log.warn("기업명 캐시 갱신 실패: key={}, {}", key, e.getMessage());
+				} finally {
+					refreshing.remove(key);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			refreshing.remove(key);
+		}
+	}
+
+	/**
+	 * 로컬과 Redis에 저장 (빈 결과는 negative TTL 적용)
+	 */
+	private void store(String key, Result result) {
+		local.put(key, result);
+		long ttl = result.names().isEmpty() ? negativeTtlMillis : ttlMillis;
+		try {
+			redis.opsForValue().set(KEY_PREFIX + key, objectMapper.writeValueAsString(result), Duration.ofMillis(ttl));
+		} catch (Exception e) {
+			log.debug("기업명 캐시 Redis 저장 실패: key={}, {}", key, e.getMessage());
+		}
+	}
+
+	private Result readRedis(String key) {
+		try {
+			String json = redis.opsForValue().get(KEY_PREFIX + key);
+			return json == null ? null : objectMapper.readValue(json, Result.class);
+		} catch (Exception e) {
+			log.debug("기업명 캐시 Redis 조회 실패: key={}, {}", key, e.getMessage());
+			return null;
+		}
+	}
+
+	private boolean isExpired(Result result, long now) {
+		long ttl = result.names().isEmpty() ? negativeTtlMillis : ttlMillis;
+		return now - result.fetchedAt() >= ttl;
+	}
+
+	private void count(String result) {
+		meterRegistry.counter("corp.name_cache.lookups", "result", result).increment();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		refresher.shutdownNow();
+	}
+
+	/**
+	 * 기업명 검색 결과
+	 *
+	 * @param names 중복 제거된 기업명 목록
+	 * @param pageNo 마지막으로 검색한 페이지 번호
+	 * @param complete 1페이지부터 전체 결과를 모두 수집했는지 여부 (접두어 재사용 가능 여부)
+	 * @param fetchedAt 외부 API 조회 시각 (epoch millis)
+	 */
+	public record Result(List<String> names, int pageNo, boolean complete, long fetchedAt) {
+	}
+}
@@ -172,6 +172,50 @@ public class EmailService {
 		}
 	}
 
+	/**
+	 * 사용자 환영 이메일 발송
+	 * - 관리자가 사용자 계정을 일괄 등록했을 때 호출
+	 * - MemberImportService에서 등록 트랜잭션 커밋 후 비동기로 호출
+	 * - 신규 사용자에게 임시 비밀번호와 함께 환영 메시지 전송
+	 *
+	 * 이메일 내용:
+	 * - 제목: [신한금융희망재단] 회원 계정 생성 완료 안내
+	 * - 본문: 계정 생성 안내와 임시 비밀번호, 변경 안내 메시지
+	 *
+	 * @param toEmail 신규 사용자의 이메일 주소
+	 * @param temporaryPassword 생성된 임시 비밀번호 (10자리)
+	 * @throws IllegalStateException 이메일 발송 실패 시
+	 */
+	public void sendUserWelcomeEmail(String toEmail, String temporaryPassword) {
+		try {
+			// 1. SimpleMailMessage 객체 생성
+			SimpleMailMessage message = new SimpleMailMessage();
+
+			// 2. 수신자 설정
+			message.setTo(toEmail);
+
+			// 3. 이메일 제목 설정
+			message.setSubject("[신한금융희망재단] 회원 계정 생성 완료 안내");
+
+			// 4. 이메일 본문 설정
+			message.setText("안녕하세요, 신한금융희망재단 입니다.\n\n"
+				+ "귀하의 회원 계정이 생성되었습니다.\n\n"
+				+ "임시 비밀번호: " + temporaryPassword + "\n\n"
+				+ "로그인 후 반드시 비밀번호를 변경해 주시기 바랍니다.\n"
+				+ "감사합니다.");
+
+			// 5. 이메일 발송
+			mailSender.send(message);
+
+			// 6. 발송 성공 로그
+			log.info("회원 계정 생성 안내 이메일 발송 성공: {}", toEmail);
+		} catch (MailException e) {
+			// 7. 발송 실패 로그 및 예외 발생
+			log.error("회원 계정 생성 안내 이메일 발송 실패: {}", toEmail, e);
+			throw new IllegalStateException("계정 생성 안내 메일 발송에 실패했습니다.");
+		}
+	}
+
 	/**
 	 * 예약 상태 변경 알림 이메일 발송
 	 * - 관리자가 예약을 승인하거나 반려할 때 호출
@@ -0,0 +1,639 @@
+package Team_Mute.back_end.domain.member.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.SecureRandom;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+
+import Team_Mute.back_end.domain.member.dto.request.AdminImportRow;
+import Team_Mute.back_end.domain.member.dto.request.UserImportRow;
+import Team_Mute.back_end.domain.member.dto.response.MemberImportResponseDto;
+import Team_Mute.back_end.domain.member.entity.AdminRegion;
+import Team_Mute.back_end.domain.member.entity.UserRole;
+import Team_Mute.back_end.domain.member.repository.AdminRegionRepository;
+import Team_Mute.back_end.domain.member.repository.MemberImportJdbcRepository;
+import Team_Mute.back_end.domain.member.repository.UserRoleRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자/관리자 CSV 일괄 등록 Service
+ * - 업로드된 CSV를 한 행씩 스트리밍으로 읽어 chunk-size 단위로 처리 (파일 크기와 무관하게 메모리 사용량 일정)
+ * - 계정마다 10자리 임시 비밀번호를 생성하고 등록 완료 후 환영 메일로 안내
+ *
+ * chunk 처리 로직:
+ * 1. 행 검증 (가입 DTO와 같은 규칙) 및 chunk 안의 중복 이메일 제외
+ * 2. 이미 가입된 이메일 IN 조회 한 번으로 제외
+ * 3. 임시 비밀번호 BCrypt 해싱을 전용 풀에서 병렬 수행
+ * 4. 한 트랜잭션에서 기업(CompanyResolver)/지역 확보 후 JDBC 배치 삽입
+ * 5. 커밋 후 환영 메일을 메일 발송 풀에 등록 (chunk 처리는 SMTP 발송을 기다리지 않음)
+ *
+ * 메일 발송 결과:
+ * - 모든 chunk 등록 후 남은 메일 발송을 member.import.mail-wait-ms까지 기다려 결과를 응답에 포함
+ * - 발송 실패(mailFailed)와 대기 시간 안에 끝나지 않은 건(mailPending)은 계정 등록 성공과 별도로 집계
+ * - 발송 실패 계정은 mailErrors로 반환하여 관리자가 비밀번호 초기화로 임시 비밀번호 재발급
+ *
+ * 스레드 풀:
+ * - 해싱 풀은 로그인용 passwordHashExecutor와 분리 (일괄 등록 중에도 로그인 해싱이 밀리지 않도록)
+ * - 두 풀 모두 대기열이 가득 차면 호출 스레드에서 직접 실행 (작업 유실 없이 업로드 속도를 늦춤)
+ *
+ * 메트릭:
+ * - member.import.rows (type=user|admin, result=created|invalid|duplicate|error)
+ * - member.import.mail (result=sent|failed)
+ *
+ * @author Team Mute
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class MemberImportService {
+
+	private static final int CUSTOMER_ROLE_ID = 3;
+	private static final String ADMIN_COMPANY_NAME = "신한금융희망재단";
+	private static final String PASSWORD_CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+	private static final String DUPLICATE_EMAIL = "이미 가입된 이메일 입니다.";
+
+	private static final CsvMapper CSV_MAPPER = new CsvMapper();
+	private static final CsvSchema HEADER_SCHEMA = CsvSchema.emptySchema().withHeader();
+	private static final ObjectReader USER_READER = reader(UserImportRow.class);
+	private static final ObjectReader ADMIN_READER = reader(AdminImportRow.class);
+
+	private final MemberImportJdbcRepository memberImportJdbcRepository;
+	private final CompanyResolver companyResolver;
+	private final AdminRegionRepository adminRegionRepository;
+	private final UserRoleRepository userRoleRepository;
+	private final BCryptPasswordEncoder passwordEncoder;
+	private final EmailService emailService;
+	private final Validator validator;
+	private final MeterRegistry meterRegistry;
+	private final TransactionTemplate transactionTemplate;
+	private final ThreadPoolExecutor hashWorkers;
+	private final ThreadPoolExecutor mailWorkers;
+	private final SecureRandom random = new SecureRandom();
+	private final int chunkSize;
+	private final int maxReportRows;
+	private final long mailWaitMillis;
+
+	public MemberImportService(
+		MemberImportJdbcRepository memberImportJdbcRepository,
+		CompanyResolver companyResolver,
+		AdminRegionRepository adminRegionRepository,
+		UserRoleRepository userRoleRepository,
+		BCryptPasswordEncoder passwordEncoder,
+		EmailService emailService,
+		Validator validator,
+		MeterRegistry meterRegistry,
+		PlatformTransactionManager transactionManager,
+		@Value("${member.import.chunk-size:500}") int chunkSize,
+		@Value("${member.import.max-report-rows:1000}") int maxReportRows,
+		@Value("${member.import.hash-threads:0}") int hashThreads,
+		@Value("${member.import.mail-threads:2}") int mailThreads,
+		@Value("${member.import.mail-queue-capacity:1000}") int mailQueueCapacity,
+		@Value("${member.import.mail-wait-ms:30000}") long mailWaitMillis) {
+		this.memberImportJdbcRepository = memberImportJdbcRepository;
+		this.companyResolver = companyResolver;
+		this.adminRegionRepository = adminRegionRepository;
+		this.userRoleRepository = userRoleRepository;
+		this.passwordEncoder = passwordEncoder;
+		this.emailService = emailService;
+		this.validator = validator;
+		this.meterRegistry = meterRegistry;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.chunkSize = chunkSize;
+		this.maxReportRows = maxReportRows;
+		this.mailWaitMillis = mailWaitMillis;
+
+		int hashPoolSize = hashThreads > 0 ? hashThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+		this.hashWorkers = pool("member-import-hash-", hashPoolSize, chunkSize);
+		this.mailWorkers = pool("member-import-mail-", mailThreads, mailQueueCapacity);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		hashWorkers.shutdownNow();
+		mailWorkers.shutdown();
+		if (!mailWorkers.getQueue().isEmpty()) {
+			log.warn("종료 시 발송 대기 중인 환영 메일: {}건", mailWorkers.getQueue().size());
+		}
+	}
+
+	/**
+	 * 사용자 CSV 일괄 등록
+	 * - 컬럼: userName, userEmail, companyName, agreeEmail
+	 *
+	 * 처리 로직:
+	 * 1. 일반 회원 역할(roleId=3) 확보
+	 * 2. 행을 스트리밍으로 읽어 검증 후 chunk에 추가
+	 * 3. chunk가 차면 등록 (마지막 chunk는 읽기 종료 후)
+	 * 4. 환영 메일 발송 결과를 member.import.mail-wait-ms까지 대기
+	 *
+	 * @param csv CSV 입력 스트림 (UTF-8, 첫 줄 헤더)
+	 * @return 행별 결과 요약 (메일 발송 실패 포함)
+	 */
+	public MemberImportResponseDto importUsers(InputStream csv) {
+		// 1. 일반 회원 역할 확보
+		ensureCustomerRole();
+
+		// 2. 스트리밍 읽기 및 chunk 등록
+		Report report = new Report("user", maxReportRows);
+		List<Pending<UserImportRow>> chunk = new ArrayList<>(chunkSize);
+		readRows(csv, USER_READER, report, (UserImportRow row, long rowNumber) -> {
+			if (accept(row, row.getUserEmail(), rowNumber, chunk, report)) {
+				chunk.add(new Pending<>(rowNumber, row.getUserEmail(), row));
+			}
+			if (chunk.size() >= chunkSize) {
+				importUserChunk(chunk, report);
+				chunk.clear();
+			}
+		});
+
+		// 3. 마지막 chunk
+		importUserChunk(chunk, report);
+
+		// 4. 환영 메일 발송 결과 대기
+		report.awaitMails(mailWaitMillis);
+		return report.toResponse();
+	}
+
+	/**
+	 * 관리자 CSV 일괄 등록
+	 * - 컬럼: roleId, regionName, userEmail, userName, userPhone
+	 * - 소속 기업은 단건 등록과 같이 "신한금융희망재단"
+	 *
+	 * 처리 로직:
+	 * 1. 행을 스트리밍으로 읽어 검증 후 chunk에 추가
+	 * 2. chunk가 차면 등록 (마지막 chunk는 읽기 종료 후)
+	 * 3. 환영 메일 발송 결과를 member.import.mail-wait-ms까지 대기
+	 *
+	 * @param csv CSV 입력 스트림 (UTF-8, 첫 줄 헤더)
+	 * @return 행별 결과 요약 (메일 발송 실패 포함)
+	 */
+	public MemberImportResponseDto importAdmins(InputStream csv) {
+		// 1. 스트리밍 읽기 및 chunk 등록
+		Report report = new Report("admin", maxReportRows);
+		Map<String, Integer> regionIds = new HashMap<>();
+		List<Pending<AdminImportRow>> chunk = new ArrayList<>(chunkSize);
+		readRows(csv, ADMIN_READER, report, (AdminImportRow row, long rowNumber) -> {
+			if (accept(row, row.getUserEmail(), rowNumber, chunk, report)) {
+				chunk.add(new Pending<>(rowNumber, row.getUserEmail(), row));
+			}
+			if (chunk.size() >= chunkSize) {
+				importAdminChunk(chunk, regionIds, report);
+				chunk.clear();
+			}
+		});
+
+		// 2. 마지막 chunk
+		importAdminChunk(chunk, regionIds, report);
+
+		// 3. 환영 메일 발송 결과 대기
+		report.awaitMails(mailWaitMillis);
+		return report.toResponse();
+	}
+
+	/**
+	 * 사용자 chunk 등록
+	 */
+	private void importUserChunk(List<Pending<UserImportRow>> chunk, Report report) {
+		if (chunk.isEmpty()) {
+			return;
+		}
+		List<Pending<UserImportRow>> pending = chunk;
+		try {
+			// 1. 이미 가입된 이메일 제외
+			List<Pending<UserImportRow>> fresh = excludeExisting(chunk,
+				memberImportJdbcRepository::findExistingUserEmails, report);
+			pending = fresh;
+			if (fresh.isEmpty()) {
+				return;
+			}
+
+			// 2. 임시 비밀번호 생성 및 병렬 해싱
+			List<String> passwords = fresh.stream().map(p -> generateRandomPassword()).toList();
+			List<String> encoded = hashAll(passwords);
+
+			// 3. 기업 확보 및 배치 삽입 (한 트랜잭션)
+			boolean[] inserted = transactionTemplate.execute(status -> {
+				Map<String, Integer> companyIds = new HashMap<>();
+				List<Object[]> rows = new ArrayList<>(fresh.size());
+				for (int i = 0; i < fresh.size(); i++) {
+					UserImportRow row = fresh.get(i).data();
+					Integer companyId = companyIds.computeIfAbsent(row.getCompanyName(), companyResolver::resolveId);
+					rows.add(new Object[] {row.getUserEmail(), row.getUserName(), encoded.get(i),
+						Boolean.parseBoolean(row.getAgreeEmail()), CUSTOMER_ROLE_ID, companyId});
+				}
+				return memberImportJdbcRepository.insertUsers(rows, Timestamp.valueOf(LocalDateTime.now()));
+			});
+
+			// 4. 커밋 후 환영 메일 등록
+			for (int i = 0; i < fresh.size(); i++) {
+				Pending<UserImportRow> row = fresh.get(i);
+				if (inserted[i]) {
+					report.succeed();
+					report.mailQueued(row.row(), row.email(),
+						queueMail(row.email(), passwords.get(i), emailService::sendUserWelcomeEmail));
+				} else {
+					report.fail(row.row(), row.email(), "duplicate", DUPLICATE_EMAIL);
+				}
+			}
+		} catch (DataAccessException | IllegalStateException e) {
+			log.error("사용자 일괄 등록 chunk 처리 실패: {}행부터 {}건", pending.get(0).row(), pending.size(), e);
+			pending.forEach(p -> report.fail(p.row(), p.email(), "error", "계정 등록 처리 중 오류가 발생했습니다."));
+		}
+	}
+
+	/**
+	 * 관리자 chunk 등록
+	 * - 새로 만든 지역은 커밋 후에만 regionIds에 반영 (롤백된 지역 ID를 다음 chunk에서 쓰지 않도록)
+	 */
+	private void importAdminChunk(List<Pending<AdminImportRow>> chunk, Map<String, Integer> regionIds,
+		Report report) {
+		if (chunk.isEmpty()) {
+			return;
+		}
+		List<Pending<AdminImportRow>> pending = chunk;
+		try {
+			// 1. 이미 가입된 이메일 제외
+			List<Pending<AdminImportRow>> fresh = excludeExisting(chunk,
+				memberImportJdbcRepository::findExistingAdminEmails, report);
+			pending = fresh;
+			if (fresh.isEmpty()) {
+				return;
+			}
+
+			// 2. 임시 비밀번호 생성 및 병렬 해싱
+			List<String> passwords = fresh.stream().map(p -> generateRandomPassword()).toList();
+			List<String> encoded = hashAll(passwords);
+
+			// 3. 기업/지역 확보 및 배치 삽입 (한 트랜잭션)
+			Map<String, Integer> chunkRegionIds = new HashMap<>(regionIds);
+			boolean[] inserted = transactionTemplate.execute(status -> {
+				Integer companyId = companyResolver.resolveId(ADMIN_COMPANY_NAME);
+				List<Object[]> rows = new ArrayList<>(fresh.size());
+				for (int i = 0; i < fresh.size(); i++) {
+					AdminImportRow row = fresh.get(i).data();
+					Integer regionId = chunkRegionIds.computeIfAbsent(row.getRegionName(), this::findOrCreateRegionId);
+					rows.add(new Object[] {row.getUserEmail(), row.getUserName(), row.getUserPhone(), encoded.get(i),
+						Integer.valueOf(row.getRoleId()), companyId, regionId});
+				}
+				return memberImportJdbcRepository.insertAdmins(rows, Timestamp.valueOf(LocalDateTime.now()));
+			});
+			regionIds.putAll(chunkRegionIds);
+
+			// 4. 커밋 후 환영 메일 등록
+			for (int i = 0; i < fresh.size(); i++) {
+				Pending<AdminImportRow> row = fresh.get(i);
+				if (inserted[i]) {
+					report.succeed();
+					report.mailQueued(row.row(), row.email(),
+						queueMail(row.email(), passwords.get(i), emailService::sendAdminWelcomeEmail));
+				} else {
+					report.fail(row.row(), row.email(), "duplicate", DUPLICATE_EMAIL);
+				}
+			}
+		} catch (DataAccessException | IllegalStateException e) {
+			log.error("관리자 일괄 등록 chunk 처리 실패: {}행부터 {}건", pending.get(0).row(), pending.size(), e);
+			pending.forEach(p -> report.fail(p.row(), p.email(), "error", "계정 등록 처리 중 오류가 발생했습니다."));
+		}
+	}
+
+	/**
+	 * CSV 행 스트리밍 읽기
+	 * - CSV 형식 오류(닫히지 않은 따옴표 등)가 나면 해당 행을 실패로 기록하고 이후 행은 읽지 않음
+	 */
+	private <T> void readRows(InputStream csv, ObjectReader reader, Report report, RowHandler<T> handler) {
+		long rowNumber = 0;
+		try (MappingIterator<T> rows = reader.readValues(csv)) {
+			while (true) {
+				T row;
+				try {
+					if (!rows.hasNextValue()) {
+						return;
+					}
+					row = rows.nextValue();
+				} catch (IOException | RuntimeJsonMappingException e) {
+					rowNumber++;
+					report.read();
+					log.warn("CSV 읽기 중단: {}행, {}", rowNumber, e.getMessage());
+					report.fail(rowNumber, null, "invalid", "CSV 형식 오류로 이 행부터 처리하지 못했습니다.");
+					return;
+				}
+				rowNumber++;
+				report.read();
+				handler.handle(row, rowNumber);
+			}
+		} catch (IOException e) {
+			log.warn("CSV 읽기 실패: {}", e.getMessage());
+			report.fail(rowNumber + 1, null, "invalid", "CSV 파일을 읽을 수 없습니다.");
+		}
+	}
+
+	/**
+	 * 행 검증 및 chunk 안 중복 확인
+	 *
+	 * @return chunk에 추가할 행이면 true
+	 */
+	private <T> boolean accept(T row, String email, long rowNumber, List<Pending<T>> chunk, Report report) {
+		Set<ConstraintViolation<T>> violations = validator.validate(row);
+		if (!violations.isEmpty()) {
+			String reason = violations.stream()
+				.map(ConstraintViolation::getMessage)
+				.sorted()
+				.collect(Collectors.joining(", "));
+			report.fail(rowNumber, email, "invalid", reason);
+			return false;
+		}
+		if (chunk.stream().anyMatch(p -> p.email().equals(email))) {
+			report.fail(rowNumber, email, "duplicate", "파일 안에 같은 이메일이 있습니다.");
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * 이미 가입된 이메일 제외 (이전 chunk에서 등록된 이메일 포함)
+	 */
+	private <T> List<Pending<T>> excludeExisting(List<Pending<T>> chunk,
+		Function<Set<String>, Set<String>> findExisting, Report report) {
+		if (chunk.isEmpty()) {
+			return List.of();
+		}
+		Set<String> emails = new HashSet<>();
+		chunk.forEach(p -> emails.add(p.email()));
+		Set<String> existing = findExisting.apply(emails);
+		Predicate<Pending<T>> duplicated = p -> existing.contains(p.email());
+		chunk.stream().filter(duplicated).forEach(p -> report.fail(p.row(), p.email(), "duplicate", DUPLICATE_EMAIL));
+		return chunk.stream().filter(duplicated.negate()).toList();
+	}
+
+	/**
+	 * 임시 비밀번호 병렬 해싱
+	 *
+	 * @param passwords 평문 임시 비밀번호 목록
+	 * @return 같은 순서의 BCrypt 해시 목록
+	 * @throws IllegalStateException 해싱 실패 또는 중단 시
+	 */
+	private List<String> hashAll(List<String> passwords) {
+		List<Future<String>> futures = new ArrayList<>(passwords.size());
+		for (String password : passwords) {
+			futures.add(hashWorkers.submit(() -> passwordEncoder.encode(password)));
+		}
+		List<String> encoded = new ArrayList<>(futures.size());
+		try {
+			for (Future<String> future : futures) {
+				encoded.add(future.get());
+			}
+		} catch (InterruptedException e) {
+			futures.forEach(f -> f.cancel(true));
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("비밀번호 해싱이 중단되었습니다.", e);
+		} catch (ExecutionException e) {
+			futures.forEach(f -> f.cancel(true));
+			throw new IllegalStateException("비밀번호 해싱에 실패했습니다.", e.getCause());
+		}
+		return encoded;
+	}
+
+	/**
+	 * 환영 메일 발송 등록
+	 *
+	 * @return 발송 결과 (실패 시 ExecutionException으로 원인 전달)
+	 */
+	private Future<?> queueMail(String email, String temporaryPassword, MailSender sender) {
+		return mailWorkers.submit(() -> {
+			try {
+				sender.send(email, temporaryPassword);
+				meterRegistry.counter("member.import.mail", "result", "sent").increment();
+			} catch (RuntimeException e) {
+				meterRegistry.counter("member.import.mail", "result", "failed").increment();
+				log.warn("일괄 등록 환영 메일 발송 실패: {}", email);
+				throw e;
+			}
+		});
+	}
+
+	/**
+	 * 지역명으로 지역 ID 조회 또는 생성
+	 */
+	private Integer findOrCreateRegionId(String regionName) {
+		return adminRegionRepository.findByRegionName(regionName)
+			.orElseGet(() -> {
+				log.info("새로운 지역 정보 생성: {}", regionName);
+				return adminRegionRepository.save(AdminRegion.builder().regionName(regionName).build());
+			})
+			.getRegionId();
+	}
+
+	/**
+	 * 일반 회원 역할(roleId=3) 확보 (UserService.signUp()과 동일)
+	 */
+	private void ensureCustomerRole() {
+		if (userRoleRepository.existsById(CUSTOMER_ROLE_ID)) {
+			return;
+		}
+		log.info("기본 'customer' 역할(ID: 3)이 없어 새로 생성합니다.");
+		UserRole newRole = new UserRole();
+		newRole.setRoleId(CUSTOMER_ROLE_ID);
+		newRole.setRoleName("customer");
+		userRoleRepository.save(newRole);
+	}
+
+	/**
+	 * 무작위 임시 비밀번호 생성 (10자리 영문 대소문자 + 숫자)
+	 */
+	private String generateRandomPassword() {
+		StringBuilder sb = new StringBuilder(10);
+		for (int i = 0; i < 10; i++) {
+			sb.append(PASSWORD_CHARS.charAt(random.nextInt(PASSWORD_CHARS.length())));
+		}
+		return sb.toString();
+	}
+
+	private static ObjectReader reader(Class<?> type) {
+		return CSV_MAPPER.readerFor(type)
+			.with(HEADER_SCHEMA)
+			.with(CsvParser.Feature.TRIM_SPACES)
+			.with(CsvParser.Feature.SKIP_EMPTY_LINES);
+	}
+
+	private static ThreadPoolExecutor pool(String namePrefix, int threads, int queueCapacity) {
+		AtomicInteger sequence = new AtomicInteger();
+		return new ThreadPoolExecutor(
+			threads, threads,
+			0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(queueCapacity),
+			r -> {
+				Thread t = new Thread(r, namePrefix + sequence.incrementAndGet());
+				t.setDaemon(true);
+				return t;
+			},
+			new ThreadPoolExecutor.CallerRunsPolicy());
+	}
+
+	/**
+	 * chunk에 담긴 검증된 행
+	 *
+	 * @param row 행 번호
+	 * @param email 이메일
+	 * @param data CSV 행
+	 */
+	private record Pending<T>(long row, String email, T data) {
+	}
+
+	@FunctionalInterface
+	private interface RowHandler<T> {
+		void handle(T row, long rowNumber);
+	}
+
+	/**
+	 * 발송 결과를 기다리는 환영 메일
+	 *
+	 * @param row 행 번호
+	 * @param email 이메일
+	 * @param result 발송 결과
+	 */
+	private record QueuedMail(long row, String email, Future<?> result) {
+	}
+
+	@FunctionalInterface
+	private interface MailSender {
+		void send(String email, String temporaryPassword);
+	}
+
+	/**
+	 * 일괄 등록 결과 집계 (실패 행과 메일 발송 실패 행은 각각 maxRows건까지만 보관)
+	 */
+	private final class Report {
+
+		private static final String MAIL_FAILED = "환영 메일 발송에 실패했습니다. 비밀번호 초기화로 임시 비밀번호를 다시 발급해주세요.";
+
+		private final String type;
+		private final int maxRows;
+		private final List<MemberImportResponseDto.RowError> errors = new ArrayList<>();
+		private final List<MemberImportResponseDto.RowError> mailErrors = new ArrayList<>();
+		private final List<QueuedMail> queuedMails = new ArrayList<>();
+		private long total;
+		private long created;
+		private long failed;
+		private long mailFailed;
+		private long mailPending;
+
+		private Report(String type, int maxRows) {
+			this.type = type;
+			this.maxRows = maxRows;
+		}
+
+		void read() {
+			total++;
+		}
+
+		void succeed() {
+			created++;
+			meterRegistry.counter("member.import.rows", "type", type, "result", "created").increment();
+		}
+
+		void fail(long row, String email, String result, String reason) {
+			failed++;
+			meterRegistry.counter("member.import.rows", "type", type, "result", result).increment();
+			if (errors.size() < maxRows) {
+				errors.add(new MemberImportResponseDto.RowError(row, email, reason));
+			}
+		}
+
+		/**
+		 * 환영 메일 등록
+		 * - 이미 끝난 메일은 바로 집계하여 대기 목록이 등록 건수만큼 쌓이지 않도록 함
+		 */
+		void mailQueued(long row, String email, Future<?> result) {
+			queuedMails.removeIf(mail -> mail.result().isDone() && settle(mail, 0));
+			queuedMails.add(new QueuedMail(row, email, result));
+		}
+
+		/**
+		 * 남은 환영 메일 발송 결과 대기 (전체 대기 시간 waitMillis)
+		 * - 대기 시간 안에 끝나지 않은 메일은 발송 대기(mailPending)로 집계 (발송은 계속 진행)
+		 */
+		void awaitMails(long waitMillis) {
+			long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitMillis);
+			for (QueuedMail mail : queuedMails) {
+				if (!settle(mail, Math.max(0, deadline - System.nanoTime()))) {
+					mailPending++;
+				}
+			}
+			queuedMails.clear();
+		}
+
+		/**
+		 * 메일 발송 결과 집계
+		 *
+		 * @return 결과가 확정되었으면 true, 대기 시간 안에 끝나지 않았으면 false
+		 */
+		private boolean settle(QueuedMail mail, long timeoutNanos) {
+			try {
+				mail.result().get(timeoutNanos, TimeUnit.NANOSECONDS);
+				return true;
+			} catch (ExecutionException e) {
+				mailFailed++;
+				if (mailErrors.size() < maxRows) {
+					mailErrors.add(new MemberImportResponseDto.RowError(mail.row(), mail.email(), MAIL_FAILED));
+				}
+				return true;
+			} catch (TimeoutException e) {
+				return false;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+		}
+
+		MemberImportResponseDto toResponse() {
+			log.info("{} 일괄 등록 완료: 전체 {}건, 등록 {}건, 실패 {}건, 메일 실패 {}건, 메일 대기 {}건",
+				type, total, created, failed, mailFailed, mailPending);
+			return MemberImportResponseDto.builder()
+				.total(total)
+				.created(created)
+				.failed(failed)
+				.truncated(failed > errors.size())
+				.errors(errors)
+				.mailFailed(mailFailed)
+				.mailPending(mailPending)
+				.mailErrors(mailErrors)
+				.mailTruncated(mailFailed > mailErrors.size())
+				.build();
+		}
+	}
+}
@@ -1,9 +1,25 @@
 package Team_Mute.back_end.domain.member.service;
 
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
-import lombok.RequiredArgsConstructor;
+import Team_Mute.back_end.domain.member.exception.PasswordHashingBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -20,7 +36,18 @@ import lombok.extern.slf4j.Slf4j;
  * - 단방향 해시 함수 (복호화 불가능)
  * - 랜덤 Salt 자동 적용으로 같은 비밀번호도 매번 다른 해시값 생성
  * - 느린 연산으로 무차별 대입 공격(Brute Force)에 강함
- * - 해시 강도(strength) 조절 가능 (기본값: 10)
+ * - 해시 강도(strength) 조절 가능 (password.bcrypt.strength, 기본값: 10)
+ *
+ * 동시성 제어:
+ * - 모든 BCrypt 연산은 passwordHashExecutor(고정 크기 스레드 풀 + 제한된 대기열)에서 수행
+ * - 대기열이 가득 차거나 대기 시간이 초과되면 PasswordHashingBusyException(503) 발생
+ * - 로그인 폭주 시에도 요청 스레드와 CPU가 해싱으로 고갈되지 않음
+ *
+ * 메트릭:
+ * - auth.password.hash (op=encode|matches) : 대기 시간을 포함한 해싱 소요 시간
+ * - auth.password.queue_depth : 해싱 대기열 길이
+ * - auth.password.active : 해싱 중인 스레드 수
+ * - auth.password.rejected : 과부하로 거부된 요청 수
  *
  * 보안 고려사항:
  * - 비밀번호는 절대 평문으로 저장하지 않음
@@ -31,11 +58,42 @@ import lombok.extern.slf4j.Slf4j;
  * @since 1.0
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class PasswordService {
 
+	/**
+	 * BCrypt 해시 형식: $2a$10$... / $2b$12$... / $2y$10$...
+	 */
+	private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[aby]?\\$(\\d{2})\\$");
+
 	private final BCryptPasswordEncoder passwordEncoder;
+	private final ThreadPoolExecutor hashExecutor;
+	private final int strength;
+	private final long timeoutMillis;
+
+	private final Timer encodeTimer;
+	private final Timer matchesTimer;
+	private final Counter rejected;
+
+	public PasswordService(
+		BCryptPasswordEncoder passwordEncoder,
+		@Qualifier("passwordHashExecutor") ThreadPoolExecutor hashExecutor,
+		MeterRegistry meterRegistry,
+		@Value("${password.bcrypt.strength:10}") int strength,
+		@Value("${password.hash-executor.timeout-ms:3000}") long timeoutMillis) {
+		this.passwordEncoder = passwordEncoder;
+		this.hashExecutor = hashExecutor;
+		this.strength = strength;
+		this.timeoutMillis = timeoutMillis;
+
+		this.encodeTimer = Timer.builder("auth.password.hash").tag("op", "encode").register(meterRegistry);
+		this.matchesTimer = Timer.builder("auth.password.hash").tag("op", "matches").register(meterRegistry);
+		this.rejected = meterRegistry.counter("auth.password.rejected");
+		Gauge.builder("auth.password.queue_depth", hashExecutor, e -> e.getQueue().size())
+			.register(meterRegistry);
+		Gauge.builder("auth.password.active", hashExecutor, ThreadPoolExecutor::getActiveCount)
+			.register(meterRegistry);
+	}
 
 	/**
 	 * 평문 비밀번호를 BCrypt로 암호화
@@ -57,6 +115,7 @@ public class PasswordService {
 	 * @param rawPassword 암호화할 평문 비밀번호 (사용자가 입력한 원본)
 	 * @return 암호화된 비밀번호 (BCrypt 해시값, Salt 포함, 약 60자)
 	 * @throws IllegalArgumentException 비밀번호가 null이거나 빈 문자열인 경우
+	 * @throws PasswordHashingBusyException 해싱 대기열이 가득 찼거나 대기 시간이 초과된 경우
 	 */
 	public String encodePassword(String rawPassword) {
 		// 1. 입력값 검증 (null 또는 빈 문자열 체크)
@@ -67,7 +126,8 @@ public class PasswordService {
 		// 2. BCrypt 암호화 수행
 		// - passwordEncoder.encode() 호출 시마다 다른 Salt 생성
 		// - 내부적으로 SecureRandom을 사용하여 암호학적으로 안전한 Salt 생성
-		String encodedPassword = passwordEncoder.encode(rawPassword);
+		// - 해싱 전용 스레드 풀에서 수행 (과부하 시 즉시 거부)
+		String encodedPassword = runHashing(encodeTimer, () -> passwordEncoder.encode(rawPassword));
 
 		// 3. 암호화 성공 로그 (실제 비밀번호 값은 출력하지 않음)
 		log.debug("Password encoded successfully");
@@ -101,6 +161,7 @@ public class PasswordService {
 	 * @param rawPassword 사용자가 입력한 평문 비밀번호
 	 * @param encodedPassword 데이터베이스에 저장된 암호화된 비밀번호
 	 * @return 일치하면 true, 불일치하거나 파라미터가 null이면 false
+	 * @throws PasswordHashingBusyException 해싱 대기열이 가득 찼거나 대기 시간이 초과된 경우
 	 */
 	public boolean matches(String rawPassword, String encodedPassword) {
 		// 1. null 체크 (null 안전 처리)
@@ -113,7 +174,8 @@ public class PasswordService {
 		//   (1) encodedPassword에서 Salt 추출
 		//   (2) rawPassword와 Salt로 새로운 해시 생성
 		//   (3) 생성된 해시와 저장된 해시 비교
-		boolean isMatch = passwordEncoder.matches(rawPassword, encodedPassword);
+		// - 해싱 전용 스레드 풀에서 수행 (과부하 시 즉시 거부)
+		boolean isMatch = runHashing(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
 
 		// 3. 비교 결과 로그 (실제 비밀번호 값은 출력하지 않음)
 		log.debug("Password match result: {}", isMatch);
@@ -176,4 +238,84 @@ public class PasswordService {
 		// - 세 가지 조건 모두 true여야 true 반환
 		return hasLetter && hasDigit && hasSpecialChar;
 	}
+
+	/**
+	 * 저장된 해시의 cost가 현재 설정과 다른 경우 새 cost로 재해시
+	 * - password.bcrypt.strength 변경 후 로그인 성공 시점에 점진적으로 해시 갱신
+	 * - 재해시는 로그인 성공을 막지 않도록 과부하 시 생략 (다음 로그인 때 재시도)
+	 *
+	 * 처리 로직:
+	 * 1. 저장된 해시에서 cost 추출 ($2a$NN$ 형식)
+	 * 2. 현재 설정과 같거나 형식이 다르면 null 반환
+	 * 3. 다르면 평문 비밀번호로 새 해시 생성
+	 *
+	 * 사용 예시:
+	 * - AuthController.login(): 사용자 로그인 성공 후 호출
+	 * - AdminAuthController.login(): 관리자 로그인 성공 후 호출
+	 *
+	 * @param rawPassword 검증이 끝난 평문 비밀번호
+	 * @param encodedPassword 데이터베이스에 저장된 암호화된 비밀번호
+	 * @return 새 해시값 (재해시가 필요 없거나 생략된 경우 null)
+	 */
+	public String rehashIfNeeded(String rawPassword, String encodedPassword) {
+		// 1. 저장된 해시의 cost 추출
+		if (encodedPassword == null) {
+			return null;
+		}
+		Matcher m = BCRYPT_COST.matcher(encodedPassword);
+		if (!m.find() || Integer.parseInt(m.group(1)) == strength) {
+			return null;
+		}
+
+		// 2. 새 cost로 재해시
+		try {
+			String upgraded = encodePassword(rawPassword);
+			log.debug("Password rehashed from cost {} to {}", m.group(1), strength);
+			return upgraded;
+		} catch (PasswordHashingBusyException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * BCrypt 연산을 해싱 전용 스레드 풀에서 실행하고 결과 대기
+	 * - 대기열이 가득 차면 RejectedExecutionException → 즉시 503
+	 * - timeoutMillis 이내에 완료되지 않으면 작업을 취소하고 503
+	 *
+	 * @param timer 소요 시간을 기록할 타이머
+	 * @param task BCrypt 연산
+	 * @return 연산 결과
+	 */
+	private <T> T runHashing(Timer timer, Callable<T> task) {
+		long start = System.nanoTime();
+		Future<T> future;
+		try {
+			future = hashExecutor.submit(task);
+		} catch (RejectedExecutionException e) {
+			rejected.increment();
+			log.warn("비밀번호 해싱 대기열 초과: queue={}", hashExecutor.getQueue().size());
+			throw new PasswordHashingBusyException();
+		}
+
+		try {
+			return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			future.cancel(true);
+			rejected.increment();
+			log.warn("비밀번호 해싱 대기 시간 초과: {}ms", timeoutMillis);
+			throw new PasswordHashingBusyException();
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new PasswordHashingBusyException();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException runtime) {
+				throw runtime;
+			}
+			throw new IllegalStateException(cause);
+		} finally {
+			timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
 }
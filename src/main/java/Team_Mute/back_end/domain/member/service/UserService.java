@@ -2,10 +2,10 @@ package Team_Mute.back_end.domain.member.service;
 
 import java.security.SecureRandom;
 import java.time.LocalDateTime;
-import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,10 +23,11 @@ import Team_Mute.back_end.domain.member.exception.InvalidPasswordException;
 import Team_Mute.back_end.domain.member.exception.UserNotFoundException;
 import Team_Mute.back_end.domain.member.exception.UserRegistrationException;
 import Team_Mute.back_end.domain.member.repository.AdminRegionRepository;
-import Team_Mute.back_end.domain.member.repository.UserCompanyRepository;
 import Team_Mute.back_end.domain.member.repository.UserRepository;
 import Team_Mute.back_end.domain.member.repository.UserRoleRepository;
 import Team_Mute.back_end.domain.member.session.SessionStore;
+import Team_Mute.back_end.domain.member.session.TokenVersionCache;
+import Team_Mute.back_end.domain.member.session.TokenVersionCache.PrincipalType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -64,9 +65,10 @@ import lombok.extern.slf4j.Slf4j;
 public class UserService {
 
 	private final UserRepository userRepository;
-	private final UserCompanyRepository userCompanyRepository;
+	private final CompanyResolver companyResolver;
 	private final PasswordService passwordService;
 	private final SessionStore sessionStore;
+	private final TokenVersionCache tokenVersionCache;
 	private final EmailService emailService;
 	private final AdminRegionRepository adminRegionRepository;
 	private final UserRoleRepository userRoleRepository;
@@ -115,7 +117,7 @@ public class UserService {
 
 			// 3. 소속 기업 조회 또는 생성
 			// - 기업명으로 기존 기업 검색
-			// - 존재하지 않으면 새로운 기업 생성 (자동 증가 ID 할당)
+			// - 존재하지 않으면 새로운 기업 생성 (시퀀스 ID 할당)
 			UserCompany userCompany = getOrCreateCompany(requestDto.getCompanyName());
 
 			// 4. 사용자 역할 조회 또는 생성
@@ -163,54 +165,20 @@ public class UserService {
 
 	/**
 	 * 기업 정보 조회 또는 생성
-	 * - 기업명으로 기존 기업 조회
-	 * - 존재하지 않으면 새로운 기업 생성
+	 * - CompanyResolver로 기업명 → 기업 ID 변환 (로컬 캐시, 없으면 단일 upsert)
+	 * - 존재하지 않으면 시퀀스 ID로 새로운 기업 생성
 	 * - 회원가입 시 소속 기업 설정에 사용
-	 * - 중복 기업 생성 방지
+	 * - 기업명 유니크 인덱스로 중복 기업 생성 방지 (동시 가입 시에도 같은 ID 반환)
 	 *
 	 * @param companyName 조회 또는 생성할 기업명
 	 * @return UserCompany 엔티티 (기존 또는 새로 생성된)
 	 * @throws UserRegistrationException 기업 생성 실패 시
 	 */
 	private UserCompany getOrCreateCompany(String companyName) {
-		return userCompanyRepository.findByCompanyName(companyName)
-			.orElseGet(() -> createNewCompany(companyName));
-	}
-
-	/**
-	 * 새로운 기업 생성
-	 * - 최대 Company ID 조회 후 +1하여 새 ID 할당
-	 * - 기업명과 등록 일시 설정
-	 * - 데이터베이스에 저장
-	 *
-	 * Company ID 생성 로직:
-	 * - findMaxCompanyId()로 현재 최대값 조회
-	 * - 데이터가 없으면 0 반환 (초기 상태)
-	 * - 최대값 + 1을 새 Company ID로 사용
-	 *
-	 * @param companyName 생성할 기업명
-	 * @return 저장된 UserCompany 엔티티
-	 * @throws UserRegistrationException 기업 생성 중 오류 발생 시
-	 */
-	private UserCompany createNewCompany(String companyName) {
 		try {
-			// 1. 최대 Company ID 조회 (데이터가 없으면 0)
-			Integer maxCompanyId = userCompanyRepository.findMaxCompanyId().orElse(0);
-
-			// 2. 새로운 기업 엔티티 생성
-			UserCompany newCompany = UserCompany.builder()
-				.companyId(maxCompanyId + 1)      // 최대값 + 1
-				.companyName(companyName)
-				.regDate(LocalDateTime.now())
-				.build();
-
-			// 3. 데이터베이스에 저장
-			UserCompany savedCompany = userCompanyRepository.save(newCompany);
-
-			log.info("New company created: {}", companyName);
-			return savedCompany;
-		} catch (Exception e) {
-			log.error("Failed to create new company: {}", companyName, e);
+			return companyResolver.resolve(companyName);
+		} catch (DataAccessException e) {
+			log.error("Failed to resolve company: {}", companyName, e);
 			throw new UserRegistrationException("회사 정보 처리 중 오류가 발생했습니다.");
 		}
 	}
@@ -311,11 +279,8 @@ public class UserService {
 	 * - 데이터베이스에서 사용자 정보 삭제
 	 *
 	 * 처리 흐름:
-	 * 1. Redis에서 해당 사용자의 모든 세션 ID 조회
-	 * 2. 각 세션의 Refresh Token JTI 조회
-	 * 3. Refresh Token을 블랙리스트에 등록 (7일간 유지)
-	 * 4. Redis에서 세션 정보 삭제
-	 * 5. 데이터베이스에서 사용자 엔티티 삭제
+	 * 1. SessionStore.revokeAllSessions()로 모든 세션의 Refresh Token 폐기 및 세션 삭제 (단일 왕복)
+	 * 2. 데이터베이스에서 사용자 엔티티 삭제
 	 *
 	 * 보안 고려사항:
 	 * - 탈퇴 즉시 모든 기기에서 로그아웃 처리
@@ -331,29 +296,14 @@ public class UserService {
 	 * @throws UserNotFoundException 사용자를 찾을 수 없는 경우
 	 */
 	public void deleteUser(Long userId) {
-		// 1. Redis에서 해당 사용자의 모든 세션 ID 조회
-		Set<String> sessionIds = sessionStore.getUserSids(userId.toString());
-
-		// 2. 세션이 존재하는 경우 처리
-		if (sessionIds != null && !sessionIds.isEmpty()) {
-			for (String sid : sessionIds) {
-				// 3. 각 세션의 Refresh Token JTI 조회
-				String rtJti = sessionStore.getCurrentRtJti(sid);
-				if (rtJti != null) {
-					// 4. Refresh Token을 블랙리스트에 등록 (7일간 유지)
-					sessionStore.revokeRt(rtJti, java.time.Duration.ofDays(7));
-				}
-				// 5. Redis에서 세션 삭제
-				sessionStore.deleteSession(sid, userId.toString());
-			}
-			log.info("Redis 세션 삭제 완료: userId={}", userId);
-		}
+		// 1. Redis에서 해당 사용자의 모든 세션 폐기 (Refresh Token 폐기 + 세션 삭제, 커밋 후 단일 왕복)
+		sessionStore.revokeAllSessions(PrincipalType.USER, userId.toString());
 
-		// 6. 데이터베이스에서 사용자 조회
+		// 2. 데이터베이스에서 사용자 조회
 		User user = userRepository.findById(userId)
 			.orElseThrow(UserNotFoundException::new);
 
-		// 7. 데이터베이스에서 사용자 삭제
+		// 3. 데이터베이스에서 사용자 삭제
 		userRepository.delete(user);
 		log.info("DB 회원 정보 삭제 완료: userId={}", userId);
 	}
@@ -368,6 +318,7 @@ public class UserService {
 	 * 보안 고려사항:
 	 * - 기존 비밀번호 일치 여부 확인 (본인 확인)
 	 * - Token Version 증가로 비밀번호 변경 전 발급된 모든 토큰 무효화
+	 * - 모든 세션 폐기로 Refresh Token 재발급 차단
 	 * - 비밀번호 변경 후 재로그인 필요
 	 *
 	 * @param userId 비밀번호를 변경할 사용자 ID
@@ -396,6 +347,8 @@ public class UserService {
 
 		// 5. Token Version 증가 (기존 JWT 토큰 무효화)
 		user.setTokenVer(user.getTokenVer() + 1);
+		tokenVersionCache.update(PrincipalType.USER, user.getUserId(), user.getTokenVer());
+		sessionStore.revokeAllSessions(PrincipalType.USER, user.getUserId().toString());
 	}
 
 	/**
@@ -414,7 +367,7 @@ public class UserService {
 
 	/**
 	 * Token Version 조회
-	 * - 읽기 전용 트랜잭션으로 성능 최적화
+	 * - TokenVersionCache를 통해 조회하여 대부분 DB 접근 없이 응답
 	 * - JWT Refresh Token 재발급 시 Token Version 검증에 사용
 	 * - AuthService의 refresh 메서드에서 호출
 	 *
@@ -424,8 +377,12 @@ public class UserService {
 	 */
 	@Transactional(readOnly = true)
 	public Integer getTokenVer(Long userId) {
-		return userRepository.findTokenVerByUserId(userId)
-			.orElseThrow(() -> new IllegalArgumentException("user not found: " + userId));
+		// TokenVersionCache 경유 (메모리 → Redis → DB 순서로 조회)
+		Integer tokenVer = tokenVersionCache.get(PrincipalType.USER, userId);
+		if (tokenVer == null) {
+			throw new IllegalArgumentException("user not found: " + userId);
+		}
+		return tokenVer;
 	}
 
 	/**
@@ -466,6 +423,8 @@ public class UserService {
 
 		// 5. Token Version 증가 (기존 JWT 토큰 무효화)
 		user.setTokenVer(user.getTokenVer() + 1);
+		tokenVersionCache.update(PrincipalType.USER, user.getUserId(), user.getTokenVer());
+		sessionStore.revokeAllSessions(PrincipalType.USER, user.getUserId().toString());
 	}
 
 	/**
@@ -0,0 +1,44 @@
+package Team_Mute.back_end.domain.member.session;
+
+import Team_Mute.back_end.domain.member.entity.Admin;
+import Team_Mute.back_end.global.constants.AdminRoleEnum;
+
+/**
+ * 관리자 권한 범위
+ * - 권한 판단에 필요한 역할 ID와 담당 지역 ID만 보관하는 불변 값
+ * - CurrentPrincipal이 JWT 클레임(또는 DB)에서 구성
+ *
+ * @param adminId 관리자 ID
+ * @param roleId 역할 ID (0: 마스터, 1: 2차 승인자, 2: 1차 승인자)
+ * @param regionId 담당 지역 ID (담당 지역이 없으면 null)
+ * @author Team Mute
+ * @since 1.0
+ */
+public record AdminScope(Long adminId, Integer roleId, Integer regionId) {
+
+	/**
+	 * 관리자 엔티티로부터 생성
+	 * - userRole, adminRegion 연관이 로드되어 있어야 함
+	 *
+	 * @param admin 관리자 엔티티
+	 * @return 관리자 권한 범위
+	 */
+	public static AdminScope of(Admin admin) {
+		return new AdminScope(
+			admin.getAdminId(),
+			admin.getUserRole().getRoleId(),
+			admin.getAdminRegion() != null ? admin.getAdminRegion().getRegionId() : null);
+	}
+
+	public boolean isMaster() {
+		return AdminRoleEnum.ROLE_MASTER.getId().equals(roleId);
+	}
+
+	public boolean isSecondApprover() {
+		return AdminRoleEnum.ROLE_SECOND_APPROVER.getId().equals(roleId);
+	}
+
+	public boolean isFirstApprover() {
+		return AdminRoleEnum.ROLE_FIRST_APPROVER.getId().equals(roleId);
+	}
+}
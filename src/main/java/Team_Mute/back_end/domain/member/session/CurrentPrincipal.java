@@ -0,0 +1,162 @@
+package Team_Mute.back_end.domain.member.session;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import Team_Mute.back_end.domain.member.exception.UserNotFoundException;
+import Team_Mute.back_end.domain.member.repository.AdminRepository;
+import Team_Mute.back_end.domain.member.repository.UserRepository;
+
+/**
+ * 현재 요청의 인증 주체
+ * - 요청 단위(Request Scope)로 관리자/사용자 권한 범위를 한 번만 구성하여 재사용
+ * - 서비스가 권한 판단(역할, 담당 지역)을 위해 매번 엔티티와 LAZY 연관을 조회하던 부분을 대체
+ *
+ * 구성 방식:
+ * 1. SecurityContext의 인증 주체가 요청한 ID와 같으면 JWT 클레임(roleId/regionId, roles/cid)으로 구성
+ *    - JwtAuthFilter가 매 요청마다 Token Version을 TokenVersionCache로 검증하므로,
+ *      역할/담당 지역 변경(tokenVer 증가) 이후의 토큰은 이 단계에 도달하지 않음
+ * 2. 그 외(다른 주체, 클레임 누락)에는 DB에서 조회 (요청 내 재사용)
+ *
+ * 주의:
+ * - 엔티티를 변경하거나 엔티티 필드가 필요한 경우에만 Repository로 엔티티 조회
+ * - 요청 스레드에서만 사용 가능 (비동기 작업에는 AdminScope/UserScope 값을 넘길 것)
+ *
+ * @author Team Mute
+ * @since 1.0
+ */
+@Component
+@RequestScope
+public class CurrentPrincipal {
+
+	private static final String ROLE_PREFIX = "ROLE_";
+
+	private final AdminRepository adminRepository;
+	private final UserRepository userRepository;
+
+	private final Map<Long, AdminScope> admins = new HashMap<>();
+	private final Map<Long, UserScope> users = new HashMap<>();
+
+	public CurrentPrincipal(AdminRepository adminRepository, UserRepository userRepository) {
+		this.adminRepository = adminRepository;
+		this.userRepository = userRepository;
+	}
+
+	/**
+	 * 관리자 권한 범위 조회
+	 *
+	 * @param adminId 관리자 ID
+	 * @return 관리자 권한 범위
+	 * @throws UserNotFoundException 관리자를 찾을 수 없는 경우
+	 */
+	public AdminScope admin(Long adminId) {
+		return admins.computeIfAbsent(adminId, id -> {
+			AdminScope fromToken = adminFromToken(id);
+			if (fromToken != null) {
+				return fromToken;
+			}
+			return adminRepository.findAdminWithRoleAndRegion(id)
+				.map(AdminScope::of)
+				.orElseThrow(UserNotFoundException::new);
+		});
+	}
+
+	/**
+	 * 사용자 권한 범위 조회
+	 *
+	 * @param userId 사용자 ID
+	 * @return 사용자 권한 범위
+	 * @throws UserNotFoundException 사용자를 찾을 수 없는 경우
+	 */
+	public UserScope user(Long userId) {
+		return users.computeIfAbsent(userId, id -> {
+			UserScope fromToken = userFromToken(id);
+			if (fromToken != null) {
+				return fromToken;
+			}
+			return userRepository.findById(id)
+				.map(UserScope::of)
+				.orElseThrow(UserNotFoundException::new);
+		});
+	}
+
+	/**
+	 * 관리자 토큰 클레임으로 구성
+	 * - Details: {sid, ver, regionId} (regionId -1은 담당 지역 없음)
+	 */
+	private AdminScope adminFromToken(Long adminId) {
+		Map<?, ?> details = detailsOf(adminId);
+		if (details == null || !details.containsKey("regionId")) {
+			return null;
+		}
+		Integer roleId = roleIdOf(SecurityContextHolder.getContext().getAuthentication());
+		if (roleId == null) {
+			return null;
+		}
+		Integer regionId = toInteger(details.get("regionId"));
+		return new AdminScope(adminId, roleId, regionId == null || regionId < 0 ? null : regionId);
+	}
+
+	/**
+	 * 사용자 토큰 클레임으로 구성
+	 * - Details: {cid, sid, ver}
+	 */
+	private UserScope userFromToken(Long userId) {
+		Map<?, ?> details = detailsOf(userId);
+		if (details == null || !details.containsKey("cid")) {
+			return null;
+		}
+		Integer roleId = roleIdOf(SecurityContextHolder.getContext().getAuthentication());
+		if (roleId == null) {
+			return null;
+		}
+		return new UserScope(userId, roleId, toInteger(details.get("cid")));
+	}
+
+	/**
+	 * 인증 주체가 요청한 ID와 같을 때의 Details
+	 */
+	private Map<?, ?> detailsOf(Long id) {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication == null
+			|| !(authentication.getPrincipal() instanceof String principal)
+			|| !principal.equals(String.valueOf(id))
+			|| !(authentication.getDetails() instanceof Map<?, ?> details)) {
+			return null;
+		}
+		return details;
+	}
+
+	/**
+	 * ROLE_{roleId} 권한에서 역할 ID 추출
+	 */
+	private Integer roleIdOf(Authentication authentication) {
+		for (GrantedAuthority authority : authentication.getAuthorities()) {
+			String name = authority.getAuthority();
+			if (name != null && name.startsWith(ROLE_PREFIX)) {
+				try {
+					return Integer.valueOf(name.substring(ROLE_PREFIX.length()));
+				} catch (NumberFormatException ignored) {
+					// 숫자가 아닌 권한은 무시
+				}
+			}
+		}
+		return null;
+	}
+
+	private Integer toInteger(Object value) {
+		if (value instanceof Number number) {
+			return number.intValue();
+		}
+		if (value instanceof String text && !text.isBlank()) {
+			return Integer.valueOf(text.trim());
+		}
+		return null;
+	}
+}
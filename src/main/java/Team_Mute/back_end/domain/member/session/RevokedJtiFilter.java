@@ -0,0 +1,372 @@
+package Team_Mute.back_end.domain.member.session;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 블랙리스트 Access Token JTI 로컬 Bloom Filter
+ * - 블랙리스트에 등록된 Access Token JTI를 프로세스 메모리에 비트 배열로 보관
+ * - 대부분의 토큰은 블랙리스트에 없으므로 "확실히 없음" 판정 시 Redis 조회 생략
+ * - "있을 수도 있음" 판정 시에만 Redis로 실제 여부 확인 (오탐은 Redis가 걸러냄)
+ * - Refresh Token 폐기 여부는 재발급 시에만 확인하므로 필터에 넣지 않고 Redis로 직접 확인
+ *   (매 요청 경로가 아니며, 폐기 RT는 수명이 길어 필터 적재량만 늘림)
+ *
+ * 크기 및 교체:
+ * - 블랙리스트 키는 Access Token의 남은 만료 시간만 유지되므로 Access Token TTL 단위 구간으로 필터를 교체
+ * - 현재 구간(current)과 직전 구간(previous) 두 개를 유지하고 조회 시 둘 다 확인
+ * - 구간이 끝나면 current를 previous로 내리고 새 비트 배열로 교체 (등록 후 최소 TTL 동안 보존)
+ * - 비트 배열은 구간당 예상 등록 수(session.revoked-filter.expected-insertions)와 목표 오탐률로 크기 결정
+ *
+ * 동기화:
+ * - blacklistAccessJti() 호출 시 로컬에 즉시 추가하고 revoked-jti 채널로 "{nodeId}:{jti}" 발행
+ * - 다른 노드는 채널을 구독하여 자신의 필터에 추가 (자기 노드가 발행한 메시지는 무시)
+ * - 애플리케이션 기동 시, 그리고 메시지 유실에 대비해 주기적으로(session.revoked-filter.resync-interval-ms)
+ *   blacklist:* 키를 SCAN하여 재구성
+ *
+ * 안전 장치:
+ * - 최초 재구성이 완료되기 전에는 항상 "있을 수도 있음"을 반환하여 Redis로 확인
+ *
+ * 메트릭:
+ * - auth.revoked_filter.checks : 필터 조회 횟수
+ * - auth.revoked_filter.possible_hits : Redis 확인이 필요했던 횟수
+ * - auth.revoked_filter.false_positives : Redis 확인 결과 실제로는 블랙리스트에 없었던 횟수
+ * - auth.revoked_filter.expected_fpp : 현재 적재량 기준 이론적 오탐률 (두 구간 중 하나라도 오탐일 확률)
+ * - auth.revoked_filter.insertions : 두 구간에 적재된 JTI 수
+ *
+ * @author Team Mute
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class RevokedJtiFilter implements MessageListener {
+
+	/**
+	 * 블랙리스트 JTI를 노드 간 전파하는 Redis Pub/Sub 채널명
+	 */
+	public static final String CHANNEL = "revoked-jti";
+
+	private static final String BLACKLIST_PREFIX = "blacklist:";
+
+	/**
+	 * 자기 노드가 발행한 메시지를 구분하기 위한 노드 식별자
+	 */
+	private final String nodeId = UUID.randomUUID().toString();
+
+	private final StringRedisTemplate redis;
+	private final int expectedInsertions;
+	private final double targetFpp;
+	private final long windowMillis;
+
+	/**
+	 * 현재 구간 비트 배열 (새 JTI 추가 대상)
+	 */
+	private volatile BloomBits current;
+
+	/**
+	 * 직전 구간 비트 배열 (조회만 수행)
+	 */
+	private volatile BloomBits previous;
+
+	/**
+	 * 현재 구간 종료 시각 (epoch millis)
+	 */
+	private volatile long windowEndsAt;
+
+	/**
+	 * 재구성 중인 비트 배열 (재구성 중 들어온 JTI를 함께 기록)
+	 */
+	private volatile BloomBits building;
+
+	/**
+	 * 최초 재구성 완료 여부
+	 */
+	private volatile boolean ready = false;
+
+	private final Counter checks;
+	private final Counter possibleHits;
+	private final Counter falsePositives;
+
+	public RevokedJtiFilter(
+		StringRedisTemplate redis,
+		MeterRegistry meterRegistry,
+		@Value("${session.revoked-filter.expected-insertions:100000}") int expectedInsertions,
+		@Value("${session.revoked-filter.fpp:0.01}") double targetFpp,
+		@Value("${jwt.access-token.ttl-seconds}") long accessTtlSeconds) {
+		this.redis = redis;
+		this.expectedInsertions = expectedInsertions;
+		this.targetFpp = targetFpp;
+		this.windowMillis = Math.max(1, accessTtlSeconds) * 1000;
+		this.current = new BloomBits(expectedInsertions, targetFpp);
+		this.previous = new BloomBits(expectedInsertions, targetFpp);
+		this.windowEndsAt = System.currentTimeMillis() + windowMillis;
+
+		this.checks = meterRegistry.counter("auth.revoked_filter.checks");
+		this.possibleHits = meterRegistry.counter("auth.revoked_filter.possible_hits");
+		this.falsePositives = meterRegistry.counter("auth.revoked_filter.false_positives");
+		Gauge.builder("auth.revoked_filter.expected_fpp", this, RevokedJtiFilter::expectedFpp)
+			.register(meterRegistry);
+		Gauge.builder("auth.revoked_filter.insertions", this, f -> f.current.insertions() + f.previous.insertions())
+			.register(meterRegistry);
+	}
+
+	/**
+	 * JTI가 블랙리스트에 있을 가능성 확인
+	 * - false: 확실히 블랙리스트에 없음 (Redis 조회 불필요)
+	 * - true: 블랙리스트에 있을 수 있음 (Redis로 확인 필요)
+	 *
+	 * @param jti Access Token의 JWT ID
+	 * @return 블랙리스트 가능성이 있으면 true
+	 */
+	public boolean mightContain(String jti) {
+		checks.increment();
+		rotateIfDue();
+		if (!ready || current.mightContain(jti) || previous.mightContain(jti)) {
+			possibleHits.increment();
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * mightContain()이 true였던 JTI의 Redis 확인 결과 기록
+	 * - 실제로 블랙리스트에 없는 경우 오탐(false positive)으로 집계
+	 *
+	 * @param revoked Redis 확인 결과 실제 블랙리스트 여부
+	 */
+	public void recordLookup(boolean revoked) {
+		if (ready && !revoked) {
+			falsePositives.increment();
+		}
+	}
+
+	/**
+	 * 로컬 필터에 JTI 추가
+	 *
+	 * @param jti 블랙리스트에 등록된 Access Token JWT ID
+	 */
+	public void add(String jti) {
+		rotateIfDue();
+		current.add(jti);
+		BloomBits next = building;
+		if (next != null) {
+			next.add(jti);
+		}
+	}
+
+	/**
+	 * 로컬 필터에 추가하고 다른 노드에 전파
+	 *
+	 * @param jti 블랙리스트에 등록된 Access Token JWT ID
+	 */
+	public void addAndPublish(String jti) {
+		add(jti);
+		redis.convertAndSend(CHANNEL, nodeId + ":" + jti);
+	}
+
+	/**
+	 * 기동 완료 시 Redis에서 필터 재구성
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		rebuild();
+	}
+
+	/**
+	 * 주기적 재구성
+	 * - Pub/Sub 메시지 유실(재연결 등)로 빠진 JTI를 Redis 기준으로 복구
+	 * - 재구성 결과를 새 구간의 current로 사용하고 previous는 비움 (살아 있는 키는 모두 current에 포함)
+	 */
+	@Scheduled(
+		initialDelayString = "${session.revoked-filter.resync-interval-ms:60000}",
+		fixedDelayString = "${session.revoked-filter.resync-interval-ms:60000}")
+	public void rebuild() {
+		BloomBits next = new BloomBits(expectedInsertions, targetFpp);
+		building = next;
+		try {
+			int count = scanInto(next, BLACKLIST_PREFIX);
+			synchronized (this) {
+				previous = new BloomBits(expectedInsertions, targetFpp);
+				current = next;
+				windowEndsAt = System.currentTimeMillis() + windowMillis;
+			}
+			ready = true;
+			log.debug("블랙리스트 JTI Bloom Filter 재구성 완료: {}건", count);
+		} catch (Exception e) {
+			log.error("블랙리스트 JTI Bloom Filter 재구성 실패: {}", e.getMessage());
+		} finally {
+			building = null;
+		}
+	}
+
+	/**
+	 * 구간이 끝났으면 current를 previous로 내리고 새 비트 배열로 교체
+	 * - 두 구간 이상 지났으면 둘 다 비움
+	 */
+	private void rotateIfDue() {
+		long now = System.currentTimeMillis();
+		if (now < windowEndsAt) {
+			return;
+		}
+		synchronized (this) {
+			if (now < windowEndsAt) {
+				return;
+			}
+			boolean skippedWindow = now >= windowEndsAt + windowMillis;
+			previous = skippedWindow ? new BloomBits(expectedInsertions, targetFpp) : current;
+			current = new BloomBits(expectedInsertions, targetFpp);
+			windowEndsAt = now + windowMillis;
+		}
+	}
+
+	/**
+	 * 두 구간 중 하나라도 오탐일 이론적 확률
+	 */
+	private double expectedFpp() {
+		return 1 - (1 - current.expectedFpp()) * (1 - previous.expectedFpp());
+	}
+
+	/**
+	 * 접두사에 해당하는 키를 SCAN하여 JTI를 비트 배열에 추가
+	 *
+	 * @param bits 대상 비트 배열
+	 * @param prefix Redis 키 접두사
+	 * @return 추가된 JTI 수
+	 */
+	private int scanInto(BloomBits bits, String prefix) {
+		int count = 0;
+		ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(1000).build();
+		try (Cursor<String> cursor = redis.scan(options)) {
+			while (cursor.hasNext()) {
+				bits.add(cursor.next().substring(prefix.length()));
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * 다른 노드가 발행한 블랙리스트 JTI 수신
+	 * - 본문 형식: "{nodeId}:{jti}" (자기 노드가 발행한 메시지는 이미 로컬에 반영되어 무시)
+	 *
+	 * @param message Redis Pub/Sub 메시지
+	 * @param pattern 구독 패턴 (미사용)
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		int separator = body.indexOf(':');
+		if (separator < 0) {
+			add(body);
+			return;
+		}
+		if (!nodeId.equals(body.substring(0, separator))) {
+			add(body.substring(separator + 1));
+		}
+	}
+
+	/**
+	 * Bloom Filter 비트 배열
+	 * - AtomicLongArray로 락 없이 동시 추가/조회
+	 * - 이중 해싱(h1 + i * h2)으로 k개의 비트 위치 계산
+	 */
+	static final class BloomBits {
+
+		private final AtomicLongArray words;
+		private final long bitSize;
+		private final int hashCount;
+		private final AtomicLong insertions = new AtomicLong();
+
+		BloomBits(int expectedInsertions, double fpp) {
+			int n = Math.max(1, expectedInsertions);
+			long m = (long)Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+			int words = (int)Math.max(1, (m + 63) / 64);
+			this.words = new AtomicLongArray(words);
+			this.bitSize = (long)words * 64;
+			this.hashCount = Math.max(1, (int)Math.round((double)bitSize / n * Math.log(2)));
+		}
+
+		void add(String value) {
+			long h1 = hash(value);
+			long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L);
+			for (int i = 0; i < hashCount; i++) {
+				long bit = Math.floorMod(h1 + i * h2, bitSize);
+				int index = (int)(bit >>> 6);
+				long mask = 1L << bit;
+				long prev;
+				do {
+					prev = words.get(index);
+					if ((prev & mask) != 0) {
+						break;
+					}
+				} while (!words.compareAndSet(index, prev, prev | mask));
+			}
+			insertions.incrementAndGet();
+		}
+
+		boolean mightContain(String value) {
+			long h1 = hash(value);
+			long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L);
+			for (int i = 0; i < hashCount; i++) {
+				long bit = Math.floorMod(h1 + i * h2, bitSize);
+				if ((words.get((int)(bit >>> 6)) & (1L << bit)) == 0) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		long insertions() {
+			return insertions.get();
+		}
+
+		/**
+		 * 현재 적재량 기준 이론적 오탐률: (1 - e^(-kn/m))^k
+		 */
+		double expectedFpp() {
+			double fill = 1 - Math.exp(-(double)hashCount * insertions.get() / bitSize);
+			return Math.pow(fill, hashCount);
+		}
+
+		/**
+		 * FNV-1a 64비트 해시 후 비트 확산
+		 */
+		private static long hash(String value) {
+			long h = 0xcbf29ce484222325L;
+			for (int i = 0; i < value.length(); i++) {
+				h ^= value.charAt(i);
+				h *= 0x100000001b3L;
+			}
+			return mix(h);
+		}
+
+		/**
+		 * MurmurHash3 fmix64
+		 */
+		private static long mix(long h) {
+			h ^= h >>> 33;
+			h *= 0xff51afd7ed558ccdL;
+			h ^= h >>> 33;
+			h *= 0xc4ceb93fe1a85359L;
+			h ^= h >>> 33;
+			return h;
+		}
+	}
+}
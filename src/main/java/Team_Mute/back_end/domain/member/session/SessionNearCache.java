@@ -0,0 +1,193 @@
+package Team_Mute.back_end.domain.member.session;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 세션 검증 결과 로컬 Near-Cache
+ * - SessionStore.validate()의 긍정 결과(블랙리스트 아님 + 세션 존재)를 짧은 TTL 동안 프로세스 메모리에 보관
+ * - 같은 Access Token으로 연속 요청 시 Redis 왕복 없이 인증 처리
+ *
+ * 무효화:
+ * - 세션 삭제, Access Token 블랙리스트 등록 시 SessionStore가 Redis Pub/Sub 채널로 무효화 메시지 발행
+ * - 모든 애플리케이션 노드가 메시지를 구독하여 로컬 항목 제거
+ * - 메시지 유실 시에도 TTL이 지나면 자연 만료되어 다시 Redis로 검증
+ * - 무효화마다 세대(generation)를 올리고, Redis 조회 전 세대가 바뀐 경우 저장하지 않음
+ *   (조회와 저장 사이에 도착한 무효화가 오래된 긍정 결과로 덮이는 것 방지)
+ *
+ * 메시지 형식:
+ * - "sid:{sid}" : 해당 세션의 모든 캐시 항목 제거
+ * - "jti:{jti}" : 해당 Access Token 캐시 항목 제거
+ *
+ * @author Team Mute
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class SessionNearCache implements MessageListener {
+
+	/**
+	 * 세션 무효화 메시지를 주고받는 Redis Pub/Sub 채널명
+	 */
+	public static final String CHANNEL = "session-invalidation";
+
+	private static final String SID_PREFIX = "sid:";
+	private static final String JTI_PREFIX = "jti:";
+
+	/**
+	 * Access Token JTI → 캐시 항목
+	 */
+	private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+	/**
+	 * 무효화 세대 (무효화 처리마다 증가)
+	 */
+	private final AtomicLong generation = new AtomicLong();
+
+	private final long ttlMillis;
+	private final int maxSize;
+
+	public SessionNearCache(
+		@Value("${session.near-cache.ttl-millis:5000}") long ttlMillis,
+		@Value("${session.near-cache.max-size:10000}") int maxSize) {
+		this.ttlMillis = ttlMillis;
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * 캐시된 긍정 결과 확인
+	 * - JTI에 해당하는 항목이 있고, 같은 세션이며, 만료되지 않았으면 true
+	 * - 만료된 항목은 조회 시점에 제거
+	 *
+	 * @param jti Access Token의 JWT ID
+	 * @param sid 세션 ID
+	 * @return 캐시에 유효한 긍정 결과가 있으면 true
+	 */
+	public boolean isValid(String jti, String sid) {
+		if (jti == null) {
+			return false;
+		}
+		Entry entry = entries.get(jti);
+		if (entry == null) {
+			return false;
+		}
+		if (entry.expiresAt() < System.currentTimeMillis() || !entry.sid().equals(sid)) {
+			entries.remove(jti, entry);
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * 현재 무효화 세대 조회
+	 * - Redis 조회 전에 읽어 두었다가 put()에 전달
+	 *
+	 * @return 현재 세대
+	 */
+	public long generation() {
+		return generation.get();
+	}
+
+	/**
+	 * 긍정 결과 저장
+	 * - Redis 조회 이후 무효화가 처리되었으면(세대 변경) 저장하지 않음
+	 * - 저장 직후 세대가 바뀌었으면 방금 저장한 항목을 되돌림 (확인과 저장 사이의 무효화 대비)
+	 * - 최대 크기 도달 시 만료 항목을 먼저 정리하고, 그래도 가득 차면 전체 비움
+	 *
+	 * @param jti Access Token의 JWT ID
+	 * @param sid 세션 ID
+	 * @param observedGeneration Redis 조회 전에 읽은 세대
+	 */
+	public void put(String jti, String sid, long observedGeneration) {
+		if (jti == null || ttlMillis <= 0 || generation.get() != observedGeneration) {
+			return;
+		}
+		long now = System.currentTimeMillis();
+		if (entries.size() >= maxSize) {
+			entries.values().removeIf(e -> e.expiresAt() < now);
+			if (entries.size() >= maxSize) {
+				entries.clear();
+			}
+		}
+		Entry entry = new Entry(sid, now + ttlMillis);
+		entries.put(jti, entry);
+		if (generation.get() != observedGeneration) {
+			entries.remove(jti, entry);
+		}
+	}
+
+	/**
+	 * 세션에 속한 모든 캐시 항목 제거
+	 *
+	 * @param sid 세션 ID
+	 */
+	public void invalidateSid(String sid) {
+		generation.incrementAndGet();
+		entries.values().removeIf(e -> e.sid().equals(sid));
+	}
+
+	/**
+	 * Access Token 캐시 항목 제거
+	 *
+	 * @param jti Access Token의 JWT ID
+	 */
+	public void invalidateJti(String jti) {
+		generation.incrementAndGet();
+		entries.remove(jti);
+	}
+
+	/**
+	 * 세션 무효화 메시지 생성
+	 *
+	 * @param sid 세션 ID
+	 * @return Pub/Sub 메시지 본문
+	 */
+	public static String sidMessage(String sid) {
+		return SID_PREFIX + sid;
+	}
+
+	/**
+	 * Access Token 무효화 메시지 생성
+	 *
+	 * @param jti Access Token의 JWT ID
+	 * @return Pub/Sub 메시지 본문
+	 */
+	public static String jtiMessage(String jti) {
+		return JTI_PREFIX + jti;
+	}
+
+	/**
+	 * 다른 노드(또는 자기 자신)가 발행한 무효화 메시지 처리
+	 *
+	 * @param message Redis Pub/Sub 메시지
+	 * @param pattern 구독 패턴 (미사용)
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		if (body.startsWith(SID_PREFIX)) {
+			invalidateSid(body.substring(SID_PREFIX.length()));
+		} else if (body.startsWith(JTI_PREFIX)) {
+			invalidateJti(body.substring(JTI_PREFIX.length()));
+		} else {
+			log.warn("알 수 없는 세션 무효화 메시지입니다: {}", body);
+		}
+	}
+
+	/**
+	 * 캐시 항목
+	 *
+	 * @param sid 토큰이 속한 세션 ID
+	 * @param expiresAt 만료 시각 (epoch millis)
+	 */
+	private record Entry(String sid, long expiresAt) {
+	}
+}
@@ -1,25 +1,41 @@
 package Team_Mute.back_end.domain.member.session;
 
 import java.time.Duration;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import Team_Mute.back_end.domain.member.session.TokenVersionCache.PrincipalType;
+import Team_Mute.back_end.global.util.RedisScripts;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * Redis 기반 세션 및 토큰 관리 저장소 서비스 클래스
  * StringRedisTemplate을 사용하여 JWT 인증 시스템의 세션, 블랙리스트, 토큰 상태 관리
  *
  * 주요 기능:
- * - 사용자 세션 정보 저장 및 조회 (Redis String)
- * - 사용자별 세션 ID 집합 관리 (Redis Set)
+ * - 사용자 세션 정보 저장 및 조회 (Redis Hash)
+ * - 사용자별 세션 ID 관리 (Redis Sorted Set, 만료 시각을 score로 사용하여 저장 시 정리)
+ * - 사용자의 모든 세션 일괄 폐기 (Lua 스크립트 단일 왕복, 트랜잭션 커밋 후 실행)
  * - Access Token JTI 블랙리스트 관리 (로그아웃 시)
  * - Refresh Token JTI 폐기 목록 관리 (RTR 전략)
  * - 현재 유효한 Refresh Token JTI 추적 (Stale Token 방지)
+ * - 블랙리스트 + 세션 존재 여부 단일 왕복 검증 (Lua 스크립트 + 로컬 Near-Cache)
+ * - 블랙리스트 JTI 로컬 Bloom Filter로 블랙리스트에 없는 토큰의 Redis 조회 생략
  *
  * Redis Key 구조:
- * - session:{sid} : 세션 정보 (JSON 문자열)
- * - user-sessions:{userId} : 사용자의 세션 ID 집합 (Set)
+ * - session:{sid} : 세션 정보 (Hash: userId, cid, device, ip, loginAt 등)
+ * - user-sessions:{user|admin}:{id} : 사용자/관리자의 세션 ID (Sorted Set, score = 세션 만료 시각 epoch millis)
+ *   (사용자와 관리자는 ID 공간이 분리되어 있으므로 키에 구분 포함)
+ * - user-sessions:{id} : 이전 형식 세션 ID 집합 (Set, 전체 세션 폐기 시에만 조회, Refresh Token TTL 이후 소멸)
  * - blacklist:{jti} : Access Token 블랙리스트 (로그아웃 시)
  * - revoked-rt:{jti} : 폐기된 Refresh Token 목록 (RTR)
  * - current-rt-jti:{sid} : 세션의 현재 유효한 Refresh Token JTI
@@ -27,19 +43,99 @@ import org.springframework.stereotype.Service;
  * TTL(Time To Live) 관리:
  * - 모든 키는 적절한 TTL을 설정하여 메모리 효율성 확보
  * - 세션: Refresh Token 만료 시간과 동일
+ * - 사용자 세션 목록: 세션 저장 시 만료된 sid를 ZREMRANGEBYSCORE로 제거하여 무한 증가 방지
  * - 블랙리스트: Access Token의 남은 만료 시간
  * - 폐기 목록: Refresh Token의 남은 만료 시간
  *
  * @author Team Mute
  * @since 1.0
  */
+@Slf4j
 @Service
 public class SessionStore {
 
+	/**
+	 * 블랙리스트 확인과 세션 존재 확인을 한 번의 왕복으로 수행하는 Lua 스크립트
+	 * - KEYS가 2개면 KEYS[1]은 blacklist:{jti}, KEYS[2]는 session:{sid}
+	 * - KEYS가 1개면 session:{sid}만 확인 (JTI가 없는 토큰)
+	 * - 반환값: 0(정상), 1(블랙리스트), 2(세션 없음)
+	 */
+	private static final RedisScript<Long> VALIDATE_SCRIPT = new DefaultRedisScript<>(
+		"if #KEYS == 2 and redis.call('EXISTS', KEYS[1]) == 1 then return 1 end "
+			+ "if redis.call('EXISTS', KEYS[#KEYS]) == 0 then return 2 end "
+			+ "return 0",
+		Long.class);
+
+	/**
+	 * 세션 저장 Lua 스크립트
+	 * - KEYS[1]: session:{sid}, KEYS[2]: user-sessions:{user|admin}:{id}
+	 * - ARGV[1]: sid, ARGV[2]: TTL(초), ARGV[3]: 현재 시각(ms), ARGV[4]: 만료 시각(ms), ARGV[5..]: Hash 필드/값
+	 * - 만료된 sid 제거 후 새 sid 추가
+	 */
+	private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>(
+		"redis.call('DEL', KEYS[1]) "
+			+ "redis.call('HSET', KEYS[1], unpack(ARGV, 5)) "
+			+ "redis.call('EXPIRE', KEYS[1], ARGV[2]) "
+			+ "redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', ARGV[3]) "
+			+ "redis.call('ZADD', KEYS[2], ARGV[4], ARGV[1]) "
+			+ "redis.call('EXPIRE', KEYS[2], ARGV[2]) "
+			+ "return 1",
+		Long.class);
+
+	/**
+	 * 세션 삭제 Lua 스크립트
+	 * - KEYS[1]: session:{sid}, KEYS[2]: user-sessions:{user|admin}:{id}, ARGV[1]: sid
+	 */
+	private static final RedisScript<Long> DELETE_SCRIPT = new DefaultRedisScript<>(
+		"redis.call('DEL', KEYS[1]) "
+			+ "redis.call('ZREM', KEYS[2], ARGV[1]) "
+			+ "return 1",
+		Long.class);
+
+	/**
+	 * 사용자 전체 세션 폐기 Lua 스크립트
+	 * - KEYS[1]: user-sessions:{user|admin}:{id}, KEYS[2]: 이전 형식 세션 목록 user-sessions:{id} (Set)
+	 * - ARGV[1]: 폐기 Refresh Token TTL(초), ARGV[2]: 이전 형식 세션 JSON에서 주체 구분 필드 (사용자 cid, 관리자 roleId)
+	 * - 이전 형식 목록은 사용자/관리자가 같은 ID를 공유하므로, 세션 JSON의 구분 필드가 일치하는 sid만 폐기하고 목록에서 제거
+	 *   (이미 만료/삭제된 sid는 목록에서만 제거)
+	 * - 각 sid의 현재 Refresh Token JTI를 revoked-rt에 등록하고 session, current-rt-jti 키 삭제
+	 * - 반환값: "s:{sid}" 형식의 목록 (로컬 Near-Cache 무효화에 사용)
+	 * - 세션 관련 키를 스크립트 내부에서 조합하므로 단일 Redis 인스턴스(비클러스터) 기준
+	 */
+	private static final RedisScript<List<Object>> REVOKE_ALL_SCRIPT = RedisScripts.listScript(
+		"local sids = redis.call('ZRANGE', KEYS[1], 0, -1) "
+			+ "for _, sid in ipairs(redis.call('SMEMBERS', KEYS[2])) do "
+			+ "local kind = redis.call('TYPE', 'session:' .. sid).ok "
+			+ "if kind == 'none' then redis.call('SREM', KEYS[2], sid) "
+			+ "elseif kind == 'string' then "
+			+ "local ok, s = pcall(cjson.decode, redis.call('GET', 'session:' .. sid)) "
+			+ "if ok and type(s) == 'table' and s[ARGV[2]] ~= nil then "
+			+ "table.insert(sids, sid) "
+			+ "redis.call('SREM', KEYS[2], sid) "
+			+ "end "
+			+ "end "
+			+ "end "
+			+ "local out = {} "
+			+ "for _, sid in ipairs(sids) do "
+			+ "local rt = redis.call('GET', 'current-rt-jti:' .. sid) "
+			+ "if rt then redis.call('SET', 'revoked-rt:' .. rt, '1', 'EX', ARGV[1]) end "
+			+ "redis.call('DEL', 'session:' .. sid, 'current-rt-jti:' .. sid) "
+			+ "table.insert(out, 's:' .. sid) "
+			+ "end "
+			+ "redis.call('DEL', KEYS[1]) "
+			+ "return out");
+
 	private final StringRedisTemplate redis;
+	private final SessionNearCache nearCache;
+	private final RevokedJtiFilter revokedFilter;
+	private final Duration refreshTtl;
 
-	public SessionStore(StringRedisTemplate redis) {
+	public SessionStore(StringRedisTemplate redis, SessionNearCache nearCache, RevokedJtiFilter revokedFilter,
+		@Value("${jwt.refresh-token.ttl-seconds}") long refreshTtlSeconds) {
 		this.redis = redis;
+		this.nearCache = nearCache;
+		this.revokedFilter = revokedFilter;
+		this.refreshTtl = Duration.ofSeconds(refreshTtlSeconds);
 	}
 
 	/**
@@ -56,19 +152,43 @@ public class SessionStore {
 	}
 
 	/**
-	 * 사용자 세션 집합 키 생성
+	 * 사용자 세션 목록 키 생성
 	 * - 한 사용자가 여러 기기에서 로그인한 경우 모든 세션 ID를 추적
-	 * - Redis Set 타입으로 저장
-	 * - 형식: "user-sessions:{userId}"
-	 * - 예: "user-sessions:12345"
+	 * - Redis Sorted Set 타입으로 저장
+	 * - 사용자와 관리자의 ID가 겹쳐도 서로의 세션 목록을 건드리지 않도록 구분 포함
+	 * - 형식: "user-sessions:{user|admin}:{id}"
+	 * - 예: "user-sessions:admin:12345"
+	 *
+	 * @param type 사용자/관리자 구분
+	 * @param userId 사용자 또는 관리자 ID
+	 * @return Redis 키 문자열
+	 */
+	private String kUserSessions(PrincipalType type, String userId) {
+		return "user-sessions:" + type.name().toLowerCase() + ":" + userId;
+	}
+
+	/**
+	 * 이전 형식 사용자 세션 목록 키 생성
+	 * - 사용자/관리자 구분 없이 저장하던 세션 ID 집합 (Set, 세션 정보는 JSON 문자열)
+	 * - 배포 이전에 로그인한 세션도 전체 폐기 대상에 포함하기 위해 조회 (새 세션은 저장하지 않음)
+	 * - Refresh Token TTL이 지나면 모두 만료되므로 그 이후에는 비어 있음
+	 * - 형식: "user-sessions:{id}"
 	 *
-	 * @param userId 사용자 ID
+	 * @param userId 사용자 또는 관리자 ID
 	 * @return Redis 키 문자열
 	 */
-	private String kUserSessions(String userId) {
+	private String kLegacyUserSessions(String userId) {
 		return "user-sessions:" + userId;
 	}
 
+	/**
+	 * 이전 형식 세션 JSON에서 사용자/관리자를 구분하는 필드
+	 * - 사용자 세션에는 cid, 관리자 세션에는 roleId가 저장되어 있었음
+	 */
+	private String legacySessionField(PrincipalType type) {
+		return type == PrincipalType.ADMIN ? "roleId" : "cid";
+	}
+
 	/**
 	 * Access Token 블랙리스트 키 생성
 	 * - 로그아웃 시 Access Token의 JTI를 블랙리스트에 등록
@@ -114,92 +234,138 @@ public class SessionStore {
 
 	/**
 	 * 세션 정보 저장
-	 * - 세션 정보를 JSON 문자열로 Redis에 저장
-	 * - 사용자의 세션 ID 집합에 sid 추가 (Redis Set)
-	 * - TTL 설정으로 자동 만료 처리
+	 * - 세션 정보를 Redis Hash로 저장 (JSON 직렬화 불필요)
+	 * - 사용자의 세션 목록(Sorted Set)에 만료 시각을 score로 sid 추가
+	 * - 만료된 sid는 저장 시점에 정리하여 목록이 무한히 커지지 않도록 유지
+	 * - 모든 처리를 Lua 스크립트 한 번의 왕복으로 수행
 	 *
 	 * 처리 로직:
-	 * 1. session:{sid} 키에 JSON 문자열 저장 (String 타입)
-	 * 2. user-sessions:{userId} Set에 sid 추가 (Set 타입)
-	 * 3. user-sessions:{userId}에 TTL 설정 (세션과 동일한 만료 시간)
+	 * 1. session:{sid} Hash에 세션 필드 저장 및 TTL 설정
+	 * 2. user-sessions:{user|admin}:{id}에서 만료된 sid 제거 (ZREMRANGEBYSCORE)
+	 * 3. user-sessions:{user|admin}:{id}에 sid 추가 (score = 만료 시각)
+	 * 4. user-sessions:{user|admin}:{id}에 TTL 설정 (세션과 동일한 만료 시간)
 	 *
 	 * 사용 예시:
 	 * - AuthService.login(): 로그인 시 세션 생성
 	 * - AdminAuthService.login(): 관리자 로그인 시 세션 생성
 	 *
 	 * @param sid 세션 ID
-	 * @param userId 사용자 ID
-	 * @param json 세션 정보 JSON 문자열 (userId, cid, device, ip, loginAt 등)
+	 * @param type 사용자/관리자 구분
+	 * @param userId 사용자 또는 관리자 ID
+	 * @param fields 세션 정보 (userId, cid, device, ip, loginAt 등)
 	 * @param ttl 세션 만료 시간 (Refresh Token TTL과 동일)
 	 */
-	public void saveSessionJson(String sid, String userId, String json, Duration ttl) {
-		// 1. 세션 정보 저장 (String 타입)
-		redis.opsForValue().set(kSession(sid), json, ttl);
-
-		// 2. 사용자의 세션 ID 집합에 추가 (Set 타입)
-		redis.opsForSet().add(kUserSessions(userId), sid);
-
-		// 3. 세션 집합에 TTL 설정
-		redis.expire(kUserSessions(userId), ttl);
+	public void saveSession(String sid, PrincipalType type, String userId, Map<String, String> fields,
+		Duration ttl) {
+		long now = System.currentTimeMillis();
+		List<String> args = new ArrayList<>();
+		args.add(sid);
+		args.add(String.valueOf(ttl.toSeconds()));
+		args.add(String.valueOf(now));
+		args.add(String.valueOf(now + ttl.toMillis()));
+		fields.forEach((field, value) -> {
+			args.add(field);
+			args.add(value);
+		});
+		redis.execute(SAVE_SCRIPT, List.of(kSession(sid), kUserSessions(type, userId)), args.toArray());
 	}
 
 	/**
-	 * 세션 정보 조회
-	 * - 세션 ID로 Redis에서 세션 정보 조회
-	 * - 세션이 존재하지 않거나 만료된 경우 null 반환
+	 * 세션 존재 여부 확인
+	 * - 세션 내용을 전송하지 않고 EXISTS로 존재 여부만 확인
 	 *
 	 * 사용 예시:
 	 * - AuthService.refresh(): 토큰 재발급 시 세션 유효성 검증
 	 * - AdminAuthService.refresh(): 관리자 토큰 재발급 시 세션 검증
 	 *
 	 * @param sid 세션 ID
-	 * @return 세션 정보 JSON 문자열 (존재하지 않으면 null)
+	 * @return 세션이 존재하면 true
 	 */
-	public String getSessionJson(String sid) {
-		return redis.opsForValue().get(kSession(sid));
+	public boolean hasSession(String sid) {
+		return Boolean.TRUE.equals(redis.hasKey(kSession(sid)));
 	}
 
 	/**
 	 * 세션 삭제
 	 * - Redis에서 세션 정보 삭제
-	 * - 사용자의 세션 ID 집합에서 sid 제거
-	 * - 로그아웃 및 회원 탈퇴 시 사용
+	 * - 사용자의 세션 목록에서 sid 제거
+	 * - 로그아웃 시 사용
 	 *
 	 * 처리 로직:
-	 * 1. session:{sid} 키 삭제
-	 * 2. user-sessions:{userId} Set에서 sid 제거
+	 * 1. session:{sid} 키 삭제 및 user-sessions:{user|admin}:{id}에서 sid 제거 (Lua 스크립트 단일 왕복)
+	 * 2. Near-Cache 무효화 메시지 발행
 	 *
 	 * 사용 예시:
 	 * - AuthService.logout(): 로그아웃 시 세션 삭제
-	 * - UserService.deleteUser(): 회원 탈퇴 시 모든 세션 삭제
-	 * - AdminService.deleteUser(): 관리자 삭제 시 모든 세션 삭제
 	 *
 	 * @param sid 삭제할 세션 ID
-	 * @param userId 사용자 ID
+	 * @param type 사용자/관리자 구분
+	 * @param userId 사용자 또는 관리자 ID
 	 */
-	public void deleteSession(String sid, String userId) {
-		// 1. 세션 정보 삭제
-		redis.delete(kSession(sid));
+	public void deleteSession(String sid, PrincipalType type, String userId) {
+		// 1. 세션 정보 삭제 및 사용자 세션 목록에서 제거
+		redis.execute(DELETE_SCRIPT, List.of(kSession(sid), kUserSessions(type, userId)), sid);
 
-		// 2. 사용자 세션 집합에서 제거
-		redis.opsForSet().remove(kUserSessions(userId), sid);
+		// 2. 로컬 및 다른 노드의 Near-Cache 무효화
+		nearCache.invalidateSid(sid);
+		redis.convertAndSend(SessionNearCache.CHANNEL, SessionNearCache.sidMessage(sid));
 	}
 
 	/**
-	 * 사용자의 모든 세션 ID 조회
-	 * - 한 사용자가 여러 기기에서 로그인한 경우 모든 세션 ID 반환
-	 * - Redis Set 타입에서 모든 멤버 조회
+	 * 사용자의 모든 세션 폐기
+	 * - 회원 탈퇴, 비밀번호 변경, Refresh Token 재사용 공격 감지 시 모든 기기에서 즉시 로그아웃
+	 * - sid마다 여러 번 호출하던 조회/폐기/삭제를 Lua 스크립트 한 번의 왕복으로 처리
+	 * - 진행 중인 트랜잭션이 있으면 커밋 후 실행 (비밀번호/권한 변경이 롤백되면 로그아웃시키지 않음)
+	 *
+	 * 처리 로직:
+	 * 1. user-sessions:{user|admin}:{id}의 모든 sid 조회
+	 *    (이전 형식 user-sessions:{id}에서 같은 주체 유형의 sid도 함께 조회)
+	 * 2. 각 sid의 현재 Refresh Token JTI를 폐기 목록에 등록 (Refresh Token TTL 동안 유지)
+	 * 3. session:{sid}, current-rt-jti:{sid} 삭제 후 사용자 세션 목록 삭제
+	 * 4. 세션별 Near-Cache 무효화 (폐기 Refresh Token은 Bloom Filter 대상이 아님)
 	 *
 	 * 사용 예시:
-	 * - UserService.deleteUser(): 회원 탈퇴 시 모든 세션 삭제를 위해 조회
-	 * - AdminService.deleteUser(): 관리자 삭제 시 모든 세션 삭제를 위해 조회
-	 * - AdminAuthService.refresh(): 재사용 공격 감지 시 모든 세션 종료
+	 * - UserService.deleteUser(), AdminService.deleteUser(): 탈퇴/삭제 시
+	 * - UserService/AdminService 비밀번호 변경 및 초기화 시
+	 * - AuthService.refresh(), AdminAuthService.refresh(): 재사용 공격 감지 시
 	 *
-	 * @param userId 사용자 ID
-	 * @return 세션 ID 집합 (Set<String>), 없으면 빈 Set 또는 null
+	 * @param type 사용자/관리자 구분
+	 * @param userId 사용자 또는 관리자 ID
 	 */
-	public Set<String> getUserSids(String userId) {
-		return redis.opsForSet().members(kUserSessions(userId));
+	public void revokeAllSessions(PrincipalType type, String userId) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					doRevokeAllSessions(type, userId);
+				}
+			});
+		} else {
+			doRevokeAllSessions(type, userId);
+		}
+	}
+
+	private void doRevokeAllSessions(PrincipalType type, String userId) {
+		List<Object> revoked = redis.execute(REVOKE_ALL_SCRIPT,
+			List.of(kUserSessions(type, userId), kLegacyUserSessions(userId)),
+			String.valueOf(refreshTtl.toSeconds()), legacySessionField(type));
+		if (revoked == null) {
+			return;
+		}
+
+		int sessions = 0;
+		for (Object item : revoked) {
+			String value = String.valueOf(item);
+			if (value.startsWith("s:")) {
+				String sid = value.substring(2);
+				nearCache.invalidateSid(sid);
+				redis.convertAndSend(SessionNearCache.CHANNEL, SessionNearCache.sidMessage(sid));
+				sessions++;
+			}
+		}
+		if (sessions > 0) {
+			log.info("세션 일괄 폐기 완료: type={}, id={}, sessions={}", type, userId, sessions);
+		}
 	}
 
 	/**
@@ -211,6 +377,8 @@ public class SessionStore {
 	 * 처리 로직:
 	 * 1. blacklist:{jti} 키에 "1" 값 저장
 	 * 2. TTL은 Access Token의 남은 만료 시간과 동일
+	 * 3. Near-Cache 무효화 메시지 발행
+	 * 4. 블랙리스트 JTI Bloom Filter에 추가 및 전파
 	 *
 	 * 사용 예시:
 	 * - AuthService.logout(): 로그아웃 시 Access Token 블랙리스트 등록
@@ -220,21 +388,77 @@ public class SessionStore {
 	 */
 	public void blacklistAccessJti(String jti, Duration ttl) {
 		redis.opsForValue().set(kBlacklist(jti), "1", ttl);
+
+		nearCache.invalidateJti(jti);
+		redis.convertAndSend(SessionNearCache.CHANNEL, SessionNearCache.jtiMessage(jti));
+		revokedFilter.addAndPublish(jti);
 	}
 
 	/**
 	 * Access Token JTI가 블랙리스트에 있는지 확인
 	 * - 로그아웃된 토큰인지 검증
-	 * - JwtAuthFilter에서 매 요청마다 확인
-	 *
-	 * 사용 예시:
-	 * - JwtAuthFilter.doFilterInternal(): 토큰 검증 시 블랙리스트 확인
+	 * - 매 요청 검증은 세션 확인과 함께 validate()에서 단일 왕복으로 수행
+	 * - Bloom Filter가 "확실히 없음"으로 판정하면 Redis 조회 생략
 	 *
 	 * @param jti Access Token의 JWT ID
 	 * @return 블랙리스트에 있으면 true, 없으면 false
 	 */
 	public boolean isBlacklisted(String jti) {
-		return redis.hasKey(kBlacklist(jti));
+		if (!revokedFilter.mightContain(jti)) {
+			return false;
+		}
+		boolean blacklisted = Boolean.TRUE.equals(redis.hasKey(kBlacklist(jti)));
+		revokedFilter.recordLookup(blacklisted);
+		return blacklisted;
+	}
+
+	/**
+	 * Access Token 블랙리스트 및 세션 유효성 동시 검증
+	 * - isBlacklisted()와 getSessionJson()을 연속 호출하던 두 번의 왕복을 Lua 스크립트 한 번으로 통합
+	 * - 세션 JSON 전체를 전송하지 않고 EXISTS로 존재 여부만 확인
+	 * - 긍정 결과는 Near-Cache에 짧게 보관하여 연속 요청 시 Redis 호출 생략
+	 *
+	 * 처리 로직:
+	 * 1. Near-Cache에 유효한 긍정 결과가 있으면 즉시 VALID 반환
+	 * 2. Bloom Filter로 블랙리스트 가능성 확인 (확실히 없으면 블랙리스트 키 조회 생략)
+	 * 3. Lua 스크립트로 blacklist:{jti}(필요 시), session:{sid} 존재 여부 확인
+	 * 4. VALID이고 조회 중 무효화가 없었던 경우에만 Near-Cache에 저장
+	 *
+	 * 사용 예시:
+	 * - JwtAuthFilter.doFilterInternal(): 매 요청 토큰 검증
+	 *
+	 * @param jti Access Token의 JWT ID (null이면 블랙리스트 확인 생략)
+	 * @param sid 세션 ID
+	 * @return 검증 결과 (VALID, BLACKLISTED, NO_SESSION)
+	 */
+	public SessionValidation validate(String jti, String sid) {
+		if (sid == null) {
+			return SessionValidation.NO_SESSION;
+		}
+
+		// 1. Near-Cache 확인
+		if (nearCache.isValid(jti, sid)) {
+			return SessionValidation.VALID;
+		}
+
+		// 2. Bloom Filter로 블랙리스트 가능성 확인 (조회 전 무효화 세대 기록)
+		long generation = nearCache.generation();
+		boolean checkBlacklist = jti != null && revokedFilter.mightContain(jti);
+
+		// 3. Lua 스크립트로 단일 왕복 검증
+		List<String> keys = checkBlacklist
+			? List.of(kBlacklist(jti), kSession(sid))
+			: List.of(kSession(sid));
+		SessionValidation result = SessionValidation.fromCode(redis.execute(VALIDATE_SCRIPT, keys));
+		if (checkBlacklist) {
+			revokedFilter.recordLookup(result == SessionValidation.BLACKLISTED);
+		}
+
+		// 4. 긍정 결과 캐싱
+		if (result == SessionValidation.VALID) {
+			nearCache.put(jti, sid, generation);
+		}
+		return result;
 	}
 
 	/**
@@ -263,6 +487,7 @@ public class SessionStore {
 	 * Refresh Token JTI가 폐기되었는지 확인
 	 * - 폐기된 Refresh Token 재사용 방지
 	 * - RTR 전략의 핵심 검증 로직
+	 * - 재발급 시에만 호출되므로 Bloom Filter 없이 Redis로 직접 확인
 	 *
 	 * 보안 시나리오:
 	 * 1. 정상 흐름: 토큰 재발급 → 이전 토큰 폐기 → 새 토큰 사용
@@ -276,7 +501,7 @@ public class SessionStore {
 	 * @return 폐기되었으면 true, 아니면 false
 	 */
 	public boolean isRtRevoked(String rtJti) {
-		return redis.hasKey(kRevokedRt(rtJti));
+		return Boolean.TRUE.equals(redis.hasKey(kRevokedRt(rtJti)));
 	}
 
 	/**
@@ -0,0 +1,46 @@
+package Team_Mute.back_end.domain.member.session;
+
+/**
+ * Access Token 세션 검증 결과
+ * - SessionStore.validate()가 블랙리스트 확인과 세션 존재 확인을 한 번에 수행한 결과
+ * - JwtAuthFilter에서 인증 성공/실패 분기에 사용
+ *
+ * @author Team Mute
+ * @since 1.0
+ */
+public enum SessionValidation {
+	/**
+	 * 블랙리스트에 없고 세션도 존재하는 정상 토큰
+	 */
+	VALID,
+
+	/**
+	 * 로그아웃 등으로 블랙리스트에 등록된 토큰
+	 */
+	BLACKLISTED,
+
+	/**
+	 * 세션이 없거나 만료된 토큰
+	 */
+	NO_SESSION;
+
+	/**
+	 * Lua 스크립트 반환값을 검증 결과로 변환
+	 * - 0: 정상, 1: 블랙리스트, 그 외: 세션 없음
+	 *
+	 * @param code Lua 스크립트 반환값 (null 허용)
+	 * @return 검증 결과
+	 */
+	static SessionValidation fromCode(Long code) {
+		if (code == null) {
+			return NO_SESSION;
+		}
+		if (code == 0L) {
+			return VALID;
+		}
+		if (code == 1L) {
+			return BLACKLISTED;
+		}
+		return NO_SESSION;
+	}
+}
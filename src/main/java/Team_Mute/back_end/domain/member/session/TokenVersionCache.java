@@ -0,0 +1,216 @@
+package Team_Mute.back_end.domain.member.session;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import Team_Mute.back_end.domain.member.repository.AdminRepository;
+import Team_Mute.back_end.domain.member.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Token Version 캐시
+ * - 사용자/관리자의 현재 Token Version을 Redis에 보관하고 각 노드 메모리에 미러링
+ * - JwtAuthFilter가 매 요청마다 DB 조회 없이 토큰의 버전 클레임과 현재 버전 비교
+ * - 비밀번호 변경/초기화, 권한 변경으로 tokenVer가 증가하면 기존 토큰 즉시 무효화
+ *
+ * 조회 순서:
+ * 1. 로컬 메모리 (refresh 주기 이내 항목)
+ * 2. Redis (token-ver:{type}:{id})
+ * 3. DB (findTokenVerByUserId / findTokenVerByAdminId) 후 Redis와 로컬에 기록
+ *    (진행 중인 트랜잭션이 있으면 커밋 후에만 기록, 롤백된 값이 캐시에 남지 않도록)
+ *
+ * 갱신:
+ * - tokenVer 변경 시 트랜잭션 커밋 후 Redis에 기록하고 token-version 채널로 발행
+ * - 다른 노드는 채널을 구독하여 로컬 값 갱신
+ * - 메시지 유실에 대비해 로컬 항목은 refresh 주기가 지나면 Redis에서 다시 읽음
+ *
+ * @author Team Mute
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class TokenVersionCache implements MessageListener {
+
+	/**
+	 * Token Version 변경을 노드 간 전파하는 Redis Pub/Sub 채널명
+	 */
+	public static final String CHANNEL = "token-version";
+
+	/**
+	 * Token Version 소유자 구분
+	 * - 사용자(tb_users)와 관리자(tb_admins)는 ID 공간이 분리되어 있으므로 키에 포함
+	 * - SessionStore의 사용자별 세션 목록 키에도 사용
+	 */
+	public enum PrincipalType {
+		USER, ADMIN
+	}
+
+	private final StringRedisTemplate redis;
+	private final UserRepository userRepository;
+	private final AdminRepository adminRepository;
+	private final Duration redisTtl;
+	private final long refreshMillis;
+
+	/**
+	 * 로컬 미러 (token-ver:{type}:{id} → 버전)
+	 */
+	private final ConcurrentHashMap<String, Entry> local = new ConcurrentHashMap<>();
+
+	public TokenVersionCache(
+		StringRedisTemplate redis,
+		UserRepository userRepository,
+		AdminRepository adminRepository,
+		@Value("${jwt.refresh-token.ttl-seconds}") long refreshTtlSeconds,
+		@Value("${session.token-version.local-refresh-ms:60000}") long refreshMillis) {
+		this.redis = redis;
+		this.userRepository = userRepository;
+		this.adminRepository = adminRepository;
+		this.redisTtl = Duration.ofSeconds(refreshTtlSeconds);
+		this.refreshMillis = refreshMillis;
+	}
+
+	/**
+	 * Token Version 키 생성
+	 * - 형식: "token-ver:{user|admin}:{id}"
+	 *
+	 * @param type 사용자/관리자 구분
+	 * @param id 사용자 또는 관리자 ID
+	 * @return Redis 키 문자열
+	 */
+	private String kTokenVer(PrincipalType type, Long id) {
+		return "token-ver:" + type.name().toLowerCase() + ":" + id;
+	}
+
+	/**
+	 * 현재 Token Version 조회
+	 *
+	 * @param type 사용자/관리자 구분
+	 * @param id 사용자 또는 관리자 ID
+	 * @return 현재 Token Version (계정이 없으면 null)
+	 */
+	public Integer get(PrincipalType type, Long id) {
+		String key = kTokenVer(type, id);
+		long now = System.currentTimeMillis();
+
+		// 1. 로컬 메모리
+		Entry entry = local.get(key);
+		if (entry != null && now - entry.loadedAt() < refreshMillis) {
+			return entry.version();
+		}
+
+		// 2. Redis
+		String cached = redis.opsForValue().get(key);
+		if (cached != null) {
+			Integer version = Integer.valueOf(cached);
+			local.put(key, new Entry(version, now));
+			return version;
+		}
+
+		// 3. DB (최초 조회 또는 Redis 만료 시)
+		Integer version = (type == PrincipalType.USER
+			? userRepository.findTokenVerByUserId(id)
+			: adminRepository.findTokenVerByAdminId(id)).orElse(null);
+		if (version != null) {
+			if (TransactionSynchronizationManager.isSynchronizationActive()) {
+				TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+					@Override
+					public void afterCommit() {
+						fill(key, version);
+					}
+				});
+			} else {
+				fill(key, version);
+			}
+		}
+		return version;
+	}
+
+	/**
+	 * DB에서 읽은 Token Version을 캐시에 기록
+	 * - Redis에 값이 없을 때만 기록 (그 사이 update()로 기록된 새 버전을 덮지 않음)
+	 * - Redis에 이미 값이 있었으면 로컬 항목을 비워 다음 조회 때 Redis 값을 사용
+	 *
+	 * @param key Token Version 키
+	 * @param version DB에서 읽은 Token Version
+	 */
+	private void fill(String key, Integer version) {
+		if (Boolean.TRUE.equals(redis.opsForValue().setIfAbsent(key, version.toString(), redisTtl))) {
+			local.put(key, new Entry(version, System.currentTimeMillis()));
+		} else {
+			local.remove(key);
+		}
+	}
+
+	/**
+	 * Token Version 변경 반영
+	 * - 진행 중인 트랜잭션이 있으면 커밋 후 반영 (롤백 시 반영하지 않음)
+	 * - Redis에 기록하고 로컬 갱신 후 다른 노드에 전파
+	 *
+	 * 사용 예시:
+	 * - UserService.updatePassword(), resetPassword()
+	 * - AdminService.updatePassword(), resetPassword(), updateAdminPassword(), resetAdminPassword(), updateAdminRole(), updateAdminInfo()(담당 지역 변경)
+	 *
+	 * @param type 사용자/관리자 구분
+	 * @param id 사용자 또는 관리자 ID
+	 * @param version 새 Token Version
+	 */
+	public void update(PrincipalType type, Long id, Integer version) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					write(type, id, version);
+				}
+			});
+		} else {
+			write(type, id, version);
+		}
+	}
+
+	private void write(PrincipalType type, Long id, Integer version) {
+		String key = kTokenVer(type, id);
+		redis.opsForValue().set(key, version.toString(), redisTtl);
+		local.put(key, new Entry(version, System.currentTimeMillis()));
+		redis.convertAndSend(CHANNEL, key + "=" + version);
+	}
+
+	/**
+	 * 다른 노드가 발행한 Token Version 변경 수신
+	 *
+	 * @param message Redis Pub/Sub 메시지 (형식: "token-ver:{type}:{id}={version}")
+	 * @param pattern 구독 패턴 (미사용)
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		int sep = body.lastIndexOf('=');
+		if (sep < 0) {
+			log.warn("잘못된 Token Version 메시지입니다: {}", body);
+			return;
+		}
+		try {
+			Integer version = Integer.valueOf(body.substring(sep + 1));
+			local.put(body.substring(0, sep), new Entry(version, System.currentTimeMillis()));
+		} catch (NumberFormatException e) {
+			log.warn("잘못된 Token Version 메시지입니다: {}", body);
+		}
+	}
+
+	/**
+	 * 로컬 미러 항목
+	 *
+	 * @param version Token Version
+	 * @param loadedAt 적재 시각 (epoch millis)
+	 */
+	private record Entry(Integer version, long loadedAt) {
+	}
+}
@@ -0,0 +1,30 @@
+package Team_Mute.back_end.domain.member.session;
+
+import Team_Mute.back_end.domain.member.entity.User;
+
+/**
+ * 사용자 권한 범위
+ * - 권한 판단에 필요한 역할 ID와 소속 기업 ID만 보관하는 불변 값
+ * - CurrentPrincipal이 JWT 클레임(또는 DB)에서 구성
+ *
+ * @param userId 사용자 ID
+ * @param roleId 역할 ID (3: 사용자)
+ * @param companyId 소속 기업 ID
+ * @author Team Mute
+ * @since 1.0
+ */
+public record UserScope(Long userId, Integer roleId, Integer companyId) {
+
+	/**
+	 * 사용자 엔티티로부터 생성
+	 *
+	 * @param user 사용자 엔티티
+	 * @return 사용자 권한 범위
+	 */
+	public static UserScope of(User user) {
+		return new UserScope(
+			user.getUserId(),
+			user.getUserRole().getRoleId(),
+			user.getUserCompany() != null ? user.getUserCompany().getCompanyId() : null);
+	}
+}
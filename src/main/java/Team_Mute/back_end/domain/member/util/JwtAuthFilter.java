@@ -15,6 +15,9 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import Team_Mute.back_end.domain.member.jwt.JwtService;
 import Team_Mute.back_end.domain.member.session.SessionStore;
+import Team_Mute.back_end.domain.member.session.SessionValidation;
+import Team_Mute.back_end.domain.member.session.TokenVersionCache;
+import Team_Mute.back_end.domain.member.session.TokenVersionCache.PrincipalType;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
 import jakarta.servlet.FilterChain;
@@ -31,9 +34,9 @@ import lombok.extern.slf4j.Slf4j;
  * 주요 기능:
  * - Authorization 헤더에서 Bearer Token 추출
  * - JWT 토큰 파싱 및 서명 검증
- * - Access Token JTI 블랙리스트 확인 (로그아웃된 토큰)
- * - 세션 유효성 검증 (Redis)
+ * - Access Token JTI 블랙리스트 확인 및 세션 유효성 검증 (Redis 단일 왕복 + Near-Cache)
  * - Audience 기반 사용자/관리자 구분
+ * - Token Version 검증 (비밀번호/권한 변경 시 기존 토큰 즉시 무효화, 메모리 캐시 기반)
  * - SecurityContext에 인증 정보 설정
  * - Spring Security의 @PreAuthorize, @Secured 등과 연동
  *
@@ -55,10 +58,12 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
 	private final JwtService jwt;
 	private final SessionStore store;
+	private final TokenVersionCache tokenVersions;
 
-	public JwtAuthFilter(JwtService jwt, SessionStore store) {
+	public JwtAuthFilter(JwtService jwt, SessionStore store, TokenVersionCache tokenVersions) {
 		this.jwt = jwt;
 		this.store = store;
+		this.tokenVersions = tokenVersions;
 	}
 
 	/**
@@ -70,9 +75,9 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 	 * 1. Authorization 헤더에서 Bearer Token 추출
 	 * 2. 토큰이 없거나 형식이 잘못된 경우 다음 필터로 진행
 	 * 3. JWT 토큰 파싱 및 서명 검증
-	 * 4. JTI 블랙리스트 확인 (로그아웃된 토큰)
-	 * 5. 세션 유효성 검증 (Redis)
-	 * 6. Audience 확인 (user-service 또는 admin-service)
+	 * 4. JTI 블랙리스트 확인 및 세션 유효성 검증 (SessionStore.validate, 단일 왕복)
+	 * 5. Audience 확인 (user-service 또는 admin-service)
+	 * 6. Token Version 확인 (TokenVersionCache, 메모리 조회)
 	 * 7. 사용자/관리자 토큰 처리 (SecurityContext 설정)
 	 * 8. 검증 실패 시 SecurityContext 비우고 다음 필터로 진행
 	 *
@@ -115,23 +120,28 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 			String jti = c.getId();           // JWT ID
 			String sid = (String)c.get("sid"); // 세션 ID
 
-			// 6. 토큰 유효성 검사
-			if (jti != null && store.isBlacklisted(jti)) {
+			// 6. 토큰 유효성 검사 (블랙리스트 + 세션 존재 여부를 한 번에 확인)
+			SessionValidation validation = store.validate(jti, sid);
+			if (validation == SessionValidation.BLACKLISTED) {
 				// 6-1. 블랙리스트에 등록된 토큰 (로그아웃된 토큰)
 				log.warn("블랙리스트에 등록된 토큰입니다. JTI: {}", jti);
 				// 인증 없이 다음 필터로 진행 (Spring Security가 401 처리)
-			} else if (sid == null || store.getSessionJson(sid) == null) {
+			} else if (validation == SessionValidation.NO_SESSION) {
 				// 6-2. 유효하지 않은 세션 (세션이 없거나 만료됨)
 				log.warn("유효하지 않은 세션 ID입니다. SID: {}", sid);
 				// 인증 없이 다음 필터로 진행
 			} else if (c.getAudience().contains("user-service")) {
-				// 6-3. 일반 사용자 토큰 처리
-				processUserToken(c);
-				log.info("사용자 인증 성공. SecurityContext에 저장 완료.");
+				// 6-3. 일반 사용자 토큰 처리 (Token Version 일치 시)
+				if (isCurrentVersion(PrincipalType.USER, c, "ver")) {
+					processUserToken(c);
+					log.info("사용자 인증 성공. SecurityContext에 저장 완료.");
+				}
 			} else if (c.getAudience().contains("admin-service")) {
-				// 6-4. 관리자 토큰 처리
-				processAdminToken(c);
-				log.info("관리자 인증 성공. SecurityContext에 저장 완료.");
+				// 6-4. 관리자 토큰 처리 (Token Version 일치 시)
+				if (isCurrentVersion(PrincipalType.ADMIN, c, "tokenVer")) {
+					processAdminToken(c);
+					log.info("관리자 인증 성공. SecurityContext에 저장 완료.");
+				}
 			} else {
 				// 6-5. 알 수 없는 Audience
 				log.warn("알 수 없는 Audience 입니다: {}", c.getAudience());
@@ -149,6 +159,28 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 		chain.doFilter(req, res);
 	}
 
+	/**
+	 * Token Version 검증
+	 * - 토큰에 담긴 버전과 현재 버전(TokenVersionCache)을 비교
+	 * - 비밀번호 변경/초기화, 권한 변경으로 버전이 증가했다면 기존 토큰 거부
+	 * - 일반적인 경우 로컬 메모리 조회만으로 판정하여 DB 부하 없음
+	 *
+	 * @param type 사용자/관리자 구분
+	 * @param claims JWT Claims 객체
+	 * @param verClaim 버전 클레임명 (사용자: "ver", 관리자: "tokenVer")
+	 * @return 현재 버전과 일치하면 true
+	 */
+	private boolean isCurrentVersion(PrincipalType type, Claims claims, String verClaim) {
+		Integer tokenVer = claims.get(verClaim, Integer.class);
+		Integer currentVer = tokenVersions.get(type, Long.valueOf(claims.getSubject()));
+		if (currentVer == null || !currentVer.equals(tokenVer)) {
+			log.warn("Token Version이 일치하지 않습니다. Subject: {}, Token: {}, Current: {}",
+				claims.getSubject(), tokenVer, currentVer);
+			return false;
+		}
+		return true;
+	}
+
 	/**
 	 * 일반 사용자 토큰 처리
 	 * - JWT 클레임에서 사용자 정보 추출
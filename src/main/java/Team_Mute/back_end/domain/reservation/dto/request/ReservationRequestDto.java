@@ -86,6 +86,13 @@ public class ReservationRequestDto {
 	 */
 	private List<MultipartFile> reservationAttachments;
 
+	/**
+	 * 업로드 세션 ID (선택적)
+	 * - POST /api/uploads/sessions 로 S3에 직접 업로드 후 커밋한 세션 ID
+	 * - 지정 시 files 대신 세션의 파일을 첨부 파일로 사용
+	 */
+	private String uploadSessionId;
+
 	/**
 	 * 기존 첨부 파일 URL 리스트 (선택적)
 	 * - 예약 수정 시 기존에 업로드된 파일의 URL
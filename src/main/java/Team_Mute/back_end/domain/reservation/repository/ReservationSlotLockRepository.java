@@ -0,0 +1,69 @@
+package Team_Mute.back_end.domain.reservation.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 예약 시간대 잠금 레포지토리
+ * - PostgreSQL 트랜잭션 advisory lock(pg_advisory_xact_lock)을 (공간 ID, 날짜) 단위로 획득
+ * - 겹침 검사 쿼리의 행 잠금은 아직 존재하지 않는 예약을 잠글 수 없어, 같은 시간대를 동시에 신청하면
+ *   두 트랜잭션 모두 겹치는 예약이 없다고 판단할 수 있음
+ * - 같은 공간의 같은 날짜를 포함하는 예약 신청은 이 잠금으로 직렬화되고, 다른 날짜/공간은 병렬로 진행
+ * - 잠금은 트랜잭션 종료(커밋/롤백) 시 자동 해제
+ *
+ * 교착 방지:
+ * - 한 트랜잭션이 필요한 날짜를 모두 모아 오름차순으로 한 번에 획득
+ *
+ * @author Team Mute
+ * @since 1.0
+ */
+@Repository
+public class ReservationSlotLockRepository {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public ReservationSlotLockRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * 시간대가 걸친 날짜 목록
+	 * - 종료 시각이 자정이면 그 날짜는 포함하지 않음 (종료 시각은 배타적)
+	 *
+	 * 사용 예시:
+	 * - 1일 10:00 ~ 1일 12:00 → [1일]
+	 * - 1일 22:00 ~ 3일 00:00 → [1일, 2일]
+	 *
+	 * @param from 시작 시각
+	 * @param to   종료 시각
+	 * @return 날짜 목록 (오름차순, 시작이 종료보다 늦으면 빈 목록)
+	 */
+	public static SortedSet<LocalDate> daysCovering(LocalDateTime from, LocalDateTime to) {
+		SortedSet<LocalDate> days = new TreeSet<>();
+		if (from == null || to == null || !from.isBefore(to)) {
+			return days;
+		}
+		LocalDate last = to.minusNanos(1).toLocalDate();
+		for (LocalDate day = from.toLocalDate(); !day.isAfter(last); day = day.plusDays(1)) {
+			days.add(day);
+		}
+		return days;
+	}
+
+	/**
+	 * 공간의 날짜별 잠금 획득 (트랜잭션 안에서 호출, 종료 시까지 유지)
+	 *
+	 * @param spaceId 공간 ID
+	 * @param days    잠글 날짜 (오름차순으로 획득)
+	 */
+	public void lockDays(Integer spaceId, SortedSet<LocalDate> days) {
+		for (LocalDate day : days) {
+			jdbcTemplate.query("SELECT pg_advisory_xact_lock(?, ?)", rs -> null, spaceId, (int)day.toEpochDay());
+		}
+	}
+}
@@ -1,7 +1,9 @@
 package Team_Mute.back_end.domain.reservation.service;
 
-import Team_Mute.back_end.domain.member.entity.User;
+import Team_Mute.back_end.domain.member.exception.UserNotFoundException;
 import Team_Mute.back_end.domain.member.repository.UserRepository;
+import Team_Mute.back_end.domain.member.session.CurrentPrincipal;
+import Team_Mute.back_end.domain.member.session.UserScope;
 import Team_Mute.back_end.domain.reservation.dto.request.ReservationRequestDto;
 import Team_Mute.back_end.domain.reservation.dto.response.PagedReservationResponse;
 import Team_Mute.back_end.domain.reservation.dto.response.RejectReasonResponseDto;
@@ -18,28 +20,36 @@ import Team_Mute.back_end.domain.reservation.exception.ReservationConflictExcept
 import Team_Mute.back_end.domain.reservation.exception.ResourceNotFoundException;
 import Team_Mute.back_end.domain.reservation.repository.PrevisitRepository;
 import Team_Mute.back_end.domain.reservation.repository.ReservationRepository;
+import Team_Mute.back_end.domain.reservation.repository.ReservationSlotLockRepository;
 import Team_Mute.back_end.domain.reservation.repository.ReservationStatusRepository;
 import Team_Mute.back_end.domain.reservation_admin.entity.ReservationLog;
 import Team_Mute.back_end.domain.reservation_admin.repository.ReservationLogRepository;
 import Team_Mute.back_end.domain.space_admin.entity.Space;
+import Team_Mute.back_end.domain.space_admin.repository.SpaceDeleteJobRepository;
 import Team_Mute.back_end.domain.space_admin.repository.SpaceRepository;
 import Team_Mute.back_end.domain.space_admin.util.S3Deleter;
 import Team_Mute.back_end.domain.space_admin.util.S3Uploader;
+import Team_Mute.back_end.domain.upload.service.UploadSessionService;
+import Team_Mute.back_end.global.constants.UploadPurposeEnum;
 import lombok.RequiredArgsConstructor;
 
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.SortedSet;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * 예약 비즈니스 로직 서비스
@@ -51,26 +61,31 @@ import org.springframework.transaction.annotation.Transactional;
 public class ReservationService {
 
 	private final ReservationRepository reservationRepository;
+	private final ReservationSlotLockRepository reservationSlotLockRepository;
 	private final SpaceRepository spaceRepository;
+	private final SpaceDeleteJobRepository spaceDeleteJobRepository;
 	private final ReservationStatusRepository reservationStatusRepository;
 	private final UserRepository userRepository;
+	private final CurrentPrincipal currentPrincipal;
 	private final S3Uploader s3Uploader;
 	private final S3Deleter s3Deleter;
 	private final ReservationLogRepository reservationLogRepository;
 	private final PrevisitRepository previsitReservationRepository;
+	private final UploadSessionService uploadSessionService;
 
 	/**
 	 * 예약 생성
 	 * <p>
 	 * 처리 흐름:
 	 * 1. 사용자 권한 확인 (roleId=3)
-	 * 2. 비관적 락으로 중복 예약 검증 (일반 + 사전답사)
+	 * 2. 공간/날짜 잠금 후 중복 예약 검증 (일반 + 사전답사)
 	 * 3. 예약 생성 및 저장 (초기 상태: 승인 대기)
 	 * 4. 첨부 파일 S3 업로드
 	 * 5. 사전답사 예약 생성 (선택적)
 	 * <p>
 	 * 동시성 제어:
-	 * - PESSIMISTIC_WRITE 락으로 중복 예약 방지
+	 * - 예약/사전답사 시간대가 걸친 (공간, 날짜)마다 advisory lock을 획득하여 같은 날짜의 신청을 직렬화
+	 *   (겹침 검사의 행 잠금만으로는 아직 없는 예약을 잠글 수 없어 동시 신청 시 이중 예약 가능)
 	 *
 	 * @param userId     사용자 ID
 	 * @param requestDto 예약 요청 DTO
@@ -80,19 +95,33 @@ public class ReservationService {
 	 */
 	@Transactional
 	public ReservationResponseDto createReservation(String userId, ReservationRequestDto requestDto) {
-		User user = findUserById(userId);
+		UserScope user = findUserById(userId);
 
 		// 1. 일반 사용자만 예약 생성 가능
-		if (user.getUserRole().getRoleId() != 3) {
+		if (user.roleId() != 3) {
 			throw new ForbiddenAccessException("예약을 생성할 권한이 없습니다.");
 		}
 
 		final List<Long> validStatusIds = Arrays.asList(1L, 2L, 3L);
 
-		Space space = spaceRepository.findById(requestDto.getSpaceId())
+		// 공유 잠금: 같은 공간의 다른 예약과는 병렬로 진행되고, 공간 삭제 요청과는 순서가 보장됨
+		Space space = spaceRepository.findByIdForShare(requestDto.getSpaceId())
 			.orElseThrow(() -> new ResourceNotFoundException("해당 공간을 찾을 수 없습니다."));
+		// 삭제 요청된 공간은 예약 불가 (백그라운드 정리 중)
+		if (spaceDeleteJobRepository.exists(space.getSpaceId())) {
+			throw new ResourceNotFoundException("해당 공간을 찾을 수 없습니다.");
+		}
+
+		// 공간/날짜 잠금: 예약과 사전답사 날짜를 모아 오름차순으로 한 번에 획득 (교착 방지)
+		SortedSet<LocalDate> lockedDays = ReservationSlotLockRepository.daysCovering(
+			requestDto.getReservationFrom(), requestDto.getReservationTo());
+		if (requestDto.getPrevisitInfo() != null) {
+			lockedDays.addAll(ReservationSlotLockRepository.daysCovering(
+				requestDto.getPrevisitInfo().getPrevisitFrom(), requestDto.getPrevisitInfo().getPrevisitTo()));
+		}
+		reservationSlotLockRepository.lockDays(space.getSpaceId(), lockedDays);
 
-		// 2. 비관적 락으로 중복 예약 검증 (공간 예약)
+		// 2. 중복 예약 검증 (공간 예약)
 		List<Reservation> overlappingReservations = reservationRepository.findOverlappingReservationsWithLock(
 			space.getSpaceId(),
 			requestDto.getReservationFrom(),
@@ -100,7 +129,7 @@ public class ReservationService {
 			validStatusIds
 		);
 
-		// 3. 비관적 락으로 중복 검증 (사전답사)
+		// 3. 중복 검증 (사전답사)
 		List<PrevisitReservation> overlappingPrevisits = previsitReservationRepository.findOverlappingPrevisitsWithLock(
 			space.getSpaceId(),
 			requestDto.getReservationFrom(),
@@ -121,7 +150,7 @@ public class ReservationService {
 		Reservation reservation = Reservation.builder()
 			.orderId(generateOrderId(space.getSpaceName()))
 			.space(space)
-			.user(user)
+			.user(userRepository.getReferenceById(user.userId()))
 			.reservationStatus(status)
 			.reservationHeadcount(requestDto.getReservationHeadcount())
 			.reservationFrom(requestDto.getReservationFrom())
@@ -134,8 +163,11 @@ public class ReservationService {
 
 		// 5. 첨부 파일 S3 업로드
 		List<String> attachmentUrls = new ArrayList<>();
-		if (requestDto.getReservationAttachments() != null && !requestDto.getReservationAttachments().isEmpty()) {
-			String dirName = "attachment/" + savedReservation.getReservationId();
+		String dirName = "attachment/" + savedReservation.getReservationId();
+		if (requestDto.getUploadSessionId() != null && !requestDto.getUploadSessionId().isBlank()) {
+			// S3에 직접 업로드된 첨부 파일을 예약 폴더로 서버 측 복사
+			attachmentUrls = copySessionAttachments(userId, requestDto.getUploadSessionId(), dirName);
+		} else if (requestDto.getReservationAttachments() != null && !requestDto.getReservationAttachments().isEmpty()) {
 			attachmentUrls = s3Uploader.uploadAll(requestDto.getReservationAttachments(), dirName);
 		}
 
@@ -198,16 +230,16 @@ public class ReservationService {
 	 */
 	@Transactional(readOnly = true)
 	public PagedReservationResponse findReservations(String userId, String filterOption, Pageable pageable) {
-		User user = findUserById(userId);
+		UserScope user = findUserById(userId);
 
-		if (user.getUserRole().getRoleId() != 3) {
+		if (user.roleId() != 3) {
 			throw new ForbiddenAccessException("일반 사용자만 접근 가능한 기능입니다.");
 		}
 
 		Pageable pageableToUse = (pageable != null) ? pageable : Pageable.unpaged();
 
 		// QueryDSL 동적 쿼리 실행
-		Page<Reservation> reservationPage = reservationRepository.findReservationsByFilter(user, filterOption,
+		Page<Reservation> reservationPage = reservationRepository.findReservationsByFilter(userRepository.getReferenceById(user.userId()), filterOption,
 			pageableToUse);
 
 		Page<ReservationListDto> dtoPage = reservationPage.map(ReservationListDto::fromEntity);
@@ -225,9 +257,9 @@ public class ReservationService {
 	 */
 	@Transactional(readOnly = true)
 	public ReservationDetailResponseDto findReservationById(String userId, Long reservationId) {
-		User user = findUserById(userId);
+		UserScope user = findUserById(userId);
 
-		if (user.getUserRole().getRoleId() != 3) {
+		if (user.roleId() != 3) {
 			throw new ForbiddenAccessException("일반 사용자만 접근 가능한 기능입니다.");
 		}
 
@@ -247,7 +279,7 @@ public class ReservationService {
 	 * @throws IllegalArgumentException 취소 불가능한 상태
 	 */
 	public ReservationCancelResponseDto cancelReservation(String userId, Long reservationId) {
-		User user = findUserById(userId);
+		UserScope user = findUserById(userId);
 		Reservation reservation = findReservationAndVerifyOwnership(user, reservationId);
 
 		// 취소 가능 상태 확인
@@ -288,7 +320,7 @@ public class ReservationService {
 	 */
 	@Transactional(readOnly = true)
 	public RejectReasonResponseDto findRejectReason(String userId, Long reservationId) {
-		User user = findUserById(userId);
+		UserScope user = findUserById(userId);
 		Reservation reservation = findReservationAndVerifyOwnership(user, reservationId);
 
 		final Integer REJECTED_STATUS_ID = 4;
@@ -305,16 +337,18 @@ public class ReservationService {
 	}
 
 	/**
-	 * 사용자 ID로 사용자 조회
+	 * 사용자 ID로 사용자 권한 범위 조회
+	 * - 요청 단위 CurrentPrincipal에서 JWT 클레임 기반으로 구성 (엔티티 조회 없음)
+	 * - 연관 관계에는 userRepository.getReferenceById()로 프록시만 사용
 	 */
-	private User findUserById(String userId) {
+	private UserScope findUserById(String userId) {
 		try {
 			Long parsedUserId = Long.parseLong(userId);
-			return userRepository.findById(parsedUserId)
-				.orElseThrow(
-					() -> new ResourceNotFoundException("해당 사용자를 찾을 수 없습니다. ID: " + userId));
+			return currentPrincipal.user(parsedUserId);
 		} catch (NumberFormatException e) {
 			throw new InvalidInputValueException("유효하지 않은 사용자 ID 형식입니다.");
+		} catch (UserNotFoundException e) {
+			throw new ResourceNotFoundException("해당 사용자를 찾을 수 없습니다. ID: " + userId);
 		}
 	}
 
@@ -353,13 +387,13 @@ public class ReservationService {
 	/**
 	 * 예약 조회 및 접근 권한 검증 (관리자 또는 소유주)
 	 */
-	private Reservation findReservationAndVerifyAccess(User user, Long reservationId) {
+	private Reservation findReservationAndVerifyAccess(UserScope user, Long reservationId) {
 		Reservation reservation = reservationRepository.findById(reservationId)
 			.orElseThrow(() -> new ResourceNotFoundException("해당 예약을 찾을 수 없습니다."));
 
 		List<Integer> adminRoles = Arrays.asList(0, 1, 2);
-		boolean isOwner = reservation.getUser().getUserId().equals(user.getUserId());
-		boolean isAdmin = adminRoles.contains(user.getUserRole().getRoleId());
+		boolean isOwner = reservation.getUser().getUserId().equals(user.userId());
+		boolean isAdmin = adminRoles.contains(user.roleId());
 
 		if (!isAdmin && !isOwner) {
 			throw new ForbiddenAccessException("해당 예약에 대한 접근 권한이 없습니다.");
@@ -371,13 +405,53 @@ public class ReservationService {
 	/**
 	 * 예약 조회 및 소유권 검증 (소유주만)
 	 */
-	private Reservation findReservationAndVerifyOwnership(User user, Long reservationId) {
+	private Reservation findReservationAndVerifyOwnership(UserScope user, Long reservationId) {
 		Reservation reservation = reservationRepository.findById(reservationId)
 			.orElseThrow(() -> new ResourceNotFoundException("해당 예약을 찾을 수 없습니다."));
 
-		if (!reservation.getUser().getUserId().equals(user.getUserId())) {
+		if (!reservation.getUser().getUserId().equals(user.userId())) {
 			throw new ForbiddenAccessException("해당 예약에 대한 접근 권한이 없습니다.");
 		}
 		return reservation;
 	}
+
+	/**
+	 * 업로드 세션 첨부 파일을 예약 폴더로 복사
+	 * - 커밋된 업로드 세션의 파일을 S3 내부 복사로 예약 폴더에 저장
+	 * - 트랜잭션 커밋 시 업로드 세션과 세션 폴더 삭제, 롤백 시 복사된 파일만 삭제
+	 *   (롤백되면 세션이 남아 있어 같은 세션으로 다시 신청 가능)
+	 *
+	 * @param userId    사용자 ID
+	 * @param sessionId 업로드 세션 ID
+	 * @param dirName   첨부 파일 저장 폴더 (attachment/{reservationId})
+	 * @return 복사된 첨부 파일 URL 리스트
+	 */
+	private List<String> copySessionAttachments(String userId, String sessionId, String dirName) {
+		List<String> sourceUrls = uploadSessionService.resolve(userId, sessionId,
+			UploadPurposeEnum.RESERVATION_ATTACHMENT);
+		String sessionFolder = uploadSessionService.sessionPrefix(UploadPurposeEnum.RESERVATION_ATTACHMENT, sessionId);
+
+		List<String> copiedUrls = new ArrayList<>(sourceUrls.size());
+		for (String sourceUrl : sourceUrls) {
+			copiedUrls.add(s3Uploader.copyByUrl(sourceUrl, dirName));
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				try {
+					if (status == STATUS_COMMITTED) {
+						uploadSessionService.complete(sessionId);
+						s3Deleter.deleteFolder(sessionFolder);
+					} else {
+						copiedUrls.forEach(s3Deleter::deleteByUrl);
+					}
+				} catch (Exception ignored) {
+					// 정리 실패는 예약 처리 결과에 영향을 주지 않음 (잔여 파일은 세션 경로에 남음)
+				}
+			}
+		});
+
+		return copiedUrls;
+	}
 }
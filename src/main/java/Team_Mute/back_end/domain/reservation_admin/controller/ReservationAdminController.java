@@ -8,16 +8,22 @@ import Team_Mute.back_end.domain.reservation_admin.dto.response.ReservationDetai
 import Team_Mute.back_end.domain.reservation_admin.dto.response.ReservationFilterOptionsResponse;
 import Team_Mute.back_end.domain.reservation_admin.dto.response.ReservationListResponseDto;
 import Team_Mute.back_end.domain.reservation_admin.service.ReservationAdminService;
+import Team_Mute.back_end.domain.reservation_admin.service.ReservationExportService;
 import Team_Mute.back_end.global.dto.PagedResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.extern.slf4j.Slf4j;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -27,6 +33,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * [관리자 예약 관리] 컨트롤러
@@ -38,6 +45,7 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/reservations-admin")
 public class ReservationAdminController {
 	private final ReservationAdminService reservationAdminService;
+	private final ReservationExportService reservationExportService;
 
 	/**
 	 * 일괄 승인 결과(BulkApproveResponseDto)를 분석하여 HTTP 응답 상태 코드를 결정
@@ -71,8 +79,10 @@ public class ReservationAdminController {
 		return org.springframework.http.HttpStatus.MULTI_STATUS; // 207
 	}
 
-	public ReservationAdminController(ReservationAdminService reservationService) {
+	public ReservationAdminController(ReservationAdminService reservationService,
+		ReservationExportService reservationExportService) {
 		this.reservationAdminService = reservationService;
+		this.reservationExportService = reservationExportService;
 	}
 
 	/**
@@ -182,4 +192,44 @@ public class ReservationAdminController {
 
 		return ResponseEntity.ok(new PagedResponseDto<>(data));
 	}
+
+	/**
+	 * 복합 조건에 따른 예약 리스트 CSV 내보내기 (GET /api/reservations-admin/export)
+	 * - /search와 같은 조건을 적용하고 페이지 구분 없이 전체 결과를 CSV로 스트리밍
+	 * - 1차 승인자는 담당 지역 예약만 내보냄
+	 *
+	 * @param authentication 현재 로그인된 관리자 정보
+	 * @param keyword        키워드 (예약자명, 공간명)
+	 * @param regionId       지역 ID (Integer)
+	 * @param statusId       상태 ID (Long)
+	 * @param isShinhan      신한 예약 여부
+	 * @param isEmergency    긴급 예약 여부
+	 * @return CSV 파일 스트림 (text/csv, UTF-8)
+	 */
+	@GetMapping("/export")
+	@Operation(
+		summary = "예약 목록 CSV 내보내기",
+		description = "예약 검색과 같은 조건으로 전체 예약 목록을 CSV 파일로 내려받습니다."
+	)
+	public ResponseEntity<StreamingResponseBody> exportReservations(
+		Authentication authentication,
+		@RequestParam(name = "keyword", required = false) String keyword,
+		@RequestParam(name = "regionId", required = false) Integer regionId,
+		@RequestParam(name = "statusId", required = false) Integer statusId,
+		@RequestParam(name = "isShinhan", required = false) Boolean isShinhan,
+		@RequestParam(name = "isEmergency", required = false) Boolean isEmergency
+	) {
+		Long adminId = Long.valueOf((String) authentication.getPrincipal());
+
+		StreamingResponseBody body =
+			reservationExportService.exportReservations(adminId, keyword, regionId, statusId, isShinhan, isEmergency);
+
+		String fileName = "reservations-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmm"))
+			+ ".csv";
+		ContentDisposition disposition = ContentDisposition.attachment().filename(fileName).build();
+		return ResponseEntity.ok()
+			.header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+			.contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+			.body(body);
+	}
 }
@@ -0,0 +1,193 @@
+package Team_Mute.back_end.domain.reservation_admin.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import Team_Mute.back_end.domain.member.session.AdminScope;
+import Team_Mute.back_end.domain.reservation_admin.util.ShinhanGroupUtils;
+
+/**
+ * 관리자 예약 목록 내보내기 레포지토리
+ * - /search와 같은 조건의 예약 목록을 엔티티/리스트 적재 없이 한 행씩 전달
+ * - 읽기 전용 트랜잭션 안에서 forward-only 커서(fetchSize 단위 조회)로 읽음
+ *   (PostgreSQL 드라이버는 autocommit이 꺼져 있고 fetchSize가 지정된 경우에만 커서 사용)
+ * - 1차 승인자는 담당 지역 공간의 예약만 조회 (RservationListAllService와 동일한 범위)
+ * - 정렬은 RservationListAllService와 동일 (역할별 상태 우선순위 → 신청일 최신순)
+ *
+ * @author Team Mute
+ * @since 1.0
+ */
+@Repository
+public class ReservationExportJdbcRepository {
+
+	private static final String SELECT_SQL = """
+		SELECT r.reservation_id, r.order_id, r.reservation_status_id, st.reservation_status_name,
+		  s.space_name, ar.region_name, u.user_name, c.company_name,
+		  r.reservation_headcount, r.reservation_from, r.reservation_to, r.reg_date,
+		  pv.previsit_from, pv.previsit_to
+		FROM tb_reservations r
+		JOIN tb_spaces s ON s.space_id = r.space_id
+		JOIN tb_users u ON u.user_id = r.user_id
+		JOIN tb_reservation_status st ON st.reservation_status_id = r.reservation_status_id
+		LEFT JOIN tb_user_company c ON c.company_id = u.company_id
+		LEFT JOIN tb_admin_region ar ON ar.region_id = s.region_id
+		LEFT JOIN LATERAL (
+		  SELECT p.previsit_from, p.previsit_to
+		  FROM tb_previsit_reservations p
+		  WHERE p.reservation_id = r.reservation_id
+		  ORDER BY p.previsit_from
+		  LIMIT 1
+		) pv ON true
+		WHERE 1 = 1
+		""";
+
+	/**
+	 * 2차 승인자 정렬: 2차 승인 대기 → 1차 승인 대기 → 최종 승인 → 반려 → 이용 완료 → 취소
+	 */
+	private static final String ORDER_SECOND_APPROVER = """
+		ORDER BY CASE r.reservation_status_id
+		  WHEN 2 THEN 1 WHEN 1 THEN 2 WHEN 3 THEN 3 WHEN 4 THEN 4 WHEN 5 THEN 5 WHEN 6 THEN 6 ELSE 99 END,
+		  r.reg_date DESC
+		""";
+
+	private static final String ORDER_DEFAULT = """
+		ORDER BY r.reservation_status_id, r.reg_date DESC
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate readOnlyTx;
+
+	public ReservationExportJdbcRepository(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.readOnlyTx = new TransactionTemplate(transactionManager);
+		this.readOnlyTx.setReadOnly(true);
+	}
+
+	/**
+	 * 조건에 맞는 예약을 한 행씩 전달
+	 *
+	 * 처리 로직:
+	 * 1. 관리자 범위와 검색 조건으로 WHERE 절 구성 (키워드는 정규화된 소문자)
+	 * 2. 읽기 전용 트랜잭션에서 forward-only 커서로 조회
+	 * 3. fetchSize 단위로 가져온 행을 consumer에 순서대로 전달
+	 *
+	 * @param admin 관리자 권한 범위
+	 * @param keyword 정규화된 키워드 (예약자명, 공간명 포함 검색, 없으면 null)
+	 * @param regionId 지역 ID (없으면 null)
+	 * @param statusId 상태 ID (없으면 null)
+	 * @param isShinhan 신한 예약 여부 (없으면 null)
+	 * @param fetchSize 한 번에 가져올 행 수
+	 * @param consumer 행 처리기
+	 */
+	public void stream(AdminScope admin, String keyword, Integer regionId, Integer statusId, Boolean isShinhan,
+		int fetchSize, Consumer<Row> consumer) {
+		// 1. WHERE 절 구성
+		StringBuilder sql = new StringBuilder(SELECT_SQL);
+		List<Object> params = new ArrayList<>();
+		if (admin.isFirstApprover() && admin.regionId() != null) {
+			sql.append(" AND s.region_id = ?");
+			params.add(admin.regionId());
+		}
+		if (keyword != null && !keyword.isEmpty()) {
+			sql.append(" AND (strpos(lower(u.user_name), ?) > 0 OR strpos(lower(s.space_name), ?) > 0)");
+			params.add(keyword);
+			params.add(keyword);
+		}
+		if (regionId != null) {
+			sql.append(" AND s.region_id = ?");
+			params.add(regionId);
+		}
+		if (statusId != null) {
+			sql.append(" AND r.reservation_status_id = ?");
+			params.add(statusId);
+		}
+		if (isShinhan != null) {
+			sql.append(" AND COALESCE(btrim(c.company_name) = ?, false) = ?");
+			params.add(ShinhanGroupUtils.SHINHAN_COMPANY_NAME);
+			params.add(isShinhan);
+		}
+		sql.append('\n').append(admin.isSecondApprover() ? ORDER_SECOND_APPROVER : ORDER_DEFAULT);
+
+		// 2. 커서 조회 및 3. 행 전달
+		String query = sql.toString();
+		RowCallbackHandler handler = rs -> consumer.accept(toRow(rs));
+		readOnlyTx.executeWithoutResult(status -> jdbcTemplate.query(con -> {
+			PreparedStatement ps = con.prepareStatement(query, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+			ps.setFetchSize(fetchSize);
+			for (int i = 0; i < params.size(); i++) {
+				ps.setObject(i + 1, params.get(i));
+			}
+			return ps;
+		}, handler));
+	}
+
+	private Row toRow(ResultSet rs) throws SQLException {
+		return new Row(
+			rs.getLong("reservation_id"),
+			rs.getString("order_id"),
+			rs.getInt("reservation_status_id"),
+			rs.getString("reservation_status_name"),
+			rs.getString("space_name"),
+			rs.getString("region_name"),
+			rs.getString("user_name"),
+			rs.getString("company_name"),
+			(Integer)rs.getObject("reservation_headcount"),
+			toLocalDateTime(rs.getTimestamp("reservation_from")),
+			toLocalDateTime(rs.getTimestamp("reservation_to")),
+			toLocalDateTime(rs.getTimestamp("reg_date")),
+			toLocalDateTime(rs.getTimestamp("previsit_from")),
+			toLocalDateTime(rs.getTimestamp("previsit_to")));
+	}
+
+	private LocalDateTime toLocalDateTime(Timestamp timestamp) {
+		return timestamp != null ? timestamp.toLocalDateTime() : null;
+	}
+
+	/**
+	 * 내보내기 행
+	 *
+	 * @param reservationId 예약 ID
+	 * @param orderId 예약 번호
+	 * @param statusId 예약 상태 ID
+	 * @param statusName 예약 상태명
+	 * @param spaceName 공간명
+	 * @param regionName 지역명
+	 * @param userName 예약자명
+	 * @param companyName 예약자 소속 기업명
+	 * @param headcount 인원
+	 * @param reservationFrom 이용 시작 일시
+	 * @param reservationTo 이용 종료 일시
+	 * @param regDate 신청 일시
+	 * @param previsitFrom 사전답사 시작 일시 (없으면 null)
+	 * @param previsitTo 사전답사 종료 일시 (없으면 null)
+	 */
+	public record Row(
+		Long reservationId,
+		String orderId,
+		Integer statusId,
+		String statusName,
+		String spaceName,
+		String regionName,
+		String userName,
+		String companyName,
+		Integer headcount,
+		LocalDateTime reservationFrom,
+		LocalDateTime reservationTo,
+		LocalDateTime regDate,
+		LocalDateTime previsitFrom,
+		LocalDateTime previsitTo
+	) {
+	}
+}
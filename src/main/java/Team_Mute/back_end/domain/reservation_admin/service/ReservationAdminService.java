@@ -1,10 +1,9 @@
 package Team_Mute.back_end.domain.reservation_admin.service;
 
-import Team_Mute.back_end.domain.member.entity.Admin;
 import Team_Mute.back_end.domain.member.entity.User;
-import Team_Mute.back_end.domain.member.exception.UserNotFoundException;
-import Team_Mute.back_end.domain.member.repository.AdminRepository;
 import Team_Mute.back_end.domain.member.service.EmailService;
+import Team_Mute.back_end.domain.member.session.AdminScope;
+import Team_Mute.back_end.domain.member.session.CurrentPrincipal;
 import Team_Mute.back_end.domain.reservation.entity.Reservation;
 import Team_Mute.back_end.domain.reservation.entity.ReservationStatus;
 import Team_Mute.back_end.domain.reservation_admin.dto.request.RejectRequestDto;
@@ -59,7 +58,7 @@ public class ReservationAdminService {
 	private final AdminReservationRepository adminReservationRepository;
 	private final AdminReservationStatusRepository adminStatusRepository;
 	private final SpaceRepository spaceRepository;
-	private final AdminRepository adminRepository;
+	private final CurrentPrincipal currentPrincipal;
 	private final ReservationLogRepository reservationLogRepository;
 	private final ReservationDetailRepository reservationDetailRepository;
 	private final EmailService emailService;
@@ -71,7 +70,7 @@ public class ReservationAdminService {
 		AdminReservationRepository adminReservationRepository,
 		AdminReservationStatusRepository adminStatusRepository,
 		SpaceRepository spaceRepository,
-		AdminRepository adminRepository,
+		CurrentPrincipal currentPrincipal,
 		ReservationLogRepository reservationLogRepository,
 		ReservationDetailRepository reservationDetailRepository,
 		EmailService emailService
@@ -81,7 +80,7 @@ public class ReservationAdminService {
 		this.adminReservationRepository = adminReservationRepository;
 		this.adminStatusRepository = adminStatusRepository;
 		this.spaceRepository = spaceRepository;
-		this.adminRepository = adminRepository;
+		this.currentPrincipal = currentPrincipal;
 		this.reservationLogRepository = reservationLogRepository;
 		this.reservationDetailRepository = reservationDetailRepository;
 		this.emailService = emailService;
@@ -116,16 +115,15 @@ public class ReservationAdminService {
 		BulkApproveResponseDto resp = new BulkApproveResponseDto();
 		resp.setTotal(ids.size());
 
-		Admin admin = adminRepository.findById(adminId)
-			.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Admin not found"));
+		AdminScope admin = currentPrincipal.admin(adminId);
 
-		Integer roleId = admin.getUserRole().getRoleId();
+		Integer roleId = admin.roleId();
 
 		// 1차 승인자일 경우 1차 승인 처리
 		if (AdminRoleEnum.ROLE_FIRST_APPROVER.getId().equals(roleId)) {
 			for (Long id : ids) {
 				try {
-					ApproveResponseDto r = approvalTxService.approveFirstTx(adminId, id); // 개별 Tx 서비스 호출
+					ApproveResponseDto r = approvalTxService.approveFirstTx(admin, id); // 개별 Tx 서비스 호출
 					resp.add(new BulkApproveItemResultDto(id, true, r.getMessage()));
 					resp.setSuccessCount(resp.getSuccessCount() + 1);
 				} catch (Exception ex) {
@@ -138,7 +136,7 @@ public class ReservationAdminService {
 		else if (AdminRoleEnum.ROLE_SECOND_APPROVER.getId().equals(roleId)) {
 			for (Long id : ids) {
 				try {
-					ApproveResponseDto r = approvalTxService.approveSecondTx(adminId, id); // 개별 Tx 서비스 호출
+					ApproveResponseDto r = approvalTxService.approveSecondTx(admin, id); // 개별 Tx 서비스 호출
 					String finalMsg = r.getMessage(); // "2차 승인 완료"
 
 					resp.add(new BulkApproveItemResultDto(id, true, finalMsg));
@@ -164,15 +162,14 @@ public class ReservationAdminService {
 	 */
 	@Transactional
 	public RejectResponseDto rejectReservation(Long adminId, Long reservationId, RejectRequestDto requestDto) {
-		Admin admin = adminRepository.findById(adminId)
-			.orElseThrow(UserNotFoundException::new);
+		AdminScope admin = currentPrincipal.admin(adminId);
 
 		// 예약 엔티티 조회
 		Reservation reservation = adminReservationRepository.findById(reservationId)
 			.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Reservation not found"));
 
 		// 관리자의 역할 ID
-		Integer roleId = admin.getUserRole().getRoleId();
+		Integer roleId = admin.roleId();
 		Integer reservationRegionId = reservation.getSpace().getRegionId(); // 예약된 공간의 지역ID 조회
 
 		// 현재 승인 상태 ID
@@ -182,7 +179,7 @@ public class ReservationAdminService {
 		if (roleId.equals(AdminRoleEnum.ROLE_SECOND_APPROVER.getId()) || roleId.equals(AdminRoleEnum.ROLE_FIRST_APPROVER.getId())) {
 			// 1차 승인자일 경우 담당 지역 체크 및 1차 승인 완료 건 반려 불가 체크
 			if (roleId.equals(AdminRoleEnum.ROLE_FIRST_APPROVER.getId())) {
-				Integer adminRegionId = admin.getAdminRegion().getRegionId(); // 관리자의 담당 지역 ID
+				Integer adminRegionId = admin.regionId(); // 관리자의 담당 지역 ID
 				if (!reservationRegionId.equals(adminRegionId)) {
 					throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
 						"해당 지역의 반려 권한이 없습니다 담당 지역인지 확인하세요");
@@ -293,17 +290,13 @@ public class ReservationAdminService {
 			: null;
 
 		// 승인 가능 여부(승인 버튼 활성화 여부) 계산
-		Admin admin = adminRepository.findById(adminId)
-			.orElseThrow(UserNotFoundException::new);
-		Integer roleId = admin.getUserRole().getRoleId();
+		AdminScope admin = currentPrincipal.admin(adminId);
+		Integer roleId = admin.roleId();
 
 		Integer reservationRegionId = reservation.getSpace().getRegionId(); // 예약된 공간의 지역ID 조회
 
 		// 관리자 담당 지역 ID
-		Integer adminRegionId = null;
-		if (admin.getAdminRegion() != null) {
-			adminRegionId = admin.getAdminRegion().getRegionId();
-		}
+		Integer adminRegionId = admin.regionId();
 
 		// 승인 가능 여부(승인 버튼 활성화 여부)
 		boolean isApprovable = isApprovableFor(reservationRegionId, adminRegionId, roleId, statusName);
@@ -386,7 +379,7 @@ public class ReservationAdminService {
 	) {
 		// 1. 가공된 전체 데이터 가져오기 (DB 조회 + 관리자 권한/지역 필터링 + 정렬 포함)
 		List<Reservation> allReservations = adminReservationRepository.findAll();
-		Admin admin = adminRepository.findById(adminId).orElseThrow(UserNotFoundException::new);
+		AdminScope admin = currentPrincipal.admin(adminId);
 		List<ReservationListResponseDto> allDtos = rservationListAllService.getReservationListAll(allReservations,
 			admin);
 
@@ -1,8 +1,7 @@
 package Team_Mute.back_end.domain.reservation_admin.service;
 
-import Team_Mute.back_end.domain.member.entity.Admin;
-import Team_Mute.back_end.domain.member.repository.AdminRepository;
 import Team_Mute.back_end.domain.member.service.EmailService;
+import Team_Mute.back_end.domain.member.session.AdminScope;
 import Team_Mute.back_end.domain.reservation.entity.Reservation;
 import Team_Mute.back_end.domain.reservation.entity.ReservationStatus;
 import Team_Mute.back_end.domain.reservation_admin.dto.response.ApproveResponseDto;
@@ -28,7 +27,6 @@ import org.springframework.web.server.ResponseStatusException;
 @RequiredArgsConstructor
 public class ReservationApprovalTxService {
 
-	private final AdminRepository adminRepository;
 	private final AdminReservationRepository adminReservationRepository;
 	private final AdminReservationStatusRepository adminStatusRepository;
 	private final EmailService emailService;
@@ -56,18 +54,15 @@ public class ReservationApprovalTxService {
 	 * 1차 승인 로직을 트랜잭션 단위로 실행
 	 * - 1차 승인자: WAITING_FIRST_APPROVAL(1차 승인 대기) 상태의 예약을 WAITING_SECOND_APPROVAL(2차 승인 대기)로 변경
 	 *
-	 * @param adminId       승인을 요청한 관리자 ID (Long)
+	 * @param admin         승인을 요청한 관리자의 권한 범위 (CurrentPrincipal)
 	 * @param reservationId 승인 대상 예약 ID (Long)
 	 * @return 승인 결과 DTO
 	 * @throws ResponseStatusException 권한, 상태 불일치, 지역 불일치 등 오류 발생 시
 	 */
 	@Transactional // 각 건 단위 트랜잭션
-	public ApproveResponseDto approveFirstTx(Long adminId, Long reservationId) {
-		// 관리자 유효성 및 권한 ID 조회
-		Admin admin = adminRepository.findById(adminId)
-			.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Admin not found"));
-
-		Integer roleId = admin.getUserRole().getRoleId();
+	public ApproveResponseDto approveFirstTx(AdminScope admin, Long reservationId) {
+		// 관리자 권한 ID
+		Integer roleId = admin.roleId();
 
 		// 예약 엔티티 조회
 		Reservation reservation = adminReservationRepository.findById(reservationId)
@@ -90,7 +85,7 @@ public class ReservationApprovalTxService {
 		if (AdminRoleEnum.ROLE_FIRST_APPROVER.getId().equals(roleId) || AdminRoleEnum.ROLE_SECOND_APPROVER.getId().equals(roleId)) {
 			// 1차 승인자일 경우 담당 지역만 승인 가능
 			if (AdminRoleEnum.ROLE_FIRST_APPROVER.getId().equals(roleId)) {
-				Integer adminRegionId = admin.getAdminRegion().getRegionId(); // 관리자의 담당 지역 ID
+				Integer adminRegionId = admin.regionId(); // 관리자의 담당 지역 ID
 				if (!reservationRegionId.equals(adminRegionId)) {
 					throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
 						"해당 지역의 승인 권한이 없습니다 담당 지역인지 확인하세요");
@@ -120,18 +115,15 @@ public class ReservationApprovalTxService {
 	 * - 1차 승인 대기 상태일 경우: WAITING_FIRST_APPROVAL(1차 승인 대기) 상태의 예약을 FINAL_APPROVAL(최종 승인 완료)로 변경
 	 * - 2차 승인 대기 상태일 경우: WAITING_SECOND_APPROVAL(2차 승인 대기) 상태의 예약을 FINAL_APPROVAL(최종 승인 완료)로 변경
 	 *
-	 * @param adminId       승인을 요청한 관리자 ID (Long)
+	 * @param admin         승인을 요청한 관리자의 권한 범위 (CurrentPrincipal)
 	 * @param reservationId 승인 대상 예약 ID (Long)
 	 * @return 승인 결과 DTO
 	 * @throws ResponseStatusException 권한, 상태 불일치 등 오류 발생 시
 	 */
 	@Transactional
-	public ApproveResponseDto approveSecondTx(Long adminId, Long reservationId) {
-		// 관리자 유효성 및 권한 ID 조회
-		Admin admin = adminRepository.findById(adminId)
-			.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Admin not found"));
-
-		Integer roleId = admin.getUserRole().getRoleId();
+	public ApproveResponseDto approveSecondTx(AdminScope admin, Long reservationId) {
+		// 관리자 권한 ID
+		Integer roleId = admin.roleId();
 
 		// 예약 엔티티 조회
 		Reservation reservation = adminReservationRepository.findById(reservationId)
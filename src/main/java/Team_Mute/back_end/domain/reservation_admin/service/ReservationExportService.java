@@ -0,0 +1,172 @@
+package Team_Mute.back_end.domain.reservation_admin.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import Team_Mute.back_end.domain.member.session.AdminScope;
+import Team_Mute.back_end.domain.member.session.CurrentPrincipal;
+import Team_Mute.back_end.domain.reservation_admin.repository.ReservationExportJdbcRepository;
+import Team_Mute.back_end.domain.reservation_admin.util.EmergencyEvaluator;
+import Team_Mute.back_end.domain.reservation_admin.util.ShinhanGroupUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * [관리자 예약 목록 CSV 내보내기] 서비스
+ * - /search와 같은 조건(키워드, 지역, 상태, 신한/긴급 여부)의 예약 목록을 CSV로 스트리밍
+ * - JDBC 커서에서 읽은 행을 바로 응답 스트림에 기록 (결과 크기와 무관하게 힙 사용량 일정)
+ * - 관리자 권한 범위(1차 승인자 담당 지역)는 요청 스레드에서 확정한 뒤 스트리밍 스레드에 전달
+ *   (CurrentPrincipal은 요청 범위 빈이므로 비동기 스레드에서 사용 불가)
+ * - Excel에서 한글이 깨지지 않도록 UTF-8 BOM을 먼저 기록
+ * - 수식으로 해석될 수 있는 값(=, +, -, @로 시작)은 앞에 '를 붙여 CSV 수식 주입 방지
+ *
+ * 메트릭:
+ * - reservation.export.rows : 내보낸 예약 행 수
+ */
+@Slf4j
+@Service
+public class ReservationExportService {
+
+	private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+	private static final String HEADER = "예약ID,예약번호,예약상태,공간명,지역,예약자명,소속기업,인원,"
+		+ "이용시작,이용종료,신청일시,사전답사시작,사전답사종료,신한여부,긴급여부";
+
+	private final ReservationExportJdbcRepository reservationExportJdbcRepository;
+	private final CurrentPrincipal currentPrincipal;
+	private final EmergencyEvaluator emergencyEvaluator;
+	private final MeterRegistry meterRegistry;
+	private final int fetchSize;
+
+	public ReservationExportService(
+		ReservationExportJdbcRepository reservationExportJdbcRepository,
+		CurrentPrincipal currentPrincipal,
+		EmergencyEvaluator emergencyEvaluator,
+		MeterRegistry meterRegistry,
+		@Value("${reservation.export.fetch-size:500}") int fetchSize
+	) {
+		this.reservationExportJdbcRepository = reservationExportJdbcRepository;
+		this.currentPrincipal = currentPrincipal;
+		this.emergencyEvaluator = emergencyEvaluator;
+		this.meterRegistry = meterRegistry;
+		this.fetchSize = fetchSize;
+	}
+
+	/**
+	 * 예약 목록 CSV 스트림 생성
+	 *
+	 * 처리 로직:
+	 * 1. 요청 스레드에서 관리자 권한 범위 확정 및 키워드 정규화
+	 * 2. 스트리밍 스레드에서 커서로 조회하며 긴급 여부 계산/필터링 후 한 행씩 기록
+	 *
+	 * @param adminId     현재 로그인된 관리자 ID
+	 * @param keyword     키워드 (예약자명, 공간명)
+	 * @param regionId    지역 ID
+	 * @param statusId    상태 ID
+	 * @param isShinhan   신한 예약 여부
+	 * @param isEmergency 긴급 예약 여부
+	 * @return 응답 본문에 CSV를 기록하는 StreamingResponseBody
+	 */
+	public StreamingResponseBody exportReservations(
+		Long adminId,
+		String keyword,
+		Integer regionId,
+		Integer statusId,
+		Boolean isShinhan,
+		Boolean isEmergency
+	) {
+		// 1. 요청 스레드에서 권한 범위 확정
+		AdminScope admin = currentPrincipal.admin(adminId);
+		String normalizedKeyword = (keyword == null || keyword.isBlank()) ? null : normalize(keyword.trim());
+
+		// 2. 스트리밍
+		return out -> {
+			Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+			AtomicLong rows = new AtomicLong();
+			writer.write('\uFEFF');
+			writer.write(HEADER);
+			writer.write("\r\n");
+			try {
+				reservationExportJdbcRepository.stream(admin, normalizedKeyword, regionId, statusId, isShinhan,
+					fetchSize, row -> {
+						boolean emergency = emergencyEvaluator.isEmergency(row.reservationFrom(), row.regDate(),
+							row.statusName());
+						if (isEmergency != null && isEmergency != emergency) {
+							return;
+						}
+						writeRow(writer, row, emergency);
+						rows.incrementAndGet();
+					});
+			} catch (UncheckedIOException e) {
+				// 클라이언트 연결 종료 등 (커서와 트랜잭션은 이미 정리됨)
+				log.info("예약 목록 내보내기 중단: adminId={}, {}행 기록 후 {}", adminId, rows.get(), e.getMessage());
+				throw e.getCause();
+			} finally {
+				meterRegistry.counter("reservation.export.rows").increment(rows.get());
+			}
+			writer.flush();
+			log.info("예약 목록 내보내기 완료: adminId={}, {}행", adminId, rows.get());
+		};
+	}
+
+	private void writeRow(Writer writer, ReservationExportJdbcRepository.Row row, boolean emergency) {
+		try {
+			writer.write(String.join(",",
+				String.valueOf(row.reservationId()),
+				cell(row.orderId()),
+				cell(row.statusName()),
+				cell(row.spaceName()),
+				cell(row.regionName()),
+				cell(row.userName()),
+				cell(row.companyName()),
+				row.headcount() != null ? String.valueOf(row.headcount()) : "",
+				format(row.reservationFrom()),
+				format(row.reservationTo()),
+				format(row.regDate()),
+				format(row.previsitFrom()),
+				format(row.previsitTo()),
+				ShinhanGroupUtils.isShinhanCompanyName(row.companyName()) ? "Y" : "N",
+				emergency ? "Y" : "N"));
+			writer.write("\r\n");
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * CSV 셀 값 변환 (따옴표/쉼표/줄바꿈 이스케이프, 수식 주입 방지)
+	 */
+	private String cell(String value) {
+		if (value == null || value.isEmpty()) {
+			return "";
+		}
+		String safe = "=+-@".indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+		if (safe.indexOf(',') >= 0 || safe.indexOf('"') >= 0 || safe.indexOf('\n') >= 0 || safe.indexOf('\r') >= 0) {
+			return '"' + safe.replace("\"", "\"\"") + '"';
+		}
+		return safe;
+	}
+
+	private String format(LocalDateTime value) {
+		return value != null ? value.format(DATE_TIME) : "";
+	}
+
+	/**
+	 * 검색 키워드 정규화 (NFC, 소문자) - ReservationAdminService.searchReservations()와 동일
+	 */
+	private String normalize(String s) {
+		return Normalizer.normalize(s, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+	}
+}
@@ -1,10 +1,10 @@
 package Team_Mute.back_end.domain.reservation_admin.service;
 
-import Team_Mute.back_end.domain.member.entity.Admin;
 import Team_Mute.back_end.domain.member.entity.User;
 import Team_Mute.back_end.domain.member.entity.UserCompany;
 import Team_Mute.back_end.domain.member.repository.UserCompanyRepository;
 import Team_Mute.back_end.domain.member.repository.UserRepository;
+import Team_Mute.back_end.domain.member.session.AdminScope;
 import Team_Mute.back_end.domain.reservation.entity.PrevisitReservation;
 import Team_Mute.back_end.domain.reservation.entity.Reservation;
 import Team_Mute.back_end.domain.reservation.entity.ReservationStatus;
@@ -62,11 +62,11 @@ public class RservationListAllService {
 	 * 전체 예약 리스트를 조회하고, 관리자 권한 및 담당 지역에 따라 필터링 및 정렬하여 DTO로 변환
 	 *
 	 * @param reservations DB에서 조회된 예약 엔티티 리스트
-	 * @param admin        현재 로그인된 관리자 엔티티
+	 * @param admin        현재 로그인된 관리자의 권한 범위 (CurrentPrincipal)
 	 * @return 필터링 및 정렬이 완료된 예약 리스트 DTO
 	 */
-	public List<ReservationListResponseDto> getReservationListAll(List<Reservation> reservations, Admin admin) {
-		Integer adminRole = admin.getUserRole().getRoleId(); // 관리자의 권한 ID
+	public List<ReservationListResponseDto> getReservationListAll(List<Reservation> reservations, AdminScope admin) {
+		Integer adminRole = admin.roleId(); // 관리자의 권한 ID
 		// 예약 리스트 정렬: 관리자의 역할에 따라 정렬 기준을 동적으로 설정
 		reservations = reservations.stream()
 			.sorted(
@@ -74,7 +74,7 @@ public class RservationListAllService {
 				Comparator.comparing(
 						// 람다식의 인자에 타입을 명시
 						(Reservation reservation) -> getStatusOrder(
-							reservation.getReservationStatus().getReservationStatusId(), admin.getUserRole().getRoleId())
+							reservation.getReservationStatus().getReservationStatusId(), adminRole)
 					)
 					// 2차 정렬: 1차 정렬 결과가 같을 경우, 등록일(getRegDate)을 내림차순(최신순)으로 정렬
 					.thenComparing(
@@ -84,12 +84,7 @@ public class RservationListAllService {
 			.collect(Collectors.toList());
 
 		// 관리자 담당 지역 ID 가져오기 (1차 승인자 필터링에 사용)
-		Integer adminRegionId;
-		if (admin.getAdminRegion() != null) {
-			adminRegionId = admin.getAdminRegion().getRegionId();
-		} else {
-			adminRegionId = null;
-		}
+		Integer adminRegionId = admin.regionId();
 
 		// 1차 승인자일 경우 리스트를 관리 지역만 필터링
 		if (adminRole.equals(AdminRoleEnum.ROLE_FIRST_APPROVER.getId()) && adminRegionId != null) {
@@ -156,7 +151,7 @@ public class RservationListAllService {
 			ShinhanGroupUtils.buildIsShinhanByUserId(users, companyNameById);
 
 		// 버튼 클릭 활성화를 위한 권한 체크
-		Integer roleId = admin.getUserRole().getRoleId();
+		Integer roleId = adminRole;
 
 
 		// DTO 변환 및 승인/반려 가능 여부 계산
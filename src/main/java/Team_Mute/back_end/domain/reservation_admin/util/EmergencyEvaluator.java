@@ -4,6 +4,7 @@ import Team_Mute.back_end.domain.reservation.entity.Reservation;
 import Team_Mute.back_end.global.constants.ReservationStatusEnum;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Set;
 import org.springframework.stereotype.Component;
@@ -35,6 +36,18 @@ public class EmergencyEvaluator {
 	 * @return 긴급 예약이면 true
 	 */
 	public boolean isEmergency(Reservation r, String reservationStatusName) {
+		return isEmergency(r.getReservationFrom(), r.getRegDate(), reservationStatusName);
+	}
+
+	/**
+	 * 예약 엔티티 없이 예약 시작 일시/접수 일시로 긴급 여부 판단 (JDBC 조회 결과용)
+	 *
+	 * @param reservationFrom       예약 시작 일시
+	 * @param regDate               예약 접수 일시
+	 * @param reservationStatusName 현재 예약 상태 이름
+	 * @return 긴급 예약이면 true
+	 */
+	public boolean isEmergency(LocalDateTime reservationFrom, LocalDateTime regDate, String reservationStatusName) {
 		// 1. 긴급 예약 판별 대상 상태인지 확인
 		if (reservationStatusName == null || !PENDING_STATUS.contains(reservationStatusName)) {
 			return false;
@@ -43,8 +56,8 @@ public class EmergencyEvaluator {
 
 		// 2. 예약일 임박 체크
 		boolean dueSoon = false;
-		if (r.getReservationFrom() != null) {
-			LocalDate eventDate = r.getReservationFrom().atZone(ZONE).toLocalDate();
+		if (reservationFrom != null) {
+			LocalDate eventDate = reservationFrom.atZone(ZONE).toLocalDate();
 			long daysToEvent = BusinessDayUtils.businessDaysUntil(today, eventDate);
 			// 예: 금요일(today) → 토요일(event): 0 (주말 제외), 0 <= 5 이므로 임박
 			dueSoon = (daysToEvent >= 0) && (daysToEvent <= THRESHOLD);
@@ -52,8 +65,8 @@ public class EmergencyEvaluator {
 
 		// 3. 오래 대기 체크
 		boolean waitingLong = false;
-		if (r.getRegDate() != null) {
-			LocalDate registered = r.getRegDate().atZone(ZONE).toLocalDate();
+		if (regDate != null) {
+			LocalDate registered = regDate.atZone(ZONE).toLocalDate();
 			long waited = BusinessDayUtils.businessDaysElapsed(registered, today);
 			waitingLong = waited >= THRESHOLD;
 		}
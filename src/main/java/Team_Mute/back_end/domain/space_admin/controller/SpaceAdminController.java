@@ -10,6 +10,8 @@ import Team_Mute.back_end.domain.space_admin.dto.response.SpaceListResponseDto;
 import Team_Mute.back_end.domain.space_admin.service.SpaceAdminService;
 import Team_Mute.back_end.domain.space_admin.util.S3Deleter;
 import Team_Mute.back_end.domain.space_admin.util.S3Uploader;
+import Team_Mute.back_end.domain.upload.service.UploadSessionService;
+import Team_Mute.back_end.global.constants.UploadPurposeEnum;
 import Team_Mute.back_end.global.dto.PagedResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -28,10 +30,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.UUID;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -64,6 +68,7 @@ public class SpaceAdminController {
 	private final SpaceAdminService spaceAdminService;
 	private final S3Uploader s3Uploader;
 	private final S3Deleter s3Deleter;
+	private final UploadSessionService uploadSessionService;
 
 	/**
 	 * 공간 전체 조회 (페이징 적용)
@@ -148,11 +153,13 @@ public class SpaceAdminController {
 	/**
 	 * 공간 등록 (이미지 여러 장 포함 - multipart/form-data)
 	 * - 요청 본문은 {@code multipart/form-data}로, 'space'(JSON), 'images'(파일 배열)로 구성
-	 * - 이미지는 'temp' 폴더에 먼저 업로드 후, DB 저장 성공 시 'spaces/{id}'로 이동
+	 * - 이미지는 요청별 'temp/{uuid}' 폴더에 먼저 업로드 후, DB 저장 성공 시 'spaces/{id}'로 이동
+	 * - 'images' 대신 커밋된 업로드 세션 ID(uploadSessionId)를 전달하면 S3에 직접 업로드된 이미지를 사용
 	 *
-	 * @param authentication 현재 로그인한 관리자 정보
-	 * @param spaceJson      공간 정보가 담긴 JSON 문자열
-	 * @param images         업로드된 이미지 파일 리스트
+	 * @param authentication  현재 로그인한 관리자 정보
+	 * @param spaceJson       공간 정보가 담긴 JSON 문자열
+	 * @param images          업로드된 이미지 파일 리스트 (uploadSessionId 사용 시 생략)
+	 * @param uploadSessionId 커밋된 업로드 세션 ID (Optional)
 	 * @return 등록된 공간의 상세 정보와 성공 메시지
 	 **/
 	@PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -174,7 +181,8 @@ public class SpaceAdminController {
 	public ResponseEntity<?> upload(
 		Authentication authentication,
 		@RequestPart("space") String spaceJson,
-		@RequestPart("images") List<MultipartFile> images
+		@RequestPart(value = "images", required = false) List<MultipartFile> images,
+		@RequestParam(value = "uploadSessionId", required = false) String uploadSessionId
 	) {
 		try {
 			// 관리자 권한 아이디
@@ -193,27 +201,48 @@ public class SpaceAdminController {
 				return ResponseEntity.badRequest().body("입력 오류: " + errorMessage);
 			}
 
-			// 업로드 가능한 파일(= null 아니고 비어있지 않은 파일)만 필터링
-			List<MultipartFile> usableImages = (images == null) ? List.of()
-				: images.stream()
-				.filter(f -> f != null && !f.isEmpty())
-				.toList();
+			List<String> tempUrls;
+			String tempFolder;
+			if (uploadSessionId != null && !uploadSessionId.isBlank()) {
+				// S3에 직접 업로드된 이미지 사용 (세션은 등록 완료 후 삭제)
+				tempUrls = uploadSessionService.resolve((String) authentication.getPrincipal(), uploadSessionId,
+					UploadPurposeEnum.SPACE_IMAGE);
+				tempFolder = uploadSessionService.sessionPrefix(UploadPurposeEnum.SPACE_IMAGE, uploadSessionId);
+			} else {
+				// 업로드 가능한 파일(= null 아니고 비어있지 않은 파일)만 필터링
+				List<MultipartFile> usableImages = (images == null) ? List.of()
+					: images.stream()
+					.filter(f -> f != null && !f.isEmpty())
+					.toList();
+
+				// 최소/최대 개수 검증
+				if (usableImages.isEmpty()) {
+					return ResponseEntity.badRequest().body("이미지는 최소 1장은 필요합니다.");
+				}
+				if (usableImages.size() > 5) {
+					return ResponseEntity.badRequest().body("이미지는 최대 5장까지만 업로드할 수 있습니다.");
+				}
+
+				// 이미지를 요청별 임시 폴더에 먼저 업로드 (동시 등록 요청의 임시 파일과 섞이지 않도록 분리)
+				tempFolder = "temp/" + UUID.randomUUID();
+				tempUrls = s3Uploader.uploadAll(usableImages, tempFolder);
+			}
 
-			// 최소/최대 개수 검증
-			if (usableImages.isEmpty()) {
+			if (tempUrls.isEmpty()) {
 				return ResponseEntity.badRequest().body("이미지는 최소 1장은 필요합니다.");
 			}
-			if (usableImages.size() > 5) {
+			if (tempUrls.size() > 5) {
 				return ResponseEntity.badRequest().body("이미지는 최대 5장까지만 업로드할 수 있습니다.");
 			}
 
-			// 이미지를 'temp' 폴더에 먼저 업로드
-			List<String> tempUrls = s3Uploader.uploadAll(images, "temp");
 			Integer id = spaceAdminService.createWithImages(adminId, request, tempUrls);
+			if (uploadSessionId != null && !uploadSessionId.isBlank()) {
+				uploadSessionService.complete(uploadSessionId);
+			}
 
-			// 모든 처리가 성공적으로 완료된 후, 임시 폴더를 삭제
+			// 모든 처리가 성공적으로 완료된 후, 이 요청의 임시 폴더만 삭제
 			try {
-				s3Deleter.deleteFolder("temp");
+				s3Deleter.deleteFolder(tempFolder);
 			} catch (Exception e) {
 				// 삭제 실패 시 로그를 남기지만, 전체 프로세스를 중단시키지는 않습니다.
 				// 메인 작업(공간 등록)은 이미 성공했기 때문입니다.
@@ -313,12 +342,13 @@ public class SpaceAdminController {
 
 	/**
 	 * 공간 삭제
-	 * - DB 데이터 삭제 및 S3 이미지 파일 삭제를 포함
+	 * - 공간을 삭제 중 상태로 전환하고 202 Accepted로 즉시 응답
+	 * - DB 데이터 삭제 및 S3 이미지 파일 삭제는 백그라운드에서 진행 (진행 상황: GET /{spaceId}/deletion)
 	 *
 	 * @param authentication 현재 로그인한 관리자 정보
 	 * @param spaceId        삭제할 공간 ID
 	 * @param confirmDelete  과거 예약 데이터 삭제를 승인하는 플래그 (쿼리 파라미터로 받음)
-	 * @return 삭제 성공 메시지 및 삭제된 공간 ID
+	 * @return 삭제 요청 메시지 및 삭제 요청된 공간 ID
 	 */
 	@DeleteMapping("/{spaceId}")
 	@Parameter(name = "spaceId", in = ParameterIn.PATH, description = "삭제할 공간 ID", required = true)
@@ -332,12 +362,33 @@ public class SpaceAdminController {
 		Long adminId = Long.valueOf((String) authentication.getPrincipal());
 
 		spaceAdminService.deleteSpace(adminId, spaceId, confirmDelete);
-		return ResponseEntity.ok(new DeleteSpaceResponseDto(
-			"공간 삭제 완료",
+		return ResponseEntity.status(HttpStatus.ACCEPTED).body(new DeleteSpaceResponseDto(
+			"공간 삭제 요청 완료",
 			spaceId
 		));
 	}
 
+	/**
+	 * 공간 삭제 진행 상황 조회
+	 * - 공간 삭제와 같은 권한 확인 (마스터 불가, 1차 승인자는 담당 지역 공간만)
+	 *
+	 * @param authentication 현재 로그인한 관리자 정보
+	 * @param spaceId        삭제 요청된 공간 ID
+	 * @return 삭제 작업 상태/진행률 DTO 또는 404 에러 메시지
+	 */
+	@GetMapping("/{spaceId}/deletion")
+	@Parameter(name = "spaceId", in = ParameterIn.PATH, description = "삭제 요청된 공간 ID", required = true)
+	@Operation(summary = "공간 삭제 진행 상황 조회", description = "토큰을 확인하여 공간 삭제 작업의 상태와 진행률을 조회합니다.")
+	public ResponseEntity<?> getDeleteStatus(Authentication authentication, @PathVariable Integer spaceId) {
+		// 관리자 권한 아이디
+		Long adminId = Long.valueOf((String) authentication.getPrincipal());
+		try {
+			return ResponseEntity.ok(spaceAdminService.getDeleteStatus(adminId, spaceId));
+		} catch (NoSuchElementException e) {
+			return ResponseEntity.status(404).body(java.util.Map.of("message", "삭제 요청된 공간이 아닙니다."));
+		}
+	}
+
 	/**
 	 * 지역 아이디로 관리자 리스트 조회
 	 *
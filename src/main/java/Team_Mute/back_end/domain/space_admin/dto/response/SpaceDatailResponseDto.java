@@ -11,7 +11,8 @@ import com.fasterxml.jackson.annotation.JsonRawValue;
  */
 @JsonPropertyOrder({
 	"spaceId", "spaceName", "region", "category", "location", "admin",
-	"spaceCapacity", "spaceLocation", "spaceDescription", "spaceImageUrl", "detailImageUrls",
+	"spaceCapacity", "spaceLocation", "spaceDescription", "spaceImageUrl", "spaceThumbnailUrl", "spaceMediumUrl",
+	"detailImageUrls", "detailThumbnailUrls",
 	"tagNames", "spaceIsAvailable", "reservationWay", "spaceRules", "operations", "closedDays",
 	"regDate", "updDate"
 })
@@ -29,8 +30,14 @@ public interface SpaceDatailResponseDto {
 
 	String getSpaceImageUrl(); // 대표 이미지 경로
 
+	String getSpaceThumbnailUrl(); // 대표 이미지 썸네일 경로 (변환 전이면 원본 경로)
+
+	String getSpaceMediumUrl(); // 대표 이미지 중간 크기 경로 (변환 전이면 원본 경로)
+
 	String[] getDetailImageUrls(); // 상세 이미지 경로 배열
 
+	String[] getDetailThumbnailUrls(); // 상세 이미지 썸네일 경로 배열 (detailImageUrls와 같은 순서)
+
 	Boolean getSpaceIsAvailable(); // 활성화 여부
 
 	String[] getTagNames(); // 태그 이름 배열
@@ -0,0 +1,51 @@
+package Team_Mute.back_end.domain.space_admin.dto.response;
+
+import java.time.LocalDateTime;
+
+import Team_Mute.back_end.domain.space_admin.repository.SpaceDeleteJobRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 공간 삭제 진행 상황 응답 DTO
+ * - 공간 삭제 요청 후 백그라운드 정리 작업의 상태와 진행률을 전달
+ * <p>
+ * 예시 응답(JSON)
+ * {
+ * "spaceId": 10,
+ * "status": "RUNNING",
+ * "reservationsTotal": 1200,
+ * "reservationsDeleted": 500,
+ * "objectsDeleted": 37,
+ * "objectsPending": 0,
+ * ...
+ * }
+ */
+@Getter
+@AllArgsConstructor
+public class SpaceDeleteStatusResponseDto {
+	private final Integer spaceId;
+	private final String status; // PENDING, RUNNING, FAILED, DONE
+	private final int reservationsTotal;
+	private final int reservationsDeleted;
+	private final int objectsDeleted;
+	private final int objectsPending;
+	private final String lastError;
+	private final LocalDateTime requestedAt;
+	private final LocalDateTime updatedAt;
+	private final LocalDateTime finishedAt;
+
+	public static SpaceDeleteStatusResponseDto from(SpaceDeleteJobRepository.Job job) {
+		return new SpaceDeleteStatusResponseDto(
+			job.spaceId(),
+			job.status(),
+			job.reservationsTotal(),
+			job.reservationsDeleted(),
+			job.objectsDeleted(),
+			job.objectsPending(),
+			job.lastError(),
+			job.requestedAt(),
+			job.updatedAt(),
+			job.finishedAt());
+	}
+}
@@ -10,7 +10,7 @@ import com.fasterxml.jackson.annotation.JsonPropertyOrder;
  */
 @JsonPropertyOrder({
 	"spaceId", "spaceName", "regionName", "regionId", "adminName",
-	"spaceImageUrl", "spaceIsAvailable"
+	"spaceImageUrl", "spaceThumbnailUrl", "spaceMediumUrl", "spaceIsAvailable"
 })
 public interface SpaceListResponseDto {
 	Integer getSpaceId(); // 공간 고유 ID
@@ -25,5 +25,9 @@ public interface SpaceListResponseDto {
 
 	String getSpaceImageUrl(); // 대표 이미지 경로
 
+	String getSpaceThumbnailUrl(); // 대표 이미지 썸네일 경로 (변환 전이면 원본 경로)
+
+	String getSpaceMediumUrl(); // 대표 이미지 중간 크기 경로 (변환 전이면 원본 경로)
+
 	Boolean getSpaceIsAvailable(); // 공간 활성화 여부 (true=운영중, false=비활성)
 }
@@ -0,0 +1,94 @@
+package Team_Mute.back_end.domain.space_admin.repository;
+
+import java.util.function.Consumer;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import Team_Mute.back_end.global.util.SchemaChecks;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * S3 객체 참조 조회 레포지토리
+ * - DB에 저장된 S3 URL(공간 대표/상세 이미지, 이미지 변환본, 예약 첨부 파일)을 S3 객체 Key로 변환하여 조회
+ * - Key 순서(COLLATE "C" = UTF-8 바이트 순)로 정렬하여 한 행씩 전달 (S3 ListObjectsV2와 같은 순서)
+ * - 커서(fetch size) 단위로 읽으므로 전체 Key를 메모리에 올리지 않음
+ *
+ * URL → Key 변환:
+ * - s3_key_of(url) 함수: 스킴/호스트 제거 후 %XX 디코딩 ('+'는 공백), S3Deleter/S3Uploader의 URL 해석과 동일
+ * - 함수는 db/migration/V6__s3_key_of.sql로 생성, 빈 초기화 시 없으면 기동 실패
+ *
+ * @author Team Mute
+ * @since 1.0
+ */
+@Repository
+public class S3ObjectReferenceRepository {
+
+	/**
+	 * 접두사로 시작하는 참조 Key 목록 (Key 순 정렬, 중복 가능)
+	 */
+	private static final String KNOWN_KEYS_SQL = """
+		SELECT k.object_key
+		FROM (
+		  SELECT s3_key_of(s.space_image_url) AS object_key
+		  FROM tb_spaces s
+		  WHERE s.space_image_url IS NOT NULL
+		  UNION ALL
+		  SELECT s3_key_of(si.image_url)
+		  FROM tb_space_images si
+		  UNION ALL
+		  SELECT s3_key_of(u.url)
+		  FROM space_image_variant v
+		  CROSS JOIN LATERAL unnest(ARRAY[v.image_url, v.thumb_url, v.medium_url]) AS u(url)
+		  WHERE u.url IS NOT NULL
+		  UNION ALL
+		  SELECT s3_key_of(btrim(u.url))
+		  FROM tb_reservations r
+		  CROSS JOIN LATERAL unnest(string_to_array(r.reservation_attachment, ',')) AS u(url)
+		  WHERE btrim(u.url) <> ''
+		) k
+		WHERE k.object_key IS NOT NULL
+		  AND left(k.object_key, char_length(?)) = ?
+		ORDER BY k.object_key COLLATE "C"
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final JdbcTemplate streamingJdbcTemplate;
+
+	public S3ObjectReferenceRepository(
+		JdbcTemplate jdbcTemplate,
+		DataSource dataSource,
+		@Value("${s3.reconcile.fetch-size:1000}") int fetchSize) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+		this.streamingJdbcTemplate.setFetchSize(fetchSize);
+	}
+
+	/**
+	 * URL → Key 변환 함수 적용 여부 확인
+	 *
+	 * @throws IllegalStateException 마이그레이션이 적용되지 않은 경우
+	 */
+	@PostConstruct
+	void verifySchema() {
+		SchemaChecks.requireFunction(jdbcTemplate, "s3_key_of(text)", "V6__s3_key_of.sql");
+	}
+
+	/**
+	 * 접두사로 시작하는 참조 Key를 Key 순서대로 전달
+	 * - PostgreSQL은 트랜잭션 안에서만 커서(fetch size) 단위로 읽으므로 읽기 전용 트랜잭션에서 실행
+	 *
+	 * @param prefix   S3 Key 접두사
+	 * @param consumer Key 처리 (정렬 순서대로 호출, 같은 Key가 연속으로 올 수 있음)
+	 */
+	@Transactional(readOnly = true)
+	public void streamKnownKeys(String prefix, Consumer<String> consumer) {
+		streamingJdbcTemplate.query(KNOWN_KEYS_SQL, rs -> {
+			consumer.accept(rs.getString("object_key"));
+		}, prefix, prefix);
+	}
+}
@@ -0,0 +1,245 @@
+package Team_Mute.back_end.domain.space_admin.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 공간 부가 정보(태그/운영시간/휴무일) 일괄 저장 레포지토리
+ * - 공간 등록/수정 시 항목별 조회·저장 반복 대신 JDBC 일괄 처리로 왕복 횟수를 줄임
+ * - ID는 각 테이블의 IDENTITY(시퀀스) 기본값으로 채번
+ * - 수정 시 기존 행과 비교하여 실제로 바뀐 행만 삽입/수정/삭제
+ * - 호출하는 서비스의 트랜잭션(같은 커넥션)에서 실행됨
+ *
+ * @author Team Mute
+ * @since 1.0
+ */
+@Repository
+public class SpaceAttributeJdbcRepository {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public SpaceAttributeJdbcRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * 태그명 → 태그 ID 일괄 조회 (없는 태그는 생성)
+	 *
+	 * 처리 로직:
+	 * 1. IN 조회 한 번으로 기존 태그 ID 조회
+	 * 2. 없는 태그를 INSERT ... ON CONFLICT DO NOTHING RETURNING으로 한 번에 생성
+	 * 3. 동시 생성으로 RETURNING에서 빠진 태그는 다시 IN 조회
+	 *
+	 * @param tagNames 태그명 목록 (중복 허용)
+	 * @return 태그 ID 집합
+	 */
+	public Set<Integer> resolveTagIds(Collection<String> tagNames) {
+		Set<String> names = new LinkedHashSet<>(tagNames);
+		if (names.isEmpty()) {
+			return Collections.emptySet();
+		}
+
+		// 1. 기존 태그 조회
+		Map<String, Integer> ids = findTagIds(names);
+
+		// 2. 없는 태그 생성
+		List<String> missing = names.stream().filter(name -> !ids.containsKey(name)).toList();
+		if (!missing.isEmpty()) {
+			String values = String.join(", ", Collections.nCopies(missing.size(), "(?, now())"));
+			jdbcTemplate.query(
+				"INSERT INTO tb_space_tags (tag_name, reg_date) VALUES " + values
+					+ " ON CONFLICT (tag_name) DO NOTHING RETURNING tag_id, tag_name",
+				rs -> {
+					ids.put(rs.getString("tag_name"), rs.getInt("tag_id"));
+				},
+				missing.toArray());
+
+			// 3. 다른 트랜잭션이 먼저 생성한 태그 재조회
+			List<String> raced = missing.stream().filter(name -> !ids.containsKey(name)).toList();
+			if (!raced.isEmpty()) {
+				ids.putAll(findTagIds(raced));
+			}
+		}
+		return new HashSet<>(ids.values());
+	}
+
+	/**
+	 * 공간 태그 매핑 교체 (추가/삭제된 태그만 반영)
+	 *
+	 * @param spaceId 공간 ID
+	 * @param tagIds  최종 태그 ID 집합
+	 */
+	public void replaceTagMaps(Integer spaceId, Set<Integer> tagIds) {
+		Set<Integer> existing = new HashSet<>(jdbcTemplate.queryForList(
+			"SELECT tag_id FROM tb_space_tag_map WHERE space_id = ?", Integer.class, spaceId));
+
+		List<Object[]> deletes = existing.stream()
+			.filter(tagId -> !tagIds.contains(tagId))
+			.map(tagId -> new Object[] {spaceId, tagId})
+			.toList();
+		if (!deletes.isEmpty()) {
+			jdbcTemplate.batchUpdate("DELETE FROM tb_space_tag_map WHERE space_id = ? AND tag_id = ?", deletes);
+		}
+
+		List<Object[]> inserts = tagIds.stream()
+			.filter(tagId -> !existing.contains(tagId))
+			.map(tagId -> new Object[] {spaceId, tagId})
+			.toList();
+		if (!inserts.isEmpty()) {
+			jdbcTemplate.batchUpdate("""
+				INSERT INTO tb_space_tag_map (space_id, tag_id, reg_date)
+				VALUES (?, ?, now())
+				ON CONFLICT (space_id, tag_id) DO NOTHING
+				""", inserts);
+		}
+	}
+
+	/**
+	 * 공간 운영시간 교체 (요일 기준 비교, 값이 바뀐 요일만 반영)
+	 *
+	 * @param spaceId    공간 ID
+	 * @param operations 최종 운영시간 목록 (요일별 1건)
+	 */
+	public void replaceOperations(Integer spaceId, List<OperationRow> operations) {
+		Map<Integer, OperationRow> existingByDay = new HashMap<>();
+		List<Object[]> deletes = new ArrayList<>();
+		jdbcTemplate.query(
+			"SELECT operation_id, day, operation_from, operation_to, is_open FROM tb_space_operation WHERE space_id = ?",
+			rs -> {
+				OperationRow row = new OperationRow(
+					rs.getInt("operation_id"),
+					rs.getInt("day"),
+					rs.getObject("operation_from", LocalTime.class),
+					rs.getObject("operation_to", LocalTime.class),
+					rs.getBoolean("is_open"));
+				// 같은 요일이 중복 저장되어 있으면 하나만 남기고 삭제
+				if (existingByDay.putIfAbsent(row.day(), row) != null) {
+					deletes.add(new Object[] {row.id()});
+				}
+			},
+			spaceId);
+
+		Set<Integer> requestedDays = new HashSet<>();
+		List<Object[]> inserts = new ArrayList<>();
+		List<Object[]> updates = new ArrayList<>();
+		for (OperationRow op : operations) {
+			requestedDays.add(op.day());
+			OperationRow current = existingByDay.get(op.day());
+			if (current == null) {
+				inserts.add(new Object[] {spaceId, op.day(), op.from(), op.to(), op.open()});
+			} else if (!current.sameValues(op)) {
+				updates.add(new Object[] {op.from(), op.to(), op.open(), current.id()});
+			}
+		}
+		existingByDay.values().stream()
+			.filter(row -> !requestedDays.contains(row.day()))
+			.forEach(row -> deletes.add(new Object[] {row.id()}));
+
+		if (!deletes.isEmpty()) {
+			jdbcTemplate.batchUpdate("DELETE FROM tb_space_operation WHERE operation_id = ?", deletes);
+		}
+		if (!updates.isEmpty()) {
+			jdbcTemplate.batchUpdate(
+				"UPDATE tb_space_operation SET operation_from = ?, operation_to = ?, is_open = ? WHERE operation_id = ?",
+				updates);
+		}
+		if (!inserts.isEmpty()) {
+			jdbcTemplate.batchUpdate(
+				"INSERT INTO tb_space_operation (space_id, day, operation_from, operation_to, is_open) VALUES (?, ?, ?, ?, ?)",
+				inserts);
+		}
+	}
+
+	/**
+	 * 공간 휴무일 교체 (시작/종료 일시 기준 비교, 추가/삭제된 기간만 반영)
+	 *
+	 * @param spaceId    공간 ID
+	 * @param closedDays 최종 휴무일 목록
+	 */
+	public void replaceClosedDays(Integer spaceId, List<ClosedDayRow> closedDays) {
+		List<ClosedDayRow> existing = jdbcTemplate.query(
+			"SELECT closed_id, closed_from, closed_to FROM tb_space_closedday WHERE space_id = ?",
+			(rs, rowNum) -> new ClosedDayRow(
+				rs.getInt("closed_id"),
+				rs.getTimestamp("closed_from").toLocalDateTime(),
+				rs.getTimestamp("closed_to").toLocalDateTime()),
+			spaceId);
+
+		// 요청 기간과 같은 기존 행은 하나씩 짝지어 유지, 짝이 없는 기존 행은 삭제
+		List<ClosedDayRow> unmatched = new ArrayList<>(existing);
+		List<Object[]> inserts = new ArrayList<>();
+		for (ClosedDayRow closed : closedDays) {
+			ClosedDayRow match = unmatched.stream().filter(row -> row.samePeriod(closed)).findFirst().orElse(null);
+			if (match != null) {
+				unmatched.remove(match);
+			} else {
+				inserts.add(new Object[] {spaceId, Timestamp.valueOf(closed.from()), Timestamp.valueOf(closed.to())});
+			}
+		}
+
+		if (!unmatched.isEmpty()) {
+			jdbcTemplate.batchUpdate("DELETE FROM tb_space_closedday WHERE closed_id = ?",
+				unmatched.stream().map(row -> new Object[] {row.id()}).toList());
+		}
+		if (!inserts.isEmpty()) {
+			jdbcTemplate.batchUpdate(
+				"INSERT INTO tb_space_closedday (space_id, closed_from, closed_to) VALUES (?, ?, ?)", inserts);
+		}
+	}
+
+	private Map<String, Integer> findTagIds(Collection<String> names) {
+		Map<String, Integer> ids = new HashMap<>();
+		String placeholders = String.join(", ", Collections.nCopies(names.size(), "?"));
+		jdbcTemplate.query(
+			"SELECT tag_id, tag_name FROM tb_space_tags WHERE tag_name IN (" + placeholders + ")",
+			rs -> {
+				ids.put(rs.getString("tag_name"), rs.getInt("tag_id"));
+			},
+			names.toArray());
+		return ids;
+	}
+
+	/**
+	 * 운영시간 행
+	 *
+	 * @param id   운영시간 ID (신규 요청 항목이면 null)
+	 * @param day  요일 (1=월 ~ 7=일)
+	 * @param from 시작 시각
+	 * @param to   종료 시각
+	 * @param open 운영 여부
+	 */
+	public record OperationRow(Integer id, Integer day, LocalTime from, LocalTime to, boolean open) {
+
+		boolean sameValues(OperationRow other) {
+			return open == other.open && Objects.equals(from, other.from) && Objects.equals(to, other.to);
+		}
+	}
+
+	/**
+	 * 휴무일 행
+	 *
+	 * @param id   휴무일 ID (신규 요청 항목이면 null)
+	 * @param from 시작 일시
+	 * @param to   종료 일시
+	 */
+	public record ClosedDayRow(Integer id, LocalDateTime from, LocalDateTime to) {
+
+		boolean samePeriod(ClosedDayRow other) {
+			return Objects.equals(from, other.from) && Objects.equals(to, other.to);
+		}
+	}
+}
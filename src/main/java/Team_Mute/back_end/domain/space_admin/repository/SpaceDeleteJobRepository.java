@@ -0,0 +1,257 @@
+package Team_Mute.back_end.domain.space_admin.repository;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import Team_Mute.back_end.global.util.SchemaChecks;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * 공간 삭제 작업(space_delete_job) 레포지토리
+ * - 공간 삭제 요청 시 작업 행을 남겨 삭제 중(tombstone) 상태를 표시하고, 백그라운드 정리 작업의 진행 상황을 기록
+ * - 작업 행이 있는 공간은 조회/검색/예약/수정 대상에서 제외
+ * - pending_urls: DB 행은 삭제되었지만 아직 S3에서 지우지 못한 객체 URL (재시작 시 이어서 삭제)
+ *
+ * 상태:
+ * - PENDING: 요청됨, RUNNING: 정리 중, FAILED: 실패(다음 점검 시 재시도), DONE: 완료
+ *
+ * 스키마 구성:
+ * - 테이블은 db/migration/V4__space_delete_job.sql
+ * - 빈 초기화 시 없으면 기동 실패
+ *
+ * @author Team Mute
+ * @since 1.0
+ */
+@Repository
+public class SpaceDeleteJobRepository {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public SpaceDeleteJobRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * 삭제 작업 테이블 적용 여부 확인
+	 *
+	 * @throws IllegalStateException 마이그레이션이 적용되지 않은 경우
+	 */
+	@PostConstruct
+	void verifySchema() {
+		SchemaChecks.requireColumns(jdbcTemplate, "space_delete_job", "V4__space_delete_job.sql", "region_id");
+	}
+
+	/**
+	 * 삭제 작업 등록 (tombstone)
+	 * - 삭제 대상 예약 수를 함께 기록 (진행률 표시용)
+	 *
+	 * @param spaceId     공간 ID
+	 * @param regionId    공간의 지역 ID (진행 상황 조회 권한 확인용)
+	 * @param requestedBy 요청 관리자 ID
+	 * @return 새로 등록했으면 true, 이미 삭제 작업이 있으면 false
+	 */
+	public boolean create(Integer spaceId, Integer regionId, Long requestedBy) {
+		return jdbcTemplate.update("""
+			INSERT INTO space_delete_job (space_id, region_id, requested_by, status, reservations_total)
+			SELECT ?, ?, ?, 'PENDING', (SELECT COUNT(*) FROM tb_reservations WHERE space_id = ?)
+			ON CONFLICT (space_id) DO NOTHING
+			""", spaceId, regionId, requestedBy, spaceId) == 1;
+	}
+
+	/**
+	 * 삭제 중(또는 삭제 완료)인 공간인지 확인
+	 *
+	 * @param spaceId 공간 ID
+	 * @return 삭제 작업이 있으면 true
+	 */
+	public boolean exists(Integer spaceId) {
+		return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+			"SELECT EXISTS (SELECT 1 FROM space_delete_job WHERE space_id = ?)", Boolean.class, spaceId));
+	}
+
+	/**
+	 * 작업 실행권 획득
+	 * - PENDING/FAILED 작업, 또는 갱신이 staleSeconds 이상 멈춘 RUNNING 작업(중단된 노드)만 획득 가능
+	 *
+	 * @param spaceId      공간 ID
+	 * @param staleSeconds RUNNING 작업을 중단된 것으로 간주할 시간(초)
+	 * @return 획득했으면 true
+	 */
+	public boolean claim(Integer spaceId, long staleSeconds) {
+		return jdbcTemplate.update("""
+			UPDATE space_delete_job
+			SET status = 'RUNNING', updated_at = now()
+			WHERE space_id = ?
+			  AND (status IN ('PENDING', 'FAILED')
+			       OR (status = 'RUNNING' AND updated_at < now() - make_interval(secs => ?)))
+			""", spaceId, staleSeconds) == 1;
+	}
+
+	/**
+	 * 재개 대상 작업 조회 (PENDING/FAILED, 멈춘 RUNNING)
+	 *
+	 * @param staleSeconds RUNNING 작업을 중단된 것으로 간주할 시간(초)
+	 * @return 공간 ID 리스트
+	 */
+	public List<Integer> findResumable(long staleSeconds) {
+		return jdbcTemplate.queryForList("""
+			SELECT space_id FROM space_delete_job
+			WHERE status IN ('PENDING', 'FAILED')
+			   OR (status = 'RUNNING' AND updated_at < now() - make_interval(secs => ?))
+			ORDER BY requested_at
+			""", Integer.class, staleSeconds);
+	}
+
+	/**
+	 * 삭제 진행 상황 조회
+	 *
+	 * @param spaceId 공간 ID
+	 * @return 작업 정보
+	 */
+	public Optional<Job> find(Integer spaceId) {
+		return jdbcTemplate.query("""
+			SELECT space_id, region_id, status, reservations_total, reservations_deleted, objects_deleted,
+			       pending_urls, last_error, requested_at, updated_at, finished_at
+			FROM space_delete_job WHERE space_id = ?
+			""", (rs, rowNum) -> toJob(rs), spaceId).stream().findFirst();
+	}
+
+	/**
+	 * 삭제된 예약 수 반영 및 S3 삭제 대기 URL 추가 (정리 트랜잭션 안에서 호출)
+	 *
+	 * @param spaceId             공간 ID
+	 * @param reservationsDeleted 이번에 삭제한 예약 수
+	 * @param urls                S3 삭제 대기 URL
+	 */
+	public void recordChunk(Integer spaceId, int reservationsDeleted, Collection<String> urls) {
+		String[] pending = urls.toArray(String[]::new);
+		jdbcTemplate.update(con -> {
+			PreparedStatement ps = con.prepareStatement("""
+				UPDATE space_delete_job
+				SET reservations_deleted = reservations_deleted + ?,
+				    pending_urls = pending_urls || ?,
+				    updated_at = now()
+				WHERE space_id = ?
+				""");
+			ps.setInt(1, reservationsDeleted);
+			ps.setArray(2, con.createArrayOf("text", pending));
+			ps.setInt(3, spaceId);
+			return ps;
+		});
+	}
+
+	/**
+	 * S3 삭제 대기 URL 조회
+	 *
+	 * @param spaceId 공간 ID
+	 * @return 대기 URL 리스트
+	 */
+	public List<String> findPendingUrls(Integer spaceId) {
+		return jdbcTemplate.query("SELECT pending_urls FROM space_delete_job WHERE space_id = ?",
+			(rs, rowNum) -> toList(rs.getArray("pending_urls")), spaceId).stream().findFirst().orElse(List.of());
+	}
+
+	/**
+	 * S3 삭제 완료한 대기 URL 제거 및 삭제 객체 수 반영
+	 *
+	 * @param spaceId 공간 ID
+	 * @param deleted 삭제 완료한 URL 수 (대기 목록 앞에서부터)
+	 */
+	public void clearPendingUrls(Integer spaceId, int deleted) {
+		jdbcTemplate.update("""
+			UPDATE space_delete_job
+			SET pending_urls = pending_urls[? + 1:],
+			    objects_deleted = objects_deleted + ?,
+			    updated_at = now()
+			WHERE space_id = ?
+			""", deleted, deleted, spaceId);
+	}
+
+	/**
+	 * 작업 완료 처리
+	 *
+	 * @param spaceId 공간 ID
+	 */
+	public void markDone(Integer spaceId) {
+		jdbcTemplate.update("""
+			UPDATE space_delete_job
+			SET status = 'DONE', last_error = NULL, updated_at = now(), finished_at = now()
+			WHERE space_id = ?
+			""", spaceId);
+	}
+
+	/**
+	 * 작업 실패 처리 (다음 점검 시 이어서 재시도)
+	 *
+	 * @param spaceId 공간 ID
+	 * @param error   오류 메시지
+	 */
+	public void markFailed(Integer spaceId, String error) {
+		jdbcTemplate.update("""
+			UPDATE space_delete_job
+			SET status = 'FAILED', last_error = ?, updated_at = now()
+			WHERE space_id = ?
+			""", error, spaceId);
+	}
+
+	private static Job toJob(ResultSet rs) throws SQLException {
+		Timestamp finishedAt = rs.getTimestamp("finished_at");
+		return new Job(
+			rs.getInt("space_id"),
+			(Integer)rs.getObject("region_id"),
+			rs.getString("status"),
+			rs.getInt("reservations_total"),
+			rs.getInt("reservations_deleted"),
+			rs.getInt("objects_deleted"),
+			toList(rs.getArray("pending_urls")).size(),
+			rs.getString("last_error"),
+			rs.getTimestamp("requested_at").toLocalDateTime(),
+			rs.getTimestamp("updated_at").toLocalDateTime(),
+			finishedAt == null ? null : finishedAt.toLocalDateTime());
+	}
+
+	private static List<String> toList(Array array) throws SQLException {
+		return array == null ? Collections.emptyList() : Arrays.asList((String[])array.getArray());
+	}
+
+	/**
+	 * 삭제 작업 행
+	 *
+	 * @param spaceId             공간 ID
+	 * @param regionId            공간의 지역 ID (기존 작업은 null)
+	 * @param status              상태 (PENDING, RUNNING, FAILED, DONE)
+	 * @param reservationsTotal   삭제 대상 예약 수
+	 * @param reservationsDeleted 삭제한 예약 수
+	 * @param objectsDeleted      삭제한 S3 객체 수
+	 * @param objectsPending      S3 삭제 대기 객체 수
+	 * @param lastError           마지막 오류 메시지
+	 * @param requestedAt         요청 시각
+	 * @param updatedAt           마지막 진행 시각
+	 * @param finishedAt          완료 시각
+	 */
+	public record Job(
+		Integer spaceId,
+		Integer regionId,
+		String status,
+		int reservationsTotal,
+		int reservationsDeleted,
+		int objectsDeleted,
+		int objectsPending,
+		String lastError,
+		LocalDateTime requestedAt,
+		LocalDateTime updatedAt,
+		LocalDateTime finishedAt) {
+	}
+}
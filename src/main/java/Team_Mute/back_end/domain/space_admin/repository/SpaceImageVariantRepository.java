@@ -0,0 +1,136 @@
+package Team_Mute.back_end.domain.space_admin.repository;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import Team_Mute.back_end.global.util.SchemaChecks;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * 공간 이미지 변환본(space_image_variant) 관리 레포지토리
+ * - 원본 이미지 URL마다 썸네일/중간 크기 변환본 URL을 한 행으로 보관
+ * - 변환할 수 없는 원본(지원하지 않는 형식 등)은 변환본 URL을 NULL로 기록하여 재시도하지 않음
+ * - 조회 쿼리는 LEFT JOIN 후 COALESCE(변환본, 원본)으로 사용 (변환 전이면 원본 URL 노출)
+ *
+ * 스키마 구성:
+ * - 테이블은 db/migration/V5__space_image_variant.sql
+ * - 빈 초기화 시 없으면 기동 실패
+ *
+ * @author Team Mute
+ * @since 1.0
+ */
+@Repository
+public class SpaceImageVariantRepository {
+
+	/**
+	 * 공간에 연결된 이미지 URL 집합 (대표 이미지 + 상세 이미지, 삭제 요청된 공간 제외)
+	 */
+	private static final String SPACE_IMAGES_SQL = """
+		SELECT s.space_id, s.space_image_url AS image_url
+		FROM tb_spaces s
+		WHERE s.space_image_url IS NOT NULL
+		  AND NOT EXISTS (SELECT 1 FROM space_delete_job j WHERE j.space_id = s.space_id)
+		UNION
+		SELECT si.space_id, si.image_url
+		FROM tb_space_images si
+		WHERE NOT EXISTS (SELECT 1 FROM space_delete_job j WHERE j.space_id = si.space_id)
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public SpaceImageVariantRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * 변환본 테이블 적용 여부 확인
+	 *
+	 * @throws IllegalStateException 마이그레이션이 적용되지 않은 경우
+	 */
+	@PostConstruct
+	void verifySchema() {
+		SchemaChecks.requireRelation(jdbcTemplate, "space_image_variant", "V5__space_image_variant.sql");
+	}
+
+	/**
+	 * 변환본이 아직 없는 공간 이미지 URL 조회
+	 *
+	 * @param spaceId 공간 ID
+	 * @return 원본 이미지 URL 리스트
+	 */
+	public List<String> findPendingImageUrls(Integer spaceId) {
+		return jdbcTemplate.queryForList("""
+			SELECT u.image_url
+			FROM (%s) u
+			WHERE u.space_id = ?
+			  AND NOT EXISTS (SELECT 1 FROM space_image_variant v WHERE v.image_url = u.image_url)
+			""".formatted(SPACE_IMAGES_SQL), String.class, spaceId);
+	}
+
+	/**
+	 * 변환본이 아직 없는 이미지를 가진 공간 ID 조회
+	 *
+	 * @return 공간 ID 리스트
+	 */
+	public List<Integer> findSpaceIdsWithPendingImages() {
+		return jdbcTemplate.queryForList("""
+			SELECT DISTINCT u.space_id
+			FROM (%s) u
+			WHERE NOT EXISTS (SELECT 1 FROM space_image_variant v WHERE v.image_url = u.image_url)
+			""".formatted(SPACE_IMAGES_SQL), Integer.class);
+	}
+
+	/**
+	 * 변환본 URL 저장 (이미 있으면 갱신)
+	 *
+	 * @param imageUrl  원본 이미지 URL
+	 * @param thumbUrl  썸네일 URL (변환 실패 시 null)
+	 * @param mediumUrl 중간 크기 URL (변환 실패 시 null)
+	 */
+	public void save(String imageUrl, String thumbUrl, String mediumUrl) {
+		jdbcTemplate.update("""
+			INSERT INTO space_image_variant (image_url, thumb_url, medium_url)
+			VALUES (?, ?, ?)
+			ON CONFLICT (image_url) DO UPDATE SET
+			  thumb_url  = EXCLUDED.thumb_url,
+			  medium_url = EXCLUDED.medium_url,
+			  reg_date   = now()
+			""", imageUrl, thumbUrl, mediumUrl);
+	}
+
+	/**
+	 * 원본 이미지가 더 이상 어떤 공간에도 연결되지 않은 변환본 조회
+	 *
+	 * @return 고아 변환본 리스트
+	 */
+	public List<Variant> findOrphans() {
+		return jdbcTemplate.query("""
+			SELECT v.image_url, v.thumb_url, v.medium_url
+			FROM space_image_variant v
+			WHERE NOT EXISTS (SELECT 1 FROM tb_spaces s WHERE s.space_image_url = v.image_url)
+			  AND NOT EXISTS (SELECT 1 FROM tb_space_images si WHERE si.image_url = v.image_url)
+			""", (rs, rowNum) -> new Variant(
+			rs.getString("image_url"), rs.getString("thumb_url"), rs.getString("medium_url")));
+	}
+
+	/**
+	 * 변환본 행 삭제
+	 *
+	 * @param imageUrl 원본 이미지 URL
+	 */
+	public void delete(String imageUrl) {
+		jdbcTemplate.update("DELETE FROM space_image_variant WHERE image_url = ?", imageUrl);
+	}
+
+	/**
+	 * 변환본 행
+	 *
+	 * @param imageUrl  원본 이미지 URL
+	 * @param thumbUrl  썸네일 URL
+	 * @param mediumUrl 중간 크기 URL
+	 */
+	public record Variant(String imageUrl, String thumbUrl, String mediumUrl) {
+	}
+}
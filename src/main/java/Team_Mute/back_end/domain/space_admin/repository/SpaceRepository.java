@@ -21,6 +21,7 @@ import org.springframework.stereotype.Repository;
  * - 목록/상세는 Native Query + 인터페이스 Projection으로 매핑
  * - 상세 조회는 PostgreSQL json_build_object/json_agg 등을 사용해
  * 연관 데이터(지역/카테고리/위치/태그/운영시간/휴무일)를 한 번에 조립
+ * - 삭제 요청된 공간(space_delete_job)은 목록/상세 조회에서 제외
  */
 @Repository
 public interface SpaceRepository extends JpaRepository<Space, Integer> {
@@ -65,13 +66,17 @@ public interface SpaceRepository extends JpaRepository<Space, Integer> {
 			  ), '알 수 없음'
 		        ) AS adminName,
 		     s.space_image_url    AS spaceImageUrl,
+		     COALESCE(v.thumb_url,  s.space_image_url) AS spaceThumbnailUrl,
+		     COALESCE(v.medium_url, s.space_image_url) AS spaceMediumUrl,
 		     s.space_is_available AS spaceIsAvailable
 
 		   FROM tb_spaces s
 		   JOIN tb_admin_region     r ON r.region_id   = s.region_id
+		   LEFT JOIN space_image_variant v ON v.image_url = s.space_image_url
+		   WHERE NOT EXISTS (SELECT 1 FROM space_delete_job j WHERE j.space_id = s.space_id)
 		   ORDER BY s.region_id ASC, s.reg_date DESC
 		""",
-		countQuery = "SELECT COUNT(*) FROM tb_spaces",
+		countQuery = "SELECT COUNT(*) FROM tb_spaces s WHERE NOT EXISTS (SELECT 1 FROM space_delete_job j WHERE j.space_id = s.space_id)",
 		nativeQuery = true)
 	Page<SpaceListResponseDto> findAllWithNames(Pageable pageable);
 
@@ -99,13 +104,17 @@ public interface SpaceRepository extends JpaRepository<Space, Integer> {
 		     ), '알 수 없음'
 		        ) AS adminName,
 		     s.space_image_url    AS spaceImageUrl,
+		     COALESCE(v.thumb_url,  s.space_image_url) AS spaceThumbnailUrl,
+		     COALESCE(v.medium_url, s.space_image_url) AS spaceMediumUrl,
 		     s.space_is_available AS spaceIsAvailable
 		   FROM tb_spaces s
 		   JOIN tb_admin_region r ON r.region_id = s.region_id
+		   LEFT JOIN space_image_variant v ON v.image_url = s.space_image_url
 		   WHERE s.region_id = :adminRegionId
+		     AND NOT EXISTS (SELECT 1 FROM space_delete_job j WHERE j.space_id = s.space_id)
 		   ORDER BY s.region_id ASC, s.reg_date DESC
 		""",
-		countQuery = "SELECT COUNT(*) FROM tb_spaces WHERE region_id = :adminRegionId",
+		countQuery = "SELECT COUNT(*) FROM tb_spaces s WHERE s.region_id = :adminRegionId AND NOT EXISTS (SELECT 1 FROM space_delete_job j WHERE j.space_id = s.space_id)",
 		nativeQuery = true)
 	Page<SpaceListResponseDto> findAllByAdminRegion(Pageable pageable, @Param("adminRegionId") Integer adminRegionId);
 
@@ -137,14 +146,18 @@ public interface SpaceRepository extends JpaRepository<Space, Integer> {
 			  ), '알 수 없음'
 		        ) AS adminName,
 		     s.space_image_url    AS spaceImageUrl,
+		     COALESCE(v.thumb_url,  s.space_image_url) AS spaceThumbnailUrl,
+		     COALESCE(v.medium_url, s.space_image_url) AS spaceMediumUrl,
 		     s.space_is_available AS spaceIsAvailable
 
 		   FROM tb_spaces s
 		   JOIN tb_admin_region     r ON r.region_id   = s.region_id
+		   LEFT JOIN space_image_variant v ON v.image_url = s.space_image_url
 		   WHERE s.region_id = :regionId
+		     AND NOT EXISTS (SELECT 1 FROM space_delete_job j WHERE j.space_id = s.space_id)
 		   ORDER BY s.reg_date DESC
 		""",
-		countQuery = "SELECT COUNT(*) FROM tb_spaces WHERE region_id = :regionId",
+		countQuery = "SELECT COUNT(*) FROM tb_spaces s WHERE s.region_id = :regionId AND NOT EXISTS (SELECT 1 FROM space_delete_job j WHERE j.space_id = s.space_id)",
 		nativeQuery = true)
 	Page<SpaceListResponseDto> findAllWithRegion(Pageable pageable, @Param("regionId") Integer regionId);
 
@@ -207,6 +220,8 @@ public interface SpaceRepository extends JpaRepository<Space, Integer> {
 		  s.space_capacity     AS spaceCapacity,
 		  s.space_description  AS spaceDescription,
 		  s.space_image_url    AS spaceImageUrl,
+		  COALESCE(v.thumb_url,  s.space_image_url) AS spaceThumbnailUrl,
+		  COALESCE(v.medium_url, s.space_image_url) AS spaceMediumUrl,
 		  s.space_is_available AS spaceIsAvailable,
 		  s.reservation_way    AS reservationWay,
 		  s.space_rules        AS spaceRules,
@@ -217,6 +232,14 @@ public interface SpaceRepository extends JpaRepository<Space, Integer> {
 			   WHERE si.space_id = s.space_id
 				 AND (s.space_image_url IS NULL OR si.image_url <> s.space_image_url)
 			 ), ARRAY[]::text[]) AS detailImageUrls,
+		  /* 상세 이미지 썸네일 (변환 전이면 원본) */
+			 COALESCE((
+			   SELECT array_agg(COALESCE(sv.thumb_url, si.image_url) ORDER BY si.image_priority ASC, si.image_id ASC)
+			   FROM tb_space_images si
+			   LEFT JOIN space_image_variant sv ON sv.image_url = si.image_url
+			   WHERE si.space_id = s.space_id
+				 AND (s.space_image_url IS NULL OR si.image_url <> s.space_image_url)
+			 ), ARRAY[]::text[]) AS detailThumbnailUrls,
 
 		 /* 태그 배열 */
 			 COALESCE((
@@ -259,24 +282,40 @@ public interface SpaceRepository extends JpaRepository<Space, Integer> {
 
 		FROM tb_spaces s
 		JOIN tb_admin_region     r ON r.region_id   = s.region_id
+		LEFT JOIN space_image_variant v ON v.image_url = s.space_image_url
 		JOIN tb_space_categories c ON c.category_id = s.category_id
 		JOIN tb_locations        l ON l.location_id = s.location_id
 		LEFT JOIN tb_admins       a ON a.admin_id    = s.user_id
 		LEFT JOIN tb_user_roles   ur ON ur.role_id    = a.role_id
 		WHERE s.space_id = :spaceId
+		  AND NOT EXISTS (SELECT 1 FROM space_delete_job j WHERE j.space_id = s.space_id)
 		""", nativeQuery = true)
 	Optional<SpaceDatailResponseDto> findDetailWithNames(@Param("spaceId") Integer spaceId);
 
 	/**
-	 * ID로 단건 조회 (비관적 잠금)
-	 * - 업데이트 직전 안전하게 단일 행 잠금을 걸고 싶을 때 사용
+	 * ID로 단건 조회 (배타 잠금, SELECT ... FOR UPDATE)
+	 * - 공간 수정/삭제 직전 단일 행을 잠글 때만 사용
 	 * - 트랜잭션 범위 내에서만 유효
+	 * - 일반 조회는 잠금 없는 findById 사용
 	 *
-	 * @param id PK
+	 * @param spaceId PK
 	 * @return Optional<Space>
 	 */
 	@Lock(LockModeType.PESSIMISTIC_WRITE)
-	@Override
-	Optional<Space> findById(Integer id);
+	@Query("SELECT s FROM Space s WHERE s.spaceId = :spaceId")
+	Optional<Space> findByIdForUpdate(@Param("spaceId") Integer spaceId);
+
+	/**
+	 * ID로 단건 조회 (공유 잠금, SELECT ... FOR SHARE)
+	 * - 예약 생성 시 사용: 같은 공간의 예약끼리는 서로 막지 않고,
+	 * 진행 중인 공간 수정/삭제(FOR UPDATE)와만 순서를 보장
+	 * - 트랜잭션 범위 내에서만 유효
+	 *
+	 * @param spaceId PK
+	 * @return Optional<Space>
+	 */
+	@Lock(LockModeType.PESSIMISTIC_READ)
+	@Query("SELECT s FROM Space s WHERE s.spaceId = :spaceId")
+	Optional<Space> findByIdForShare(@Param("spaceId") Integer spaceId);
 
 }
@@ -0,0 +1,239 @@
+package Team_Mute.back_end.domain.space_admin.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import Team_Mute.back_end.domain.space_admin.repository.S3ObjectReferenceRepository;
+import Team_Mute.back_end.domain.space_admin.util.S3Deleter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+/**
+ * S3 고아 객체 정리 배치
+ * - 공간 등록/수정 롤백 시 정리 실패, 실패한 공간 등록의 temp 업로드, 커밋되지 않은 업로드 세션 등으로 남은 객체를 정리
+ * - 버킷 접두사별 객체 목록(Key 순)과 DB 참조 Key 목록(Key 순)을 정렬 병합(sorted merge)으로 비교
+ * - 양쪽 모두 페이지/커서 단위로 읽으므로 메모리 사용량이 객체 수와 무관
+ * - 유예 기간(grace)보다 오래된 미참조 객체만 삭제 (업로드 직후 DB 커밋 전인 객체 보호)
+ *
+ * 실행:
+ * - s3.reconcile.cron 주기로 실행 (기본 매일 05:00)
+ * - 여러 노드 중 Redis 락을 획득한 한 노드만 실행
+ * - s3.reconcile.dry-run=true이면 삭제하지 않고 집계/로그만 남김
+ * - 한 번 실행에서 최대 s3.reconcile.max-deletes건까지만 삭제
+ *
+ * 지표:
+ * - s3.reconcile.objects{prefix, result=referenced|recent|orphan|deleted}
+ * - s3.reconcile.duration
+ *
+ * @author Team Mute
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class S3OrphanReconciler {
+
+	private static final String LOCK_KEY = "s3-reconcile:lock";
+	private static final int DELETE_BATCH_SIZE = 1000;
+	private static final int SAMPLE_LOG_LIMIT = 20;
+
+	private final S3ObjectReferenceRepository referenceRepository;
+	private final S3Deleter s3Deleter;
+	private final StringRedisTemplate redis;
+	private final MeterRegistry meterRegistry;
+	private final Timer durationTimer;
+	private final boolean enabled;
+	private final List<String> prefixes;
+	private final Duration grace;
+	private final boolean dryRun;
+	private final int maxDeletes;
+
+	public S3OrphanReconciler(
+		S3ObjectReferenceRepository referenceRepository,
+		S3Deleter s3Deleter,
+		StringRedisTemplate redis,
+		MeterRegistry meterRegistry,
+		@Value("${s3.reconcile.enabled:true}") boolean enabled,
+		@Value("${s3.reconcile.prefixes:spaces/,attachment/,temp/,uploads/}") String[] prefixes,
+		@Value("${s3.reconcile.grace-hours:24}") long graceHours,
+		@Value("${s3.reconcile.dry-run:false}") boolean dryRun,
+		@Value("${s3.reconcile.max-deletes:10000}") int maxDeletes) {
+		this.referenceRepository = referenceRepository;
+		this.s3Deleter = s3Deleter;
+		this.redis = redis;
+		this.meterRegistry = meterRegistry;
+		this.durationTimer = Timer.builder("s3.reconcile.duration").register(meterRegistry);
+		this.enabled = enabled;
+		this.prefixes = List.of(prefixes);
+		this.grace = Duration.ofHours(graceHours);
+		this.dryRun = dryRun;
+		this.maxDeletes = maxDeletes;
+	}
+
+	/**
+	 * 주기적 정리
+	 */
+	@Scheduled(cron = "${s3.reconcile.cron:0 0 5 * * *}")
+	public void scheduledReconcile() {
+		if (enabled) {
+			reconcile();
+		}
+	}
+
+	/**
+	 * 고아 객체 정리
+	 *
+	 * 처리 로직:
+	 * 1. Redis 락 획득 (다른 노드가 실행 중이면 종료)
+	 * 2. 접두사마다 S3 목록과 DB 참조 Key를 정렬 병합으로 비교
+	 * 3. 유예 기간이 지난 미참조 객체를 DeleteObjects 배치로 삭제 (dry-run이면 집계만)
+	 *
+	 * @return 삭제한(dry-run이면 삭제 대상) 객체 수
+	 */
+	public long reconcile() {
+		// 1. Redis 락 획득
+		String token = UUID.randomUUID().toString();
+		Boolean locked = redis.opsForValue().setIfAbsent(LOCK_KEY, token, Duration.ofHours(2));
+		if (!Boolean.TRUE.equals(locked)) {
+			log.info("다른 노드에서 S3 고아 객체 정리 중이므로 건너뜁니다.");
+			return 0;
+		}
+
+		Instant cutoff = Instant.now().minus(grace);
+		Merge merge = new Merge(cutoff);
+		Timer.Sample sample = Timer.start(meterRegistry);
+		try {
+			// 2. 접두사별 병합 비교
+			for (String prefix : prefixes) {
+				String trimmed = prefix.trim();
+				if (trimmed.isEmpty()) {
+					continue;
+				}
+				merge.run(trimmed);
+			}
+			log.info("S3 고아 객체 정리 완료{}: 참조 {}건, 유예 {}건, 고아 {}건, 삭제 {}건",
+				dryRun ? "(dry-run)" : "", merge.referenced, merge.recent, merge.orphans, merge.deleted);
+		} catch (Exception e) {
+			log.error("S3 고아 객체 정리 실패: {}", e.getMessage(), e);
+		} finally {
+			sample.stop(durationTimer);
+			if (token.equals(redis.opsForValue().get(LOCK_KEY))) {
+				redis.delete(LOCK_KEY);
+			}
+		}
+		return dryRun ? merge.orphans : merge.deleted;
+	}
+
+	/**
+	 * S3 Key 비교 (S3 목록 정렬 기준과 같은 UTF-8 바이트 순)
+	 */
+	private static int compareKeys(String a, String b) {
+		return Arrays.compareUnsigned(a.getBytes(StandardCharsets.UTF_8), b.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * 접두사 단위 정렬 병합 상태
+	 * - DB 참조 Key를 한 건 받을 때마다 그보다 앞선 S3 객체는 미참조로 판정
+	 */
+	private class Merge {
+
+		private final Instant cutoff;
+		private final List<String> pendingDeletes = new ArrayList<>(DELETE_BATCH_SIZE);
+		private String prefix;
+		private Iterator<S3Object> objects;
+		private S3Object current;
+		private String lastKnown;
+		private long referenced;
+		private long recent;
+		private long orphans;
+		private long deleted;
+
+		private Merge(Instant cutoff) {
+			this.cutoff = cutoff;
+		}
+
+		private void run(String prefix) {
+			this.prefix = prefix;
+			this.lastKnown = null;
+			s3Deleter.scanPrefix(prefix, iterator -> {
+				objects = iterator;
+				current = next();
+				referenceRepository.streamKnownKeys(prefix, this::onKnownKey);
+				// DB 참조 Key가 끝난 뒤 남은 S3 객체는 모두 미참조
+				while (current != null) {
+					onUnreferenced(current);
+					current = next();
+				}
+			});
+			flushDeletes();
+		}
+
+		private void onKnownKey(String known) {
+			// 정렬 순서가 어긋나면 참조 객체를 고아로 오판할 수 있으므로 중단
+			if (lastKnown != null && compareKeys(lastKnown, known) > 0) {
+				throw new IllegalStateException("참조 Key 정렬 순서 불일치: " + lastKnown + " > " + known);
+			}
+			lastKnown = known;
+
+			while (current != null && compareKeys(current.key(), known) < 0) {
+				onUnreferenced(current);
+				current = next();
+			}
+			if (current != null && compareKeys(current.key(), known) == 0) {
+				referenced++;
+				meterRegistry.counter("s3.reconcile.objects", "prefix", prefix, "result", "referenced").increment();
+				current = next();
+			}
+		}
+
+		private void onUnreferenced(S3Object object) {
+			if (object.lastModified() != null && object.lastModified().isAfter(cutoff)) {
+				recent++;
+				meterRegistry.counter("s3.reconcile.objects", "prefix", prefix, "result", "recent").increment();
+				return;
+			}
+			orphans++;
+			meterRegistry.counter("s3.reconcile.objects", "prefix", prefix, "result", "orphan").increment();
+			if (dryRun) {
+				if (orphans <= SAMPLE_LOG_LIMIT) {
+					log.info("S3 고아 객체(dry-run): {} ({})", object.key(), object.lastModified());
+				}
+				return;
+			}
+			if (deleted + pendingDeletes.size() >= maxDeletes) {
+				return;
+			}
+			pendingDeletes.add(object.key());
+			if (pendingDeletes.size() >= DELETE_BATCH_SIZE) {
+				flushDeletes();
+			}
+		}
+
+		private void flushDeletes() {
+			if (pendingDeletes.isEmpty()) {
+				return;
+			}
+			s3Deleter.deleteByKeys(pendingDeletes);
+			deleted += pendingDeletes.size();
+			meterRegistry.counter("s3.reconcile.objects", "prefix", prefix, "result", "deleted")
+				.increment(pendingDeletes.size());
+			pendingDeletes.clear();
+		}
+
+		private S3Object next() {
+			return objects.hasNext() ? objects.next() : null;
+		}
+	}
+}
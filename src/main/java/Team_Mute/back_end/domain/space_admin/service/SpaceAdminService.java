@@ -5,43 +5,41 @@ import Team_Mute.back_end.domain.member.entity.AdminRegion;
 import Team_Mute.back_end.domain.member.exception.UserNotFoundException;
 import Team_Mute.back_end.domain.member.repository.AdminRegionRepository;
 import Team_Mute.back_end.domain.member.repository.AdminRepository;
-import Team_Mute.back_end.domain.reservation.repository.PrevisitRepository;
+import Team_Mute.back_end.domain.member.session.AdminScope;
+import Team_Mute.back_end.domain.member.session.CurrentPrincipal;
 import Team_Mute.back_end.domain.reservation.repository.ReservationRepository;
 import Team_Mute.back_end.domain.space_admin.dto.request.SpaceCreateRequestDto;
 import Team_Mute.back_end.domain.space_admin.dto.response.AdminListResponseDto;
 import Team_Mute.back_end.domain.space_admin.dto.response.RegionListResponseDto;
+import Team_Mute.back_end.domain.space_admin.dto.response.SpaceDeleteStatusResponseDto;
 import Team_Mute.back_end.domain.space_admin.dto.response.SpaceDatailResponseDto;
 import Team_Mute.back_end.domain.space_admin.dto.response.SpaceListResponseDto;
 import Team_Mute.back_end.domain.space_admin.entity.Space;
 import Team_Mute.back_end.domain.space_admin.entity.SpaceCategory;
-import Team_Mute.back_end.domain.space_admin.entity.SpaceClosedDay;
 import Team_Mute.back_end.domain.space_admin.entity.SpaceImage;
 import Team_Mute.back_end.domain.space_admin.entity.SpaceLocation;
-import Team_Mute.back_end.domain.space_admin.entity.SpaceOperation;
-import Team_Mute.back_end.domain.space_admin.entity.SpaceTag;
-import Team_Mute.back_end.domain.space_admin.entity.SpaceTagMap;
+import Team_Mute.back_end.domain.space_admin.repository.SpaceAttributeJdbcRepository;
 import Team_Mute.back_end.domain.space_admin.repository.SpaceCategoryRepository;
-import Team_Mute.back_end.domain.space_admin.repository.SpaceClosedDayRepository;
+import Team_Mute.back_end.domain.space_admin.repository.SpaceDeleteJobRepository;
 import Team_Mute.back_end.domain.space_admin.repository.SpaceImageRepository;
 import Team_Mute.back_end.domain.space_admin.repository.SpaceLocationRepository;
-import Team_Mute.back_end.domain.space_admin.repository.SpaceOperationRepository;
 import Team_Mute.back_end.domain.space_admin.repository.SpaceRepository;
-import Team_Mute.back_end.domain.space_admin.repository.SpaceTagMapRepository;
-import Team_Mute.back_end.domain.space_admin.repository.SpaceTagRepository;
 import Team_Mute.back_end.domain.space_admin.util.S3Deleter;
 import Team_Mute.back_end.domain.space_admin.util.S3Uploader;
+import Team_Mute.back_end.domain.space_user.catalog.SpaceChangedEvent;
+import Team_Mute.back_end.domain.space_user.catalog.SpaceViewCache;
+import Team_Mute.back_end.domain.space_user.repository.SpaceSearchDocRepository;
 import Team_Mute.back_end.global.constants.AdminRoleEnum;
 import jakarta.persistence.EntityManager;
-import jakarta.persistence.LockModeType;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.NoSuchElementException;
-import java.util.Set;
+import java.util.Objects;
 import java.util.stream.Collectors;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -66,52 +64,55 @@ public class SpaceAdminService {
 	private final SpaceRepository spaceRepository;
 	private final SpaceCategoryRepository categoryRepository;
 	private final AdminRegionRepository regionRepository;
-	private final SpaceTagRepository tagRepository;
-	private final SpaceTagMapRepository tagMapRepository;
 	private final SpaceImageRepository spaceImageRepository;
 	private final S3Uploader s3Uploader;
 	private final S3Deleter s3Deleter;
-	private final SpaceOperationRepository spaceOperationRepository;
-	private final SpaceClosedDayRepository spaceClosedDayRepository;
+	private final SpaceAttributeJdbcRepository spaceAttributeJdbcRepository;
+	private final SpaceDeleteJobRepository spaceDeleteJobRepository;
 	private final SpaceLocationRepository spaceLocationRepository;
 	private final AdminRepository adminRepository;
+	private final CurrentPrincipal currentPrincipal;
 	private final EntityManager entityManager;
 	private final ReservationRepository reservationRepository;
-	private final PrevisitRepository previsitRepository;
+	private final SpaceSearchDocRepository spaceSearchDocRepository;
+	private final ApplicationEventPublisher eventPublisher;
+	private final SpaceViewCache spaceViewCache;
 
 	// Constructor Injection (생성자를 통한 의존성 주입)
 	public SpaceAdminService(
 		SpaceRepository spaceRepository,
 		SpaceCategoryRepository categoryRepository,
 		AdminRegionRepository regionRepository,
-		SpaceTagRepository tagRepository,
-		SpaceTagMapRepository tagMapRepository,
 		SpaceImageRepository spaceImageRepository,
 		S3Uploader s3Uploader,
 		S3Deleter s3Deleter,
-		SpaceOperationRepository spaceOperationRepository,
-		SpaceClosedDayRepository spaceClosedDayRepository,
+		SpaceAttributeJdbcRepository spaceAttributeJdbcRepository,
+		SpaceDeleteJobRepository spaceDeleteJobRepository,
 		SpaceLocationRepository spaceLocationRepository,
 		AdminRepository adminRepository,
+		CurrentPrincipal currentPrincipal,
 		EntityManager entityManager,
 		ReservationRepository reservationRepository,
-		PrevisitRepository previsitRepository
+		SpaceSearchDocRepository spaceSearchDocRepository,
+		ApplicationEventPublisher eventPublisher,
+		SpaceViewCache spaceViewCache
 	) {
 		this.spaceRepository = spaceRepository;
 		this.categoryRepository = categoryRepository;
 		this.regionRepository = regionRepository;
-		this.tagRepository = tagRepository;
-		this.tagMapRepository = tagMapRepository;
 		this.spaceImageRepository = spaceImageRepository;
 		this.s3Uploader = s3Uploader;
 		this.s3Deleter = s3Deleter;
-		this.spaceOperationRepository = spaceOperationRepository;
-		this.spaceClosedDayRepository = spaceClosedDayRepository;
+		this.spaceAttributeJdbcRepository = spaceAttributeJdbcRepository;
+		this.spaceDeleteJobRepository = spaceDeleteJobRepository;
 		this.spaceLocationRepository = spaceLocationRepository;
 		this.adminRepository = adminRepository;
+		this.currentPrincipal = currentPrincipal;
 		this.entityManager = entityManager;
 		this.reservationRepository = reservationRepository;
-		this.previsitRepository = previsitRepository;
+		this.spaceSearchDocRepository = spaceSearchDocRepository;
+		this.eventPublisher = eventPublisher;
+		this.spaceViewCache = spaceViewCache;
 	}
 
 	/**
@@ -126,12 +127,12 @@ public class SpaceAdminService {
 	 **/
 	public Page<SpaceListResponseDto> getAllSpaces(Pageable pageable,
 												   Long adminId) { // This `Pageable` is the Spring one
-		Admin admin = adminRepository.findById(adminId).orElseThrow(UserNotFoundException::new);
-		Integer adminRole = admin.getUserRole().getRoleId(); // 관리자의 권한 ID
+		AdminScope admin = currentPrincipal.admin(adminId);
+		Integer adminRole = admin.roleId(); // 관리자의 권한 ID
 
 		// 1차 승인자일 경우, 담당 지역으로 필터링된 데이터 조회
-		if (adminRole.equals(AdminRoleEnum.ROLE_FIRST_APPROVER.getId()) && admin.getAdminRegion() != null) {
-			Integer adminRegionId = admin.getAdminRegion().getRegionId();
+		if (adminRole.equals(AdminRoleEnum.ROLE_FIRST_APPROVER.getId()) && admin.regionId() != null) {
+			Integer adminRegionId = admin.regionId();
 			return spaceRepository.findAllByAdminRegion(pageable, adminRegionId);
 		}
 		// 그 외 관리자(전체 조회 권한)일 경우, 모든 공간 데이터 조회
@@ -161,20 +162,20 @@ public class SpaceAdminService {
 	@Transactional(readOnly = true)
 	public SpaceDatailResponseDto getSpaceById(Integer spaceId, Long adminId) {
 		// 관리자 권한 체크
-		Admin admin = adminRepository.findById(adminId).orElseThrow(UserNotFoundException::new);
-		Integer adminRole = admin.getUserRole().getRoleId();
+		AdminScope admin = currentPrincipal.admin(adminId);
+		Integer adminRole = admin.roleId();
 
-		// 공간 존재 유무를 먼저 확인하고, 권한 체크에 사용할 엔티티를 가져옴
-		// EntityManager를 사용하여 읽기 전용 힌트(LockModeType.NONE)를 명시적으로 적용
-		Space space = entityManager.find(Space.class, spaceId, java.util.Map.of("jakarta.persistence.lock.timeout", LockModeType.NONE));
+		// 공간 존재 유무를 먼저 확인하고, 권한 체크에 사용할 엔티티를 가져옴 (잠금 없는 조회)
+		Space space = spaceRepository.findById(spaceId)
+			.orElseThrow(() -> new NoSuchElementException("공간을 찾을 수 없습니다: " + spaceId));
 
 		// 1차 승인자일 경우, 담당 지역 확인 로직을 수행
 		if (adminRole.equals(AdminRoleEnum.ROLE_FIRST_APPROVER.getId())) {
-			Integer adminRegionId = admin.getAdminRegion().getRegionId(); // 로그인된 1차 승인자의 지역 아이디
+			Integer adminRegionId = admin.regionId(); // 로그인된 1차 승인자의 지역 아이디
 			Integer spaceRegionId = space.getRegionId(); // 조회할 공간의 지역 아이디
 
 			// 1차 승인자는 담당 지역이 아닐 경우 권한 없음 (403 FORBIDDEN)
-			if (!adminRegionId.equals(spaceRegionId)) {
+			if (!Objects.equals(adminRegionId, spaceRegionId)) {
 				throw new ResponseStatusException(HttpStatus.FORBIDDEN, "해당 공간 접근 권한이 없습니다.");
 			}
 			// 권한 OK
@@ -183,7 +184,8 @@ public class SpaceAdminService {
 
 		// 최종 상세 정보 조회 (공간 존재와 권한이 모두 확인된 후 실행)
 		// findDetailWithNames는 DTO를 반환하므로, 혹시 모를 데이터 무결성 문제에 대비해 Optional 처리는 유지
-		return spaceRepository.findDetailWithNames(spaceId)
+		// 공간 상세 캐시에 없을 때만 DB 조회 (공간 생성/수정/삭제 시 SpaceChangedEvent로 무효화)
+		return spaceViewCache.getAdminDetail(spaceId, () -> spaceRepository.findDetailWithNames(spaceId))
 			.orElseThrow(() -> new NoSuchElementException("공간을 찾을 수 없습니다."));
 	}
 
@@ -201,15 +203,15 @@ public class SpaceAdminService {
 	@Transactional
 	public Integer createWithImages(Long adminId, SpaceCreateRequestDto req, java.util.List<String> urls) {
 		// 관리자 권한 체크
-		Admin admin = adminRepository.findById(adminId).orElseThrow(UserNotFoundException::new);
-		Integer adminRole = admin.getUserRole().getRoleId();
+		AdminScope admin = currentPrincipal.admin(adminId);
+		Integer adminRole = admin.roleId();
 
 		// 마스터 권한({@code ROLE_MASTER, role_id = 0})은 공간 등록 권한이 없음
 		if (adminRole.equals(AdminRoleEnum.ROLE_MASTER.getId())) {
 			throw new ResponseStatusException(HttpStatus.FORBIDDEN, "공간 등록 권한이 없습니다.");
 		}
 		// 1차 승인자({@code ROLE_FIRST_APPROVER,role_id = 2})은 담당 지역이 아닐 경우 공간 등록 권한이 없음
-		if (adminRole.equals(AdminRoleEnum.ROLE_FIRST_APPROVER.getId()) && !admin.getAdminRegion().getRegionId().equals(req.getRegionId())) {
+		if (adminRole.equals(AdminRoleEnum.ROLE_FIRST_APPROVER.getId()) && !Objects.equals(admin.regionId(), req.getRegionId())) {
 			throw new ResponseStatusException(HttpStatus.FORBIDDEN, "해당 지역의 공간 등록 권한이 없습니다.");
 		}
 
@@ -334,35 +336,9 @@ public class SpaceAdminService {
 		}
 
 		// === 태그 처리 ===
-
-		// 1. 요청 리스트에서 중복된 태그명 제거 (Set을 사용하여 O(1) 시간 복잡도로 처리)
-		Set<String> uniqueTagNames = new HashSet<>(req.getTagNames());
-
-		for (String tagName : uniqueTagNames) {
-			// 2. 태그명으로 조회 -> 없으면 새로 생성 및 저장
-			SpaceTag tag = tagRepository.findByTagName(tagName)
-				.orElseGet(() -> {
-					SpaceTag newTag = SpaceTag.builder()
-						.tagName(tagName)
-						.regDate(LocalDateTime.now())
-						.build();
-					return tagRepository.save(newTag);
-				});
-
-			// 3. Space와 Tag의 매핑 엔티티 생성 및 저장 시도
-			// (이전 답변에서 제안했듯이, 이 부분에서 중복 저장을 방지하는 로직 또는 DB Unique Constraint가 필요합니다.)
-
-			// 중복 매핑 방지 로직 (existsBy 확인)
-			if (!tagMapRepository.existsBySpaceAndTag(saved, tag)) {
-				SpaceTagMap map = SpaceTagMap.builder()
-					.space(saved)
-					.tag(tag)
-					.regDate(LocalDateTime.now())
-					.build();
-
-				tagMapRepository.save(map);
-			}
-		}
+		// 태그 ID 일괄 조회/생성 후 매핑 일괄 저장
+		spaceAttributeJdbcRepository.replaceTagMaps(spaceId,
+			spaceAttributeJdbcRepository.resolveTagIds(req.getTagNames()));
 
 		// === 운영시간 저장 ===
 		if (req.getOperations() != null && !req.getOperations().isEmpty()) {
@@ -385,17 +361,8 @@ public class SpaceAdminService {
 				throw new IllegalArgumentException("운영 시간 '시작 시간(from)'은 '종료 시간(to)'보다 이후이거나 같을 수 없습니다.");
 			}
 
-			// 2) 유효성 검사 통과 후 DB 저장
-			List<SpaceOperation> ops = req.getOperations().stream().map(o ->
-				SpaceOperation.builder()
-					.space(space)
-					.day(o.getDay()) // day: 1=월 ~ 7=일
-					.operationFrom(o.getFrom())
-					.operationTo(o.getTo())
-					.isOpen(Boolean.TRUE.equals(o.getIsOpen()))
-					.build()
-			).toList();
-			spaceOperationRepository.saveAll(ops);
+			// 2) 유효성 검사 통과 후 DB 일괄 저장
+			spaceAttributeJdbcRepository.replaceOperations(spaceId, toOperationRows(req.getOperations()));
 		}
 
 		// === 휴무일 저장 ===
@@ -416,17 +383,15 @@ public class SpaceAdminService {
 				throw new IllegalArgumentException("휴무일 '시작일(from)'은 '종료일(to)'보다 이후일 수 없습니다.");
 			}
 
-			// 2) 유효성 검사 통과 후 DB 저장
-			List<SpaceClosedDay> closedDay = req.getClosedDays().stream().map(c ->
-				SpaceClosedDay.builder()
-					.space(space)
-					.closedFrom(c.getFrom())
-					.closedTo(c.getTo())
-					.build()
-			).toList();
-			spaceClosedDayRepository.saveAll(closedDay);
+			// 2) 유효성 검사 통과 후 DB 일괄 저장
+			spaceAttributeJdbcRepository.replaceClosedDays(spaceId, toClosedDayRows(req.getClosedDays()));
 		}
 
+		// 사용자 검색 문서 반영 (태그/이미지 등 변경 사항 flush 후 갱신)
+		entityManager.flush();
+		spaceSearchDocRepository.refresh(spaceId);
+		eventPublisher.publishEvent(new SpaceChangedEvent(spaceId));
+
 		// 새로 생성된 공간의 ID 반환
 		return saved.getSpaceId();
 	}
@@ -450,13 +415,16 @@ public class SpaceAdminService {
 								 SpaceCreateRequestDto req,
 								 java.util.List<String> keepUrlsOrder,
 								 java.util.List<org.springframework.web.multipart.MultipartFile> newImages) {
-		// 대상 공간 조회
-		Space space = spaceRepository.findById(spaceId)
+		// 대상 공간 조회 (삭제 요청된 공간은 수정 불가)
+		Space space = spaceRepository.findByIdForUpdate(spaceId)
 			.orElseThrow(() -> new IllegalArgumentException("해당 공간이 존재하지 않습니다: " + spaceId));
+		if (spaceDeleteJobRepository.exists(spaceId)) {
+			throw new IllegalArgumentException("해당 공간이 존재하지 않습니다: " + spaceId);
+		}
 
 		// 관리자 권한 체크
-		Admin admin = adminRepository.findById(adminId).orElseThrow(UserNotFoundException::new);
-		Integer adminRole = admin.getUserRole().getRoleId(); // 관리자의 권한 ID
+		AdminScope admin = currentPrincipal.admin(adminId);
+		Integer adminRole = admin.roleId(); // 관리자의 권한 ID
 
 		// 마스터 권한({@code ROLE_MASTER, role_id = 0})은 공간 수정 권한이 없음
 		if (adminRole.equals(AdminRoleEnum.ROLE_MASTER.getId())) {
@@ -464,14 +432,12 @@ public class SpaceAdminService {
 		}
 
 		// 로그인된 관리자의 지역 아이디
-		Integer adminRegionId = (admin.getAdminRegion() != null)
-			? admin.getAdminRegion().getRegionId()
-			: null;
+		Integer adminRegionId = admin.regionId();
 
 		Integer spaceRegionId = space.getRegionId(); // 수정할 지역의 지역 아이디
 
 		// 1차 승인자({@code ROLE_FIRST_APPROVER,role_id = 2})은 담당 지역이 아닐 경우 공간 등록 권한이 없음
-		if (adminRole.equals(AdminRoleEnum.ROLE_FIRST_APPROVER.getId()) && !adminRegionId.equals(spaceRegionId)) {
+		if (adminRole.equals(AdminRoleEnum.ROLE_FIRST_APPROVER.getId()) && !Objects.equals(adminRegionId, spaceRegionId)) {
 			throw new ResponseStatusException(HttpStatus.FORBIDDEN, "해당 공간 수정 권한이 없습니다.");
 		}
 
@@ -622,41 +588,12 @@ public class SpaceAdminService {
 		space.setReservationWay(req.getReservationWay());
 		space.setSpaceRules(req.getSpaceRules());
 
-		// === 태그 전량 교체 ===
-
-		// 1. 기존 매핑 삭제
-		tagMapRepository.deleteBySpace(space);
-
-		// 2. 요청 리스트에서 중복 태그명을 제거하여 Set으로 만듦
-		Set<String> uniqueTagNames = new HashSet<>(req.getTagNames());
-
-		// 3. 고유한 태그명으로 루프 실행
-		for (String tagName : uniqueTagNames) {
-
-			// 태그명으로 조회 -> 없으면 새로 생성 및 저장
-			SpaceTag tag = tagRepository.findByTagName(tagName)
-				.orElseGet(() -> {
-					SpaceTag newTag = SpaceTag.builder()
-						.tagName(tagName)
-						.regDate(LocalDateTime.now())
-						.build();
-					// 새로운 태그 저장
-					return tagRepository.save(newTag);
-				});
-
-			// Space와 Tag의 매핑 엔티티 생성 및 저장 (기존 데이터 삭제했으므로 바로 저장)
-			SpaceTagMap map = SpaceTagMap.builder()
-				.space(space)
-				.tag(tag)
-				.regDate(LocalDateTime.now())
-				.build();
-
-			tagMapRepository.save(map);
-		}
+		// === 태그 교체 ===
+		// 태그 ID 일괄 조회/생성 후 추가/삭제된 매핑만 반영
+		spaceAttributeJdbcRepository.replaceTagMaps(spaceId,
+			spaceAttributeJdbcRepository.resolveTagIds(req.getTagNames()));
 
 		// === 운영시간 ===
-		spaceOperationRepository.deleteBySpaceId(spaceId);
-
 		if (!req.getOperations().isEmpty()) {
 
 			// 1) 유효성 검사: operationFrom 시간이 operationTo 시간보다 이전인지 확인
@@ -676,24 +613,12 @@ public class SpaceAdminService {
 				// 유효하지 않은 시간 범위가 발견된 경우 예외 발생
 				throw new IllegalArgumentException("운영 시간 '시작 시간(from)'은 '종료 시간(to)'보다 이후이거나 같을 수 없습니다.");
 			}
-
-			// 2) 유효성 검사 통과 후 DB 저장
-			List<SpaceOperation> ops = req.getOperations().stream().map(o ->
-				SpaceOperation.builder()
-					.space(space)
-					.day(o.getDay())
-					.operationFrom(o.getFrom())
-					.operationTo(o.getTo())
-					.isOpen(Boolean.TRUE.equals(o.getIsOpen()))
-					.build()
-			).toList();
-
-			spaceOperationRepository.saveAll(ops);
 		}
 
-		// === 휴무일 ===
-		spaceClosedDayRepository.deleteBySpaceId(spaceId);
+		// 2) 유효성 검사 통과 후 바뀐 요일만 DB 반영
+		spaceAttributeJdbcRepository.replaceOperations(spaceId, toOperationRows(req.getOperations()));
 
+		// === 휴무일 ===
 		if (!req.getClosedDays().isEmpty()) {
 
 			// 1) 유효성 검사: from 날짜가 to 날짜보다 이전인지 확인
@@ -710,19 +635,11 @@ public class SpaceAdminService {
 				// 유효하지 않은 날짜 범위가 발견된 경우 예외 발생
 				throw new IllegalArgumentException("휴무일 '시작일(from)'은 '종료일(to)'보다 이후일 수 없습니다.");
 			}
-
-			// 2) 유효성 검사 통과 후 DB 저장
-			List<SpaceClosedDay> closedDay = req.getClosedDays().stream().map(c ->
-				SpaceClosedDay.builder()
-					.space(space)
-					.closedFrom(c.getFrom())
-					.closedTo(c.getTo())
-					.build()
-			).toList();
-
-			spaceClosedDayRepository.saveAll(closedDay);
 		}
 
+		// 2) 유효성 검사 통과 후 추가/삭제된 기간만 DB 반영
+		spaceAttributeJdbcRepository.replaceClosedDays(spaceId, toClosedDayRows(req.getClosedDays()));
+
 		// === 이미지 처리 ===
 		if (finalUrls != null) {
 
@@ -806,23 +723,29 @@ public class SpaceAdminService {
 				);
 			}
 		}
+
+		// 사용자 검색 문서 반영 (태그/이미지 등 변경 사항 flush 후 갱신)
+		entityManager.flush();
+		spaceSearchDocRepository.refresh(spaceId);
+		eventPublisher.publishEvent(new SpaceChangedEvent(spaceId));
 	}
 
 	/**
-	 * 공간 삭제
-	 * - 공간을 삭제하고, 연관된 모든 데이터를 정리하며, S3에 저장된 이미지 파일도 삭제합니다.
+	 * 공간 삭제 요청
+	 * - 공간을 삭제 중(tombstone) 상태로 등록하고 즉시 반환합니다.
+	 * - 연관된 예약/이미지 데이터와 S3 파일은 커밋 후 백그라운드 작업이 묶음 단위로 정리합니다.
 	 *
 	 * @param adminId       공간 삭제를 요청한 관리자 ID
 	 * @param spaceId       삭제할 공간 ID
 	 * @param confirmDelete 과거 예약 데이터 삭제를 정말로 진행할지 확인하는 플래그 (true일 때만 삭제 진행)
-	 * @throws ResponseStatusException 권한이 없는 경우 (403 FORBIDDEN)
+	 * @throws ResponseStatusException 권한이 없는 경우 (403 FORBIDDEN), 이미 삭제 요청된 경우 (409 CONFLICT)
 	 * @throws NoSuchElementException  공간 ID에 해당하는 데이터가 없을 경우
 	 **/
 	@Transactional
 	public void deleteSpace(Long adminId, Integer spaceId, boolean confirmDelete) {
 		// 관리자 권한 체크
-		Admin admin = adminRepository.findById(adminId).orElseThrow(UserNotFoundException::new);
-		Integer adminRole = admin.getUserRole().getRoleId(); // 관리자의 권한 ID
+		AdminScope admin = currentPrincipal.admin(adminId);
+		Integer adminRole = admin.roleId(); // 관리자의 권한 ID
 
 		// 마스터 권한({@code ROLE_MASTER, role_id = 0})은 공간 삭제 권한이 없음
 		if (adminRole.equals(AdminRoleEnum.ROLE_MASTER.getId())) {
@@ -830,18 +753,16 @@ public class SpaceAdminService {
 		}
 
 		// 대상 공간 조회
-		Space space = spaceRepository.findById(spaceId)
+		Space space = spaceRepository.findByIdForUpdate(spaceId)
 			.orElseThrow(() -> new IllegalArgumentException("해당 공간이 존재하지 않습니다: " + spaceId));
 
 		// 로그인된 관리자의 지역 아이디
-		Integer adminRegionId = (admin.getAdminRegion() != null)
-			? admin.getAdminRegion().getRegionId()
-			: null;
+		Integer adminRegionId = admin.regionId();
 
 		Integer spaceRegionId = space.getRegionId(); // 수정할 지역의 지역 아이디
 
 		// 1차 승인자({@code ROLE_FIRST_APPROVER,role_id = 2})은 담당 지역이 아닐 경우 공간 삭제 권한이 없음
-		if (adminRole.equals(AdminRoleEnum.ROLE_FIRST_APPROVER.getId()) && !adminRegionId.equals(spaceRegionId)) {
+		if (adminRole.equals(AdminRoleEnum.ROLE_FIRST_APPROVER.getId()) && !Objects.equals(adminRegionId, spaceRegionId)) {
 			throw new ResponseStatusException(HttpStatus.FORBIDDEN, "해당 공간 삭제 권한이 없습니다.");
 		}
 
@@ -866,27 +787,48 @@ public class SpaceAdminService {
 					+ "\n데이터 삭제 없이 신규 예약 요청이나 검색 노출만 중단하시려면, 공간 수정에서 비활성화 처리해 주세요.");
 		}
 
-		// 2) S3 먼저 삭제 (실패 시 예외 → 트랜잭션 롤백)
-		// 2-1) 대표(커버) 이미지
-		String coverUrl = space.getSpaceImageUrl();
-		if (coverUrl != null && !coverUrl.isBlank()) {
-			s3Deleter.deleteByUrl(coverUrl);
+		// 2) 삭제 작업 등록 (tombstone) - 이후 조회/검색/예약/수정 대상에서 즉시 제외
+		if (!spaceDeleteJobRepository.create(spaceId, spaceRegionId, adminId)) {
+			throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 삭제 요청된 공간입니다.");
 		}
+		spaceSearchDocRepository.delete(spaceId);
+		eventPublisher.publishEvent(new SpaceChangedEvent(spaceId));
 
-		// 2-2) 갤러리 이미지들
-		if (space.getImages() != null) {
-			for (SpaceImage img : space.getImages()) {
-				String url = img.getImageUrl();
-				if (url != null && !url.isBlank()) {
-					s3Deleter.deleteByUrl(url);
-				}
-			}
+		// 3) 예약/이미지/S3 객체 정리는 커밋 후 백그라운드 작업(SpacePurgeService)에서 묶음 단위로 진행
+		eventPublisher.publishEvent(new SpaceDeleteRequestedEvent(spaceId));
+	}
+
+	/**
+	 * 공간 삭제 진행 상황 조회
+	 * - 공간 삭제와 같은 권한 기준 적용 (마스터 불가, 1차 승인자는 담당 지역 공간만)
+	 *
+	 * @param adminId 관리자 ID
+	 * @param spaceId 삭제 요청된 공간 ID
+	 * @return 삭제 작업 상태 및 진행률
+	 * @throws ResponseStatusException 조회 권한이 없을 경우 (403)
+	 * @throws NoSuchElementException 삭제 요청 이력이 없을 경우
+	 */
+	@Transactional(readOnly = true)
+	public SpaceDeleteStatusResponseDto getDeleteStatus(Long adminId, Integer spaceId) {
+		// 관리자 권한 체크
+		AdminScope admin = currentPrincipal.admin(adminId);
+		Integer adminRole = admin.roleId();
+
+		// 마스터 권한({@code ROLE_MASTER, role_id = 0})은 공간 삭제 권한이 없음
+		if (adminRole.equals(AdminRoleEnum.ROLE_MASTER.getId())) {
+			throw new ResponseStatusException(HttpStatus.FORBIDDEN, "공간 삭제 권한이 없습니다.");
+		}
+
+		SpaceDeleteJobRepository.Job job = spaceDeleteJobRepository.find(spaceId)
+			.orElseThrow(() -> new NoSuchElementException("삭제 요청된 공간이 아닙니다: " + spaceId));
+
+		// 1차 승인자({@code ROLE_FIRST_APPROVER,role_id = 2})은 담당 지역이 아닐 경우 조회 권한이 없음
+		if (adminRole.equals(AdminRoleEnum.ROLE_FIRST_APPROVER.getId())
+			&& !Objects.equals(admin.regionId(), job.regionId())) {
+			throw new ResponseStatusException(HttpStatus.FORBIDDEN, "해당 공간 삭제 권한이 없습니다.");
 		}
 
-		// 3) DB 삭제 (연관 테이블은 CASCADE/ON DELETE CASCADE로 함께 정리)
-		previsitRepository.deletePrevisitReservationsBySpaceId(spaceId);
-		reservationRepository.deleteReservationsBySpaceId(spaceId);
-		spaceRepository.delete(space);
+		return SpaceDeleteStatusResponseDto.from(job);
 	}
 
 	/**
@@ -924,11 +866,9 @@ public class SpaceAdminService {
 	 * @return {@code RegionListResponseDto} 리스트
 	 **/
 	public List<RegionListResponseDto> getAllRegions(Long adminId) {
-		Admin admin = adminRepository.findById(adminId).orElseThrow(UserNotFoundException::new);
-		Integer adminRole = admin.getUserRole().getRoleId(); // 관리자의 권한 ID
-		Integer adminRegionId = (admin.getAdminRegion() != null)
-			? admin.getAdminRegion().getRegionId()
-			: null;
+		AdminScope admin = currentPrincipal.admin(adminId);
+		Integer adminRole = admin.roleId(); // 관리자의 권한 ID
+		Integer adminRegionId = admin.regionId();
 
 		// 지역 목록 조회 및 필터링
 		return regionRepository.findAll(Sort.by(Sort.Direction.ASC, "regionId"))
@@ -947,4 +887,37 @@ public class SpaceAdminService {
 			.map(element -> new RegionListResponseDto(element.getRegionId(), element.getRegionName()))
 			.toList();
 	}
+
+	/**
+	 * 운영시간 요청 항목을 일괄 저장용 행으로 변환
+	 *
+	 * @param operations 운영시간 요청 항목 (null 허용)
+	 * @return 운영시간 행 리스트
+	 */
+	private List<SpaceAttributeJdbcRepository.OperationRow> toOperationRows(
+		List<SpaceCreateRequestDto.OperationItem> operations) {
+		if (operations == null) {
+			return List.of();
+		}
+		return operations.stream()
+			.map(o -> new SpaceAttributeJdbcRepository.OperationRow(
+				null, o.getDay(), o.getFrom(), o.getTo(), Boolean.TRUE.equals(o.getIsOpen())))
+			.toList();
+	}
+
+	/**
+	 * 휴무일 요청 항목을 일괄 저장용 행으로 변환
+	 *
+	 * @param closedDays 휴무일 요청 항목 (null 허용)
+	 * @return 휴무일 행 리스트
+	 */
+	private List<SpaceAttributeJdbcRepository.ClosedDayRow> toClosedDayRows(
+		List<SpaceCreateRequestDto.ClosedItem> closedDays) {
+		if (closedDays == null) {
+			return List.of();
+		}
+		return closedDays.stream()
+			.map(c -> new SpaceAttributeJdbcRepository.ClosedDayRow(null, c.getFrom(), c.getTo()))
+			.toList();
+	}
 }
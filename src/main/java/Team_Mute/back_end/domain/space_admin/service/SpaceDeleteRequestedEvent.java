@@ -0,0 +1,13 @@
+package Team_Mute.back_end.domain.space_admin.service;
+
+/**
+ * 공간 삭제 요청 이벤트
+ * - SpaceAdminService에서 삭제 작업(tombstone) 등록 시 발행
+ * - 트랜잭션 커밋 후 SpacePurgeService가 수신하여 백그라운드 정리 시작
+ *
+ * @param spaceId 삭제 요청된 공간 ID
+ * @author Team Mute
+ * @since 1.0
+ */
+public record SpaceDeleteRequestedEvent(Integer spaceId) {
+}
@@ -0,0 +1,350 @@
+package Team_Mute.back_end.domain.space_admin.service;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import Team_Mute.back_end.domain.space_admin.repository.SpaceImageVariantRepository;
+import Team_Mute.back_end.domain.space_admin.util.S3Deleter;
+import Team_Mute.back_end.domain.space_admin.util.S3Uploader;
+import Team_Mute.back_end.domain.space_user.catalog.SpaceChangedEvent;
+import Team_Mute.back_end.domain.space_user.repository.SpaceSearchDocRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 공간 이미지 변환본 생성 Service
+ * - 공간 이미지 저장 후 썸네일/중간 크기 JPEG 변환본을 백그라운드에서 생성하여 원본 옆에 저장
+ * - 변환은 요청 스레드가 아닌 고정 크기 워커 풀(+ 제한된 대기열)에서 수행
+ * - 외부 라이브러리 없이 JDK ImageIO/Java2D만 사용
+ *
+ * 처리 흐름:
+ * 1. SpaceChangedEvent 수신(트랜잭션 커밋 후) 시 해당 공간 작업을 워커 풀에 등록
+ * 2. 변환본이 없는 원본 이미지를 S3에서 내려받아 썸네일/중간 크기로 축소
+ * 3. 원본과 같은 폴더에 {원본명}_thumb.jpg, {원본명}_medium.jpg로 업로드 후 space_image_variant 기록
+ * 4. 검색 문서 갱신 후 SpaceChangedEvent 발행 (검색 색인/조회 캐시 갱신)
+ * 5. 주기 점검: 누락된 공간 재등록(대기열 초과/재기동 대비), 원본이 삭제된 변환본 정리
+ *
+ * @author Team Mute
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class SpaceImageVariantService {
+
+	private static final String CONTENT_TYPE = "image/jpeg";
+
+	private final SpaceImageVariantRepository variantRepository;
+	private final SpaceSearchDocRepository spaceSearchDocRepository;
+	private final S3Uploader s3Uploader;
+	private final S3Deleter s3Deleter;
+	private final ApplicationEventPublisher eventPublisher;
+	private final ThreadPoolExecutor workers;
+	private final Set<Integer> queued = ConcurrentHashMap.newKeySet();
+	private final int thumbWidth;
+	private final int mediumWidth;
+	private final float quality;
+	private final long maxPixels;
+
+	public SpaceImageVariantService(
+		SpaceImageVariantRepository variantRepository,
+		SpaceSearchDocRepository spaceSearchDocRepository,
+		S3Uploader s3Uploader,
+		S3Deleter s3Deleter,
+		ApplicationEventPublisher eventPublisher,
+		@Value("${space.image.variant.threads:2}") int threads,
+		@Value("${space.image.variant.queue-capacity:200}") int queueCapacity,
+		@Value("${space.image.variant.thumb-width:320}") int thumbWidth,
+		@Value("${space.image.variant.medium-width:1080}") int mediumWidth,
+		@Value("${space.image.variant.quality:0.8}") float quality,
+		@Value("${space.image.variant.max-pixels:20000000}") long maxPixels) {
+		this.variantRepository = variantRepository;
+		this.spaceSearchDocRepository = spaceSearchDocRepository;
+		this.s3Uploader = s3Uploader;
+		this.s3Deleter = s3Deleter;
+		this.eventPublisher = eventPublisher;
+		this.thumbWidth = thumbWidth;
+		this.mediumWidth = mediumWidth;
+		this.quality = quality;
+		this.maxPixels = maxPixels;
+		AtomicInteger sequence = new AtomicInteger();
+		this.workers = new ThreadPoolExecutor(
+			threads, threads,
+			0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(queueCapacity),
+			r -> {
+				Thread t = new Thread(r, "space-image-variant-" + sequence.incrementAndGet());
+				t.setDaemon(true);
+				return t;
+			},
+			new ThreadPoolExecutor.AbortPolicy());
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		workers.shutdownNow();
+	}
+
+	/**
+	 * 공간 변경 커밋 후 변환 작업 등록
+	 *
+	 * @param event 공간 변경 이벤트
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onSpaceChanged(SpaceChangedEvent event) {
+		submit(event.spaceId());
+	}
+
+	/**
+	 * 주기 점검
+	 * - 변환본이 없는 이미지를 가진 공간 재등록 (대기열 초과로 거부된 작업, 재기동 전 미처리 작업)
+	 * - 원본이 더 이상 연결되지 않은 변환본 파일/행 정리 (이미지 교체, 공간 삭제)
+	 */
+	@Scheduled(
+		initialDelayString = "${space.image.variant.sweep-initial-delay-ms:60000}",
+		fixedDelayString = "${space.image.variant.sweep-interval-ms:600000}")
+	public void sweep() {
+		try {
+			variantRepository.findSpaceIdsWithPendingImages().forEach(this::submit);
+			removeOrphans();
+		} catch (Exception e) {
+			log.warn("공간 이미지 변환본 점검 실패: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 공간 변환 작업 등록 (이미 대기 중이면 무시)
+	 *
+	 * @param spaceId 공간 ID
+	 */
+	private void submit(Integer spaceId) {
+		if (spaceId == null || !queued.add(spaceId)) {
+			return;
+		}
+		try {
+			workers.execute(() -> {
+				// 실행 시작 시 대기 표시를 해제하여 처리 중 발생한 변경은 다시 등록되도록 함
+				queued.remove(spaceId);
+				process(spaceId);
+			});
+		} catch (RejectedExecutionException e) {
+			queued.remove(spaceId);
+			log.warn("공간 이미지 변환 대기열 초과, 다음 점검 시 재시도: spaceId={}", spaceId);
+		}
+	}
+
+	/**
+	 * 공간의 변환본 없는 이미지 처리
+	 *
+	 * @param spaceId 공간 ID
+	 */
+	private void process(Integer spaceId) {
+		List<String> pending;
+		try {
+			pending = variantRepository.findPendingImageUrls(spaceId);
+		} catch (Exception e) {
+			log.warn("공간 이미지 변환 대상 조회 실패: spaceId={}, {}", spaceId, e.getMessage());
+			return;
+		}
+		if (pending.isEmpty()) {
+			return;
+		}
+
+		int created = 0;
+		for (String imageUrl : pending) {
+			try {
+				if (createVariants(imageUrl)) {
+					created++;
+				}
+			} catch (Exception e) {
+				// S3/네트워크 오류는 기록하지 않고 다음 점검 시 재시도
+				log.warn("공간 이미지 변환 실패: {}, {}", imageUrl, e.getMessage());
+			}
+		}
+
+		if (created > 0) {
+			spaceSearchDocRepository.refresh(spaceId);
+			eventPublisher.publishEvent(new SpaceChangedEvent(spaceId));
+			log.info("공간 이미지 변환본 생성 완료: spaceId={}, {}건", spaceId, created);
+		}
+	}
+
+	/**
+	 * 원본 이미지 하나의 썸네일/중간 크기 변환본 생성
+	 *
+	 * @param imageUrl 원본 이미지 URL
+	 * @return 변환본을 생성했으면 true, 변환할 수 없는 원본이면 false
+	 */
+	private boolean createVariants(String imageUrl) throws IOException {
+		byte[] bytes = s3Uploader.downloadByUrl(imageUrl);
+		BufferedImage source = decode(bytes);
+		if (source == null) {
+			// 지원하지 않는 형식이거나 너무 큰 이미지: 원본을 그대로 노출하고 재시도하지 않음
+			variantRepository.save(imageUrl, null, null);
+			return false;
+		}
+
+		String baseKey = stripExtension(s3Uploader.keyOf(imageUrl));
+		String thumbUrl = s3Uploader.uploadBytes(baseKey + "_thumb.jpg", encode(resize(source, thumbWidth)),
+			CONTENT_TYPE);
+		String mediumUrl = s3Uploader.uploadBytes(baseKey + "_medium.jpg", encode(resize(source, mediumWidth)),
+			CONTENT_TYPE);
+		variantRepository.save(imageUrl, thumbUrl, mediumUrl);
+		return true;
+	}
+
+	/**
+	 * 원본이 삭제된 변환본 파일과 행 정리
+	 */
+	private void removeOrphans() {
+		for (SpaceImageVariantRepository.Variant variant : variantRepository.findOrphans()) {
+			try {
+				if (variant.thumbUrl() != null) {
+					s3Deleter.deleteByUrl(variant.thumbUrl());
+				}
+				if (variant.mediumUrl() != null) {
+					s3Deleter.deleteByUrl(variant.mediumUrl());
+				}
+				variantRepository.delete(variant.imageUrl());
+			} catch (Exception e) {
+				log.warn("공간 이미지 변환본 정리 실패: {}, {}", variant.imageUrl(), e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * 이미지 디코딩 (헤더로 크기를 먼저 확인하고 필요한 해상도로만 디코딩)
+	 *
+	 * 처리 로직:
+	 * 1. ImageReader로 원본 가로/세로 크기만 읽음 (픽셀 디코딩 없음)
+	 * 2. 가장 큰 변환본(medium-width)의 2배 폭 이상이 남는 범위에서 서브샘플링 간격 계산
+	 * 3. 서브샘플링 후 픽셀 수가 max-pixels를 넘으면 디코딩하지 않음
+	 * 4. 서브샘플링하여 디코딩 (원본 전체 크기의 버퍼를 만들지 않음)
+	 *
+	 * @param bytes 원본 이미지
+	 * @return 디코딩된 이미지, 지원하지 않거나 너무 크면 null
+	 */
+	private BufferedImage decode(byte[] bytes) throws IOException {
+		try (ImageInputStream in = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+			Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+			if (!readers.hasNext()) {
+				return null;
+			}
+			ImageReader reader = readers.next();
+			try {
+				reader.setInput(in, true, true);
+
+				// 1. 원본 크기
+				int width = reader.getWidth(0);
+				int height = reader.getHeight(0);
+
+				// 2. 서브샘플링 간격 (축소 단계에서 화질을 유지하도록 목표 폭의 2배까지만 줄임)
+				int step = Math.max(1, width / (mediumWidth * 2));
+
+				// 3. 디코딩될 픽셀 수 확인
+				long decodedPixels = (long)((width + step - 1) / step) * ((height + step - 1) / step);
+				if (decodedPixels > maxPixels) {
+					return null;
+				}
+
+				// 4. 서브샘플링 디코딩
+				ImageReadParam param = reader.getDefaultReadParam();
+				param.setSourceSubsampling(step, step, 0, 0);
+				return reader.read(0, param);
+			} finally {
+				reader.dispose();
+			}
+		}
+	}
+
+	/**
+	 * 가로 폭 기준 비율 유지 축소 (원본보다 크게 확대하지 않음)
+	 * - 절반씩 단계적으로 줄여 한 번에 크게 줄일 때의 계단 현상 완화
+	 * - 투명 배경은 흰색으로 채움 (JPEG는 알파 채널 미지원)
+	 *
+	 * @param source      원본 이미지
+	 * @param targetWidth 목표 가로 폭
+	 * @return 축소된 RGB 이미지
+	 */
+	private BufferedImage resize(BufferedImage source, int targetWidth) {
+		int width = Math.min(targetWidth, source.getWidth());
+		int height = Math.max(1, (int)Math.round((double)source.getHeight() * width / source.getWidth()));
+
+		BufferedImage current = source;
+		int currentWidth = source.getWidth();
+		int currentHeight = source.getHeight();
+		do {
+			int nextWidth = Math.max(width, currentWidth / 2);
+			int nextHeight = Math.max(height, currentHeight / 2);
+			BufferedImage next = new BufferedImage(nextWidth, nextHeight, BufferedImage.TYPE_INT_RGB);
+			Graphics2D g = next.createGraphics();
+			try {
+				g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+				g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+				g.drawImage(current, 0, 0, nextWidth, nextHeight, Color.WHITE, null);
+			} finally {
+				g.dispose();
+			}
+			current = next;
+			currentWidth = nextWidth;
+			currentHeight = nextHeight;
+		} while (currentWidth > width || currentHeight > height);
+		return current;
+	}
+
+	/**
+	 * JPEG 인코딩
+	 *
+	 * @param image RGB 이미지
+	 * @return JPEG 바이트 배열
+	 */
+	private byte[] encode(BufferedImage image) throws IOException {
+		ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+			writer.setOutput(ios);
+			ImageWriteParam param = writer.getDefaultWriteParam();
+			param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+			param.setCompressionQuality(quality);
+			writer.write(null, new IIOImage(image, null, null), param);
+		} finally {
+			writer.dispose();
+		}
+		return out.toByteArray();
+	}
+
+	private static String stripExtension(String key) {
+		int slash = key.lastIndexOf('/');
+		int dot = key.lastIndexOf('.');
+		return dot > slash ? key.substring(0, dot) : key;
+	}
+}
@@ -0,0 +1,258 @@
+package Team_Mute.back_end.domain.space_admin.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import Team_Mute.back_end.domain.space_admin.repository.SpaceDeleteJobRepository;
+import Team_Mute.back_end.domain.space_admin.util.S3Deleter;
+import Team_Mute.back_end.global.util.StringListConverter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 공간 삭제 정리(purge) Service
+ * - 삭제 요청(tombstone) 이후 공간에 딸린 예약/이미지/부가 정보와 S3 객체를 백그라운드에서 정리
+ * - 예약은 고정 크기 묶음(chunk) 단위의 짧은 트랜잭션으로 삭제하여 잠금 시간을 제한
+ * - S3 객체는 DB 커밋 후 DeleteObjects 일괄 요청으로 삭제
+ * - 진행 상황은 space_delete_job에 기록되며, 중단되어도 남은 부분부터 이어서 처리
+ *
+ * 처리 흐름:
+ * 1. SpaceDeleteRequestedEvent 수신(트랜잭션 커밋 후) 시 작업을 단일 워커에 등록
+ * 2. 작업 실행권 획득 (다른 노드/스레드와 중복 실행 방지)
+ * 3. 예약 묶음 삭제 (사전답사 → 처리 로그 → 예약) + 첨부 파일 URL을 삭제 대기 목록에 기록 → 커밋 → S3 일괄 삭제
+ * 4. 예약이 모두 정리되면 공간 이미지/변환본/태그/운영시간/휴무일/공간 행 삭제 → 커밋 → S3 일괄 삭제
+ * 5. 완료 처리 (실패 시 FAILED로 기록, 주기 점검에서 재시도)
+ *
+ * @author Team Mute
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class SpacePurgeService {
+
+	private static final StringListConverter ATTACHMENT_CONVERTER = new StringListConverter();
+
+	private final SpaceDeleteJobRepository jobRepository;
+	private final S3Deleter s3Deleter;
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final ThreadPoolExecutor worker;
+	private final Set<Integer> queued = ConcurrentHashMap.newKeySet();
+	private final int chunkSize;
+	private final long staleSeconds;
+
+	public SpacePurgeService(
+		SpaceDeleteJobRepository jobRepository,
+		S3Deleter s3Deleter,
+		JdbcTemplate jdbcTemplate,
+		PlatformTransactionManager transactionManager,
+		@Value("${space.purge.chunk-size:500}") int chunkSize,
+		@Value("${space.purge.queue-capacity:100}") int queueCapacity,
+		@Value("${space.purge.stale-seconds:600}") long staleSeconds) {
+		this.jobRepository = jobRepository;
+		this.s3Deleter = s3Deleter;
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.chunkSize = chunkSize;
+		this.staleSeconds = staleSeconds;
+		this.worker = new ThreadPoolExecutor(
+			1, 1,
+			0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(queueCapacity),
+			r -> {
+				Thread t = new Thread(r, "space-purge");
+				t.setDaemon(true);
+				return t;
+			},
+			new ThreadPoolExecutor.AbortPolicy());
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		worker.shutdownNow();
+	}
+
+	/**
+	 * 삭제 요청 커밋 후 정리 작업 등록
+	 *
+	 * @param event 공간 삭제 요청 이벤트
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onSpaceDeleteRequested(SpaceDeleteRequestedEvent event) {
+		submit(event.spaceId());
+	}
+
+	/**
+	 * 주기 점검
+	 * - 대기열 초과로 거부되었거나, 실패했거나, 재기동/장애로 중단된 작업 재등록
+	 */
+	@Scheduled(
+		initialDelayString = "${space.purge.sweep-initial-delay-ms:30000}",
+		fixedDelayString = "${space.purge.sweep-interval-ms:300000}")
+	public void sweep() {
+		try {
+			jobRepository.findResumable(staleSeconds).forEach(this::submit);
+		} catch (Exception e) {
+			log.warn("공간 삭제 작업 점검 실패: {}", e.getMessage());
+		}
+	}
+
+	private void submit(Integer spaceId) {
+		if (!queued.add(spaceId)) {
+			return;
+		}
+		try {
+			worker.execute(() -> {
+				try {
+					purge(spaceId);
+				} finally {
+					queued.remove(spaceId);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			queued.remove(spaceId);
+			log.warn("공간 삭제 작업 대기열 초과, 다음 점검 시 재시도: spaceId={}", spaceId);
+		}
+	}
+
+	/**
+	 * 공간 정리 실행
+	 *
+	 * @param spaceId 공간 ID
+	 */
+	private void purge(Integer spaceId) {
+		if (!jobRepository.claim(spaceId, staleSeconds)) {
+			return;
+		}
+		try {
+			// 이전 실행에서 DB 커밋 후 지우지 못한 S3 객체부터 정리
+			flushPendingObjects(spaceId);
+
+			// 예약 묶음 삭제 (묶음마다 커밋 후 S3 정리)
+			int deleted;
+			do {
+				deleted = transactionTemplate.execute(status -> deleteReservationChunk(spaceId));
+				flushPendingObjects(spaceId);
+			} while (deleted == chunkSize);
+
+			// 공간 본체 삭제
+			transactionTemplate.executeWithoutResult(status -> deleteSpaceRows(spaceId));
+			flushPendingObjects(spaceId);
+
+			jobRepository.markDone(spaceId);
+			log.info("공간 삭제 정리 완료: spaceId={}", spaceId);
+		} catch (Exception e) {
+			log.warn("공간 삭제 정리 실패, 다음 점검 시 재시도: spaceId={}, {}", spaceId, e.getMessage());
+			jobRepository.markFailed(spaceId, e.getMessage());
+		}
+	}
+
+	/**
+	 * 예약 한 묶음 삭제 (트랜잭션 안에서 실행)
+	 *
+	 * @param spaceId 공간 ID
+	 * @return 삭제한 예약 수
+	 */
+	private int deleteReservationChunk(Integer spaceId) {
+		List<Long> reservationIds = new ArrayList<>();
+		List<String> attachmentUrls = new ArrayList<>();
+		jdbcTemplate.query("""
+				SELECT reservation_id, reservation_attachment
+				FROM tb_reservations
+				WHERE space_id = ?
+				ORDER BY reservation_id
+				LIMIT ?
+				FOR UPDATE
+				""",
+			rs -> {
+				reservationIds.add(rs.getLong("reservation_id"));
+				attachmentUrls.addAll(ATTACHMENT_CONVERTER.convertToEntityAttribute(rs.getString("reservation_attachment")));
+			},
+			spaceId, chunkSize);
+		if (reservationIds.isEmpty()) {
+			return 0;
+		}
+
+		String placeholders = String.join(", ", Collections.nCopies(reservationIds.size(), "?"));
+		Object[] ids = reservationIds.toArray();
+		jdbcTemplate.update("DELETE FROM tb_previsit_reservations WHERE reservation_id IN (" + placeholders + ")", ids);
+		jdbcTemplate.update("DELETE FROM tb_reservation_logs WHERE reservation_id IN (" + placeholders + ")", ids);
+		jdbcTemplate.update("DELETE FROM tb_reservations WHERE reservation_id IN (" + placeholders + ")", ids);
+
+		jobRepository.recordChunk(spaceId, reservationIds.size(), attachmentUrls);
+		return reservationIds.size();
+	}
+
+	/**
+	 * 공간 본체 및 부가 정보 삭제 (트랜잭션 안에서 실행)
+	 * - 대표/상세 이미지와 변환본 URL을 삭제 대기 목록에 기록
+	 *
+	 * @param spaceId 공간 ID
+	 */
+	private void deleteSpaceRows(Integer spaceId) {
+		Set<String> imageUrls = new LinkedHashSet<>(jdbcTemplate.queryForList(
+			"SELECT space_image_url FROM tb_spaces WHERE space_id = ? AND space_image_url IS NOT NULL FOR UPDATE",
+			String.class, spaceId));
+		imageUrls.addAll(jdbcTemplate.queryForList(
+			"SELECT image_url FROM tb_space_images WHERE space_id = ?", String.class, spaceId));
+
+		Set<String> objectUrls = new LinkedHashSet<>(imageUrls);
+		if (!imageUrls.isEmpty()) {
+			String placeholders = String.join(", ", Collections.nCopies(imageUrls.size(), "?"));
+			Object[] urls = imageUrls.toArray();
+			jdbcTemplate.query(
+				"SELECT thumb_url, medium_url FROM space_image_variant WHERE image_url IN (" + placeholders + ")",
+				rs -> {
+					addIfPresent(objectUrls, rs.getString("thumb_url"));
+					addIfPresent(objectUrls, rs.getString("medium_url"));
+				},
+				urls);
+			jdbcTemplate.update("DELETE FROM space_image_variant WHERE image_url IN (" + placeholders + ")", urls);
+		}
+
+		jdbcTemplate.update("DELETE FROM tb_space_images WHERE space_id = ?", spaceId);
+		jdbcTemplate.update("DELETE FROM tb_space_tag_map WHERE space_id = ?", spaceId);
+		jdbcTemplate.update("DELETE FROM tb_space_operation WHERE space_id = ?", spaceId);
+		jdbcTemplate.update("DELETE FROM tb_space_closedday WHERE space_id = ?", spaceId);
+		jdbcTemplate.update("DELETE FROM tb_spaces WHERE space_id = ?", spaceId);
+
+		jobRepository.recordChunk(spaceId, 0, objectUrls);
+	}
+
+	/**
+	 * 삭제 대기 중인 S3 객체 일괄 삭제 후 대기 목록에서 제거
+	 *
+	 * @param spaceId 공간 ID
+	 */
+	private void flushPendingObjects(Integer spaceId) {
+		List<String> pending = jobRepository.findPendingUrls(spaceId);
+		if (pending.isEmpty()) {
+			return;
+		}
+		s3Deleter.deleteByUrls(pending);
+		jobRepository.clearPendingUrls(spaceId, pending.size());
+	}
+
+	private static void addIfPresent(Set<String> urls, String url) {
+		if (url != null && !url.isBlank()) {
+			urls.add(url);
+		}
+	}
+}
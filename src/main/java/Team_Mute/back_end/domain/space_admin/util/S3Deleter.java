@@ -8,12 +8,19 @@ import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -22,6 +29,8 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class S3Deleter {
 
+	private static final int DELETE_BATCH_SIZE = 1000;
+
 	@Value("${cloud.aws.credentials.access-key}")
 	private String accessKey;
 
@@ -54,6 +63,72 @@ public class S3Deleter {
 		}
 	}
 
+	/**
+	 * 여러 URL의 객체를 DeleteObjects 요청으로 일괄 삭제 (요청당 최대 1,000건)
+	 * - 하나의 S3Client로 모든 배치를 처리
+	 * - 이미 없는 객체는 성공으로 간주됨
+	 *
+	 * @param urls 삭제할 S3/CloudFront URL 목록
+	 * @throws RuntimeException 일부 객체 삭제에 실패한 경우
+	 */
+	public void deleteByUrls(Collection<String> urls) {
+		List<String> keys = new ArrayList<>(urls.size());
+		for (String url : urls) {
+			if (url != null && !url.isBlank()) {
+				keys.add(extractKeyFromUrl(url));
+			}
+		}
+		deleteByKeys(keys);
+	}
+
+	/**
+	 * 여러 Key의 객체를 DeleteObjects 요청으로 일괄 삭제 (요청당 최대 1,000건)
+	 *
+	 * @param keys 삭제할 S3 객체 Key 목록
+	 * @throws RuntimeException 일부 객체 삭제에 실패한 경우
+	 */
+	public void deleteByKeys(Collection<String> keys) {
+		List<ObjectIdentifier> ids = new ArrayList<>(keys.size());
+		for (String key : keys) {
+			ids.add(ObjectIdentifier.builder().key(key).build());
+		}
+		if (ids.isEmpty()) {
+			return;
+		}
+
+		try (S3Client s3Client = getS3Client()) {
+			for (int from = 0; from < ids.size(); from += DELETE_BATCH_SIZE) {
+				List<ObjectIdentifier> batch = ids.subList(from, Math.min(from + DELETE_BATCH_SIZE, ids.size()));
+				DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+					.bucket(bucket)
+					.delete(Delete.builder().objects(batch).quiet(true).build())
+					.build());
+				if (response.hasErrors() && !response.errors().isEmpty()) {
+					throw new RuntimeException("S3 일괄 삭제 실패: " + response.errors().size() + "건 ("
+						+ response.errors().get(0).key() + ": " + response.errors().get(0).message() + ")");
+				}
+			}
+		}
+	}
+
+	/**
+	 * 접두사 아래 객체를 Key 순서(UTF-8 바이트 순)대로 순회
+	 * - ListObjectsV2 페이지(최대 1,000건)를 순회 중에 필요한 만큼만 이어서 조회
+	 * - 순회는 scanner 실행 중에만 유효 (종료 시 S3Client 반환)
+	 *
+	 * @param prefix  조회할 Key 접두사
+	 * @param scanner 객체 순회 처리
+	 */
+	public void scanPrefix(String prefix, Consumer<Iterator<S3Object>> scanner) {
+		try (S3Client s3Client = getS3Client()) {
+			ListObjectsV2Request request = ListObjectsV2Request.builder()
+				.bucket(bucket)
+				.prefix(prefix)
+				.build();
+			scanner.accept(s3Client.listObjectsV2Paginator(request).contents().iterator());
+		}
+	}
+
 	private S3Client getS3Client() {
 		return S3Client.builder()
 			.region(Region.of(region))
@@ -6,13 +6,21 @@ import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
 import java.io.IOException;
 import java.net.URI;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -115,6 +123,124 @@ public class S3Uploader {
 			.build();
 	}
 
+	/**
+	 * 브라우저 직접 업로드용 Presigned PUT URL 발급
+	 * - 서명에 Content-Type과 Content-Length가 포함되므로 클라이언트는 같은 값으로 업로드해야 함
+	 *
+	 * @param key           업로드할 S3 객체 키
+	 * @param contentType   업로드할 파일의 Content-Type
+	 * @param contentLength 업로드할 파일 크기 (bytes)
+	 * @param ttl           URL 유효 시간
+	 * @return Presigned PUT URL
+	 */
+	public String presignPut(String key, String contentType, long contentLength, Duration ttl) {
+		try (S3Presigner presigner = getS3Presigner()) {
+			PutObjectRequest put = PutObjectRequest.builder()
+				.bucket(bucket)
+				.key(key)
+				.contentType(contentType)
+				.contentLength(contentLength)
+				.build();
+			PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
+				.signatureDuration(ttl)
+				.putObjectRequest(put)
+				.build();
+			return presigner.presignPutObject(presignRequest).url().toString();
+		}
+	}
+
+	/**
+	 * S3 객체 크기 조회 (HEAD)
+	 *
+	 * @param key S3 객체 키
+	 * @return 객체 크기 (bytes), 객체가 없으면 null
+	 */
+	public Long headObjectSize(String key) {
+		try (S3Client s3 = getS3Client()) {
+			HeadObjectResponse head = s3.headObject(HeadObjectRequest.builder()
+				.bucket(bucket)
+				.key(key)
+				.build());
+			return head.contentLength();
+		} catch (NoSuchKeyException e) {
+			return null;
+		} catch (S3Exception e) {
+			if (e.statusCode() == 404) {
+				return null;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * S3 객체 키의 CloudFront 퍼블릭 URL
+	 *
+	 * @param key S3 객체 키
+	 * @return 퍼블릭 URL
+	 */
+	public String toPublicUrl(String key) {
+		return buildPublicUrl(key);
+	}
+
+	/**
+	 * URL이 가리키는 S3 객체를 바이트 배열로 다운로드
+	 *
+	 * @param url S3/CloudFront URL
+	 * @return 객체 내용
+	 */
+	public byte[] downloadByUrl(String url) {
+		try (S3Client s3 = getS3Client()) {
+			return s3.getObjectAsBytes(GetObjectRequest.builder()
+				.bucket(bucket)
+				.key(extractKeyFromUrl(url))
+				.build()).asByteArray();
+		}
+	}
+
+	/**
+	 * 바이트 배열을 지정한 키로 업로드
+	 *
+	 * @param key         S3 객체 키
+	 * @param bytes       업로드할 내용
+	 * @param contentType Content-Type
+	 * @return 퍼블릭 URL
+	 */
+	public String uploadBytes(String key, byte[] bytes, String contentType) {
+		try (S3Client s3 = getS3Client()) {
+			s3.putObject(PutObjectRequest.builder()
+					.bucket(bucket)
+					.key(key)
+					.contentType(contentType)
+					.build(),
+				software.amazon.awssdk.core.sync.RequestBody.fromBytes(bytes));
+			return buildPublicUrl(key);
+		}
+	}
+
+	/**
+	 * URL에서 S3 객체 키 추출
+	 *
+	 * @param url S3/CloudFront URL
+	 * @return S3 객체 키
+	 */
+	public String keyOf(String url) {
+		return extractKeyFromUrl(url);
+	}
+
+	/**
+	 * Presigned URL 발급용 S3Presigner 생성 (S3Client와 같은 인증 정보/리전 사용)
+	 *
+	 * @return 새로 생성된 S3Presigner 인스턴스
+	 */
+	private S3Presigner getS3Presigner() {
+		return S3Presigner.builder()
+			.region(Region.of(region))
+			.credentialsProvider(StaticCredentialsProvider.create(
+				AwsBasicCredentials.create(accessKey, secretKey)
+			))
+			.build();
+	}
+
 	/**
 	 * 기존 S3 객체를 새로운 키로 복사
 	 **/
@@ -0,0 +1,436 @@
+package Team_Mute.back_end.domain.space_user.catalog;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import Team_Mute.back_end.domain.space_user.dto.SpaceUserResponseDto;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자 공간 검색 메모리 색인
+ * - 검색 노출 중인(space_is_available) 공간 전체를 space_search_doc에서 읽어 메모리에 보관
+ * - 공간마다 등록일 내림차순 순번(ordinal)을 부여하고, 필터 조건을 순번 비트셋(long[])으로 표현
+ *
+ * 색인 구성:
+ * - 지역별 비트셋: 지역 ID → 해당 지역 공간의 비트셋
+ * - 수용 인원 정렬 배열: 인원 오름차순 순번 배열 + 이진 탐색으로 "people 이상" 구간 추출
+ * - 태그별 비트셋: 태그명 → 해당 태그를 가진 공간의 비트셋 (태그 AND 필터는 워드 단위 AND)
+ *
+ * 갱신:
+ * - 애플리케이션 기동 시 검색 문서 구성 이후 색인 구성
+ * - SpaceChangedEvent 수신 시(트랜잭션 커밋 후) 재구성 후 space-catalog 채널로 "{nodeId}:{spaceId}" 발행, 다른 노드도 재구성
+ * - 자기 노드가 발행한 메시지는 이미 재구성을 마쳤으므로 무시 (중복 재구성 방지)
+ * - 공간 수가 수백 건 규모이므로 변경 시 전체 재구성하고, 완료 시 한 번에 교체
+ *
+ * @author Team Mute
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class SpaceCatalogIndex implements MessageListener {
+
+	/**
+	 * 색인 재구성을 노드 간 전파하는 Redis Pub/Sub 채널명
+	 */
+	public static final String CHANNEL = "space-catalog";
+
+	private static final String LOAD_SQL = """
+		SELECT space_id, region_id, category_id, category_name, space_name, space_description,
+		       space_capacity, tag_names, location, space_image_url, space_thumbnail_url, space_medium_url
+		FROM space_search_doc
+		WHERE space_is_available = true
+		ORDER BY reg_date DESC, space_id DESC
+		""";
+
+	/**
+	 * 노드 식별자 (자기 노드가 발행한 재구성 메시지 구분용)
+	 */
+	private final String nodeId = UUID.randomUUID().toString();
+
+	private final JdbcTemplate jdbcTemplate;
+	private final StringRedisTemplate redis;
+
+	/**
+	 * 현재 조회에 사용하는 색인
+	 */
+	private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+	/**
+	 * 색인 버전 (재구성할 때마다 증가, 검색 결과 캐시 키에 사용)
+	 */
+	private volatile long version;
+
+	public SpaceCatalogIndex(JdbcTemplate jdbcTemplate, StringRedisTemplate redis) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.redis = redis;
+	}
+
+	/**
+	 * 색인 사용 가능 여부 (한 번 이상 구성 완료)
+	 *
+	 * @return 사용 가능하면 true
+	 */
+	public boolean isReady() {
+		return snapshot.ready();
+	}
+
+	/**
+	 * 현재 색인 버전
+	 *
+	 * @return 재구성 횟수 (구성 전 0)
+	 */
+	public long version() {
+		return version;
+	}
+
+	/**
+	 * 메모리 검색
+	 *
+	 * 처리 로직:
+	 * 1. 전체 공간 비트셋에서 시작
+	 * 2. 지역 비트셋 AND
+	 * 3. 수용 인원 이상 구간을 비트셋으로 만들어 AND
+	 * 4. 태그별 비트셋 AND (등록되지 않은 태그가 있으면 결과 없음)
+	 * 5. 남은 비트를 순번 오름차순(등록일 내림차순)으로 순회하여 결과 반환
+	 *
+	 * 사용 예시:
+	 * - search(1, 10, ["WIFI", "화이트보드"]) → 지역 1, 10인 이상, 두 태그를 모두 가진 공간
+	 *
+	 * @param regionId 지역 ID (null이면 전체)
+	 * @param people   최소 수용 인원 (null이면 전체)
+	 * @param tagNames 태그명 배열 (비어 있으면 전체)
+	 * @return 조건에 맞는 공간 목록 (등록일 내림차순)
+	 */
+	public List<SpaceUserResponseDto> search(Integer regionId, Integer people, String[] tagNames) {
+		Snapshot current = snapshot;
+		int size = current.docs().length;
+
+		// 1. 전체 공간
+		long[] bits = new long[words(size)];
+		Arrays.fill(bits, -1L);
+		clearTail(bits, size);
+
+		// 2. 지역
+		if (regionId != null) {
+			and(bits, current.regionBits().get(regionId));
+		}
+
+		// 3. 수용 인원
+		if (people != null) {
+			and(bits, capacityBits(current, people));
+		}
+
+		// 4. 태그
+		if (tagNames != null) {
+			for (String tagName : tagNames) {
+				and(bits, current.tagBits().get(tagName));
+			}
+		}
+
+		// 5. 결과 수집
+		List<SpaceUserResponseDto> result = new ArrayList<>();
+		for (int w = 0; w < bits.length; w++) {
+			long word = bits[w];
+			while (word != 0) {
+				int bit = Long.numberOfTrailingZeros(word);
+				result.add(current.docs()[(w << 6) + bit]);
+				word &= word - 1;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * 기동 완료 시 색인 구성 (검색 문서 구성 이후 실행)
+	 */
+	@Order(Ordered.LOWEST_PRECEDENCE)
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		rebuild();
+	}
+
+	/**
+	 * 공간 변경 커밋 후 재구성 및 다른 노드에 알림
+	 *
+	 * @param event 공간 변경 이벤트
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onSpaceChanged(SpaceChangedEvent event) {
+		rebuild();
+		try {
+			redis.convertAndSend(CHANNEL, nodeId + ":" + event.spaceId());
+		} catch (Exception e) {
+			log.warn("공간 색인 재구성 알림 발행 실패: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 다른 노드의 공간 변경 알림 수신 시 재구성
+	 * - 본문 형식: "{nodeId}:{spaceId}" (자기 노드가 발행한 메시지는 이미 재구성되어 무시)
+	 * - 구분자가 없는 이전 형식 메시지는 다른 노드의 알림으로 처리
+	 *
+	 * @param message Redis Pub/Sub 메시지
+	 * @param pattern 구독 패턴 (미사용)
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		int separator = body.indexOf(':');
+		if (separator >= 0 && nodeId.equals(body.substring(0, separator))) {
+			return;
+		}
+		rebuild();
+	}
+
+	/**
+	 * space_search_doc에서 색인 재구성
+	 */
+	public synchronized void rebuild() {
+		try {
+			List<Row> rows = jdbcTemplate.query(LOAD_SQL, (rs, rowNum) -> toRow(rs));
+			snapshot = Snapshot.of(rows);
+			version++;
+			log.info("공간 검색 색인 구성 완료: {}건", rows.size());
+		} catch (Exception e) {
+			log.error("공간 검색 색인 구성 실패: {}", e.getMessage());
+		}
+	}
+
+	private static Row toRow(ResultSet rs) throws SQLException {
+		Array tagArray = rs.getArray("tag_names");
+		String[] tagNames = tagArray == null ? new String[0] : (String[])tagArray.getArray();
+		Doc doc = new Doc(
+			rs.getInt("space_id"),
+			rs.getString("space_name"),
+			rs.getString("space_description"),
+			rs.getInt("space_capacity"),
+			rs.getInt("category_id"),
+			rs.getString("category_name"),
+			tagNames,
+			rs.getString("location"),
+			rs.getString("space_image_url"),
+			rs.getString("space_thumbnail_url"),
+			rs.getString("space_medium_url"));
+		return new Row(doc, rs.getInt("region_id"));
+	}
+
+	/**
+	 * 수용 인원이 people 이상인 공간의 비트셋
+	 * - 인원 오름차순 배열에서 people 이상인 첫 위치를 이진 탐색 후 끝까지 비트 설정
+	 */
+	private static long[] capacityBits(Snapshot snapshot, int people) {
+		int[] capacities = snapshot.sortedCapacities();
+		int lo = 0;
+		int hi = capacities.length;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (capacities[mid] < people) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		long[] bits = new long[words(capacities.length)];
+		for (int i = lo; i < capacities.length; i++) {
+			set(bits, snapshot.ordinalsByCapacity()[i]);
+		}
+		return bits;
+	}
+
+	/**
+	 * target &= other (other가 null이면 결과 없음)
+	 */
+	private static void and(long[] target, long[] other) {
+		if (other == null) {
+			Arrays.fill(target, 0L);
+			return;
+		}
+		for (int i = 0; i < target.length; i++) {
+			target[i] &= other[i];
+		}
+	}
+
+	private static void set(long[] bits, int ordinal) {
+		bits[ordinal >>> 6] |= 1L << (ordinal & 63);
+	}
+
+	private static void clearTail(long[] bits, int size) {
+		if ((size & 63) != 0) {
+			bits[bits.length - 1] &= (1L << (size & 63)) - 1;
+		}
+	}
+
+	private static int words(int size) {
+		return (size + 63) >>> 6;
+	}
+
+	/**
+	 * 색인 구성용 조회 행
+	 *
+	 * @param doc 응답 항목
+	 * @param regionId 지역 ID
+	 */
+	private record Row(Doc doc, int regionId) {
+	}
+
+	/**
+	 * 불변 색인 (docs의 인덱스가 순번)
+	 *
+	 * @param docs 공간 응답 항목 (등록일 내림차순)
+	 * @param regionBits 지역 ID → 순번 비트셋
+	 * @param tagBits 태그명 → 순번 비트셋
+	 * @param sortedCapacities 수용 인원 오름차순 배열
+	 * @param ordinalsByCapacity sortedCapacities[i]에 해당하는 공간 순번
+	 * @param ready 구성 완료 여부
+	 */
+	private record Snapshot(
+		SpaceUserResponseDto[] docs,
+		Map<Integer, long[]> regionBits,
+		Map<String, long[]> tagBits,
+		int[] sortedCapacities,
+		int[] ordinalsByCapacity,
+		boolean ready) {
+
+		static final Snapshot EMPTY = new Snapshot(
+			new SpaceUserResponseDto[0], Map.of(), Map.of(), new int[0], new int[0], false);
+
+		static Snapshot of(List<Row> rows) {
+			int size = rows.size();
+			SpaceUserResponseDto[] docs = new SpaceUserResponseDto[size];
+			Map<Integer, long[]> regionBits = new HashMap<>();
+			Map<String, long[]> tagBits = new HashMap<>();
+
+			for (int i = 0; i < size; i++) {
+				Row row = rows.get(i);
+				docs[i] = row.doc();
+				set(regionBits.computeIfAbsent(row.regionId(), k -> new long[words(size)]), i);
+				for (String tagName : row.doc().getTagNames()) {
+					set(tagBits.computeIfAbsent(tagName, k -> new long[words(size)]), i);
+				}
+			}
+
+			Integer[] byCapacity = new Integer[size];
+			for (int i = 0; i < size; i++) {
+				byCapacity[i] = i;
+			}
+			Arrays.sort(byCapacity, (a, b) -> Integer.compare(docs[a].getSpaceCapacity(), docs[b].getSpaceCapacity()));
+			int[] sortedCapacities = new int[size];
+			int[] ordinalsByCapacity = new int[size];
+			for (int i = 0; i < size; i++) {
+				ordinalsByCapacity[i] = byCapacity[i];
+				sortedCapacities[i] = docs[byCapacity[i]].getSpaceCapacity();
+			}
+
+			return new Snapshot(docs, Map.copyOf(regionBits), Map.copyOf(tagBits), sortedCapacities,
+				ordinalsByCapacity, true);
+		}
+	}
+
+	/**
+	 * 메모리 색인 응답 항목 ({@code SpaceUserResponseDto} 구현, JSON 직렬화 필드는 인터페이스와 동일)
+	 */
+	private static final class Doc implements SpaceUserResponseDto {
+		private final Integer spaceId;
+		private final String spaceName;
+		private final String spaceDescription;
+		private final Integer spaceCapacity;
+		private final Integer categoryId;
+		private final String categoryName;
+		private final String[] tagNames;
+		private final String location;
+		private final String spaceImageUrl;
+		private final String spaceThumbnailUrl;
+		private final String spaceMediumUrl;
+
+		private Doc(Integer spaceId, String spaceName, String spaceDescription, Integer spaceCapacity,
+			Integer categoryId, String categoryName, String[] tagNames, String location, String spaceImageUrl,
+			String spaceThumbnailUrl, String spaceMediumUrl) {
+			this.spaceId = spaceId;
+			this.spaceName = spaceName;
+			this.spaceDescription = spaceDescription;
+			this.spaceCapacity = spaceCapacity;
+			this.categoryId = categoryId;
+			this.categoryName = categoryName;
+			this.tagNames = tagNames;
+			this.location = location;
+			this.spaceImageUrl = spaceImageUrl;
+			this.spaceThumbnailUrl = spaceThumbnailUrl;
+			this.spaceMediumUrl = spaceMediumUrl;
+		}
+
+		@Override
+		public Integer getSpaceId() {
+			return spaceId;
+		}
+
+		@Override
+		public String getSpaceName() {
+			return spaceName;
+		}
+
+		@Override
+		public String getSpaceDescription() {
+			return spaceDescription;
+		}
+
+		@Override
+		public Integer getSpaceCapacity() {
+			return spaceCapacity;
+		}
+
+		@Override
+		public Integer getCategoryId() {
+			return categoryId;
+		}
+
+		@Override
+		public String getCategoryName() {
+			return categoryName;
+		}
+
+		@Override
+		public String[] getTagNames() {
+			return tagNames.clone();
+		}
+
+		@Override
+		public String getLocation() {
+			return location;
+		}
+
+		@Override
+		public String getSpaceImageUrl() {
+			return spaceImageUrl;
+		}
+
+		@Override
+		public String getSpaceThumbnailUrl() {
+			return spaceThumbnailUrl;
+		}
+
+		@Override
+		public String getSpaceMediumUrl() {
+			return spaceMediumUrl;
+		}
+	}
+}
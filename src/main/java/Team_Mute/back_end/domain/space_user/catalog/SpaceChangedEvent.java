@@ -0,0 +1,13 @@
+package Team_Mute.back_end.domain.space_user.catalog;
+
+/**
+ * 공간 변경 이벤트
+ * - SpaceAdminService에서 공간 생성/수정/삭제 시 발행
+ * - 트랜잭션 커밋 후 사용자 검색용 메모리 색인 등 공간 데이터를 보관하는 구성 요소가 수신하여 갱신
+ *
+ * @param spaceId 변경된 공간 ID
+ * @author Team Mute
+ * @since 1.0
+ */
+public record SpaceChangedEvent(Integer spaceId) {
+}
@@ -0,0 +1,213 @@
+package Team_Mute.back_end.domain.space_user.catalog;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import Team_Mute.back_end.domain.space_admin.dto.response.SpaceDatailResponseDto;
+import Team_Mute.back_end.domain.space_user.dto.SpaceSearchResponse;
+import Team_Mute.back_end.domain.space_user.dto.SpaceUserDtailResponseDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 공간 상세/검색 결과 로컬 캐시
+ * - 사용자 상세(findSpaceDetail)와 관리자 상세(findDetailWithNames) 프로젝션을 spaceId 기준으로 보관
+ * - 날짜 조건이 없는 검색 결과를 정규화된 (지역, 인원, 태그) 조합과 검색 색인 버전 기준으로 보관
+ * - 존재하지 않는 공간(빈 결과)은 캐시하지 않음
+ *
+ * 무효화:
+ * - SpaceChangedEvent 수신 시(트랜잭션 커밋 후) 해당 공간 상세와 검색 결과 전체 제거
+ * - space-view 채널로 발행하여 다른 노드의 캐시도 제거
+ * - 조회 중 무효화가 일어나면 세대(generation) 값이 달라지므로 조회 결과를 저장하지 않음 (이전 값 재등록 방지)
+ * - 검색 결과는 색인 버전이 키에 포함되므로 무효화 메시지와 색인 재구성의 순서와 관계없이 재구성 전 결과를 반환하지 않음
+ * - 담당자 이름 등 공간 외 데이터 변경은 space.cache.ttl-seconds 만료로 반영
+ *
+ * 메트릭:
+ * - space.view_cache.lookups (cache=user_detail|admin_detail|search, result=hit|miss) : 캐시 조회 결과별 횟수
+ *
+ * @author Team Mute
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class SpaceViewCache implements MessageListener {
+
+	/**
+	 * 캐시 무효화를 노드 간 전파하는 Redis Pub/Sub 채널명
+	 */
+	public static final String CHANNEL = "space-view";
+
+	private final StringRedisTemplate redis;
+	private final MeterRegistry meterRegistry;
+	private final SpaceCatalogIndex spaceCatalogIndex;
+
+	private final Cache<Integer, SpaceUserDtailResponseDto> userDetails;
+	private final Cache<Integer, SpaceDatailResponseDto> adminDetails;
+	private final Cache<SearchKey, SpaceSearchResponse> searches;
+
+	/**
+	 * 무효화 세대 (무효화할 때마다 증가)
+	 */
+	private final AtomicLong generation = new AtomicLong();
+
+	public SpaceViewCache(
+		StringRedisTemplate redis,
+		MeterRegistry meterRegistry,
+		SpaceCatalogIndex spaceCatalogIndex,
+		@Value("${space.cache.ttl-seconds:600}") long ttlSeconds,
+		@Value("${space.cache.max-size:2000}") long maxSize) {
+		this.redis = redis;
+		this.meterRegistry = meterRegistry;
+		this.spaceCatalogIndex = spaceCatalogIndex;
+		this.userDetails = Caffeine.newBuilder()
+			.maximumSize(maxSize)
+			.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+			.build();
+		this.adminDetails = Caffeine.newBuilder()
+			.maximumSize(maxSize)
+			.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+			.build();
+		this.searches = Caffeine.newBuilder()
+			.maximumSize(maxSize)
+			.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+			.build();
+	}
+
+	/**
+	 * 사용자 공간 상세 조회 (없으면 loader로 조회 후 저장)
+	 *
+	 * @param spaceId 공간 ID
+	 * @param loader  DB 조회 함수
+	 * @return 공간 상세 (없으면 Optional.empty)
+	 */
+	public Optional<SpaceUserDtailResponseDto> getUserDetail(Integer spaceId,
+		Supplier<Optional<SpaceUserDtailResponseDto>> loader) {
+		return get(userDetails, spaceId, loader, "user_detail");
+	}
+
+	/**
+	 * 관리자 공간 상세 조회 (없으면 loader로 조회 후 저장)
+	 *
+	 * @param spaceId 공간 ID
+	 * @param loader  DB 조회 함수
+	 * @return 공간 상세 (없으면 Optional.empty)
+	 */
+	public Optional<SpaceDatailResponseDto> getAdminDetail(Integer spaceId,
+		Supplier<Optional<SpaceDatailResponseDto>> loader) {
+		return get(adminDetails, spaceId, loader, "admin_detail");
+	}
+
+	/**
+	 * 날짜 조건 없는 공간 검색 결과 조회 (없으면 loader로 검색 후 저장)
+	 *
+	 * 사용 예시:
+	 * - (1, 10, ["WIFI", "화이트보드"])와 (1, 10, ["화이트보드", "WIFI"])는 같은 캐시 항목 사용
+	 *
+	 * @param regionId 지역 ID (null이면 전체)
+	 * @param people   정규화된 최소 인원 (null이면 전체)
+	 * @param tagNames 태그명 배열
+	 * @param loader   검색 함수
+	 * @return 카테고리별 검색 결과
+	 */
+	public SpaceSearchResponse getSearch(Integer regionId, Integer people, String[] tagNames,
+		Supplier<SpaceSearchResponse> loader) {
+		SearchKey key = SearchKey.of(spaceCatalogIndex.version(), regionId, people, tagNames);
+		return get(searches, key, () -> Optional.of(loader.get()), "search").orElseThrow();
+	}
+
+	/**
+	 * 공간 변경 커밋 후 로컬 캐시 제거 및 다른 노드에 알림
+	 *
+	 * @param event 공간 변경 이벤트
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onSpaceChanged(SpaceChangedEvent event) {
+		evict(event.spaceId());
+		try {
+			redis.convertAndSend(CHANNEL, String.valueOf(event.spaceId()));
+		} catch (Exception e) {
+			log.warn("공간 캐시 무효화 알림 발행 실패: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 다른 노드의 공간 변경 알림 수신 시 로컬 캐시 제거
+	 *
+	 * @param message Redis Pub/Sub 메시지 (변경된 공간 ID)
+	 * @param pattern 구독 패턴 (미사용)
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			evict(Integer.valueOf(new String(message.getBody())));
+		} catch (NumberFormatException e) {
+			log.warn("잘못된 공간 캐시 무효화 메시지: {}", new String(message.getBody()));
+		}
+	}
+
+	/**
+	 * 공간 상세와 검색 결과 전체 제거
+	 *
+	 * @param spaceId 변경된 공간 ID
+	 */
+	public void evict(Integer spaceId) {
+		generation.incrementAndGet();
+		userDetails.invalidate(spaceId);
+		adminDetails.invalidate(spaceId);
+		searches.invalidateAll();
+	}
+
+	private <K, V> Optional<V> get(Cache<K, V> cache, K key, Supplier<Optional<V>> loader, String name) {
+		V cached = cache.getIfPresent(key);
+		if (cached != null) {
+			count(name, "hit");
+			return Optional.of(cached);
+		}
+
+		count(name, "miss");
+		long startedAt = generation.get();
+		Optional<V> loaded = loader.get();
+		if (loaded.isPresent() && generation.get() == startedAt) {
+			cache.put(key, loaded.get());
+		}
+		return loaded;
+	}
+
+	private void count(String cache, String result) {
+		meterRegistry.counter("space.view_cache.lookups", "cache", cache, "result", result).increment();
+	}
+
+	/**
+	 * 정규화된 검색 조건 (태그는 중복 제거 후 정렬)
+	 *
+	 * @param catalogVersion 검색 색인 버전
+	 * @param regionId 지역 ID
+	 * @param people 최소 인원
+	 * @param tagNames 정렬된 태그명 목록
+	 */
+	private record SearchKey(long catalogVersion, Integer regionId, Integer people, List<String> tagNames) {
+
+		static SearchKey of(long catalogVersion, Integer regionId, Integer people, String[] tagNames) {
+			List<String> tags = tagNames == null
+				? List.of()
+				: Arrays.stream(tagNames).filter(Objects::nonNull).distinct().sorted().toList();
+			return new SearchKey(catalogVersion, regionId, people, tags);
+		}
+	}
+}
@@ -9,8 +9,8 @@ import com.fasterxml.jackson.annotation.JsonRawValue;
  */
 @JsonPropertyOrder({
 	"spaceId", "spaceName", "regionName", "categoryName", "spaceCapacity", "spaceDescription",
-	"spaceImageUrl", "reservationWay", "spaceRules", "spaceIsAvailable", "manager",
-	"location", "detailImageUrls", "tagNames", "operations", "closedDays",
+	"spaceImageUrl", "spaceThumbnailUrl", "spaceMediumUrl", "reservationWay", "spaceRules", "spaceIsAvailable", "manager",
+	"location", "detailImageUrls", "detailThumbnailUrls", "tagNames", "operations", "closedDays",
 })
 public interface SpaceUserDtailResponseDto {
 	/**
@@ -62,6 +62,20 @@ public interface SpaceUserDtailResponseDto {
 	 */
 	String getSpaceImageUrl();
 
+	/**
+	 * 공간의 메인 이미지 썸네일 URL을 반환 (변환 전이면 원본 URL)
+	 *
+	 * @return 메인 이미지 썸네일 URL
+	 */
+	String getSpaceThumbnailUrl();
+
+	/**
+	 * 공간의 메인 이미지 중간 크기 URL을 반환 (변환 전이면 원본 URL)
+	 *
+	 * @return 메인 이미지 중간 크기 URL
+	 */
+	String getSpaceMediumUrl();
+
 	/**
 	 * 공간의 예약 방법을 반환
 	 *
@@ -108,6 +122,13 @@ public interface SpaceUserDtailResponseDto {
 	 */
 	String[] getDetailImageUrls();
 
+	/**
+	 * 공간의 상세 이미지 썸네일 URL 배열을 반환 (상세 이미지와 같은 순서, 변환 전이면 원본 URL)
+	 *
+	 * @return 상세 이미지 썸네일 URL 배열
+	 */
+	String[] getDetailThumbnailUrls();
+
 	/**
 	 * 공간에 연결된 편의시설 태그 이름 배열을 반환
 	 * 예시: {@code {"day": 1, "from": "09:00", "to": "18:00", "isOpen": true}},
@@ -9,7 +9,8 @@ import com.fasterxml.jackson.annotation.JsonRawValue;
  */
 @JsonPropertyOrder({
 	"spaceId", "spaceName", "spaceDescription",
-	"spaceCapacity", "categoryId", "categoryName", "tagNames", "location", "spaceImageUrl"
+	"spaceCapacity", "categoryId", "categoryName", "tagNames", "location", "spaceImageUrl",
+	"spaceThumbnailUrl", "spaceMediumUrl"
 })
 public interface SpaceUserResponseDto {
 
@@ -77,4 +78,18 @@ public interface SpaceUserResponseDto {
 	 * @return 메인 이미지 URL
 	 */
 	String getSpaceImageUrl();
+
+	/**
+	 * 공간의 메인 이미지 썸네일 URL을 반환 (변환 전이면 원본 URL)
+	 *
+	 * @return 메인 이미지 썸네일 URL
+	 */
+	String getSpaceThumbnailUrl();
+
+	/**
+	 * 공간의 메인 이미지 중간 크기 URL을 반환 (변환 전이면 원본 URL)
+	 *
+	 * @return 메인 이미지 중간 크기 URL
+	 */
+	String getSpaceMediumUrl();
 }
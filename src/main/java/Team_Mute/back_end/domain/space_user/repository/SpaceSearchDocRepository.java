@@ -0,0 +1,173 @@
+package Team_Mute.back_end.domain.space_user.repository;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import Team_Mute.back_end.global.util.SchemaChecks;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 공간 검색 문서(space_search_doc) 관리 레포지토리
+ * - 사용자 공간 검색에 필요한 값을 공간당 한 행으로 비정규화하여 보관
+ * - 태그 ID 배열(int[]) + GIN 인덱스로 태그 AND 필터를 배열 포함 연산(@>) 한 번으로 처리
+ * - 카테고리명, 태그명 배열, 위치 JSON, 대표 이미지 변환본 URL을 미리 만들어 두어 검색 시 조인/집계 없음
+ *
+ * 갱신:
+ * - SpaceAdminService 생성/수정 시 refresh, 삭제 시 delete (같은 트랜잭션에서 실행)
+ * - 애플리케이션 기동 완료 시 전체 재구성 (시드 데이터, 위치 정보 변경 반영)
+ *
+ * 스키마 구성:
+ * - 테이블/인덱스는 db/migration/V3__space_search_doc.sql
+ * - 빈 초기화 시 없으면 기동 실패
+ *
+ * @author Team Mute
+ * @since 1.0
+ */
+@Slf4j
+@Repository
+public class SpaceSearchDocRepository {
+
+	/**
+	 * 원본 테이블에서 검색 문서를 만들어 upsert (추가 조건은 호출부에서 AND로 추가)
+	 * - 삭제 요청된 공간(space_delete_job)은 제외
+	 */
+	private static final String UPSERT_SQL = """
+		INSERT INTO space_search_doc (
+		  space_id, region_id, category_id, category_name, space_name, space_description,
+		  space_capacity, space_is_available, tag_ids, tag_names, location, space_image_url,
+		  space_thumbnail_url, space_medium_url, reg_date
+		)
+		SELECT
+		  s.space_id,
+		  s.region_id,
+		  s.category_id,
+		  c.category_name,
+		  s.space_name,
+		  s.space_description,
+		  s.space_capacity,
+		  s.space_is_available,
+		  COALESCE((
+		    SELECT array_agg(DISTINCT mm.tag_id ORDER BY mm.tag_id)
+		    FROM tb_space_tag_map mm
+		    WHERE mm.space_id = s.space_id
+		  ), ARRAY[]::int[]),
+		  COALESCE((
+		    SELECT array_agg(DISTINCT tt.tag_name ORDER BY tt.tag_name)
+		    FROM tb_space_tag_map mm
+		    JOIN tb_space_tags tt ON tt.tag_id = mm.tag_id
+		    WHERE mm.space_id = s.space_id
+		  ), ARRAY[]::text[]),
+		  COALESCE(
+		    json_build_object(
+		      'locationName', l.location_name,
+		      'addressRoad', l.address_road || ' (' || l.address_jibun || ')',
+		      'addressInfo', l.access_info
+		    ), '{}'::json
+		  ),
+		  s.space_image_url,
+		  COALESCE(v.thumb_url,  s.space_image_url),
+		  COALESCE(v.medium_url, s.space_image_url),
+		  s.reg_date
+		FROM tb_spaces s
+		JOIN tb_space_categories c ON c.category_id = s.category_id
+		JOIN tb_locations        l ON l.location_id = s.location_id
+		LEFT JOIN space_image_variant v ON v.image_url = s.space_image_url
+		WHERE NOT EXISTS (SELECT 1 FROM space_delete_job j WHERE j.space_id = s.space_id)
+		%s
+		ON CONFLICT (space_id) DO UPDATE SET
+		  region_id          = EXCLUDED.region_id,
+		  category_id        = EXCLUDED.category_id,
+		  category_name      = EXCLUDED.category_name,
+		  space_name         = EXCLUDED.space_name,
+		  space_description  = EXCLUDED.space_description,
+		  space_capacity     = EXCLUDED.space_capacity,
+		  space_is_available = EXCLUDED.space_is_available,
+		  tag_ids            = EXCLUDED.tag_ids,
+		  tag_names          = EXCLUDED.tag_names,
+		  location           = EXCLUDED.location,
+		  space_image_url    = EXCLUDED.space_image_url,
+		  space_thumbnail_url = EXCLUDED.space_thumbnail_url,
+		  space_medium_url   = EXCLUDED.space_medium_url,
+		  reg_date           = EXCLUDED.reg_date
+		""";
+
+	private static final String SCHEMA_SCRIPT = "V3__space_search_doc.sql";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public SpaceSearchDocRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * 검색 문서 테이블/인덱스 적용 여부 확인
+	 *
+	 * @throws IllegalStateException 마이그레이션이 적용되지 않은 경우
+	 */
+	@PostConstruct
+	void verifySchema() {
+		SchemaChecks.requireColumns(jdbcTemplate, "space_search_doc", SCHEMA_SCRIPT,
+			"space_thumbnail_url", "space_medium_url");
+		SchemaChecks.requireRelation(jdbcTemplate, "idx_space_search_doc_tag_ids", SCHEMA_SCRIPT);
+		SchemaChecks.requireRelation(jdbcTemplate, "idx_space_search_doc_region_capacity", SCHEMA_SCRIPT);
+	}
+
+	/**
+	 * 기동 완료 시 전체 재구성
+	 * - 검색 문서를 읽는 색인보다 먼저 실행
+	 * - 실패하면 예외를 그대로 전파하여 기동 중단 (비어 있거나 오래된 검색 문서로 서비스하지 않도록)
+	 */
+	@Order(0)
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		int rebuilt = rebuildAll();
+		log.info("공간 검색 문서 구성 완료: {}건", rebuilt);
+	}
+
+	/**
+	 * 단일 공간 검색 문서 갱신
+	 * - 공간 엔티티와 태그/휴무일 등 변경 사항이 flush된 뒤 호출해야 함
+	 * - 원본 공간이 없거나 삭제 요청된 공간이면 문서도 삭제
+	 *
+	 * @param spaceId 공간 ID
+	 */
+	@Transactional
+	public void refresh(Integer spaceId) {
+		int upserted = jdbcTemplate.update(String.format(UPSERT_SQL, "AND s.space_id = ?"), spaceId);
+		if (upserted == 0) {
+			delete(spaceId);
+		}
+	}
+
+	/**
+	 * 단일 공간 검색 문서 삭제
+	 *
+	 * @param spaceId 공간 ID
+	 */
+	@Transactional
+	public void delete(Integer spaceId) {
+		jdbcTemplate.update("DELETE FROM space_search_doc WHERE space_id = ?", spaceId);
+	}
+
+	/**
+	 * 전체 검색 문서 재구성
+	 * - 모든 공간 upsert 후 원본이 없거나 삭제 요청된 공간의 문서 삭제
+	 *
+	 * @return 재구성된 문서 수
+	 */
+	@Transactional
+	public int rebuildAll() {
+		int upserted = jdbcTemplate.update(String.format(UPSERT_SQL, ""));
+		jdbcTemplate.update("""
+			DELETE FROM space_search_doc d
+			WHERE NOT EXISTS (SELECT 1 FROM tb_spaces s WHERE s.space_id = d.space_id)
+			   OR EXISTS (SELECT 1 FROM space_delete_job j WHERE j.space_id = d.space_id)
+			""");
+		return upserted;
+	}
+}
@@ -4,6 +4,9 @@ import Team_Mute.back_end.domain.space_admin.entity.Space;
 import Team_Mute.back_end.domain.space_user.dto.SpaceUserDtailResponseDto;
 import Team_Mute.back_end.domain.space_user.dto.SpaceUserResponseDto;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -18,8 +21,9 @@ public interface SpaceUserRepository extends JpaRepository<Space, Integer> {
 
 	/**
 	 * 공간 검색
-	 * - 사용자 필터링 조건(지역, 인원, 태그)에 맞는 공간 목록을 조회
-	 * - 태그는 AND 조건으로 필터링되며, 미팅룸(category_id = 1)과 행사장(category_id = 2)을 포함
+	 * - 사용자 필터링 조건(지역, 인원, 태그)에 맞는 공간 목록을 검색 문서(space_search_doc)에서 조회
+	 * - 태그는 AND 조건으로 필터링되며, 선택한 태그 ID 배열을 모두 포함(@>)하는 문서만 통과 (GIN 인덱스)
+	 * - 카테고리명, 태그명 배열, 위치 JSON은 문서에 미리 저장된 값을 그대로 반환
 	 *
 	 * @param regionId 지역 ID (선택 사항, NULL 허용)
 	 * @param people   최소 수용 인원 (선택 사항, NULL 허용)
@@ -28,79 +32,183 @@ public interface SpaceUserRepository extends JpaRepository<Space, Integer> {
 	 * @return 필터링 조건에 맞는 공간 목록 {@code SpaceUserResponseDto}
 	 */
 	@Query(value = """
-		/* CHANGE: 태그 목록 미리 집계 (응답에 tagNames 배열 포함) */
-		WITH tag_agg AS (
-		  SELECT stm.space_id,
-		         array_agg(st.tag_name ORDER BY st.tag_name) AS tag_names
-		  FROM tb_space_tag_map stm
-		  JOIN tb_space_tags    st ON st.tag_id = stm.tag_id
-		  GROUP BY stm.space_id
-		),
+		/* 선택한 태그 이름을 태그 ID 배열로 변환 (존재하지 않는 태그가 있으면 tag_count < :tagCount) */
+		WITH wanted_tags AS (
+		  SELECT COALESCE(array_agg(st.tag_id), ARRAY[]::int[]) AS tag_ids,
+		         COUNT(DISTINCT st.tag_name)                    AS tag_count
+		  FROM tb_space_tags st
+		  WHERE st.tag_name = ANY(CAST(:tagNames AS text[]))
+		)
 
-		/* CHANGE: 태그 AND 필터
-		   - :tagCount = 0 이면 모든 공간 허용
-		   - :tagCount > 0 이면, 선택한 tagNames 전부를 포함하는 space_id만 통과
-		   - ANY(CAST(:tagNames AS text[])) 로 타입을 text[]로 고정 (Postgres 타입 추론 에러 방지)
-		*/
-		tag_and_filter AS (
-		  SELECT s.space_id
-		  FROM tb_spaces s
-		  WHERE :tagCount = 0
+		SELECT
+		  d.space_id           AS spaceId,
+		  d.space_name         AS spaceName,
+		  d.space_description  AS spaceDescription,
+		  d.space_capacity     AS spaceCapacity,
+		  d.category_id        AS categoryId,
+		  d.category_name      AS categoryName,
+		  d.tag_names          AS tagNames,
+		  d.location           AS location,
+		  d.space_image_url    AS spaceImageUrl,
+		  d.space_thumbnail_url AS spaceThumbnailUrl,
+		  d.space_medium_url   AS spaceMediumUrl
+		FROM space_search_doc d
+		WHERE
+		  d.space_is_available = true
+		  AND (:regionId IS NULL OR d.region_id      = :regionId)
+		  AND (:people   IS NULL OR d.space_capacity >= :people)
+		  AND (
+		    :tagCount = 0
+		    OR ((SELECT tag_count FROM wanted_tags) = :tagCount
+		        AND d.tag_ids @> (SELECT tag_ids FROM wanted_tags))
+		  )
+		ORDER BY d.reg_date DESC
+		""",
+		nativeQuery = true)
+	List<SpaceUserResponseDto> searchSpacesForUser(
+		@Param("regionId") Integer regionId,
+		@Param("people") Integer people,
+		@Param("tagNames") String[] tagNames,
+		@Param("tagCount") Integer tagCount
+	);
 
-		  UNION
+	/**
+	 * 예약 가능 시간 조건을 포함한 공간 검색
+	 * - searchSpacesForUser와 같은 검색 문서(space_search_doc) 기반 지역/인원/태그 필터에 날짜/시간 가용성 필터를 DB에서 함께 적용
+	 * - 하루 검색과 기간 검색 모두 한 번의 쿼리로 예약 가능한 공간만 반환
+	 *
+	 * 가용성 판단 (검색 기간의 모든 날짜가 아래 조건을 만족해야 통과):
+	 * - 해당 요일 운영 정보가 있고 운영일(is_open)
+	 * - 휴무일 기간(closed_from ~ closed_to, 날짜 기준)에 포함되지 않음
+	 * - 당일 검색 구간이 운영 시간 안에 있고, 현재 시각 이후
+	 *   (첫날은 요청 시작 시각, 마지막 날은 요청 종료 시각, 그 외는 운영 시작/종료 시각)
+	 *   - 운영 시작 시각을 쓰는 날은 현재 시각과 비교해 늦은 쪽부터 검색 (오늘 운영 중이면 남은 시간 기준)
+	 *   - 요청 시작 시각이 이미 지났으면 제외
+	 * - 검색 구간과 겹치는 유효한 예약(tb_reservations)과 사전답사(tb_previsit_reservations)가 없음
+	 *
+	 * @param regionId       지역 ID (선택 사항, NULL 허용)
+	 * @param people         최소 수용 인원 (선택 사항, NULL 허용)
+	 * @param tagNames       선택된 태그 이름 배열 (선택 사항, 빈 배열 허용)
+	 * @param tagCount       {@code tagNames} 배열의 길이
+	 * @param startDate      검색 시작 날짜
+	 * @param endDate        검색 종료 날짜
+	 * @param startTime      첫날 검색 시작 시각
+	 * @param endTime        마지막 날 검색 종료 시각
+	 * @param startAtOpening 첫날 시작 시각 대신 운영 시작 시각 사용 여부 (00:00 요청)
+	 * @param endAtClosing   마지막 날 종료 시각 대신 운영 종료 시각 사용 여부 (23:59:59 요청)
+	 * @param now            현재 시각 (지난 시간 제외)
+	 * @param statusIds      예약 시간을 점유하는 예약 상태 ID 목록
+	 * @return 예약 가능한 공간 목록 {@code SpaceUserResponseDto}
+	 */
+	@Query(value = """
+		WITH wanted_tags AS (
+		  SELECT COALESCE(array_agg(st.tag_id), ARRAY[]::int[]) AS tag_ids,
+		         COUNT(DISTINCT st.tag_name)                    AS tag_count
+		  FROM tb_space_tags st
+		  WHERE st.tag_name = ANY(CAST(:tagNames AS text[]))
+		),
 
-		  SELECT s2.space_id
-		  FROM tb_spaces s2
-		  WHERE :tagCount > 0 AND (
-		    SELECT COUNT(DISTINCT st2.tag_name)
-		    FROM tb_space_tag_map stm2
-		    JOIN tb_space_tags    st2 ON st2.tag_id = stm2.tag_id
-		    WHERE stm2.space_id = s2.space_id
-		      AND st2.tag_name = ANY(CAST(:tagNames AS text[]))  /* CHANGE: 타입 캐스팅 명시 */
-		  ) = :tagCount
+		/* 검색 기간의 날짜 목록 */
+		search_days AS (
+		  SELECT CAST(g AS date) AS day
+		  FROM generate_series(CAST(:startDate AS date), CAST(:endDate AS date), interval '1 day') AS g
 		)
 
-		/* CHANGE: 실제 데이터 셀렉트 (Projection alias는 DTO 게터와 동일) */
 		SELECT
-		  s.space_id           AS spaceId,
-		  s.space_name         AS spaceName,
-		  s.space_description  AS spaceDescription,
-		  s.space_capacity     AS spaceCapacity,
-		  s.category_id        AS categoryId,
-		  c.category_name      AS categoryName,
-		  /* 태그 배열 */
-		 COALESCE((
-		   SELECT array_agg(DISTINCT tt.tag_name ORDER BY tt.tag_name)
-		   FROM tb_space_tag_map mm
-		   JOIN tb_space_tags tt ON tt.tag_id = mm.tag_id
-		   WHERE mm.space_id = s.space_id
-		 ), ARRAY[]::text[]) AS tagNames,
-		  COALESCE(
-		      json_build_object(
-			      'locationName', l.location_name,
-			      'addressRoad', l.address_road || ' (' || l.address_jibun || ')',
-			      'addressInfo', l.access_info
-			  ), '{}'::json
-		  ) AS location,
-		  s.space_image_url    AS spaceImageUrl
-		FROM tb_spaces s
-		JOIN tb_admin_region     r ON r.region_id   = s.region_id
-		JOIN tb_space_categories c ON c.category_id = s.category_id
-		LEFT JOIN tag_agg t       ON t.space_id     = s.space_id
-		JOIN tag_and_filter tf    ON tf.space_id    = s.space_id
-		JOIN tb_locations        l ON l.location_id = s.location_id
+		  d.space_id           AS spaceId,
+		  d.space_name         AS spaceName,
+		  d.space_description  AS spaceDescription,
+		  d.space_capacity     AS spaceCapacity,
+		  d.category_id        AS categoryId,
+		  d.category_name      AS categoryName,
+		  d.tag_names          AS tagNames,
+		  d.location           AS location,
+		  d.space_image_url    AS spaceImageUrl,
+		  d.space_thumbnail_url AS spaceThumbnailUrl,
+		  d.space_medium_url   AS spaceMediumUrl
+		FROM space_search_doc d
 		WHERE
-		  s.space_is_available = true
-		  AND (:regionId   IS NULL OR s.region_id   = :regionId)      /* CHANGE: 옵셔널 */
-		  AND (:people   IS NULL OR s.space_capacity >= :people)  /* CHANGE: 옵셔널(이상) */
-		ORDER BY s.reg_date DESC                                   /* 필요시 다른 기본 정렬 가능 */
+		  d.space_is_available = true
+		  AND (:regionId IS NULL OR d.region_id      = :regionId)
+		  AND (:people   IS NULL OR d.space_capacity >= :people)
+		  AND (
+		    :tagCount = 0
+		    OR ((SELECT tag_count FROM wanted_tags) = :tagCount
+		        AND d.tag_ids @> (SELECT tag_ids FROM wanted_tags))
+		  )
+		  /* 검색 기간 중 예약 불가능한 날짜가 하나도 없어야 통과 */
+		  AND NOT EXISTS (
+		    SELECT 1
+		    FROM (
+		      SELECT
+		        sd.day,
+		        o.operation_id,
+		        o.operation_from,
+		        o.operation_to,
+		        /* 운영 시작 시각부터 찾는 경우 이미 지난 시간은 현재 시각부터 (당일 운영 중 검색) */
+		        CASE WHEN sd.day = CAST(:startDate AS date) AND NOT :startAtOpening
+		             THEN sd.day + CAST(:startTime AS time)
+		             ELSE GREATEST(sd.day + o.operation_from, CAST(:now AS timestamp)) END AS window_from,
+		        sd.day + CASE WHEN sd.day = CAST(:endDate AS date) AND NOT :endAtClosing
+		                     THEN CAST(:endTime AS time) ELSE o.operation_to END AS window_to
+		      FROM search_days sd
+		      LEFT JOIN tb_space_operation o
+		        ON o.space_id = d.space_id
+		       AND o.day = EXTRACT(ISODOW FROM sd.day)
+		       AND o.is_open = true
+		    ) w
+		    WHERE
+		      /* 운영하지 않는 요일 */
+		      w.operation_id IS NULL
+		      /* 검색 구간이 운영 시간을 벗어나거나 비어 있거나 이미 지난 시간 */
+		      OR w.window_from < w.day + w.operation_from
+		      OR w.window_to   > w.day + w.operation_to
+		      OR w.window_from >= w.window_to
+		      OR w.window_from < :now
+		      /* 휴무일 */
+		      OR EXISTS (
+		        SELECT 1
+		        FROM tb_space_closedday cd
+		        WHERE cd.space_id = d.space_id
+		          AND CAST(cd.closed_from AS date) <= w.day
+		          AND CAST(cd.closed_to   AS date) >= w.day
+		      )
+		      /* 검색 구간과 겹치는 예약 */
+		      OR EXISTS (
+		        SELECT 1
+		        FROM tb_reservations rv
+		        WHERE rv.space_id = d.space_id
+		          AND rv.reservation_status_id IN (:statusIds)
+		          AND rv.reservation_from < w.window_to
+		          AND rv.reservation_to   > w.window_from
+		      )
+		      /* 검색 구간과 겹치는 사전답사 */
+		      OR EXISTS (
+		        SELECT 1
+		        FROM tb_previsit_reservations pv
+		        JOIN tb_reservations prv ON prv.reservation_id = pv.reservation_id
+		        WHERE prv.space_id = d.space_id
+		          AND prv.reservation_status_id IN (:statusIds)
+		          AND pv.previsit_from < w.window_to
+		          AND pv.previsit_to   > w.window_from
+		      )
+		  )
+		ORDER BY d.reg_date DESC
 		""",
 		nativeQuery = true)
-	List<SpaceUserResponseDto> searchSpacesForUser(
-		@Param("regionId") Integer regionId,    // CHANGE: null 허용
-		@Param("people") Integer people,      // CHANGE: null 허용(이상)
-		@Param("tagNames") String[] tagNames,   // CHANGE: 배열 파라미터 (이름 기반)
-		@Param("tagCount") Integer tagCount     // CHANGE: 배열 길이 전달
+	List<SpaceUserResponseDto> searchAvailableSpacesForUser(
+		@Param("regionId") Integer regionId,
+		@Param("people") Integer people,
+		@Param("tagNames") String[] tagNames,
+		@Param("tagCount") Integer tagCount,
+		@Param("startDate") LocalDate startDate,
+		@Param("endDate") LocalDate endDate,
+		@Param("startTime") LocalTime startTime,
+		@Param("endTime") LocalTime endTime,
+		@Param("startAtOpening") boolean startAtOpening,
+		@Param("endAtClosing") boolean endAtClosing,
+		@Param("now") LocalDateTime now,
+		@Param("statusIds") List<Integer> statusIds
 	);
 
 	/**
@@ -120,6 +228,8 @@ public interface SpaceUserRepository extends JpaRepository<Space, Integer> {
 		  s.space_capacity     AS spaceCapacity,
 		  s.space_description  AS spaceDescription,
 		  s.space_image_url    AS spaceImageUrl,
+		  COALESCE(v.thumb_url,  s.space_image_url) AS spaceThumbnailUrl,
+		  COALESCE(v.medium_url, s.space_image_url) AS spaceMediumUrl,
 		  s.reservation_way    AS reservationWay,
 		  s.space_rules        AS spaceRules,
 		  s.space_is_available AS spaceIsAvailable,
@@ -146,6 +256,14 @@ public interface SpaceUserRepository extends JpaRepository<Space, Integer> {
 			   WHERE si.space_id = s.space_id
 				 AND (s.space_image_url IS NULL OR si.image_url <> s.space_image_url)
 			 ), ARRAY[]::text[]) AS detailImageUrls,
+		  /* 상세 이미지 썸네일 (변환 전이면 원본) */
+			 COALESCE((
+			   SELECT array_agg(COALESCE(sv.thumb_url, si.image_url) ORDER BY si.image_priority ASC, si.image_id ASC)
+			   FROM tb_space_images si
+			   LEFT JOIN space_image_variant sv ON sv.image_url = si.image_url
+			   WHERE si.space_id = s.space_id
+				 AND (s.space_image_url IS NULL OR si.image_url <> s.space_image_url)
+			 ), ARRAY[]::text[]) AS detailThumbnailUrls,
 
 		 /* 태그 배열 */
 			 COALESCE((
@@ -184,10 +302,12 @@ public interface SpaceUserRepository extends JpaRepository<Space, Integer> {
 
 		FROM tb_spaces s
 		JOIN tb_admin_region     r ON r.region_id   = s.region_id
+		LEFT JOIN space_image_variant v ON v.image_url = s.space_image_url
 		JOIN tb_space_categories c ON c.category_id = s.category_id
 		JOIN tb_locations        l ON l.location_id = s.location_id
 		LEFT JOIN tb_admins       a ON a.admin_id    = s.user_id
 		WHERE s.space_id = :spaceId
+		  AND NOT EXISTS (SELECT 1 FROM space_delete_job j WHERE j.space_id = s.space_id)
 		""", nativeQuery = true)
 	Optional<SpaceUserDtailResponseDto> findSpaceDetail(@Param("spaceId") Integer spaceId);
 }
@@ -0,0 +1,87 @@
+package Team_Mute.back_end.domain.upload.controller;
+
+import java.util.Set;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import Team_Mute.back_end.domain.reservation.exception.ForbiddenAccessException;
+import Team_Mute.back_end.domain.upload.dto.request.UploadSessionRequestDto;
+import Team_Mute.back_end.domain.upload.dto.response.UploadCommitResponseDto;
+import Team_Mute.back_end.domain.upload.dto.response.UploadSessionResponseDto;
+import Team_Mute.back_end.domain.upload.service.UploadSessionService;
+import Team_Mute.back_end.global.constants.UploadPurposeEnum;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 업로드 세션 Controller
+ * - 공간 이미지/예약 첨부 파일을 S3에 직접 업로드하기 위한 Presigned URL 발급 및 업로드 검증 API
+ * - 공간 이미지는 관리자(ROLE_0, ROLE_1, ROLE_2), 예약 첨부 파일은 사용자(ROLE_3)만 세션 생성 가능
+ * - 커밋된 세션 ID는 공간 등록(uploadSessionId) 또는 예약 신청(requestDto.uploadSessionId)에 전달
+ */
+@Tag(name = "업로드 세션 API", description = "S3 직접 업로드 관련 API 명세")
+@RestController
+@RequestMapping("/api/uploads/sessions")
+@RequiredArgsConstructor
+public class UploadSessionController {
+
+	private static final Set<String> ADMIN_ROLES = Set.of("ROLE_0", "ROLE_1", "ROLE_2");
+	private static final String USER_ROLE = "ROLE_3";
+
+	private final UploadSessionService uploadSessionService;
+
+	/**
+	 * 업로드 세션 생성
+	 *
+	 * @param authentication 현재 로그인한 사용자/관리자 정보
+	 * @param requestDto     업로드 용도와 파일 목록
+	 * @return 세션 ID와 파일별 Presigned PUT URL
+	 */
+	@PostMapping
+	@Operation(summary = "업로드 세션 생성", description = "파일별 S3 Presigned PUT URL을 발급합니다.")
+	public ResponseEntity<UploadSessionResponseDto> createSession(
+		Authentication authentication,
+		@Valid @RequestBody UploadSessionRequestDto requestDto) {
+		checkPurposeAllowed(authentication, requestDto.getPurpose());
+
+		String ownerId = (String) authentication.getPrincipal();
+		return ResponseEntity.ok(uploadSessionService.create(ownerId, requestDto));
+	}
+
+	/**
+	 * 업로드 세션 커밋
+	 *
+	 * @param authentication 현재 로그인한 사용자/관리자 정보
+	 * @param sessionId      업로드 세션 ID
+	 * @return 검증된 객체 URL 목록
+	 */
+	@PostMapping("/{sessionId}/commit")
+	@Parameter(name = "sessionId", in = ParameterIn.PATH, description = "업로드 세션 ID", required = true)
+	@Operation(summary = "업로드 세션 커밋", description = "모든 파일이 S3에 업로드되었는지 검증합니다.")
+	public ResponseEntity<UploadCommitResponseDto> commitSession(
+		Authentication authentication,
+		@PathVariable String sessionId) {
+		String ownerId = (String) authentication.getPrincipal();
+		return ResponseEntity.ok(uploadSessionService.commit(ownerId, sessionId));
+	}
+
+	private void checkPurposeAllowed(Authentication authentication, UploadPurposeEnum purpose) {
+		boolean allowed = authentication.getAuthorities().stream()
+			.map(GrantedAuthority::getAuthority)
+			.anyMatch(role -> purpose == UploadPurposeEnum.SPACE_IMAGE ? ADMIN_ROLES.contains(role) : USER_ROLE.equals(role));
+		if (!allowed) {
+			throw new ForbiddenAccessException("해당 용도의 업로드 권한이 없습니다.");
+		}
+	}
+}
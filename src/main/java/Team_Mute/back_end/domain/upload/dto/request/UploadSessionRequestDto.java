@@ -0,0 +1,70 @@
+package Team_Mute.back_end.domain.upload.dto.request;
+
+import java.util.List;
+
+import Team_Mute.back_end.global.constants.UploadPurposeEnum;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 업로드 세션 생성 요청 DTO
+ * 브라우저가 S3에 직접 업로드할 파일 목록을 미리 선언
+ *
+ * API 엔드포인트:
+ * - POST /api/uploads/sessions
+ *
+ * @author Team Mute
+ * @since 1.0
+ */
+@Getter
+@Setter
+public class UploadSessionRequestDto {
+
+	/**
+	 * 업로드 용도 (필수)
+	 * - SPACE_IMAGE: 공간 이미지 (관리자)
+	 * - RESERVATION_ATTACHMENT: 예약 첨부 파일 (사용자)
+	 */
+	@NotNull(message = "업로드 용도는 필수입니다.")
+	private UploadPurposeEnum purpose;
+
+	/**
+	 * 업로드할 파일 목록 (필수, 순서 유지)
+	 * - 공간 이미지는 첫 번째 파일이 대표 이미지
+	 */
+	@NotEmpty(message = "업로드할 파일은 1개 이상이어야 합니다.")
+	@Valid
+	private List<FileSpec> files;
+
+	/**
+	 * 업로드할 파일 정보
+	 */
+	@Getter
+	@Setter
+	public static class FileSpec {
+
+		/**
+		 * 원본 파일명
+		 */
+		@NotBlank(message = "파일명은 필수입니다.")
+		private String fileName;
+
+		/**
+		 * Content-Type (업로드 시 같은 값으로 전송해야 함)
+		 */
+		@NotBlank(message = "Content-Type은 필수입니다.")
+		private String contentType;
+
+		/**
+		 * 파일 크기 (bytes, 업로드 시 같은 크기로 전송해야 함)
+		 */
+		@NotNull(message = "파일 크기는 필수입니다.")
+		@Positive(message = "파일 크기는 0보다 커야 합니다.")
+		private Long size;
+	}
+}
@@ -0,0 +1,31 @@
+package Team_Mute.back_end.domain.upload.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 업로드 세션 커밋 응답 DTO
+ * 존재와 크기 검증을 통과한 객체 URL 목록 반환
+ *
+ * API 엔드포인트:
+ * - POST /api/uploads/sessions/{sessionId}/commit
+ *
+ * @author Team Mute
+ * @since 1.0
+ */
+@Getter
+@AllArgsConstructor
+public class UploadCommitResponseDto {
+
+	/**
+	 * 업로드 세션 ID
+	 */
+	private String sessionId;
+
+	/**
+	 * 업로드된 객체 URL 목록 (세션 생성 시 파일 순서와 동일)
+	 */
+	private List<String> urls;
+}
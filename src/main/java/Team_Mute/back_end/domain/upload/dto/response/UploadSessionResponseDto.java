@@ -0,0 +1,64 @@
+package Team_Mute.back_end.domain.upload.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 업로드 세션 생성 응답 DTO
+ * 파일별 Presigned PUT URL과 업로드 완료 후 사용할 객체 URL 반환
+ *
+ * 사용 방법:
+ * 1. 각 파일을 uploadUrl로 PUT (요청 시 선언한 Content-Type, 크기와 동일해야 함)
+ * 2. 모든 파일 업로드 후 POST /api/uploads/sessions/{sessionId}/commit
+ * 3. 공간 등록/예약 신청 시 uploadSessionId로 전달
+ *
+ * @author Team Mute
+ * @since 1.0
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class UploadSessionResponseDto {
+
+	/**
+	 * 업로드 세션 ID
+	 */
+	private String sessionId;
+
+	/**
+	 * 세션 만료 시각 (만료 전에 커밋 및 사용해야 함)
+	 */
+	private LocalDateTime expiresAt;
+
+	/**
+	 * 파일별 업로드 대상 (요청 순서와 동일)
+	 */
+	private List<UploadTarget> files;
+
+	/**
+	 * 파일별 업로드 대상
+	 */
+	@Getter
+	@AllArgsConstructor
+	public static class UploadTarget {
+
+		/**
+		 * 원본 파일명
+		 */
+		private String fileName;
+
+		/**
+		 * Presigned PUT URL
+		 */
+		private String uploadUrl;
+
+		/**
+		 * 업로드 완료 후 객체 URL
+		 */
+		private String objectUrl;
+	}
+}
@@ -0,0 +1,265 @@
+package Team_Mute.back_end.domain.upload.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import Team_Mute.back_end.domain.reservation.exception.ForbiddenAccessException;
+import Team_Mute.back_end.domain.reservation.exception.InvalidInputValueException;
+import Team_Mute.back_end.domain.reservation.exception.ResourceNotFoundException;
+import Team_Mute.back_end.domain.space_admin.util.S3Uploader;
+import Team_Mute.back_end.domain.upload.dto.request.UploadSessionRequestDto;
+import Team_Mute.back_end.domain.upload.dto.response.UploadCommitResponseDto;
+import Team_Mute.back_end.domain.upload.dto.response.UploadSessionResponseDto;
+import Team_Mute.back_end.global.constants.UploadPurposeEnum;
+
+/**
+ * 업로드 세션 서비스
+ * 브라우저가 애플리케이션 서버를 거치지 않고 S3에 직접 업로드하도록 Presigned PUT URL을 발급하고,
+ * 업로드 결과를 검증하여 공간 등록/예약 신청에서 사용할 수 있게 함
+ *
+ * 세션 구조:
+ * - S3 경로: uploads/{용도}/{sessionId}/{순번}_{파일명} (세션마다 고유 경로이므로 다른 요청의 파일과 섞이지 않음)
+ * - Redis: upload-session:{sessionId} → 소유자, 용도, 파일 목록, 커밋 여부 (upload.session.ttl-minutes 후 만료)
+ *
+ * 흐름:
+ * 1. create: 파일 목록 검증 후 파일별 Presigned PUT URL 발급
+ * 2. commit: 모든 객체의 존재와 크기를 HEAD로 검증
+ * 3. resolve: 공간 등록/예약 신청 시 커밋된 세션의 URL 조회 (세션은 삭제하지 않음)
+ * 4. complete: 등록/신청이 커밋된 뒤 세션 삭제 (이후 같은 세션은 사용 불가)
+ *    - 등록/신청이 실패(롤백)하면 세션이 그대로 남아 같은 세션으로 다시 시도 가능
+ *
+ * @author Team Mute
+ * @since 1.0
+ */
+@Service
+public class UploadSessionService {
+
+	private static final String KEY_PREFIX = "upload-session:";
+	private static final String S3_PREFIX = "uploads/";
+
+	private final StringRedisTemplate redis;
+	private final ObjectMapper objectMapper;
+	private final S3Uploader s3Uploader;
+	private final Duration sessionTtl;
+	private final Duration presignTtl;
+
+	public UploadSessionService(
+		StringRedisTemplate redis,
+		ObjectMapper objectMapper,
+		S3Uploader s3Uploader,
+		@Value("${upload.session.ttl-minutes:30}") long sessionTtlMinutes,
+		@Value("${upload.presign.ttl-minutes:10}") long presignTtlMinutes) {
+		this.redis = redis;
+		this.objectMapper = objectMapper;
+		this.s3Uploader = s3Uploader;
+		this.sessionTtl = Duration.ofMinutes(sessionTtlMinutes);
+		this.presignTtl = Duration.ofMinutes(presignTtlMinutes);
+	}
+
+	/**
+	 * 업로드 세션 생성
+	 *
+	 * 처리 로직:
+	 * 1. 파일 수, 파일별 크기, Content-Type 검증
+	 * 2. 세션 ID 발급 및 파일별 S3 키 생성
+	 * 3. 파일별 Presigned PUT URL 발급
+	 * 4. 세션 정보를 Redis에 저장
+	 *
+	 * @param ownerId 요청자 ID (JWT principal)
+	 * @param request 업로드 세션 생성 요청
+	 * @return 세션 ID와 파일별 업로드 URL
+	 * @throws InvalidInputValueException 파일 수/크기/형식이 용도 제한을 벗어난 경우
+	 */
+	public UploadSessionResponseDto create(String ownerId, UploadSessionRequestDto request) {
+		UploadPurposeEnum purpose = request.getPurpose();
+		List<UploadSessionRequestDto.FileSpec> specs = request.getFiles();
+
+		// 1. 용도별 제한 검증
+		if (specs.size() > purpose.getMaxFiles()) {
+			throw new InvalidInputValueException("파일은 최대 " + purpose.getMaxFiles() + "개까지 업로드할 수 있습니다.");
+		}
+		for (UploadSessionRequestDto.FileSpec spec : specs) {
+			if (spec.getSize() > purpose.getMaxFileSize()) {
+				throw new InvalidInputValueException("파일 크기가 허용 범위를 초과했습니다: " + spec.getFileName());
+			}
+			if (!purpose.allows(spec.getContentType())) {
+				throw new InvalidInputValueException("허용되지 않는 파일 형식입니다: " + spec.getFileName());
+			}
+		}
+
+		// 2. 세션 ID 및 S3 키 생성
+		String sessionId = UUID.randomUUID().toString();
+		String prefix = sessionPrefix(purpose, sessionId);
+		List<UploadFile> files = new ArrayList<>(specs.size());
+		List<UploadSessionResponseDto.UploadTarget> targets = new ArrayList<>(specs.size());
+		for (int i = 0; i < specs.size(); i++) {
+			UploadSessionRequestDto.FileSpec spec = specs.get(i);
+			String key = prefix + "/" + i + "_" + sanitize(spec.getFileName());
+			files.add(new UploadFile(key, spec.getContentType(), spec.getSize()));
+
+			// 3. Presigned PUT URL 발급
+			String uploadUrl = s3Uploader.presignPut(key, spec.getContentType(), spec.getSize(), presignTtl);
+			targets.add(new UploadSessionResponseDto.UploadTarget(
+				spec.getFileName(), uploadUrl, s3Uploader.toPublicUrl(key)));
+		}
+
+		// 4. Redis 저장
+		save(sessionId, new UploadSession(ownerId, purpose, files, false));
+
+		return UploadSessionResponseDto.builder()
+			.sessionId(sessionId)
+			.expiresAt(LocalDateTime.now().plus(sessionTtl))
+			.files(targets)
+			.build();
+	}
+
+	/**
+	 * 업로드 세션 커밋
+	 * - 모든 파일이 선언한 크기 그대로 S3에 존재하는지 HEAD로 검증
+	 * - 이미 커밋된 세션이면 검증 없이 URL 반환
+	 *
+	 * @param ownerId   요청자 ID (JWT principal)
+	 * @param sessionId 업로드 세션 ID
+	 * @return 검증된 객체 URL 목록
+	 * @throws ResourceNotFoundException  세션이 없거나 만료된 경우
+	 * @throws ForbiddenAccessException   다른 사용자의 세션인 경우
+	 * @throws InvalidInputValueException 업로드되지 않았거나 크기가 다른 파일이 있는 경우
+	 */
+	public UploadCommitResponseDto commit(String ownerId, String sessionId) {
+		UploadSession session = load(sessionId, ownerId);
+
+		if (!session.committed()) {
+			for (UploadFile file : session.files()) {
+				Long size = s3Uploader.headObjectSize(file.key());
+				if (size == null) {
+					throw new InvalidInputValueException("업로드되지 않은 파일이 있습니다: " + fileName(file));
+				}
+				if (size != file.size()) {
+					throw new InvalidInputValueException("업로드된 파일 크기가 선언한 크기와 다릅니다: " + fileName(file));
+				}
+			}
+			save(sessionId, new UploadSession(session.ownerId(), session.purpose(), session.files(), true));
+		}
+
+		return new UploadCommitResponseDto(sessionId, urls(session));
+	}
+
+	/**
+	 * 커밋된 업로드 세션의 객체 URL 조회
+	 * - 세션을 삭제하지 않으므로 호출자는 등록/신청이 커밋된 뒤 complete()로 세션을 삭제해야 함
+	 *
+	 * @param ownerId   요청자 ID (JWT principal)
+	 * @param sessionId 업로드 세션 ID
+	 * @param purpose   사용 용도 (세션 생성 시 용도와 같아야 함)
+	 * @return 업로드된 객체 URL 목록 (세션 생성 시 파일 순서와 동일)
+	 * @throws ResourceNotFoundException  세션이 없거나 만료(또는 이미 사용)된 경우
+	 * @throws ForbiddenAccessException   다른 사용자의 세션인 경우
+	 * @throws InvalidInputValueException 용도가 다르거나 커밋되지 않은 경우
+	 */
+	public List<String> resolve(String ownerId, String sessionId, UploadPurposeEnum purpose) {
+		UploadSession session = load(sessionId, ownerId);
+		if (session.purpose() != purpose) {
+			throw new InvalidInputValueException("업로드 세션 용도가 올바르지 않습니다.");
+		}
+		if (!session.committed()) {
+			throw new InvalidInputValueException("업로드가 완료되지 않은 세션입니다. 커밋 후 다시 시도해주세요.");
+		}
+		return urls(session);
+	}
+
+	/**
+	 * 사용이 끝난 업로드 세션 삭제 (등록/신청 커밋 후 호출)
+	 *
+	 * @param sessionId 업로드 세션 ID
+	 */
+	public void complete(String sessionId) {
+		redis.delete(KEY_PREFIX + sessionId);
+	}
+
+	/**
+	 * 세션의 S3 경로 (세션 사용 후 잔여 파일 정리에 사용)
+	 *
+	 * @param purpose   업로드 용도
+	 * @param sessionId 업로드 세션 ID
+	 * @return uploads/{용도}/{sessionId}
+	 */
+	public String sessionPrefix(UploadPurposeEnum purpose, String sessionId) {
+		return S3_PREFIX + purpose.getDirName() + "/" + sessionId;
+	}
+
+	private UploadSession load(String sessionId, String ownerId) {
+		String json = redis.opsForValue().get(KEY_PREFIX + sessionId);
+		if (json == null) {
+			throw new ResourceNotFoundException("업로드 세션이 만료되었거나 존재하지 않습니다.");
+		}
+		UploadSession session;
+		try {
+			session = objectMapper.readValue(json, UploadSession.class);
+		} catch (JsonProcessingException e) {
+			throw new ResourceNotFoundException("업로드 세션 정보를 읽을 수 없습니다.");
+		}
+		if (!session.ownerId().equals(ownerId)) {
+			throw new ForbiddenAccessException("다른 사용자의 업로드 세션입니다.");
+		}
+		return session;
+	}
+
+	private void save(String sessionId, UploadSession session) {
+		try {
+			redis.opsForValue().set(KEY_PREFIX + sessionId, objectMapper.writeValueAsString(session), sessionTtl);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("업로드 세션 저장 실패", e);
+		}
+	}
+
+	private List<String> urls(UploadSession session) {
+		return session.files().stream()
+			.map(file -> s3Uploader.toPublicUrl(file.key()))
+			.toList();
+	}
+
+	private static String fileName(UploadFile file) {
+		String name = file.key().substring(file.key().lastIndexOf('/') + 1);
+		return name.substring(name.indexOf('_') + 1);
+	}
+
+	/**
+	 * S3 키에 사용할 파일명 정리 (경로 구분자와 제어 문자 제거)
+	 */
+	private static String sanitize(String fileName) {
+		String name = fileName.substring(Math.max(fileName.lastIndexOf('/'), fileName.lastIndexOf('\\')) + 1);
+		name = name.replaceAll("[\\p{Cntrl}]", "").trim();
+		return name.isEmpty() ? "file" : name;
+	}
+
+	/**
+	 * Redis에 저장하는 업로드 세션
+	 *
+	 * @param ownerId 소유자 ID
+	 * @param purpose 업로드 용도
+	 * @param files 업로드 파일 목록
+	 * @param committed 커밋(존재/크기 검증) 완료 여부
+	 */
+	public record UploadSession(String ownerId, UploadPurposeEnum purpose, List<UploadFile> files, boolean committed) {
+	}
+
+	/**
+	 * 업로드 파일
+	 *
+	 * @param key S3 객체 키
+	 * @param contentType Content-Type
+	 * @param size 선언한 크기 (bytes)
+	 */
+	public record UploadFile(String key, String contentType, long size) {
+	}
+}
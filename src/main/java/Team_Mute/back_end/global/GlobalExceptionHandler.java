@@ -7,6 +7,7 @@ import java.util.Objects;
 
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindException;
@@ -23,6 +24,7 @@ import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import Team_Mute.back_end.domain.member.exception.CompanyNotFoundException;
 import Team_Mute.back_end.domain.member.exception.DuplicateEmailException;
 import Team_Mute.back_end.domain.member.exception.ExternalApiException;
+import Team_Mute.back_end.domain.member.exception.PasswordHashingBusyException;
 import Team_Mute.back_end.domain.member.exception.UserRegistrationException;
 import Team_Mute.back_end.domain.reservation.exception.ForbiddenAccessException;
 import Team_Mute.back_end.domain.reservation.exception.InvalidInputValueException;
@@ -182,6 +184,18 @@ public class GlobalExceptionHandler {
 		return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(errorResponse);
 	}
 
+	/**
+	 * 비밀번호 해싱 과부하 예외 처리 (503 Service Unavailable)
+	 * 해싱 대기열이 가득 찼거나 대기 시간이 초과된 경우, Retry-After 헤더로 재시도 시점 안내
+	 */
+	@ExceptionHandler(PasswordHashingBusyException.class)
+	public ResponseEntity<ErrorResponseDto> handlePasswordHashingBusy(PasswordHashingBusyException e) {
+		ErrorResponseDto errorResponse = new ErrorResponseDto(e.getMessage(), HttpStatus.SERVICE_UNAVAILABLE.value());
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+			.header(HttpHeaders.RETRY_AFTER, "1")
+			.body(errorResponse);
+	}
+
 	/**
 	 * DTO 검증 실패 예외 처리 (400 Bad Request)
 	 * @Valid 검증 실패 시 필드별 에러 메시지 반환
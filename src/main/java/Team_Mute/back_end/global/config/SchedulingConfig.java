@@ -0,0 +1,14 @@
+package Team_Mute.back_end.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정 클래스
+ * - @Scheduled 어노테이션이 적용된 주기 작업 활성화
+ * - 폐기 JTI Bloom Filter 주기적 재구성 등에 사용
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
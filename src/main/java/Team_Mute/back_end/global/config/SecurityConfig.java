@@ -2,7 +2,18 @@ package Team_Mute.back_end.global.config;
 
 import Team_Mute.back_end.domain.member.jwt.JwtService;
 import Team_Mute.back_end.domain.member.session.SessionStore;
+import Team_Mute.back_end.domain.member.session.TokenVersionCache;
 import Team_Mute.back_end.domain.member.util.JwtAuthFilter;
+import Team_Mute.back_end.global.idempotency.IdempotencyFilter;
+import Team_Mute.back_end.global.idempotency.IdempotencyProperties;
+import Team_Mute.back_end.global.idempotency.IdempotencyStore;
+import Team_Mute.back_end.global.ratelimit.RateLimitFilter;
+import Team_Mute.back_end.global.ratelimit.RateLimitProperties;
+import Team_Mute.back_end.global.ratelimit.TokenBucketRateLimiter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -20,6 +31,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
  * <p>
  * 주요 기능:
  * - JWT 인증 필터 등록
+ * - 공개 API 요청 속도 제한 필터 등록
  * - 역할별 엔드포인트 접근 제어
  * - CORS 설정
  * - CSRF 비활성화 (JWT 사용)
@@ -35,11 +47,20 @@ public class SecurityConfig {
 	 * @param http       HttpSecurity 객체
 	 * @param jwtService JWT 토큰 서비스
 	 * @param store      Redis 세션 저장소
+	 * @param tokenVersions Token Version 캐시
+	 * @param rateLimiter 토큰 버킷 속도 제한기
+	 * @param rateLimitProps 경로별 속도 제한 설정
+	 * @param objectMapper 429 응답 직렬화용 ObjectMapper
+	 * @param idempotencyStore 멱등성 키 저장소
+	 * @param idempotencyProps 멱등성 키 적용 경로 설정
+	 * @param meterRegistry 멱등성 처리 메트릭 기록용 MeterRegistry
 	 * @return SecurityFilterChain
 	 */
 	@Bean
-	public SecurityFilterChain filterChain(HttpSecurity http, JwtService jwtService, SessionStore store) throws
-		Exception {
+	public SecurityFilterChain filterChain(HttpSecurity http, JwtService jwtService, SessionStore store,
+		TokenVersionCache tokenVersions, TokenBucketRateLimiter rateLimiter, RateLimitProperties rateLimitProps,
+		ObjectMapper objectMapper, IdempotencyStore idempotencyStore, IdempotencyProperties idempotencyProps,
+		MeterRegistry meterRegistry) throws Exception {
 		http
 			// CORS 설정 활성화 (WebConfig의 CorsFilter 사용)
 			.cors(Customizer.withDefaults())
@@ -52,6 +73,10 @@ public class SecurityConfig {
 
 			// URL 패턴별 접근 권한 설정
 			.authorizeHttpRequests(authz -> authz
+				// 비동기 응답(StreamingResponseBody 등) 완료 후 재디스패치는 최초 요청에서 이미 인가됨
+				// (JwtAuthFilter는 ASYNC 디스패치에서 실행되지 않으므로 인증 정보가 없음)
+				.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
 				// 인증 없이 접근 가능한 엔드포인트
 				.requestMatchers("/api/auth/login", "/api/sms/**", "/api/users/signup",
 					"/api/users/check-email", "/api/corpName", "/api/users/reset-password", "/api/admin/auth/login",
@@ -65,7 +90,7 @@ public class SecurityConfig {
 				.permitAll()
 
 				// 마스터 관리자(ROLE_0)만 접근 가능
-				.requestMatchers("/api/admin/signup")
+				.requestMatchers("/api/admin/signup", "/api/admin/import/**")
 				.hasAnyRole("0")
 
 				// 모든 관리자(ROLE_0, 1, 2) 접근 가능
@@ -88,7 +113,16 @@ public class SecurityConfig {
 
 			// JwtAuthFilter를 UsernamePasswordAuthenticationFilter 이전에 추가
 			// JWT 토큰을 검증하여 SecurityContext에 인증 정보 설정
-			.addFilterBefore(new JwtAuthFilter(jwtService, store), UsernamePasswordAuthenticationFilter.class);
+			.addFilterBefore(new JwtAuthFilter(jwtService, store, tokenVersions), UsernamePasswordAuthenticationFilter.class)
+
+			// RateLimitFilter를 JwtAuthFilter 다음에 추가
+			// 인증된 요청은 사용자 단위, 그 외는 IP 단위로 공개 API 호출량 제한 (초과 시 429)
+			.addFilterAfter(new RateLimitFilter(rateLimiter, rateLimitProps, objectMapper), JwtAuthFilter.class)
+
+			// IdempotencyFilter를 RateLimitFilter 다음에 추가
+			// Idempotency-Key가 있는 예약 생성/취소, 승인/반려 요청은 첫 응답을 저장하여 재시도 시 재생
+			.addFilterAfter(new IdempotencyFilter(idempotencyStore, idempotencyProps, objectMapper, meterRegistry),
+				RateLimitFilter.class);
 
 		return http.build();
 	}
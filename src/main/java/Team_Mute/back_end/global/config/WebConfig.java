@@ -2,22 +2,67 @@ package Team_Mute.back_end.global.config;
 
 import java.util.List;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.web.filter.CorsFilter;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import jakarta.annotation.PreDestroy;
 
 /**
  * Web 설정 클래스
  * CORS(Cross-Origin Resource Sharing) 정책 설정
+ * Spring MVC 비동기 응답(StreamingResponseBody 등) 실행 스레드 풀 설정
  *
  * 목적:
  * - 프론트엔드(React)와 백엔드(Spring Boot) 간 도메인이 다른 경우 통신 허용
  * - 개발 환경에서 localhost:3000 허용
+ * - 예약 목록 CSV 내보내기 등 스트리밍 응답을 제한된 크기의 풀에서 실행
+ *   (passwordHashExecutor 등 Executor 빈이 있으면 Spring Boot 기본 applicationTaskExecutor가 생성되지 않아
+ *   요청마다 새 스레드를 만드는 SimpleAsyncTaskExecutor로 대체되므로 명시적으로 지정)
  */
 @Configuration
-public class WebConfig {
+public class WebConfig implements WebMvcConfigurer {
+
+	private final ThreadPoolTaskExecutor asyncExecutor;
+	private final long asyncTimeoutMillis;
+
+	public WebConfig(
+		@Value("${web.async.threads:4}") int threads,
+		@Value("${web.async.queue-capacity:20}") int queueCapacity,
+		@Value("${web.async.timeout-ms:600000}") long asyncTimeoutMillis) {
+		this.asyncTimeoutMillis = asyncTimeoutMillis;
+		this.asyncExecutor = new ThreadPoolTaskExecutor();
+		this.asyncExecutor.setCorePoolSize(threads);
+		this.asyncExecutor.setMaxPoolSize(threads);
+		this.asyncExecutor.setQueueCapacity(queueCapacity);
+		this.asyncExecutor.setThreadNamePrefix("mvc-async-");
+		this.asyncExecutor.setDaemon(true);
+		this.asyncExecutor.initialize();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		asyncExecutor.shutdown();
+	}
+
+	/**
+	 * MVC 비동기 응답 설정
+	 * - 스트리밍 응답은 asyncExecutor에서 실행 (동시 실행 수 web.async.threads, 대기열 web.async.queue-capacity)
+	 * - 대용량 내보내기가 중간에 끊기지 않도록 비동기 응답 제한 시간을 web.async.timeout-ms로 지정 (기본 10분)
+	 *
+	 * @param configurer 비동기 설정
+	 */
+	@Override
+	public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+		configurer.setTaskExecutor(asyncExecutor);
+		configurer.setDefaultTimeout(asyncTimeoutMillis);
+	}
 
 	/**
 	 * CORS 필터 Bean 등록
@@ -44,6 +89,9 @@ public class WebConfig {
 		// 허용할 헤더 (모든 헤더 허용)
 		config.setAllowedHeaders(List.of("*"));
 
+		// 클라이언트가 읽을 수 있는 응답 헤더 (멱등성 키 재생 여부, 내보내기 파일명)
+		config.setExposedHeaders(List.of("Idempotent-Replayed", "Content-Disposition"));
+
 		// 자격 증명(쿠키, Authorization 헤더 등) 허용
 		config.setAllowCredentials(true);
 
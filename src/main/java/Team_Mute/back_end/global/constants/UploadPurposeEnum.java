@@ -0,0 +1,75 @@
+package Team_Mute.back_end.global.constants;
+
+/**
+ * 업로드 세션 용도를 정의하는 Enum 클래스
+ * 용도별로 S3 경로, 최대 파일 수, 파일당 최대 크기, 허용 Content-Type 접두어를 가집니다.
+ */
+public enum UploadPurposeEnum {
+
+	/**
+	 * 공간 이미지 (관리자 공간 등록)
+	 */
+	SPACE_IMAGE("space-image", 5, 10L * 1024 * 1024, "image/"),
+
+	/**
+	 * 예약 첨부 파일 (사용자 예약 신청)
+	 */
+	RESERVATION_ATTACHMENT("reservation-attachment", 10, 20L * 1024 * 1024, "");
+
+	private final String dirName;
+	private final int maxFiles;
+	private final long maxFileSize;
+	private final String contentTypePrefix;
+
+	/**
+	 * UploadPurpose의 생성자
+	 *
+	 * @param dirName           업로드 세션 경로에 사용할 디렉토리명
+	 * @param maxFiles          세션당 최대 파일 수
+	 * @param maxFileSize       파일당 최대 크기 (bytes)
+	 * @param contentTypePrefix 허용 Content-Type 접두어 (빈 문자열이면 제한 없음)
+	 */
+	UploadPurposeEnum(String dirName, int maxFiles, long maxFileSize, String contentTypePrefix) {
+		this.dirName = dirName;
+		this.maxFiles = maxFiles;
+		this.maxFileSize = maxFileSize;
+		this.contentTypePrefix = contentTypePrefix;
+	}
+
+	/**
+	 * 업로드 세션 경로에 사용할 디렉토리명을 반환
+	 *
+	 * @return 디렉토리명
+	 */
+	public String getDirName() {
+		return dirName;
+	}
+
+	/**
+	 * 세션당 최대 파일 수를 반환
+	 *
+	 * @return 최대 파일 수
+	 */
+	public int getMaxFiles() {
+		return maxFiles;
+	}
+
+	/**
+	 * 파일당 최대 크기를 반환
+	 *
+	 * @return 최대 크기 (bytes)
+	 */
+	public long getMaxFileSize() {
+		return maxFileSize;
+	}
+
+	/**
+	 * Content-Type 허용 여부를 반환
+	 *
+	 * @param contentType 업로드할 파일의 Content-Type
+	 * @return 허용되면 true
+	 */
+	public boolean allows(String contentType) {
+		return contentType != null && contentType.startsWith(contentTypePrefix);
+	}
+}
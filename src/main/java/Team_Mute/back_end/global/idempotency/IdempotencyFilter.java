@@ -0,0 +1,400 @@
+package Team_Mute.back_end.global.idempotency;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import Team_Mute.back_end.global.dto.ErrorResponseDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.Part;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 멱등성 키 필터
+ * 재시도(타임아웃 후 재전송)된 예약 생성/취소, 승인/반려 요청이 다시 실행되지 않도록
+ * Idempotency-Key 헤더 기준으로 첫 응답을 저장하고 재생
+ *
+ * 필터 체인 위치:
+ * - RateLimitFilter 다음에 실행 (SecurityConfig에서 addFilterAfter()로 등록)
+ * - 인증된 요청만 대상 (키는 사용자/관리자 단위로 구분)
+ *
+ * 처리 방식:
+ * - 최초 요청: 처리 중 표시 후 실행, 응답(2xx/4xx)을 Redis에 저장
+ * - 재요청(완료): 저장된 응답을 그대로 반환 (DB/S3 접근 없음, Idempotent-Replayed: true)
+ * - 재요청(처리 중): 첫 요청이 끝날 때까지 대기 후 같은 응답 반환
+ * - 같은 키로 다른 요청(지문 불일치): 422 Unprocessable Entity
+ * - 5xx, 429 응답은 저장하지 않고 표시를 해제하여 재시도 허용
+ * - Redis 장애 시 멱등성 처리 없이 그대로 실행
+ *
+ * 메트릭:
+ * - idempotency.requests (route, result=executed|replayed|coalesced|mismatch|timeout|bypass)
+ *
+ * @author Team Mute
+ * @since 1.0
+ */
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+	public static final String HEADER = "Idempotency-Key";
+	public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+	private static final int MAX_KEY_LENGTH = 255;
+
+	private final IdempotencyStore store;
+	private final IdempotencyProperties props;
+	private final ObjectMapper objectMapper;
+	private final MeterRegistry meterRegistry;
+	private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+	public IdempotencyFilter(IdempotencyStore store, IdempotencyProperties props, ObjectMapper objectMapper,
+		MeterRegistry meterRegistry) {
+		this.store = store;
+		this.props = props;
+		this.objectMapper = objectMapper;
+		this.meterRegistry = meterRegistry;
+	}
+
+	/**
+	 * Idempotency-Key가 있는 대상 요청의 실행/재생/대기 처리
+	 *
+	 * 처리 흐름:
+	 * 1. 대상 경로, 헤더, 인증 여부 확인 (아니면 통과)
+	 * 2. 요청 지문 계산 (메서드 + URI + 본문, multipart는 파트별 내용)
+	 * 3. 처리 중 표시 시도 → 성공 시 실행 후 응답 저장
+	 * 4. 이미 항목이 있으면 지문 확인 후 재생 또는 완료 대기
+	 *
+	 * @param req HttpServletRequest 객체
+	 * @param res HttpServletResponse 객체
+	 * @param chain FilterChain 객체 (다음 필터 실행)
+	 * @throws ServletException 서블릿 예외
+	 * @throws IOException 입출력 예외
+	 */
+	@Override
+	protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
+		throws ServletException, IOException {
+
+		// 1. 대상 요청 확인
+		String idempotencyKey = req.getHeader(HEADER);
+		IdempotencyProperties.Route route = props.enabled() && idempotencyKey != null ? findRoute(req) : null;
+		String client = route != null ? resolveClient() : null;
+		if (route == null || client == null) {
+			chain.doFilter(req, res);
+			return;
+		}
+		if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+			writeError(res, HttpStatus.BAD_REQUEST, "Idempotency-Key는 1~" + MAX_KEY_LENGTH + "자여야 합니다.");
+			return;
+		}
+
+		// 2. 요청 지문 계산 (본문을 읽은 경우 다시 읽을 수 있도록 감싼 요청 사용)
+		HttpServletRequest request = req;
+		String fingerprint;
+		if (isMultipart(req)) {
+			fingerprint = fingerprintMultipart(req);
+		} else {
+			byte[] body = StreamUtils.copyToByteArray(req.getInputStream());
+			request = new CachedBodyRequest(req, body);
+			fingerprint = fingerprint(req, body);
+		}
+
+		String key = "idem:" + route.name() + ":" + client + ":" + idempotencyKey;
+		long deadline = System.currentTimeMillis() + props.waitMillis();
+		long backoff = 25;
+		boolean waited = false;
+		while (true) {
+			// 3. 처리 중 표시 시도
+			String owner;
+			IdempotencyStore.Entry existing = null;
+			try {
+				owner = store.begin(key, fingerprint, Duration.ofSeconds(props.lockSeconds()));
+				if (owner == null) {
+					existing = store.find(key);
+				}
+			} catch (DataAccessException e) {
+				// Redis 장애 시 멱등성 처리 없이 실행
+				log.warn("멱등성 저장소 호출 실패, 그대로 실행합니다: {}", e.getMessage());
+				count(route, "bypass");
+				chain.doFilter(request, res);
+				return;
+			}
+			if (owner != null) {
+				count(route, waited ? "coalesced" : "executed");
+				execute(request, res, chain, key, owner, fingerprint);
+				return;
+			}
+
+			// 4. 기존 항목 처리
+			if (existing == null) {
+				// 첫 요청이 실패하여 표시가 해제됨 → 다시 시도
+				continue;
+			}
+			if (!existing.fingerprint().equals(fingerprint)) {
+				count(route, "mismatch");
+				writeError(res, HttpStatus.UNPROCESSABLE_ENTITY, "같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다.");
+				return;
+			}
+			if (existing.completed()) {
+				count(route, waited ? "coalesced" : "replayed");
+				replay(res, existing);
+				return;
+			}
+			if (System.currentTimeMillis() >= deadline) {
+				count(route, "timeout");
+				res.setHeader(HttpHeaders.RETRY_AFTER, "1");
+				writeError(res, HttpStatus.CONFLICT, "같은 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.");
+				return;
+			}
+			waited = true;
+			try {
+				Thread.sleep(backoff);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				writeError(res, HttpStatus.CONFLICT, "같은 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.");
+				return;
+			}
+			backoff = Math.min(backoff * 2, 200);
+		}
+	}
+
+	/**
+	 * 요청 실행 후 응답 저장
+	 * - 5xx, 429 응답이나 예외 발생 시 처리 중 표시만 해제
+	 */
+	private void execute(HttpServletRequest req, HttpServletResponse res, FilterChain chain, String key,
+		String owner, String fingerprint) throws ServletException, IOException {
+		ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(res);
+		try {
+			chain.doFilter(req, wrapper);
+		} catch (IOException | ServletException | RuntimeException e) {
+			safeRelease(key, owner);
+			throw e;
+		}
+
+		int status = wrapper.getStatus();
+		try {
+			if (status >= 500 || status == HttpStatus.TOO_MANY_REQUESTS.value()) {
+				store.release(key, owner);
+			} else if (!store.complete(key, owner, IdempotencyStore.Entry.completed(fingerprint, status,
+				wrapper.getContentType(), wrapper.getContentAsByteArray()), Duration.ofSeconds(props.ttlSeconds()))) {
+				// 처리 중 표시가 만료되어 다른 요청이 키를 잡은 경우 (그 요청의 결과를 유지)
+				log.warn("멱등성 처리 중 표시를 다른 요청이 소유하여 응답을 저장하지 않습니다: key={}", key);
+			}
+		} catch (RuntimeException e) {
+			log.warn("멱등성 응답 저장 실패: key={}, {}", key, e.getMessage());
+			safeRelease(key, owner);
+		}
+		wrapper.copyBodyToResponse();
+	}
+
+	/**
+	 * 저장된 응답 재생
+	 */
+	private void replay(HttpServletResponse res, IdempotencyStore.Entry entry) throws IOException {
+		res.setStatus(entry.status());
+		res.setHeader(REPLAYED_HEADER, "true");
+		if (entry.contentType() != null) {
+			res.setContentType(entry.contentType());
+		}
+		byte[] body = entry.body() != null ? entry.body() : new byte[0];
+		res.setContentLength(body.length);
+		res.getOutputStream().write(body);
+	}
+
+	private void safeRelease(String key, String owner) {
+		try {
+			store.release(key, owner);
+		} catch (RuntimeException e) {
+			log.warn("멱등성 처리 중 표시 해제 실패: key={}, {}", key, e.getMessage());
+		}
+	}
+
+	private void writeError(HttpServletResponse res, HttpStatus status, String message) throws IOException {
+		res.setStatus(status.value());
+		res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		res.setCharacterEncoding("UTF-8");
+		objectMapper.writeValue(res.getWriter(), new ErrorResponseDto(message, status.value()));
+	}
+
+	private void count(IdempotencyProperties.Route route, String result) {
+		meterRegistry.counter("idempotency.requests", "route", route.name(), "result", result).increment();
+	}
+
+	/**
+	 * 요청 메서드/경로와 일치하는 첫 번째 경로 설정 조회
+	 *
+	 * @param req HttpServletRequest 객체
+	 * @return 경로 설정 (일치하는 경로가 없으면 null)
+	 */
+	private IdempotencyProperties.Route findRoute(HttpServletRequest req) {
+		for (IdempotencyProperties.Route route : props.routes()) {
+			if (route.method().equalsIgnoreCase(req.getMethod()) && pathMatcher.match(route.pattern(),
+				req.getRequestURI())) {
+				return route;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * 클라이언트 식별자 결정
+	 * - "{권한}:{ID}" (사용자와 관리자 ID 공간이 겹치므로 권한 포함)
+	 *
+	 * @return 클라이언트 식별자 (인증되지 않은 요청이면 null)
+	 */
+	private String resolveClient() {
+		Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+		if (auth == null || !auth.isAuthenticated() || auth instanceof AnonymousAuthenticationToken) {
+			return null;
+		}
+		String role = auth.getAuthorities().stream()
+			.map(Object::toString)
+			.findFirst()
+			.orElse("NONE");
+		return role + ":" + auth.getName();
+	}
+
+	private boolean isMultipart(HttpServletRequest req) {
+		String contentType = req.getContentType();
+		return contentType != null && contentType.toLowerCase().startsWith("multipart/");
+	}
+
+	/**
+	 * 요청 지문 (메서드 + URI + 쿼리 + 본문)
+	 */
+	private String fingerprint(HttpServletRequest req, byte[] body) {
+		MessageDigest digest = newDigest(req);
+		digest.update(body);
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	/**
+	 * multipart 요청 지문 (메서드 + URI + 쿼리 + 파트별 이름/파일명/내용)
+	 * - boundary는 재전송마다 달라질 수 있으므로 원문 대신 파트 내용으로 계산
+	 */
+	private String fingerprintMultipart(HttpServletRequest req) throws IOException, ServletException {
+		MessageDigest digest = newDigest(req);
+		byte[] buffer = new byte[8192];
+		for (Part part : req.getParts()) {
+			update(digest, part.getName());
+			update(digest, part.getSubmittedFileName());
+			update(digest, part.getContentType());
+			try (InputStream in = part.getInputStream()) {
+				int read;
+				while ((read = in.read(buffer)) != -1) {
+					digest.update(buffer, 0, read);
+				}
+			}
+			digest.update((byte)0);
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private MessageDigest newDigest(HttpServletRequest req) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			update(digest, req.getMethod());
+			update(digest, req.getRequestURI());
+			update(digest, req.getQueryString());
+			return digest;
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+		}
+	}
+
+	private void update(MessageDigest digest, String value) {
+		if (value != null) {
+			digest.update(value.getBytes(StandardCharsets.UTF_8));
+		}
+		digest.update((byte)0);
+	}
+
+	/**
+	 * 지문 계산을 위해 읽은 본문을 다시 읽을 수 있게 하는 요청 래퍼
+	 */
+	private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+		private final byte[] body;
+
+		CachedBodyRequest(HttpServletRequest request, byte[] body) {
+			super(request);
+			this.body = body;
+		}
+
+		@Override
+		public ServletInputStream getInputStream() {
+			ByteArrayInputStream in = new ByteArrayInputStream(body);
+			return new ServletInputStream() {
+				@Override
+				public boolean isFinished() {
+					return in.available() == 0;
+				}
+
+				@Override
+				public boolean isReady() {
+					return true;
+				}
+
+				/**
+				 * 비동기 읽기 리스너 등록
+				 * - 본문이 이미 메모리에 있으므로 즉시 읽기 가능 알림 후 읽기 완료 알림
+				 * - 리스너 처리 중 발생한 IOException은 onError로 전달
+				 */
+				@Override
+				public void setReadListener(ReadListener listener) {
+					try {
+						listener.onDataAvailable();
+						listener.onAllDataRead();
+					} catch (IOException e) {
+						listener.onError(e);
+					}
+				}
+
+				@Override
+				public int read() {
+					return in.read();
+				}
+
+				@Override
+				public int read(byte[] b, int off, int len) {
+					return in.read(b, off, len);
+				}
+			};
+		}
+
+		@Override
+		public BufferedReader getReader() {
+			String encoding = getCharacterEncoding();
+			return new BufferedReader(new InputStreamReader(getInputStream(),
+				encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+		}
+	}
+}
@@ -0,0 +1,81 @@
+package Team_Mute.back_end.global.idempotency;
+
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 멱등성 키 설정 (Java Record)
+ * application.properties 파일의 idempotency.* 속성을 자동으로 바인딩
+ * ConfigRegistrar에서 @EnableConfigurationProperties로 활성화
+ *
+ * 설정 예시:
+ * idempotency.enabled=true
+ * idempotency.ttl-seconds=86400
+ * idempotency.routes[0].name=reservation-create
+ * idempotency.routes[0].method=POST
+ * idempotency.routes[0].pattern=/api/reservations
+ *
+ * @author Team Mute
+ * @since 1.0
+ */
+@ConfigurationProperties(prefix = "idempotency")
+public record IdempotencyProperties(
+	/**
+	 * 멱등성 키 사용 여부 (기본 true)
+	 */
+	Boolean enabled,
+
+	/**
+	 * 완료된 응답 보관 시간(초) (기본 24시간)
+	 */
+	Long ttlSeconds,
+
+	/**
+	 * 처리 중 표시 유지 시간(초) (기본 60초, 처리 노드가 중단되어도 이후 재시도 가능)
+	 */
+	Long lockSeconds,
+
+	/**
+	 * 동시 중복 요청이 첫 요청의 완료를 기다리는 최대 시간(ms) (기본 10초)
+	 */
+	Long waitMillis,
+
+	/**
+	 * 멱등성 키를 적용할 경로 (미설정 시 예약 생성/취소, 승인/반려)
+	 */
+	List<Route> routes
+) {
+	public IdempotencyProperties {
+		if (enabled == null) {
+			enabled = true;
+		}
+		if (ttlSeconds == null) {
+			ttlSeconds = 86400L;
+		}
+		if (lockSeconds == null) {
+			lockSeconds = 60L;
+		}
+		if (waitMillis == null) {
+			waitMillis = 10000L;
+		}
+		if (routes == null || routes.isEmpty()) {
+			routes = List.of(
+				new Route("reservation-create", "POST", "/api/reservations"),
+				new Route("reservation-cancel", "POST", "/api/reservations/cancel/*"),
+				new Route("reservation-approve", "POST", "/api/reservations-admin/approve"),
+				new Route("reservation-reject", "POST", "/api/reservations-admin/reject/*")
+			);
+		}
+	}
+
+	/**
+	 * 멱등성 키 적용 경로
+	 *
+	 * @param name 경로 이름 (Redis 키와 메트릭 태그에 사용)
+	 * @param method HTTP 메서드
+	 * @param pattern 적용할 경로 패턴 (Ant 스타일)
+	 */
+	public record Route(String name, String method, String pattern) {
+	}
+}
@@ -0,0 +1,171 @@
+package Team_Mute.back_end.global.idempotency;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 멱등성 키 저장소 (Redis)
+ * - 키마다 요청 지문(fingerprint)과 처리 상태, 완료된 응답(상태 코드, Content-Type, 본문)을 JSON으로 보관
+ * - 처리 시작 시 SET NX로 "처리 중" 항목을 만들어 동시 중복 요청 중 하나만 실행
+ * - 처리 완료 시 응답을 담은 "완료" 항목으로 교체 (ttl 동안 재생)
+ *
+ * 소유권:
+ * - "처리 중" 항목에 요청마다 발급한 소유자 토큰(owner)을 저장
+ * - 완료 저장/해제는 Lua 스크립트로 소유자 토큰을 비교한 뒤 교체/삭제
+ * - 처리 시간이 lockTtl을 넘겨 다른 요청이 항목을 다시 잡은 경우, 늦게 끝난 요청이 그 항목을 덮어쓰거나 지우지 않음
+ *
+ * Redis 키:
+ * - idem:{route}:{client}:{Idempotency-Key}
+ *
+ * @author Team Mute
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+	/**
+	 * 소유자 확인 후 완료 항목으로 교체하는 Lua 스크립트
+	 * - KEYS[1]: 멱등성 키, ARGV[1]: 소유자 토큰, ARGV[2]: 완료 항목 JSON, ARGV[3]: 보관 시간(ms)
+	 * - 항목이 없으면(처리 중 표시 만료) 다른 요청이 잡지 않은 경우에만 저장 (NX)
+	 * - 반환값: 1(저장), 0(다른 요청이 소유)
+	 */
+	private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>(
+		"local v = redis.call('GET', KEYS[1]) "
+			+ "if not v then "
+			+ "if redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3], 'NX') then return 1 end "
+			+ "return 0 "
+			+ "end "
+			+ "local ok, e = pcall(cjson.decode, v) "
+			+ "if not ok or type(e) ~= 'table' or e.owner ~= ARGV[1] then return 0 end "
+			+ "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) "
+			+ "return 1",
+		Long.class);
+
+	/**
+	 * 소유자 확인 후 처리 중 항목을 삭제하는 Lua 스크립트
+	 * - KEYS[1]: 멱등성 키, ARGV[1]: 소유자 토큰
+	 * - 반환값: 1(삭제), 0(없거나 다른 요청이 소유)
+	 */
+	private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+		"local v = redis.call('GET', KEYS[1]) "
+			+ "if not v then return 0 end "
+			+ "local ok, e = pcall(cjson.decode, v) "
+			+ "if not ok or type(e) ~= 'table' or e.owner ~= ARGV[1] then return 0 end "
+			+ "redis.call('DEL', KEYS[1]) "
+			+ "return 1",
+		Long.class);
+
+	private final StringRedisTemplate redis;
+	private final ObjectMapper objectMapper;
+
+	public IdempotencyStore(StringRedisTemplate redis, ObjectMapper objectMapper) {
+		this.redis = redis;
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * 처리 시작 표시
+	 *
+	 * @param key Redis 키
+	 * @param fingerprint 요청 지문
+	 * @param lockTtl 처리 중 표시 유지 시간
+	 * @return 표시에 성공했으면 소유자 토큰 (이미 항목이 있으면 null)
+	 */
+	public String begin(String key, String fingerprint, Duration lockTtl) {
+		String owner = UUID.randomUUID().toString();
+		Boolean created = redis.opsForValue().setIfAbsent(key, write(Entry.pending(fingerprint, owner)), lockTtl);
+		return Boolean.TRUE.equals(created) ? owner : null;
+	}
+
+	/**
+	 * 현재 항목 조회
+	 *
+	 * @param key Redis 키
+	 * @return 항목 (없거나 해석할 수 없으면 null)
+	 */
+	public Entry find(String key) {
+		String value = redis.opsForValue().get(key);
+		if (value == null) {
+			return null;
+		}
+		try {
+			return objectMapper.readValue(value, Entry.class);
+		} catch (JsonProcessingException e) {
+			log.warn("멱등성 항목을 해석할 수 없어 삭제합니다: key={}", key);
+			redis.delete(key);
+			return null;
+		}
+	}
+
+	/**
+	 * 처리 완료 응답 저장 (소유자 확인)
+	 *
+	 * @param key Redis 키
+	 * @param owner begin()에서 받은 소유자 토큰
+	 * @param entry 완료 항목
+	 * @param ttl 보관 시간
+	 * @return 저장했으면 true (다른 요청이 항목을 소유하고 있으면 false)
+	 */
+	public boolean complete(String key, String owner, Entry entry, Duration ttl) {
+		Long stored = redis.execute(COMPLETE_SCRIPT, List.of(key), owner, write(entry),
+			String.valueOf(ttl.toMillis()));
+		return stored != null && stored == 1L;
+	}
+
+	/**
+	 * 처리 중 표시 해제 (재시도 가능한 실패 시, 소유자 확인)
+	 *
+	 * @param key Redis 키
+	 * @param owner begin()에서 받은 소유자 토큰
+	 * @return 해제했으면 true (없거나 다른 요청이 소유하고 있으면 false)
+	 */
+	public boolean release(String key, String owner) {
+		Long released = redis.execute(RELEASE_SCRIPT, List.of(key), owner);
+		return released != null && released == 1L;
+	}
+
+	private String write(Entry entry) {
+		try {
+			return objectMapper.writeValueAsString(entry);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("멱등성 항목 직렬화 실패", e);
+		}
+	}
+
+	/**
+	 * 멱등성 항목
+	 *
+	 * @param fingerprint 요청 지문 (메서드 + URI + 본문의 SHA-256)
+	 * @param completed 처리 완료 여부
+	 * @param status 응답 상태 코드
+	 * @param contentType 응답 Content-Type
+	 * @param body 응답 본문 (JSON에는 Base64로 저장)
+	 * @param owner 처리 중 항목의 소유자 토큰 (완료 항목은 null)
+	 */
+	public record Entry(String fingerprint, boolean completed, int status, String contentType, byte[] body,
+		String owner) {
+
+		static Entry pending(String fingerprint, String owner) {
+			return new Entry(fingerprint, false, 0, null, null, owner);
+		}
+
+		/**
+		 * 완료 항목 생성
+		 */
+		public static Entry completed(String fingerprint, int status, String contentType, byte[] body) {
+			return new Entry(fingerprint, true, status, contentType, body, null);
+		}
+	}
+}
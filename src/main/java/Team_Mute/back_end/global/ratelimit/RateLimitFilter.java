@@ -0,0 +1,142 @@
+package Team_Mute.back_end.global.ratelimit;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import Team_Mute.back_end.global.dto.ErrorResponseDto;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청 속도 제한 필터
+ * 인증 없이 접근 가능하면서 DB 조회나 외부 API 호출이 많은 경로에 토큰 버킷 적용
+ *
+ * 필터 체인 위치:
+ * - JwtAuthFilter 다음에 실행 (SecurityConfig에서 addFilterAfter()로 등록)
+ * - 인증된 요청은 사용자 단위, 인증되지 않은 요청은 IP 단위로 버킷 구분
+ *
+ * 응답:
+ * - 허용량 초과 시 429 Too Many Requests + Retry-After(초) 헤더
+ * - 설정된 경로에 해당하지 않는 요청은 그대로 통과
+ *
+ * @author Team Mute
+ * @since 1.0
+ */
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+	private final TokenBucketRateLimiter limiter;
+	private final RateLimitProperties props;
+	private final ObjectMapper objectMapper;
+	private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+	public RateLimitFilter(TokenBucketRateLimiter limiter, RateLimitProperties props, ObjectMapper objectMapper) {
+		this.limiter = limiter;
+		this.props = props;
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * 요청 경로에 해당하는 버킷에서 토큰 차감 후 허용/거부
+	 *
+	 * 처리 흐름:
+	 * 1. 경로에 해당하는 버킷 설정 조회 (없으면 통과)
+	 * 2. 클라이언트 식별자 결정 (사용자 ID 또는 IP)
+	 * 3. 토큰 차감 시도
+	 * 4. 거부 시 429 응답, 허용 시 다음 필터 실행
+	 *
+	 * @param req HttpServletRequest 객체
+	 * @param res HttpServletResponse 객체
+	 * @param chain FilterChain 객체 (다음 필터 실행)
+	 * @throws ServletException 서블릿 예외
+	 * @throws IOException 입출력 예외
+	 */
+	@Override
+	protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
+		throws ServletException, IOException {
+
+		// 1. 경로별 버킷 설정 조회
+		RateLimitProperties.Route route = props.enabled() ? findRoute(req.getRequestURI()) : null;
+		if (route == null) {
+			chain.doFilter(req, res);
+			return;
+		}
+
+		// 2. 클라이언트 식별자 결정
+		String client = resolveClient(req);
+
+		// 3. 토큰 차감 시도
+		TokenBucketRateLimiter.Decision decision = limiter.tryConsume(route, client);
+
+		// 4. 허용량 초과 시 429 응답
+		if (!decision.allowed()) {
+			long retryAfterSeconds = Math.max(1, (decision.retryAfterMillis() + 999) / 1000);
+			log.warn("요청 속도 제한 초과: route={}, client={}, retryAfter={}s", route.name(), client, retryAfterSeconds);
+
+			res.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+			res.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+			res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+			res.setCharacterEncoding("UTF-8");
+			objectMapper.writeValue(res.getWriter(), new ErrorResponseDto(
+				"요청이 너무 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.TOO_MANY_REQUESTS.value()));
+			return;
+		}
+
+		chain.doFilter(req, res);
+	}
+
+	/**
+	 * 요청 경로와 일치하는 첫 번째 버킷 설정 조회
+	 *
+	 * @param uri 요청 URI
+	 * @return 버킷 설정 (일치하는 경로가 없으면 null)
+	 */
+	private RateLimitProperties.Route findRoute(String uri) {
+		for (RateLimitProperties.Route route : props.routes()) {
+			if (pathMatcher.match(route.pattern(), uri)) {
+				return route;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * 클라이언트 식별자 결정
+	 * - 인증된 요청: "u:{권한}:{ID}" (사용자와 관리자 ID 공간이 겹치므로 권한 포함)
+	 * - 인증되지 않은 요청: "ip:{IP}"
+	 *
+	 * @param req HttpServletRequest 객체
+	 * @return 클라이언트 식별자
+	 */
+	private String resolveClient(HttpServletRequest req) {
+		Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+		if (auth != null && auth.isAuthenticated() && !(auth instanceof AnonymousAuthenticationToken)) {
+			String role = auth.getAuthorities().stream()
+				.map(Object::toString)
+				.findFirst()
+				.orElse("NONE");
+			return "u:" + role + ":" + auth.getName();
+		}
+
+		if (props.trustForwardedFor()) {
+			String forwarded = req.getHeader("X-Forwarded-For");
+			if (forwarded != null && !forwarded.isBlank()) {
+				return "ip:" + forwarded.split(",")[0].trim();
+			}
+		}
+		return "ip:" + req.getRemoteAddr();
+	}
+}
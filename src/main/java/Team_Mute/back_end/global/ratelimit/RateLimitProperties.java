@@ -0,0 +1,68 @@
+package Team_Mute.back_end.global.ratelimit;
+
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 요청 속도 제한 설정 (Java Record)
+ * application.properties 파일의 rate-limit.* 속성을 자동으로 바인딩
+ * ConfigRegistrar에서 @EnableConfigurationProperties로 활성화
+ *
+ * 설정 예시:
+ * rate-limit.enabled=true
+ * rate-limit.routes[0].name=available-times
+ * rate-limit.routes[0].pattern=/api/reservations/available-times
+ * rate-limit.routes[0].capacity=30
+ * rate-limit.routes[0].refill-per-second=1
+ *
+ * @author Team Mute
+ * @since 1.0
+ */
+@ConfigurationProperties(prefix = "rate-limit")
+public record RateLimitProperties(
+	/**
+	 * 속도 제한 사용 여부 (기본 true)
+	 */
+	Boolean enabled,
+
+	/**
+	 * X-Forwarded-For 헤더의 첫 번째 IP를 클라이언트 IP로 사용할지 여부
+	 * - 신뢰할 수 있는 프록시(로드밸런서) 뒤에 있을 때만 true로 설정 (기본 false)
+	 */
+	Boolean trustForwardedFor,
+
+	/**
+	 * 경로별 버킷 설정 (먼저 일치하는 항목 적용, 미설정 시 기본값 사용)
+	 */
+	List<Route> routes
+) {
+	public RateLimitProperties {
+		if (enabled == null) {
+			enabled = true;
+		}
+		if (trustForwardedFor == null) {
+			trustForwardedFor = false;
+		}
+		if (routes == null || routes.isEmpty()) {
+			routes = List.of(
+				new Route("reservation-availability", "/api/reservations/*-dates", 30, 1.0),
+				new Route("reservation-available-times", "/api/reservations/available-times", 30, 1.0),
+				new Route("spaces-user", "/api/spaces-user/**", 60, 2.0),
+				new Route("corp-name", "/api/corpName", 20, 0.5),
+				new Route("invitations", "/api/invitations/**", 30, 1.0)
+			);
+		}
+	}
+
+	/**
+	 * 경로별 토큰 버킷 설정
+	 *
+	 * @param name 버킷 이름 (Redis 키와 메트릭 태그에 사용)
+	 * @param pattern 적용할 경로 패턴 (Ant 스타일)
+	 * @param capacity 버킷 최대 토큰 수 (순간 허용량)
+	 * @param refillPerSecond 초당 보충 토큰 수 (지속 허용량)
+	 */
+	public record Route(String name, String pattern, int capacity, double refillPerSecond) {
+	}
+}
@@ -0,0 +1,183 @@
+package Team_Mute.back_end.global.ratelimit;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import Team_Mute.back_end.global.util.RedisScripts;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 토큰 버킷 기반 요청 속도 제한기
+ * - Redis Lua 스크립트로 "보충 → 차감 → 저장"을 원자적으로 수행하여 모든 노드가 하나의 버킷 공유
+ * - 시각은 Redis 서버 시간(TIME)을 사용하여 노드 간 시계 차이 영향 제거
+ * - Redis 장애 시 노드별 메모리 버킷으로 대체 (노드 수만큼 허용량이 늘어나지만 차단 기능 유지)
+ *
+ * Redis 키:
+ * - rl:{route}:{client} (Hash: t=남은 토큰, ts=마지막 갱신 시각 ms)
+ * - 버킷이 가득 차는 데 걸리는 시간 + 1초 후 만료
+ *
+ * 메트릭:
+ * - ratelimit.rejected (route) : 429로 거부된 요청 수
+ * - ratelimit.fallback : Redis 장애로 메모리 버킷을 사용한 횟수
+ *
+ * @author Team Mute
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class TokenBucketRateLimiter {
+
+	/**
+	 * 토큰 버킷 스크립트
+	 * - ARGV[1]: 최대 토큰 수, ARGV[2]: ms당 보충 토큰 수
+	 * - 반환: {허용 여부(1/0), 다음 토큰까지 대기 시간(ms)}
+	 */
+	private static final RedisScript<List<Object>> BUCKET_SCRIPT = RedisScripts.listScript(
+		"local capacity = tonumber(ARGV[1]) "
+			+ "local rate = tonumber(ARGV[2]) "
+			+ "local time = redis.call('TIME') "
+			+ "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) "
+			+ "local data = redis.call('HMGET', KEYS[1], 't', 'ts') "
+			+ "local tokens = tonumber(data[1]) "
+			+ "local ts = tonumber(data[2]) "
+			+ "if tokens == nil or ts == nil then tokens = capacity ts = now end "
+			+ "tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate) "
+			+ "local allowed = 0 "
+			+ "local wait = 0 "
+			+ "if tokens >= 1 then tokens = tokens - 1 allowed = 1 "
+			+ "else wait = math.ceil((1 - tokens) / rate) end "
+			+ "redis.call('HSET', KEYS[1], 't', tostring(tokens), 'ts', tostring(now)) "
+			+ "redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / rate) + 1000) "
+			+ "return {allowed, wait}");
+
+	private final StringRedisTemplate redis;
+	private final MeterRegistry meterRegistry;
+	private final int maxLocalBuckets;
+
+	/**
+	 * Redis 장애 시 사용하는 메모리 버킷 (rl:{route}:{client} → 버킷)
+	 */
+	private final ConcurrentHashMap<String, LocalBucket> localBuckets = new ConcurrentHashMap<>();
+
+	public TokenBucketRateLimiter(
+		StringRedisTemplate redis,
+		MeterRegistry meterRegistry,
+		@Value("${rate-limit.local.max-buckets:50000}") int maxLocalBuckets) {
+		this.redis = redis;
+		this.meterRegistry = meterRegistry;
+		this.maxLocalBuckets = maxLocalBuckets;
+	}
+
+	/**
+	 * 토큰 1개 차감 시도
+	 *
+	 * 처리 로직:
+	 * 1. Redis 스크립트로 공유 버킷에서 차감
+	 * 2. Redis 호출 실패 시 메모리 버킷에서 차감
+	 * 3. 거부된 경우 메트릭 기록
+	 *
+	 * @param route 적용할 경로 설정
+	 * @param client 클라이언트 식별자 (사용자 또는 IP)
+	 * @return 허용 여부와 재시도까지 대기 시간
+	 */
+	public Decision tryConsume(RateLimitProperties.Route route, String client) {
+		String key = "rl:" + route.name() + ":" + client;
+		double ratePerMs = route.refillPerSecond() / 1000.0;
+
+		Decision decision;
+		try {
+			// 1. Redis 공유 버킷
+			List<?> result = redis.execute(BUCKET_SCRIPT, List.of(key),
+				String.valueOf(route.capacity()), String.valueOf(ratePerMs));
+			decision = new Decision(toLong(result.get(0)) == 1L, toLong(result.get(1)));
+		} catch (Exception e) {
+			// 2. Redis 장애 시 메모리 버킷
+			log.debug("속도 제한 Redis 호출 실패, 메모리 버킷 사용: {}", e.getMessage());
+			meterRegistry.counter("ratelimit.fallback").increment();
+			decision = localBuckets
+				.computeIfAbsent(key, k -> new LocalBucket(route.capacity(), ratePerMs))
+				.tryConsume();
+		}
+
+		// 3. 거부 메트릭
+		if (!decision.allowed()) {
+			meterRegistry.counter("ratelimit.rejected", "route", route.name()).increment();
+		}
+		return decision;
+	}
+
+	/**
+	 * 메모리 버킷 정리
+	 * - 가득 찬(오래 사용되지 않은) 버킷 제거
+	 * - 최대 개수를 넘으면 전체 초기화하여 메모리 사용량 제한
+	 */
+	@Scheduled(fixedDelayString = "${rate-limit.local.cleanup-interval-ms:60000}")
+	public void cleanupLocalBuckets() {
+		if (localBuckets.isEmpty()) {
+			return;
+		}
+		if (localBuckets.size() > maxLocalBuckets) {
+			localBuckets.clear();
+			return;
+		}
+		localBuckets.entrySet().removeIf(e -> e.getValue().isFull());
+	}
+
+	private static long toLong(Object value) {
+		return value instanceof Number n ? n.longValue() : Long.parseLong(String.valueOf(value));
+	}
+
+	/**
+	 * 토큰 차감 결과
+	 *
+	 * @param allowed 요청 허용 여부
+	 * @param retryAfterMillis 거부된 경우 다음 토큰이 보충될 때까지 대기 시간 (ms)
+	 */
+	public record Decision(boolean allowed, long retryAfterMillis) {
+	}
+
+	/**
+	 * 노드 로컬 토큰 버킷 (Redis 장애 시 대체용)
+	 */
+	private static final class LocalBucket {
+
+		private final int capacity;
+		private final double ratePerMs;
+		private double tokens;
+		private long updatedAt;
+
+		LocalBucket(int capacity, double ratePerMs) {
+			this.capacity = capacity;
+			this.ratePerMs = ratePerMs;
+			this.tokens = capacity;
+			this.updatedAt = System.currentTimeMillis();
+		}
+
+		synchronized Decision tryConsume() {
+			refill();
+			if (tokens >= 1) {
+				tokens -= 1;
+				return new Decision(true, 0);
+			}
+			return new Decision(false, (long)Math.ceil((1 - tokens) / ratePerMs));
+		}
+
+		synchronized boolean isFull() {
+			refill();
+			return tokens >= capacity;
+		}
+
+		private void refill() {
+			long now = System.currentTimeMillis();
+			tokens = Math.min(capacity, tokens + Math.max(0, now - updatedAt) * ratePerMs);
+			updatedAt = now;
+		}
+	}
+}
@@ -0,0 +1,34 @@
+package Team_Mute.back_end.global.util;
+
+import java.util.List;
+
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * Redis Lua 스크립트 생성 유틸리티
+ *
+ * 목적:
+ * - 테이블(배열)을 반환하는 스크립트를 RedisScript<List<Object>>로 생성
+ * - RedisScript.of()는 Class<T>만 받아 제네릭 List 타입을 표현할 수 없으므로 변환을 이곳 한 군데로 한정
+ *
+ * 사용처:
+ * - TokenBucketRateLimiter (토큰 버킷 스크립트)
+ * - SessionStore (사용자 전체 세션 폐기 스크립트)
+ */
+public final class RedisScripts {
+
+	private RedisScripts() {
+	}
+
+	/**
+	 * 배열을 반환하는 Lua 스크립트 생성
+	 * - 각 원소는 Long(정수) 또는 String(문자열)로 역직렬화됨
+	 *
+	 * @param script Lua 스크립트 본문
+	 * @return 결과 타입이 List<Object>인 RedisScript
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public static RedisScript<List<Object>> listScript(String script) {
+		return (RedisScript)RedisScript.of(script, List.class);
+	}
+}
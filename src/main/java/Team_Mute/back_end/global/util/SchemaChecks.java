@@ -0,0 +1,100 @@
+package Team_Mute.back_end.global.util;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 스키마 존재 여부 확인 유틸리티
+ *
+ * 목적:
+ * - 마이그레이션 스크립트(resources/db/migration)로 관리하는 테이블/인덱스/함수가 적용되었는지 기동 시 확인
+ * - 애플리케이션은 DDL을 실행하지 않으며, 누락 시 IllegalStateException으로 기동을 중단
+ * - 빈 초기화(@PostConstruct) 단계에서 호출하므로 트래픽을 받기 전에 실패
+ *
+ * 사용처:
+ * - UserCompanyJdbcRepository (기업 ID 시퀀스, 기업명 유니크 인덱스)
+ * - SpaceSearchDocRepository (공간 검색 문서 테이블/인덱스)
+ * - SpaceDeleteJobRepository (공간 삭제 작업 테이블)
+ * - SpaceImageVariantRepository (공간 이미지 변환본 테이블)
+ * - S3ObjectReferenceRepository (S3 URL → Key 변환 함수)
+ */
+public final class SchemaChecks {
+
+	private SchemaChecks() {
+	}
+
+	/**
+	 * 테이블/시퀀스/인덱스 존재 확인
+	 *
+	 * @param jdbcTemplate JdbcTemplate
+	 * @param relation     객체 이름
+	 * @param script       객체를 생성하는 마이그레이션 스크립트 이름
+	 */
+	public static void requireRelation(JdbcTemplate jdbcTemplate, String relation, String script) {
+		Boolean exists = jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, relation);
+		if (!Boolean.TRUE.equals(exists)) {
+			throw missing(relation, script);
+		}
+	}
+
+	/**
+	 * 인덱스 존재 및 유효 여부 확인
+	 * - CREATE INDEX CONCURRENTLY가 중간에 실패하면 유효하지 않은 인덱스가 남으며, ON CONFLICT 대상이 될 수 없음
+	 *
+	 * @param jdbcTemplate JdbcTemplate
+	 * @param index        인덱스 이름
+	 * @param script       인덱스를 생성하는 마이그레이션 스크립트 이름
+	 */
+	public static void requireValidIndex(JdbcTemplate jdbcTemplate, String index, String script) {
+		List<Boolean> valid = jdbcTemplate.queryForList(
+			"SELECT indisvalid FROM pg_index WHERE indexrelid = to_regclass(?)", Boolean.class, index);
+		if (valid.isEmpty()) {
+			throw missing(index, script);
+		}
+		if (!Boolean.TRUE.equals(valid.get(0))) {
+			throw new IllegalStateException(
+				"유효하지 않은 인덱스입니다: " + index + " (삭제 후 " + script + " 재적용 필요)");
+		}
+	}
+
+	/**
+	 * 테이블 컬럼 존재 확인
+	 *
+	 * @param jdbcTemplate JdbcTemplate
+	 * @param table        테이블 이름
+	 * @param script       테이블을 생성하는 마이그레이션 스크립트 이름
+	 * @param columns      필요한 컬럼 이름
+	 */
+	public static void requireColumns(JdbcTemplate jdbcTemplate, String table, String script, String... columns) {
+		requireRelation(jdbcTemplate, table, script);
+		List<String> present = jdbcTemplate.queryForList(
+			"SELECT attname FROM pg_attribute WHERE attrelid = to_regclass(?) AND attnum > 0 AND NOT attisdropped",
+			String.class, table);
+		for (String column : columns) {
+			if (!present.contains(column)) {
+				throw missing(table + "." + column, script);
+			}
+		}
+	}
+
+	/**
+	 * 함수 존재 확인
+	 *
+	 * @param jdbcTemplate JdbcTemplate
+	 * @param signature    함수 시그니처 (예: s3_key_of(text))
+	 * @param script       함수를 생성하는 마이그레이션 스크립트 이름
+	 */
+	public static void requireFunction(JdbcTemplate jdbcTemplate, String signature, String script) {
+		Boolean exists = jdbcTemplate.queryForObject("SELECT to_regprocedure(?) IS NOT NULL", Boolean.class,
+			signature);
+		if (!Boolean.TRUE.equals(exists)) {
+			throw missing(signature, script);
+		}
+	}
+
+	private static IllegalStateException missing(String object, String script) {
+		return new IllegalStateException(
+			"스키마 객체가 없습니다: " + object + " (db/migration/" + script + " 적용 후 기동하세요)");
+	}
+}
@@ -0,0 +1,9 @@
+-- 소속 기업 ID 시퀀스 (tb_user_company.company_id)
+-- - 배포 전 한 번 적용 (애플리케이션은 DDL을 실행하지 않고, 누락 시 기동 실패)
+-- - 기존 최대 ID 다음 값부터 발급하도록 적용 시점에 한 번 맞춤
+
+CREATE SEQUENCE IF NOT EXISTS tb_user_company_id_seq AS INTEGER OWNED BY tb_user_company.company_id;
+
+SELECT setval('tb_user_company_id_seq', COALESCE((SELECT MAX(company_id) FROM tb_user_company), 0) + 1, false);
+
+ALTER TABLE tb_user_company ALTER COLUMN company_id SET DEFAULT nextval('tb_user_company_id_seq');
@@ -0,0 +1,8 @@
+-- 기업명 유니크 인덱스 (INSERT ... ON CONFLICT (company_name) 대상)
+-- - CONCURRENTLY 사용: 트랜잭션 밖에서 실행 (psql 기본 autocommit)
+-- - 중복 기업명이 있으면 생성에 실패하므로 먼저 확인 후 정리
+--     SELECT company_name, array_agg(company_id ORDER BY company_id)
+--     FROM tb_user_company GROUP BY company_name HAVING COUNT(*) > 1;
+-- - 실패 시 남은 유효하지 않은 인덱스는 DROP INDEX CONCURRENTLY ux_user_company_name 후 재적용
+
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS ux_user_company_name ON tb_user_company (company_name);
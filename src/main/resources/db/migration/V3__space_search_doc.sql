@@ -0,0 +1,27 @@
+-- 공간 검색 문서 (SpaceSearchDocRepository)
+-- - 공간당 한 행으로 비정규화한 사용자 검색용 테이블, 애플리케이션 기동 시 원본 테이블에서 전체 재구성
+-- - 기존에 애플리케이션이 만든 테이블에는 이미지 변환본 컬럼만 추가
+
+CREATE TABLE IF NOT EXISTS space_search_doc (
+  space_id            INTEGER   PRIMARY KEY,
+  region_id           INTEGER   NOT NULL,
+  category_id         INTEGER   NOT NULL,
+  category_name       TEXT      NOT NULL,
+  space_name          TEXT      NOT NULL,
+  space_description   TEXT      NOT NULL,
+  space_capacity      INTEGER   NOT NULL,
+  space_is_available  BOOLEAN   NOT NULL,
+  tag_ids             INTEGER[] NOT NULL,
+  tag_names           TEXT[]    NOT NULL,
+  location            JSON      NOT NULL,
+  space_image_url     TEXT,
+  space_thumbnail_url TEXT,
+  space_medium_url    TEXT,
+  reg_date            TIMESTAMP NOT NULL
+);
+
+ALTER TABLE space_search_doc ADD COLUMN IF NOT EXISTS space_thumbnail_url TEXT;
+ALTER TABLE space_search_doc ADD COLUMN IF NOT EXISTS space_medium_url TEXT;
+
+CREATE INDEX IF NOT EXISTS idx_space_search_doc_tag_ids ON space_search_doc USING GIN (tag_ids);
+CREATE INDEX IF NOT EXISTS idx_space_search_doc_region_capacity ON space_search_doc (region_id, space_capacity);
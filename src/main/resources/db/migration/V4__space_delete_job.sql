@@ -0,0 +1,18 @@
+-- 공간 삭제 작업 (SpaceDeleteJobRepository)
+-- - 삭제 요청된 공간의 tombstone과 백그라운드 정리 진행 상황
+-- - region_id: 공간 행이 정리된 뒤에도 진행 상황 조회 권한(담당 지역)을 확인하기 위해 보관
+
+CREATE TABLE IF NOT EXISTS space_delete_job (
+  space_id             INTEGER   PRIMARY KEY,
+  region_id            INTEGER,
+  requested_by         BIGINT    NOT NULL,
+  status               TEXT      NOT NULL,
+  reservations_total   INTEGER   NOT NULL DEFAULT 0,
+  reservations_deleted INTEGER   NOT NULL DEFAULT 0,
+  objects_deleted      INTEGER   NOT NULL DEFAULT 0,
+  pending_urls         TEXT[]    NOT NULL DEFAULT '{}',
+  last_error           TEXT,
+  requested_at         TIMESTAMP NOT NULL DEFAULT now(),
+  updated_at           TIMESTAMP NOT NULL DEFAULT now(),
+  finished_at          TIMESTAMP
+);
@@ -0,0 +1,9 @@
+-- 공간 이미지 변환본 (SpaceImageVariantRepository)
+-- - 원본 이미지 URL마다 썸네일/중간 크기 변환본 URL (변환할 수 없는 원본은 NULL)
+
+CREATE TABLE IF NOT EXISTS space_image_variant (
+  image_url  TEXT      PRIMARY KEY,
+  thumb_url  TEXT,
+  medium_url TEXT,
+  reg_date   TIMESTAMP NOT NULL DEFAULT now()
+);
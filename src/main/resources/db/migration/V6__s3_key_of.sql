@@ -0,0 +1,16 @@
+-- S3 URL → 객체 Key 변환 함수 (S3ObjectReferenceRepository)
+-- - 스킴/호스트와 쿼리/프래그먼트 제거 후 %XX 디코딩 ('+'는 공백), S3Deleter/S3Uploader의 URL 해석과 동일
+-- - 변환 규칙을 바꿀 때는 이 파일을 고치지 말고 새 버전 스크립트로 CREATE OR REPLACE
+
+CREATE OR REPLACE FUNCTION s3_key_of(url TEXT) RETURNS TEXT
+LANGUAGE sql IMMUTABLE STRICT AS $$
+  SELECT convert_from(
+           string_agg(
+             CASE WHEN t.part[1] IS NOT NULL THEN decode(substr(t.part[1], 2), 'hex')
+                  ELSE convert_to(replace(t.part[2], '+', ' '), 'UTF8') END,
+             ''::bytea ORDER BY t.ord),
+           'UTF8')
+  FROM regexp_matches(
+         regexp_replace(regexp_replace(url, '[?#].*$', ''), '^[A-Za-z][A-Za-z0-9+.-]*://[^/]*/', ''),
+         '(%[0-9A-Fa-f]{2})|([^%]+|%)', 'g') WITH ORDINALITY AS t(part, ord)
+$$;
@@ -0,0 +1,47 @@
+package Team_Mute.back_end.domain.member.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+class MemberImportJdbcRepositoryTest {
+
+	private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+	private final MemberImportJdbcRepository repository = new MemberImportJdbcRepository(jdbcTemplate);
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void mapsBatchCountsToRowsInOrder() {
+		// 드라이버가 나눠 실행한 배치 결과: 삽입, 충돌로 건너뜀, 건수 미제공(삽입으로 간주)
+		when(jdbcTemplate.batchUpdate(anyString(), any(Collection.class), anyInt(),
+			any(ParameterizedPreparedStatementSetter.class)))
+			.thenReturn(new int[][] {{1, 0}, {Statement.SUCCESS_NO_INFO}});
+
+		List<Object[]> rows = List.of(
+			new Object[] {"a@test.com", "사용자", "hash", true, 3, 1},
+			new Object[] {"b@test.com", "사용자", "hash", true, 3, 1},
+			new Object[] {"c@test.com", "사용자", "hash", true, 3, 1});
+		boolean[] inserted = repository.insertUsers(rows, Timestamp.valueOf(LocalDateTime.now()));
+
+		assertThat(inserted).containsExactly(true, false, true);
+	}
+
+	@Test
+	void skipsQueryForEmptyEmailSet() {
+		assertThat(repository.findExistingUserEmails(List.of())).isEmpty();
+		assertThat(repository.findExistingAdminEmails(List.of())).isEmpty();
+	}
+}
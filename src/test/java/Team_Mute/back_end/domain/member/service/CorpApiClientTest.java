@@ -0,0 +1,134 @@
+package Team_Mute.back_end.domain.member.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.queryParam;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import com.sun.net.httpserver.HttpServer;
+
+import Team_Mute.back_end.domain.member.config.RestTemplateConfig;
+import Team_Mute.back_end.domain.member.dto.external.corp_api.CorpApiBodyDto;
+import Team_Mute.back_end.domain.member.exception.ExternalApiException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CorpApiClientTest {
+
+	private static final String PAGE_JSON = """
+		{"response":{"header":{"resultCode":"00","resultMsg":"NORMAL SERVICE."},
+		"body":{"items":{"item":[{"corpNm":"테스트기업"}]},"numOfRows":20,"pageNo":1,"totalCount":1}}}
+		""";
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private CorpApiClient client;
+	private HttpServer slowServer;
+	private ExecutorService slowServerExecutor;
+
+	@AfterEach
+	void tearDown() {
+		if (client != null) {
+			client.shutdown();
+		}
+		if (slowServer != null) {
+			slowServer.stop(0);
+		}
+		if (slowServerExecutor != null) {
+			slowServerExecutor.shutdownNow();
+		}
+	}
+
+	@Test
+	void slowUpstreamFailsAtReadTimeout() throws IOException {
+		// 응답 타임아웃(300ms)보다 훨씬 늦게 응답하는 외부 서버
+		slowServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		slowServer.createContext("/corp", exchange -> {
+			try {
+				Thread.sleep(3000);
+				byte[] body = PAGE_JSON.getBytes(StandardCharsets.UTF_8);
+				exchange.getResponseHeaders().add("Content-Type", MediaType.APPLICATION_JSON_VALUE);
+				exchange.sendResponseHeaders(200, body.length);
+				try (OutputStream out = exchange.getResponseBody()) {
+					out.write(body);
+				}
+			} catch (InterruptedException | IOException e) {
+				exchange.close();
+			}
+		});
+		slowServerExecutor = Executors.newCachedThreadPool();
+		slowServer.setExecutor(slowServerExecutor);
+		slowServer.start();
+
+		RestTemplate restTemplate = new RestTemplateConfig().restTemplate(10, 10, 1000, 300, 1000);
+		client = newClient(restTemplate, 5, 30000);
+		ReflectionTestUtils.setField(client, "baseUrl",
+			"http://127.0.0.1:" + slowServer.getAddress().getPort() + "/corp");
+
+		long startedAt = System.nanoTime();
+		assertThatThrownBy(() -> client.fetchPage("테스트", 1, 20))
+			.isInstanceOf(ExternalApiException.class);
+		long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+		assertThat(elapsedMillis).isLessThan(2000);
+		assertThat(meterRegistry.counter("corp.api.calls", "outcome", "failure").count()).isEqualTo(1);
+	}
+
+	@Test
+	void circuitOpensAfterRepeatedFailuresAndRecoversAfterOpenPeriod() throws InterruptedException {
+		RestTemplate restTemplate = new RestTemplate();
+		MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+		client = newClient(restTemplate, 3, 200);
+
+		// 임계치(3회)만큼 연속 실패
+		server.expect(ExpectedCount.times(3), method(HttpMethod.GET)).andRespond(withServerError());
+		for (int i = 0; i < 3; i++) {
+			assertThatThrownBy(() -> client.fetchPage("테스트", 1, 20)).isInstanceOf(ExternalApiException.class);
+		}
+		server.verify();
+
+		// 회로가 열린 동안에는 외부 서버를 호출하지 않고 즉시 실패
+		assertThatThrownBy(() -> client.fetchPage("테스트", 1, 20))
+			.isInstanceOf(ExternalApiException.class)
+			.hasMessageContaining("일시적으로 불안정");
+		server.verify();
+		assertThat(meterRegistry.counter("corp.api.calls", "outcome", "open").count()).isEqualTo(1);
+		assertThat(meterRegistry.get("corp.api.circuit_open").gauge().value()).isEqualTo(1);
+
+		// 차단 시간이 지나면 시험 호출 한 건이 성공하여 회로 복구
+		Thread.sleep(250);
+		server.reset();
+		server.expect(ExpectedCount.once(), queryParam("pageNo", "1"))
+			.andRespond(withSuccess(PAGE_JSON, MediaType.APPLICATION_JSON));
+
+		CorpApiBodyDto body = client.fetchPage("테스트", 1, 20);
+
+		server.verify();
+		assertThat(body.getItems().getItem()).extracting("corpNm").containsExactly("테스트기업");
+		assertThat(meterRegistry.get("corp.api.circuit_open").gauge().value()).isZero();
+	}
+
+	private CorpApiClient newClient(RestTemplate restTemplate, int failureThreshold, long openMillis) {
+		CorpApiClient corpApiClient = new CorpApiClient(restTemplate, meterRegistry, 4, 500, failureThreshold,
+			openMillis);
+		ReflectionTestUtils.setField(corpApiClient, "baseUrl", "http://corp-api.test/corp");
+		ReflectionTestUtils.setField(corpApiClient, "serviceKey", "test-key");
+		return corpApiClient;
+	}
+}
@@ -0,0 +1,110 @@
+package Team_Mute.back_end.domain.member.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.queryParam;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import Team_Mute.back_end.domain.member.dto.request.CorpNameSearchRequestDto;
+import Team_Mute.back_end.domain.member.dto.response.CorpNameSearchResponseDto;
+import Team_Mute.back_end.domain.member.registry.CorpNameIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CorpInfoServiceTest {
+
+	private MockRestServiceServer server;
+	private CorpApiClient corpApiClient;
+	private CorpInfoService corpInfoService;
+
+	@BeforeEach
+	void setUp() {
+		RestTemplate restTemplate = new RestTemplate();
+		// 첫 페이지 이후 페이지는 병렬로 요청되므로 순서 무관하게 매칭
+		server = MockRestServiceServer.bindTo(restTemplate).ignoreExpectOrder(true).build();
+		corpApiClient = new CorpApiClient(restTemplate, new SimpleMeterRegistry(), 4, 500, 5, 30000);
+		ReflectionTestUtils.setField(corpApiClient, "baseUrl", "http://corp-api.test/corp");
+		ReflectionTestUtils.setField(corpApiClient, "serviceKey", "test-key");
+
+		// 캐시는 항상 미스로 동작하여 외부 API 조회 함수를 그대로 호출
+		CorpNameSearchCache cache = mock(CorpNameSearchCache.class);
+		when(cache.get(anyString(), anyInt(), any())).thenAnswer(invocation -> {
+			BiFunction<String, Integer, CorpNameSearchCache.Result> loader = invocation.getArgument(2);
+			return loader.apply(invocation.getArgument(0), invocation.getArgument(1));
+		});
+
+		corpInfoService = new CorpInfoService(corpApiClient, cache, mock(CorpNameIndex.class));
+	}
+
+	@AfterEach
+	void tearDown() {
+		corpApiClient.shutdown();
+	}
+
+	@Test
+	void collectsEveryPageOfMultiPageResult() {
+		// 총 45건 (20건씩 3페이지), 페이지마다 서로 다른 기업명 (합계 19개로 최대 반환 수 미만)
+		expectPage(1, 45, names("가", 7));
+		expectPage(2, 45, names("나", 7));
+		expectPage(3, 45, names("다", 5));
+
+		CorpNameSearchRequestDto request = new CorpNameSearchRequestDto();
+		request.setCorpNm("테스트");
+		CorpNameSearchResponseDto response = corpInfoService.searchCorporateNames(request);
+
+		server.verify();
+		assertThat(response.getItem()).hasSize(19)
+			.containsAll(names("가", 7))
+			.containsAll(names("나", 7))
+			.containsAll(names("다", 5));
+		assertThat(response.getPageNo()).isEqualTo(3);
+	}
+
+	@Test
+	void stopsFetchingOnceMaxResultsAreCollected() {
+		// 총 200건이지만 두 페이지에서 20개를 채우면 나머지 배치는 요청하지 않음
+		expectPage(1, 200, names("가", 12));
+		expectPage(2, 200, names("나", 12));
+		expectPage(3, 200, names("다", 12));
+		expectPage(4, 200, names("라", 12));
+
+		CorpNameSearchRequestDto request = new CorpNameSearchRequestDto();
+		request.setCorpNm("테스트");
+		CorpNameSearchResponseDto response = corpInfoService.searchCorporateNames(request);
+
+		assertThat(response.getItem()).hasSize(24);
+		assertThat(response.getPageNo()).isEqualTo(2);
+	}
+
+	private void expectPage(int pageNo, int totalCount, List<String> corpNames) {
+		String items = corpNames.stream()
+			.map(name -> "{\"corpNm\":\"" + name + "\"}")
+			.collect(Collectors.joining(","));
+		String json = "{\"response\":{\"header\":{\"resultCode\":\"00\",\"resultMsg\":\"NORMAL SERVICE.\"},"
+			+ "\"body\":{\"items\":{\"item\":[" + items + "]},\"numOfRows\":20,\"pageNo\":" + pageNo
+			+ ",\"totalCount\":" + totalCount + "}}}";
+		server.expect(ExpectedCount.manyTimes(), queryParam("pageNo", String.valueOf(pageNo)))
+			.andRespond(withSuccess(json, MediaType.APPLICATION_JSON));
+	}
+
+	private static List<String> names(String prefix, int count) {
+		return IntStream.rangeClosed(1, count).mapToObj(i -> prefix + "기업" + i).toList();
+	}
+}
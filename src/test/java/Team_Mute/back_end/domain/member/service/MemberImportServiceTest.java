@@ -0,0 +1,205 @@
+package Team_Mute.back_end.domain.member.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import Team_Mute.back_end.domain.member.dto.response.MemberImportResponseDto;
+import Team_Mute.back_end.domain.member.entity.AdminRegion;
+import Team_Mute.back_end.domain.member.repository.AdminRegionRepository;
+import Team_Mute.back_end.domain.member.repository.MemberImportJdbcRepository;
+import Team_Mute.back_end.domain.member.repository.UserRoleRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+
+class MemberImportServiceTest {
+
+	private static final String USER_HEADER = "userName,userEmail,companyName,agreeEmail\n";
+	private static final String ADMIN_HEADER = "roleId,regionName,userEmail,userName,userPhone\n";
+
+	private final MemberImportJdbcRepository jdbcRepository = mock(MemberImportJdbcRepository.class);
+	private final CompanyResolver companyResolver = mock(CompanyResolver.class);
+	private final AdminRegionRepository adminRegionRepository = mock(AdminRegionRepository.class);
+	private final UserRoleRepository userRoleRepository = mock(UserRoleRepository.class);
+	private final EmailService emailService = mock(EmailService.class);
+	private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+	private final List<List<Object[]>> insertedChunks = new ArrayList<>();
+	private MemberImportService service;
+
+	@BeforeEach
+	void setUp() {
+		when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+		when(userRoleRepository.existsById(3)).thenReturn(true);
+		when(companyResolver.resolveId(anyString())).thenReturn(1);
+		when(jdbcRepository.findExistingUserEmails(any())).thenReturn(Set.of());
+		when(jdbcRepository.findExistingAdminEmails(any())).thenReturn(Set.of());
+		when(jdbcRepository.insertUsers(anyList(), any(Timestamp.class))).thenAnswer(invocation -> {
+			List<Object[]> rows = invocation.getArgument(0);
+			insertedChunks.add(rows);
+			return allTrue(rows.size());
+		});
+		when(jdbcRepository.insertAdmins(anyList(), any(Timestamp.class))).thenAnswer(invocation -> {
+			List<Object[]> rows = invocation.getArgument(0);
+			insertedChunks.add(rows);
+			return allTrue(rows.size());
+		});
+		service = newService(2, 1000);
+	}
+
+	@AfterEach
+	void tearDown() {
+		service.shutdown();
+	}
+
+	@Test
+	void streamsRowsInChunks() {
+		MemberImportResponseDto response = service.importUsers(csv(USER_HEADER
+			+ user("a") + user("b") + user("c") + user("d") + user("e")));
+
+		// chunk-size 2: 2건, 2건, 마지막 1건
+		assertThat(insertedChunks).extracting(List::size).containsExactly(2, 2, 1);
+		assertThat(response.getTotal()).isEqualTo(5);
+		assertThat(response.getCreated()).isEqualTo(5);
+		assertThat(response.getFailed()).isZero();
+		verify(emailService, times(5)).sendUserWelcomeEmail(anyString(), anyString());
+	}
+
+	@Test
+	void excludesDuplicatesWithinChunkAndAgainstDatabase() {
+		service.shutdown();
+		service = newService(10, 1000);
+		doReturn(Set.of("b@test.com")).when(jdbcRepository).findExistingUserEmails(any());
+		// 조회 이후 동시 가입으로 ON CONFLICT에 걸린 행
+		doReturn(new boolean[] {true, false}).when(jdbcRepository).insertUsers(anyList(), any(Timestamp.class));
+
+		MemberImportResponseDto response = service.importUsers(csv(USER_HEADER
+			+ user("a") + user("a") + user("b") + user("c")));
+
+		assertThat(response.getTotal()).isEqualTo(4);
+		assertThat(response.getCreated()).isEqualTo(1);
+		assertThat(response.getFailed()).isEqualTo(3);
+		assertThat(response.getErrors())
+			.extracting(MemberImportResponseDto.RowError::getRow, MemberImportResponseDto.RowError::getEmail)
+			.containsExactlyInAnyOrder(
+				tuple(2L, "a@test.com"),
+				tuple(3L, "b@test.com"),
+				tuple(4L, "c@test.com"));
+		verify(emailService).sendUserWelcomeEmail(eq("a@test.com"), anyString());
+		verify(emailService, never()).sendUserWelcomeEmail(eq("c@test.com"), anyString());
+	}
+
+	@Test
+	void capsReportedRowsAndMarksTruncated() {
+		service.shutdown();
+		service = newService(2, 2);
+
+		MemberImportResponseDto response = service.importUsers(csv(USER_HEADER
+			+ "x,bad-1,회사,true\n" + "x,bad-2,회사,true\n" + "x,bad-3,회사,true\n"));
+
+		assertThat(response.getFailed()).isEqualTo(3);
+		assertThat(response.getErrors()).hasSize(2);
+		assertThat(response.isTruncated()).isTrue();
+		verify(jdbcRepository, never()).insertUsers(anyList(), any(Timestamp.class));
+	}
+
+	@Test
+	void doesNotReuseRegionIdFromRolledBackChunk() {
+		service.shutdown();
+		service = newService(1, 1000);
+		AtomicInteger regionSequence = new AtomicInteger(100);
+		when(adminRegionRepository.findByRegionName("부산")).thenReturn(Optional.empty());
+		when(adminRegionRepository.save(any(AdminRegion.class))).thenAnswer(invocation ->
+			AdminRegion.builder().regionId(regionSequence.incrementAndGet()).regionName("부산").build());
+		// 첫 chunk는 삽입 실패로 롤백 (새 지역 행도 함께 롤백됨)
+		doThrow(new DataIntegrityViolationException("rollback"))
+			.doAnswer(invocation -> {
+				List<Object[]> rows = invocation.getArgument(0);
+				insertedChunks.add(rows);
+				return allTrue(rows.size());
+			})
+			.when(jdbcRepository).insertAdmins(anyList(), any(Timestamp.class));
+
+		MemberImportResponseDto response = service.importAdmins(csv(ADMIN_HEADER
+			+ admin("a") + admin("b")));
+
+		// 두 번째 chunk는 롤백된 지역 ID(101)를 쓰지 않고 지역을 다시 확보
+		verify(adminRegionRepository, times(2)).save(any(AdminRegion.class));
+		assertThat(insertedChunks).singleElement()
+			.satisfies(rows -> assertThat(rows.get(0)[6]).isEqualTo(102));
+		assertThat(response.getCreated()).isEqualTo(1);
+		assertThat(response.getFailed()).isEqualTo(1);
+	}
+
+	@Test
+	void reportsWelcomeMailFailuresSeparatelyFromCreatedAccounts() {
+		doThrow(new IllegalStateException("smtp down"))
+			.when(emailService).sendUserWelcomeEmail(eq("b@test.com"), anyString());
+
+		MemberImportResponseDto response = service.importUsers(csv(USER_HEADER
+			+ user("a") + user("b") + user("c")));
+
+		assertThat(response.getCreated()).isEqualTo(3);
+		assertThat(response.getFailed()).isZero();
+		assertThat(response.getMailFailed()).isEqualTo(1);
+		assertThat(response.getMailPending()).isZero();
+		assertThat(response.getMailErrors()).singleElement()
+			.satisfies(error -> {
+				assertThat(error.getRow()).isEqualTo(2);
+				assertThat(error.getEmail()).isEqualTo("b@test.com");
+			});
+	}
+
+	private MemberImportService newService(int chunkSize, int maxReportRows) {
+		return new MemberImportService(jdbcRepository, companyResolver, adminRegionRepository, userRoleRepository,
+			new BCryptPasswordEncoder(4), emailService,
+			Validation.buildDefaultValidatorFactory().getValidator(), new SimpleMeterRegistry(), transactionManager,
+			chunkSize, maxReportRows, 1, 1, 10, 5000);
+	}
+
+	private static String user(String name) {
+		return "사용자,%s@test.com,테스트기업,true\n".formatted(name);
+	}
+
+	private static String admin(String name) {
+		return "2,부산,%s@test.com,관리자,010-0000-0000\n".formatted(name);
+	}
+
+	private static InputStream csv(String content) {
+		return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static boolean[] allTrue(int size) {
+		boolean[] result = new boolean[size];
+		Arrays.fill(result, true);
+		return result;
+	}
+}
@@ -0,0 +1,151 @@
+package Team_Mute.back_end.domain.reservation;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import Team_Mute.back_end.domain.member.entity.User;
+import Team_Mute.back_end.domain.member.entity.UserCompany;
+import Team_Mute.back_end.domain.member.entity.UserRole;
+import Team_Mute.back_end.domain.space_admin.entity.Space;
+import jakarta.persistence.EntityManager;
+
+/**
+ * 예약 동시성 테스트용 데이터
+ * - 테스트마다 전용 공간과 일반 사용자를 만들고, 종료 시 해당 공간의 예약과 함께 삭제
+ * - 카테고리/지역/위치/역할/마스터 관리자는 DataSeedRunner가 기동 시 보장하는 데이터 사용
+ */
+public class ReservationTestFixture {
+
+	private static final int CUSTOMER_ROLE_ID = 3;
+
+	private final EntityManager em;
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate tx;
+
+	private Integer spaceId;
+	private Long userId;
+	private Integer companyId;
+
+	public ReservationTestFixture(EntityManager em, JdbcTemplate jdbcTemplate,
+		PlatformTransactionManager transactionManager) {
+		this.em = em;
+		this.jdbcTemplate = jdbcTemplate;
+		this.tx = new TransactionTemplate(transactionManager);
+	}
+
+	/**
+	 * 전용 공간 생성
+	 *
+	 * @return 공간 ID
+	 */
+	public Integer createSpace() {
+		spaceId = tx.execute(status -> {
+			Integer locationId = em.createQuery(
+					"select l.locationId from SpaceLocation l where l.adminRegion.regionName = '서울'", Integer.class)
+				.setMaxResults(1)
+				.getSingleResult();
+			Space space = Space.builder()
+				.regionId(em.createQuery(
+						"select r.regionId from AdminRegion r where r.regionName = '서울'", Integer.class)
+					.getSingleResult())
+				.categoryId(em.createQuery(
+						"select c.categoryId from SpaceCategory c where c.categoryName = '미팅룸'", Integer.class)
+					.getSingleResult())
+				.userId(em.createQuery("select min(a.adminId) from Admin a", Long.class).getSingleResult())
+				.spaceName("테스트 공간 " + UUID.randomUUID())
+				.spaceCapacity(10)
+				.locationId(locationId)
+				.spaceDescription("동시성 테스트")
+				.spaceIsAvailable(true)
+				.reservationWay("테스트")
+				.spaceRules("테스트")
+				.build();
+			em.persist(space);
+			return space.getSpaceId();
+		});
+		return spaceId;
+	}
+
+	/**
+	 * 전용 일반 사용자(역할 3) 생성
+	 *
+	 * @return 사용자 ID
+	 */
+	public Long createCustomer() {
+		tx.executeWithoutResult(status -> {
+			UserCompany company = UserCompany.builder()
+				.companyName("테스트 기업 " + UUID.randomUUID())
+				.build();
+			em.persist(company);
+			User user = User.builder()
+				.userEmail(UUID.randomUUID() + "@test.local")
+				.userName("테스트 사용자")
+				.userPwd("-")
+				.agreeEmail(false)
+				.userRole(em.getReference(UserRole.class, CUSTOMER_ROLE_ID))
+				.userCompany(company)
+				.tokenVer(1)
+				.build();
+			em.persist(user);
+			companyId = company.getCompanyId();
+			userId = user.getUserId();
+		});
+		return userId;
+	}
+
+	/**
+	 * 요청 스레드처럼 Request Scope와 인증 정보를 바인딩한 뒤 실행
+	 * - CurrentPrincipal(@RequestScope)을 사용하는 서비스를 작업 스레드에서 호출할 때 사용
+	 * - 인증 정보는 JwtAuthFilter가 구성하는 형태(주체 = 사용자 ID, ROLE_{roleId}, Details {cid, sid, ver})
+	 *
+	 * @param action 실행할 작업
+	 * @return 작업 결과
+	 */
+	public <T> T asCustomer(Supplier<T> action) {
+		ServletRequestAttributes attributes = new ServletRequestAttributes(new MockHttpServletRequest());
+		RequestContextHolder.setRequestAttributes(attributes);
+		UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+			String.valueOf(userId), null, List.of(new SimpleGrantedAuthority("ROLE_" + CUSTOMER_ROLE_ID)));
+		authentication.setDetails(Map.of("cid", companyId, "sid", "test", "ver", 1));
+		SecurityContextHolder.getContext().setAuthentication(authentication);
+		try {
+			return action.get();
+		} finally {
+			attributes.requestCompleted();
+			RequestContextHolder.resetRequestAttributes();
+			SecurityContextHolder.clearContext();
+		}
+	}
+
+	/**
+	 * 생성한 공간/사용자와 해당 공간의 예약 삭제
+	 */
+	public void cleanUp() {
+		tx.executeWithoutResult(status -> {
+			if (spaceId != null) {
+				jdbcTemplate.update("DELETE FROM tb_previsit_reservations WHERE reservation_id IN "
+					+ "(SELECT reservation_id FROM tb_reservations WHERE space_id = ?)", spaceId);
+				jdbcTemplate.update("DELETE FROM tb_reservations WHERE space_id = ?", spaceId);
+				jdbcTemplate.update("DELETE FROM tb_spaces WHERE space_id = ?", spaceId);
+			}
+			if (userId != null) {
+				jdbcTemplate.update("DELETE FROM tb_users WHERE user_id = ?", userId);
+			}
+			if (companyId != null) {
+				jdbcTemplate.update("DELETE FROM tb_user_company WHERE company_id = ?", companyId);
+			}
+		});
+	}
+}
@@ -0,0 +1,107 @@
+package Team_Mute.back_end.domain.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import Team_Mute.back_end.domain.reservation.ReservationTestFixture;
+import Team_Mute.back_end.domain.reservation.dto.request.ReservationRequestDto;
+import Team_Mute.back_end.domain.reservation.dto.response.ReservationResponseDto;
+import Team_Mute.back_end.domain.reservation.exception.ReservationConflictException;
+import jakarta.persistence.EntityManager;
+
+@SpringBootTest
+class ReservationServiceConcurrencyTest {
+
+	@Autowired
+	private ReservationService reservationService;
+
+	@Autowired
+	private EntityManager em;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private final List<Long> createdReservationIds = new ArrayList<>();
+	private ExecutorService executor;
+	private ReservationTestFixture fixture;
+	private Integer spaceId;
+	private String userId;
+
+	@BeforeEach
+	void setUp() {
+		executor = Executors.newFixedThreadPool(2);
+		fixture = new ReservationTestFixture(em, jdbcTemplate, transactionManager);
+		spaceId = fixture.createSpace();
+		userId = String.valueOf(fixture.createCustomer());
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+		fixture.cleanUp();
+	}
+
+	@Test
+	void concurrentRequestsForSameSlotBookOnlyOnce() throws Exception {
+		LocalDateTime from = LocalDate.now().plusDays(7).atTime(10, 0);
+		LocalDateTime to = from.plusHours(2);
+
+		// 두 요청을 동시에 출발시켜 겹침 검사와 저장 사이의 경쟁을 유도
+		CountDownLatch start = new CountDownLatch(1);
+		CompletableFuture<ReservationResponseDto> first = CompletableFuture.supplyAsync(
+			() -> book(start, from, to), executor);
+		CompletableFuture<ReservationResponseDto> second = CompletableFuture.supplyAsync(
+			() -> book(start, from.plusMinutes(30), to.plusMinutes(30)), executor);
+		start.countDown();
+
+		List<Throwable> failures = new ArrayList<>();
+		for (CompletableFuture<ReservationResponseDto> future : List.of(first, second)) {
+			try {
+				createdReservationIds.add(future.get(30, TimeUnit.SECONDS).getReservationId());
+			} catch (ExecutionException e) {
+				failures.add(e.getCause());
+			}
+		}
+
+		// 정확히 한 건만 성공하고 나머지는 중복 예약으로 거절
+		assertThat(createdReservationIds).hasSize(1);
+		assertThat(failures).singleElement().isInstanceOf(ReservationConflictException.class);
+	}
+
+	private ReservationResponseDto book(CountDownLatch start, LocalDateTime from, LocalDateTime to) {
+		try {
+			start.await(10, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		ReservationRequestDto request = new ReservationRequestDto();
+		request.setSpaceId(spaceId);
+		request.setReservationHeadcount(1);
+		request.setReservationFrom(from);
+		request.setReservationTo(to);
+		request.setReservationPurpose("동시 예약 테스트");
+		// 작업 스레드에는 요청 컨텍스트가 없으므로 요청 스레드와 같은 Request Scope/인증 정보를 바인딩
+		return fixture.asCustomer(() -> reservationService.createReservation(userId, request));
+	}
+}
@@ -0,0 +1,153 @@
+package Team_Mute.back_end.domain.space_admin.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import Team_Mute.back_end.domain.reservation.ReservationTestFixture;
+import Team_Mute.back_end.domain.reservation.repository.ReservationSlotLockRepository;
+import jakarta.persistence.EntityManager;
+
+@SpringBootTest
+class SpaceRepositoryLockTest {
+
+	@Autowired
+	private SpaceRepository spaceRepository;
+
+	@Autowired
+	private ReservationSlotLockRepository reservationSlotLockRepository;
+
+	@Autowired
+	private EntityManager em;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private ExecutorService executor;
+	private ReservationTestFixture fixture;
+	private TransactionTemplate tx;
+	private Integer spaceId;
+
+	@BeforeEach
+	void setUp() {
+		executor = Executors.newFixedThreadPool(2);
+		fixture = new ReservationTestFixture(em, jdbcTemplate, transactionManager);
+		tx = new TransactionTemplate(transactionManager);
+		spaceId = fixture.createSpace();
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+		fixture.cleanUp();
+	}
+
+	@Test
+	void bookingsOnDifferentDaysOfSameSpaceDoNotBlockEachOther() throws Exception {
+		LocalDate day = LocalDate.now().plusDays(7);
+		CountDownLatch firstLocked = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		// 첫 번째 예약 트랜잭션이 공간 공유 잠금과 날짜 잠금을 잡은 채 대기
+		CompletableFuture<Void> first = CompletableFuture.runAsync(() -> tx.executeWithoutResult(status -> {
+			lockForBooking(day);
+			firstLocked.countDown();
+			await(release);
+		}), executor);
+		assertThat(firstLocked.await(10, TimeUnit.SECONDS)).isTrue();
+
+		// 같은 공간의 다른 날짜 예약은 첫 번째가 끝나기 전에 잠금을 얻어야 함
+		CompletableFuture<Boolean> second = CompletableFuture.supplyAsync(() -> tx.execute(status -> {
+			lockForBooking(day.plusDays(1));
+			return spaceRepository.findById(spaceId).isPresent();
+		}), executor);
+		assertThat(second.get(5, TimeUnit.SECONDS)).isTrue();
+
+		release.countDown();
+		first.get(10, TimeUnit.SECONDS);
+	}
+
+	@Test
+	void bookingsOnSameDayOfSameSpaceAreSerialized() throws Exception {
+		LocalDate day = LocalDate.now().plusDays(7);
+		CountDownLatch firstLocked = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		CompletableFuture<Void> first = CompletableFuture.runAsync(() -> tx.executeWithoutResult(status -> {
+			lockForBooking(day);
+			firstLocked.countDown();
+			await(release);
+		}), executor);
+		assertThat(firstLocked.await(10, TimeUnit.SECONDS)).isTrue();
+
+		// 같은 날짜는 시간대가 달라도 겹침 검사를 직렬화하기 위해 대기
+		CompletableFuture<Void> second = CompletableFuture.runAsync(() -> tx.executeWithoutResult(status ->
+			lockForBooking(day)), executor);
+		Thread.sleep(500);
+		assertThat(second.isDone()).isFalse();
+
+		release.countDown();
+		first.get(10, TimeUnit.SECONDS);
+		second.get(10, TimeUnit.SECONDS);
+	}
+
+	@Test
+	void updateLockWaitsForInFlightBooking() throws Exception {
+		CountDownLatch firstLocked = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		CompletableFuture<Void> booking = CompletableFuture.runAsync(() -> tx.executeWithoutResult(status -> {
+			lockForBooking(LocalDate.now().plusDays(7));
+			firstLocked.countDown();
+			await(release);
+		}), executor);
+		assertThat(firstLocked.await(10, TimeUnit.SECONDS)).isTrue();
+
+		// 공간 수정/삭제의 배타 잠금은 진행 중인 예약이 끝날 때까지 대기
+		CompletableFuture<Boolean> update = CompletableFuture.supplyAsync(() -> tx.execute(status ->
+			spaceRepository.findByIdForUpdate(spaceId).isPresent()), executor);
+		Thread.sleep(500);
+		assertThat(update.isDone()).isFalse();
+
+		release.countDown();
+		booking.get(10, TimeUnit.SECONDS);
+		assertThat(update.get(10, TimeUnit.SECONDS)).isTrue();
+	}
+
+	/**
+	 * ReservationService.createReservation()과 같은 순서로 잠금 획득 (공간 공유 잠금 → 날짜 잠금)
+	 */
+	private void lockForBooking(LocalDate day) {
+		spaceRepository.findByIdForShare(spaceId).orElseThrow();
+		SortedSet<LocalDate> days = new TreeSet<>();
+		days.add(day);
+		reservationSlotLockRepository.lockDays(spaceId, days);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(10, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,94 @@
+package Team_Mute.back_end.domain.space_user.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import Team_Mute.back_end.domain.reservation.ReservationTestFixture;
+import Team_Mute.back_end.domain.space_user.dto.SpaceUserResponseDto;
+import jakarta.persistence.EntityManager;
+
+@SpringBootTest
+class SpaceUserRepositoryAvailabilityTest {
+
+	private static final LocalTime END_OF_DAY = LocalTime.of(23, 59, 59);
+	private static final List<Integer> ACTIVE_STATUS_IDS = List.of(1, 2, 3);
+
+	@Autowired
+	private SpaceUserRepository spaceUserRepository;
+
+	@Autowired
+	private SpaceSearchDocRepository spaceSearchDocRepository;
+
+	@Autowired
+	private EntityManager em;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private ReservationTestFixture fixture;
+	private Integer spaceId;
+	private LocalDate today;
+
+	@BeforeEach
+	void setUp() {
+		fixture = new ReservationTestFixture(em, jdbcTemplate, transactionManager);
+		spaceId = fixture.createSpace();
+		today = LocalDate.now();
+		// 오늘 요일 09:00 ~ 18:00 운영
+		jdbcTemplate.update("INSERT INTO tb_space_operation (space_id, day, operation_from, operation_to, is_open) "
+			+ "VALUES (?, ?, ?, ?, true)", spaceId, today.getDayOfWeek().getValue(),
+			LocalTime.of(9, 0), LocalTime.of(18, 0));
+		spaceSearchDocRepository.refresh(spaceId);
+	}
+
+	@AfterEach
+	void tearDown() {
+		spaceSearchDocRepository.delete(spaceId);
+		jdbcTemplate.update("DELETE FROM tb_space_operation WHERE space_id = ?", spaceId);
+		fixture.cleanUp();
+	}
+
+	@Test
+	void wholeDaySearchTodayAfterOpeningFindsRemainingHours() {
+		List<SpaceUserResponseDto> result = searchToday(LocalTime.MIN, END_OF_DAY, LocalTime.of(12, 0));
+
+		assertThat(result).extracting(SpaceUserResponseDto::getSpaceId).contains(spaceId);
+	}
+
+	@Test
+	void wholeDaySearchTodayAfterClosingFindsNothing() {
+		List<SpaceUserResponseDto> result = searchToday(LocalTime.MIN, END_OF_DAY, LocalTime.of(18, 30));
+
+		assertThat(result).extracting(SpaceUserResponseDto::getSpaceId).doesNotContain(spaceId);
+	}
+
+	@Test
+	void searchStartingBeforeNowIsStillRejected() {
+		List<SpaceUserResponseDto> result = searchToday(LocalTime.of(10, 0), LocalTime.of(15, 0),
+			LocalTime.of(12, 0));
+
+		assertThat(result).extracting(SpaceUserResponseDto::getSpaceId).doesNotContain(spaceId);
+	}
+
+	private List<SpaceUserResponseDto> searchToday(LocalTime startTime, LocalTime endTime, LocalTime now) {
+		return spaceUserRepository.searchAvailableSpacesForUser(
+			null, null, new String[]{}, 0,
+			today, today, startTime, endTime,
+			startTime.equals(LocalTime.MIN), endTime.equals(END_OF_DAY),
+			today.atTime(now), ACTIVE_STATUS_IDS);
+	}
+}